@@ -22,9 +22,11 @@ import io.vertx.openapi.mediatype.ContentAnalyserFactory;
 import io.vertx.openapi.mediatype.MediaTypePredicate;
 import io.vertx.openapi.mediatype.MediaTypeRegistry;
 import io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration;
+import io.vertx.openapi.validation.RequestValidator;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 public class ContractExamples {
 
@@ -84,4 +86,74 @@ public class ContractExamples {
         )
         .build();
   }
+
+  public void createContractWithSnapshot(Vertx vertx) {
+    String pathToContract = "../../myContract.json"; // json or yaml
+
+    Future<OpenAPIContract> contract =
+      OpenAPIContract.builder(vertx)
+        .setContractPath(pathToContract)
+        .setSnapshotPath("/var/cache/my-service/contract.snapshot")
+        .build();
+  }
+
+  public void createContractInParallel(Vertx vertx) {
+    String pathToContract = "../../myContract.json"; // json or yaml
+
+    Future<OpenAPIContract> contract =
+      OpenAPIContract.builder(vertx)
+        .setContractPath(pathToContract)
+        .setBuildPool(ForkJoinPool.commonPool())
+        .build();
+  }
+
+  public void createContractWithLazyOperations(Vertx vertx) {
+    String pathToContract = "../../myContract.json"; // json or yaml
+
+    Future<OpenAPIContract> contract =
+      OpenAPIContract.builder(vertx)
+        .setContractPath(pathToContract)
+        .setLazyOperations(true)
+        // optional: build the remaining operations in the background
+        .setWarmUpOperations(true)
+        .build();
+  }
+
+  public void createCompactContract(Vertx vertx) {
+    String pathToContract = "../../myContract.json"; // json or yaml
+
+    Future<OpenAPIContract> contract =
+      OpenAPIContract.builder(vertx)
+        .setContractPath(pathToContract)
+        .setCompact(true)
+        .build();
+  }
+
+  public void createContractWithPreservedReferences(Vertx vertx) {
+    String pathToContract = "../../myContract.json"; // json or yaml
+    String pathToComponents = "../../myComponents.json"; // json or yaml
+
+    Future<OpenAPIContract> contract =
+      OpenAPIContract.builder(vertx)
+        .setContractPath(pathToContract)
+        .putAdditionalContractPartPath("https://example.com/components", pathToComponents)
+        .setPreserveReferences(true)
+        .build();
+  }
+
+  public void createReloadableContract(Vertx vertx) {
+    String pathToContract = "../../myContract.json"; // json or yaml
+
+    OpenAPIContract.builder(vertx)
+      .setContractPath(pathToContract)
+      .buildReloadable()
+      .onSuccess(reloadable -> {
+        // check the file for modifications every 5 seconds
+        reloadable.watch(5000);
+        // or update the contract explicitly, e.g. with reloadable.update(updatedContract)
+
+        RequestValidator validator = RequestValidator.create(vertx, reloadable);
+        OpenAPIContract current = reloadable.current();
+      });
+  }
 }
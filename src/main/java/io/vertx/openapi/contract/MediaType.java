@@ -74,4 +74,16 @@ public interface MediaType extends OpenAPIObject {
    * @return the identifier like <i>application/json</i>
    */
   String getIdentifier();
+
+  /**
+   * Returns the maximum size in bytes of a body that can be valid against the schema of this media type. The size is
+   * computed once when the contract is loaded, and it is only bounded for JSON media types whose schema limits every
+   * value, e.g. strings via <i>maxLength</i>, arrays via <i>maxItems</i> and objects via a closed set of properties.
+   * The computation is conservative, it allows escaped characters, numbers of maximum length and pretty printing.
+   *
+   * @return the maximum size in bytes of a valid body, or -1 if the size is not bounded.
+   */
+  default long getMaxBodySize() {
+    return -1;
+  }
 }
@@ -19,15 +19,28 @@ import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.file.CopyOptions;
 import io.vertx.core.internal.ContextInternal;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
 import io.vertx.core.json.JsonObject;
 import io.vertx.json.schema.JsonSchema;
 import io.vertx.json.schema.JsonSchemaValidationException;
+import io.vertx.json.schema.OutputUnit;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.openapi.contract.impl.ContractSnapshot;
 import io.vertx.openapi.contract.impl.OpenAPIContractImpl;
+import io.vertx.openapi.contract.impl.ParallelBuild;
+import io.vertx.openapi.contract.impl.ReloadableOpenAPIContractImpl;
 import io.vertx.openapi.impl.Utils;
 import io.vertx.openapi.mediatype.MediaTypeRegistry;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +56,14 @@ import java.util.stream.Collectors;
  * {@link OpenAPIContractBuilder#putAdditionalContractPart(String, JsonObject)},
  * {@link OpenAPIContractBuilder#setAdditionalContractParts(Map)}.
  * <br>
+ * To speed up repeated starts, the built contract can be cached in a snapshot file, see
+ * {@link OpenAPIContractBuilder#setSnapshotPath(String)}. Very large contracts can be built in parallel, see
+ * {@link OpenAPIContractBuilder#setBuildPool(ForkJoinPool)}, or their operations can be built lazily, see
+ * {@link OpenAPIContractBuilder#setLazyOperations(boolean)}. The memory of a contract can be reduced with
+ * {@link OpenAPIContractBuilder#setCompact(boolean)}, and contracts that reference the same schemas many times can
+ * share them, see {@link OpenAPIContractBuilder#setPreserveReferences(boolean)}.
+ * <br>
+ * A contract that can be updated while it is in use is built with {@link OpenAPIContractBuilder#buildReloadable()}.
  */
 @GenIgnore
 public class OpenAPIContractBuilder {
@@ -53,12 +74,21 @@ public class OpenAPIContractBuilder {
     }
   }
 
+  private static final Logger LOG = LoggerFactory.getLogger(OpenAPIContractBuilder.class);
+  private static final String BASE_URI = "app://";
+
   private final Vertx vertx;
   private String contractPath;
   private JsonObject contract;
   private final Map<String, String> additionalContractPartPaths = new HashMap<>();
   private final Map<String, JsonObject> additionalContractParts = new HashMap<>();
   private MediaTypeRegistry registry;
+  private String snapshotPath;
+  private ForkJoinPool buildPool;
+  private boolean lazyOperations;
+  private boolean warmUpOperations;
+  private boolean compact;
+  private boolean preserveReferences;
 
   public OpenAPIContractBuilder(Vertx vertx) {
     this.vertx = vertx;
@@ -160,6 +190,115 @@ public class OpenAPIContractBuilder {
     return this;
   }
 
+  /**
+   * Sets the path to a snapshot file of the built contract. If the snapshot file exists and was written for the same
+   * contract and additional contract parts, the validation of the contract and the resolution of its references are
+   * skipped and the resolved contract is loaded from the snapshot. Otherwise, the contract is built as usual and the
+   * snapshot file is (re-)written.
+   * <p></p>
+   * Whether the snapshot matches is determined by a content hash of the contract, all additional contract parts and
+   * {@link #setPreserveReferences(boolean)}, so a snapshot is never loaded for a changed contract. A snapshot file that
+   * can't be read or written is ignored.
+   *
+   * @param snapshotPath The path to the snapshot file, or null to disable snapshots.
+   * @return The builder, for a fluent interface
+   */
+  public OpenAPIContractBuilder setSnapshotPath(String snapshotPath) {
+    this.snapshotPath = snapshotPath;
+    return this;
+  }
+
+  /**
+   * Sets the pool to build the contract in parallel. The additional contract parts are validated in parallel, and the
+   * paths and operations of the contract are built in parallel. The results are merged in a deterministic order, so
+   * the built contract, as well as the reported error of an invalid contract, is the same as in a sequential build.
+   * <p></p>
+   * Building in parallel only pays off for contracts with thousands of operations or many additional contract parts.
+   * The pool is not shut down by the builder.
+   *
+   * @param buildPool The pool to build the contract in parallel, e.g. {@link ForkJoinPool#commonPool()}, or null to
+   *                  build the contract sequentially, which is the default.
+   * @return The builder, for a fluent interface
+   */
+  public OpenAPIContractBuilder setBuildPool(ForkJoinPool buildPool) {
+    this.buildPool = buildPool;
+    return this;
+  }
+
+  /**
+   * Sets whether the operations of the contract are built lazily. If enabled, only the paths of the contract are built
+   * immediately, and each operation is built on its first lookup, e.g. via {@link OpenAPIContract#operation(String)} or
+   * {@link OpenAPIContract#findOperation(String, io.vertx.core.http.HttpMethod)}. This reduces the startup time and the
+   * memory of contracts with thousands of operations, of which only a few are used.
+   * <p></p>
+   * The contract is still validated against the OpenAPI schema when it is built, but errors that are only detected while
+   * building an operation, e.g. an operation without responses, are thrown by the lookup of that operation.
+   * {@link OpenAPIContract#operations()} builds all operations.
+   *
+   * @param lazyOperations true to build the operations lazily, false to build them immediately, which is the default.
+   * @return The builder, for a fluent interface
+   */
+  public OpenAPIContractBuilder setLazyOperations(boolean lazyOperations) {
+    this.lazyOperations = lazyOperations;
+    return this;
+  }
+
+  /**
+   * Sets whether the lazily built operations are built in the background, after the contract was built. The built
+   * contract is returned without waiting for the warm-up, lookups of operations that are not yet built build them
+   * on demand. Only has an effect if {@link #setLazyOperations(boolean) lazy operations} are enabled.
+   *
+   * @param warmUpOperations true to build the operations in the background.
+   * @return The builder, for a fluent interface
+   */
+  public OpenAPIContractBuilder setWarmUpOperations(boolean warmUpOperations) {
+    this.warmUpOperations = warmUpOperations;
+    return this;
+  }
+
+  /**
+   * Sets whether the contract is built in compact mode, which reduces the memory of the contract. The contract doesn't
+   * retain the resolved contract, only the parts that are needed for the validation:
+   * <ul>
+   *   <li>{@link OpenAPIContract#getRawContract()} only returns the top-level entries of the resolved contract, except
+   *   the paths, components and webhooks.</li>
+   *   <li>{@link io.vertx.openapi.contract.OpenAPIObject#getOpenAPIModel()} of paths, operations, parameters, request
+   *   bodies, responses and media types only returns their specification extensions.</li>
+   *   <li>Repeated strings, e.g. parameter names, media types and the types of schemas, are interned.</li>
+   *   <li>Identical parameter and header definitions share one {@link io.vertx.openapi.contract.Parameter}.</li>
+   * </ul>
+   * The schemas of parameters and media types are unchanged, so the validation is the same as for a contract that is
+   * not built in compact mode.
+   *
+   * @param compact true to build the contract in compact mode, false to retain the resolved contract, which is the
+   *                default.
+   * @return The builder, for a fluent interface
+   */
+  public OpenAPIContractBuilder setCompact(boolean compact) {
+    this.compact = compact;
+    return this;
+  }
+
+  /**
+   * Sets whether the references of the contract are resolved in a way that preserves them. Every referenced object,
+   * e.g. a component schema, is resolved only once, and all references to it share this instance, also references to
+   * objects of additional contract parts. Parameters and media types with the same referenced schema share the schema
+   * and its validator. Therefore, the memory of the resolved contract and the time to prepare the validators depend on
+   * the number of distinct schemas, and not on the number of references.
+   * <br>
+   * A recursive reference refers to the enclosing schema, e.g. <i>Node.children.items</i> is <i>Node</i> itself.
+   * Encoding such a schema writes the recursive reference as <i>$ref</i>. The validation is the same as for a contract
+   * whose references are resolved separately.
+   *
+   * @param preserveReferences true to share one instance per referenced object, false to resolve every reference
+   *                           separately, which is the default.
+   * @return The builder, for a fluent interface
+   */
+  public OpenAPIContractBuilder setPreserveReferences(boolean preserveReferences) {
+    this.preserveReferences = preserveReferences;
+    return this;
+  }
+
   /**
    * Builds the contract.
    *
@@ -174,18 +313,106 @@ public class OpenAPIContractBuilder {
           "Neither a contract path nor a contract is set. One of them must be set."));
     }
 
-    return Future.all(resolveContract(), resolveContractParts()).compose(v -> buildOpenAPIContract());
+    return Future.all(resolveContract(), resolveContractParts())
+        .compose(v -> snapshotPath == null ? buildOpenAPIContract(null) : buildOpenAPIContractWithSnapshot());
   }
 
-  private Future<OpenAPIContract> buildOpenAPIContract() {
+  /**
+   * Builds a contract that can be updated while it is in use, see {@link ReloadableOpenAPIContract}. The contract and
+   * additional contract parts that were read from files can be reloaded from these files. All other settings of this
+   * builder, except the snapshot path, also apply to the updated contracts.
+   *
+   * @return The reloadable contract.
+   */
+  public Future<ReloadableOpenAPIContract> buildReloadable() {
+    Map<String, String> partPaths = Map.copyOf(additionalContractPartPaths);
+    return build().map(built -> new ReloadableOpenAPIContractImpl(vertx, built, contract, additionalContractParts,
+        contractPath, partPaths, preserveReferences,
+        (updatedContract, updatedParts) -> new OpenAPIContractBuilder(vertx)
+            .setContract(updatedContract)
+            .setAdditionalContractParts(updatedParts)
+            .mediaTypeRegistry(registry)
+            .setBuildPool(buildPool)
+            .setLazyOperations(lazyOperations)
+            .setWarmUpOperations(warmUpOperations)
+            .setCompact(compact)
+            .setPreserveReferences(preserveReferences)
+            .build()));
+  }
+
+  private Future<OpenAPIContract> buildOpenAPIContractWithSnapshot() {
+    // the hash must be computed before the contract is built, because building annotates the contract
+    return vertx.executeBlocking(() -> ContractSnapshot.hash(contract, additionalContractParts,
+        preserveReferences))
+        .compose(hash -> readSnapshot(hash).compose(snapshot -> {
+          if (snapshot != null) {
+            return loadOpenAPIContract(snapshot);
+          }
+          return buildOpenAPIContract(hash);
+        }));
+  }
+
+  private Future<ContractSnapshot> readSnapshot(byte[] hash) {
+    return vertx.fileSystem().exists(snapshotPath).compose(exists -> {
+      if (!exists) {
+        return succeededFuture();
+      }
+      return vertx.fileSystem().readFile(snapshotPath)
+          .compose(buffer -> vertx.executeBlocking(() -> ContractSnapshot.read(buffer, hash)));
+    }).recover(e -> {
+      LOG.warn("Ignoring unreadable contract snapshot " + snapshotPath, e);
+      return succeededFuture();
+    });
+  }
+
+  private Future<Void> writeSnapshot(byte[] hash, OpenAPIVersion version, JsonObject resolvedSpec) {
+    // write to a temporary file first, so that a concurrent build never reads a partially written snapshot
+    String tmpPath = snapshotPath + "." + UUID.randomUUID() + ".tmp";
+    return vertx.executeBlocking(() -> ContractSnapshot.write(hash, version, resolvedSpec))
+        .compose(buffer -> vertx.fileSystem().writeFile(tmpPath, buffer))
+        .compose(v -> vertx.fileSystem().move(tmpPath, snapshotPath,
+            new CopyOptions().setReplaceExisting(true).setAtomicMove(true)))
+        .recover(e -> {
+          LOG.warn("Failed to write contract snapshot " + snapshotPath, e);
+          return vertx.fileSystem().delete(tmpPath).otherwiseEmpty();
+        });
+  }
+
+  private Future<OpenAPIContract> loadOpenAPIContract(ContractSnapshot snapshot) {
+    OpenAPIVersion version = snapshot.getVersion();
+    ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
+    Promise<OpenAPIContract> promise = ctx.promise();
+
+    // the contract and its parts are known to be valid, they only need to be registered in the repository
+    version.getRepository(vertx, BASE_URI)
+        .compose(repository -> vertx.<OpenAPIContract>executeBlocking(() -> {
+          additionalContractParts.forEach((ref, part) -> repository.dereference(ref, JsonSchema.of(ref, part)));
+          repository.dereference(JsonSchema.of(contract));
+          return createContract(snapshot.getResolvedSpec(), version, repository);
+        }))
+        .recover(e -> failedFuture(e instanceof OpenAPIContractException ? e
+            : createInvalidContract("Found issue in specification for reference: " + e.getMessage(), e)))
+        .onComplete(promise);
+
+    return promise.future();
+  }
+
+  /**
+   * @param snapshotHash the hash of the snapshot that is written after the contract was built, or null to write no
+   *                     snapshot. The snapshot is written from the resolved contract, because a compact contract
+   *                     doesn't retain it.
+   */
+  private Future<OpenAPIContract> buildOpenAPIContract(byte[] snapshotHash) {
     OpenAPIVersion version = OpenAPIVersion.fromContract(contract);
-    String baseUri = "app://";
 
     ContextInternal ctx = (ContextInternal) vertx.getOrCreateContext();
     Promise<OpenAPIContract> promise = ctx.promise();
 
-    version.getRepository(vertx, baseUri)
+    version.getRepository(vertx, BASE_URI)
         .compose(repository -> {
+          if (buildPool != null) {
+            return vertx.executeBlocking(() -> addContractPartsInParallel(version, repository));
+          }
           var validationFutures = additionalContractParts.entrySet()
               .stream()
               .map(entry -> version.validateAdditionalContractPart(vertx, repository, entry.getValue())
@@ -196,12 +423,18 @@ public class OpenAPIContractBuilder {
         }).compose(repository -> version.validateContract(vertx, repository, contract).compose(res -> {
           try {
             res.checkValidity();
-            return version.resolve(vertx, repository, contract);
+            return version.resolve(vertx, repository, contract, preserveReferences);
           } catch (JsonSchemaValidationException | UnsupportedOperationException e) {
             return failedFuture(createInvalidContract(null, e));
           }
         })
-            .map(resolvedSpec -> new OpenAPIContractImpl(resolvedSpec, version, repository, registry)))
+            .compose(resolvedSpec -> {
+              Future<OpenAPIContract> built = buildPool == null
+                  ? succeededFuture(createContract(resolvedSpec, version, repository))
+                  : vertx.executeBlocking(() -> createContract(resolvedSpec, version, repository));
+              return snapshotHash == null ? built
+                  : built.compose(created -> writeSnapshot(snapshotHash, version, resolvedSpec).map(created));
+            }))
         .recover(e -> {
           // Convert any non-openapi exceptions into an OpenAPIContractException
           if (e instanceof OpenAPIContractException) {
@@ -214,6 +447,35 @@ public class OpenAPIContractBuilder {
     return promise.future();
   }
 
+  private OpenAPIContract createContract(JsonObject resolvedSpec, OpenAPIVersion version,
+      SchemaRepository repository) {
+    OpenAPIContractImpl built =
+        new OpenAPIContractImpl(resolvedSpec, version, repository, registry, buildPool, lazyOperations, compact);
+    if (lazyOperations && warmUpOperations) {
+      vertx.executeBlocking(() -> {
+        built.buildOperations(buildPool);
+        return null;
+      }, false).onFailure(e -> LOG.warn("Failed to warm up the operations of the contract", e));
+    }
+    return built;
+  }
+
+  private SchemaRepository addContractPartsInParallel(OpenAPIVersion version, SchemaRepository repository)
+      throws JsonSchemaValidationException {
+    // sorted by reference, so that the first invalid part is reported, like in a sequential build
+    List<Map.Entry<String, JsonObject>> parts = new ArrayList<>(new TreeMap<>(additionalContractParts).entrySet());
+    List<OutputUnit> results = ParallelBuild.map(parts,
+        part -> version.validateAdditionalContractPartBlocking(repository, part.getValue()), buildPool);
+    for (OutputUnit result : results) {
+      result.checkValidity();
+    }
+    // dereferencing modifies the repository, the valid parts are dereferenced one after another
+    for (Map.Entry<String, JsonObject> part : parts) {
+      repository.dereference(part.getKey(), JsonSchema.of(part.getKey(), part.getValue()));
+    }
+    return repository;
+  }
+
   private Future<Void> resolveContract() {
     if (contractPath == null) {
       return succeededFuture();
@@ -14,7 +14,6 @@ package io.vertx.openapi.contract;
 
 import static io.vertx.json.schema.Draft.DRAFT202012;
 import static io.vertx.json.schema.Draft.DRAFT4;
-import static io.vertx.json.schema.OutputFormat.Basic;
 import static io.vertx.openapi.contract.OpenAPIContractException.createInvalidContract;
 import static io.vertx.openapi.contract.OpenAPIContractException.createUnsupportedVersion;
 
@@ -24,10 +23,11 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.json.schema.Draft;
 import io.vertx.json.schema.JsonFormatValidator;
 import io.vertx.json.schema.JsonSchema;
-import io.vertx.json.schema.JsonSchemaOptions;
 import io.vertx.json.schema.JsonSchemaValidationException;
 import io.vertx.json.schema.OutputUnit;
 import io.vertx.json.schema.SchemaRepository;
+import io.vertx.openapi.contract.impl.SchemaRepositoryTemplate;
+import io.vertx.openapi.contract.impl.SharedReferenceResolver;
 import io.vertx.openapi.impl.OpenAPIFormatValidator;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -50,6 +50,7 @@ public enum OpenAPIVersion {
   private final Draft draft;
   private final String mainSchemaFile;
   private final JsonFormatValidator formatValidator;
+  private volatile SchemaRepositoryTemplate template;
 
   OpenAPIVersion(String schemaVersion, Draft draft, String mainSchemaFile, JsonFormatValidator formatValidator,
       String... additionalSchemaFiles) {
@@ -107,11 +108,19 @@ public enum OpenAPIVersion {
    * @param part  The additional json contract to validate.
    */
   public Future<Void> validateAdditionalContractPart(Vertx vertx, SchemaRepository repo, JsonObject part) {
-    return vertx.executeBlocking(() -> repo.validator(draft.getIdentifier()).validate(part))
+    return vertx.executeBlocking(() -> validateAdditionalContractPartBlocking(repo, part))
         .compose(this::checkOutputUnit)
         .mapEmpty();
   }
 
+  /**
+   * Validates an additional contract part blocking on the calling thread. Several parts can be validated concurrently,
+   * because validating doesn't modify the repository.
+   */
+  OutputUnit validateAdditionalContractPartBlocking(SchemaRepository repo, JsonObject part) {
+    return repo.validator(draft.getIdentifier()).validate(part);
+  }
+
   private Future<Void> checkOutputUnit(OutputUnit ou) {
     try {
       ou.checkValidity();
@@ -122,22 +131,51 @@ public enum OpenAPIVersion {
   }
 
   public Future<JsonObject> resolve(Vertx vertx, SchemaRepository repo, JsonObject contract) {
+    return resolve(vertx, repo, contract, false);
+  }
+
+  /**
+   * Resolves the references of the contract.
+   *
+   * @param vertx              The related Vert.x instance.
+   * @param repo               The SchemaRepository that contains the additional contract parts.
+   * @param contract           The unresolved contract.
+   * @param preserveReferences true to resolve every referenced object only once, so that all references to it share
+   *                           one instance, false to resolve every reference separately.
+   * @return A succeeded Future with the resolved contract.
+   */
+  public Future<JsonObject> resolve(Vertx vertx, SchemaRepository repo, JsonObject contract,
+      boolean preserveReferences) {
     return vertx.executeBlocking(() -> {
       JsonSchema schema = JsonSchema.of(contract);
       repo.dereference(schema);
-      return repo.resolve(contract);
+      return preserveReferences ? SharedReferenceResolver.resolve(repo, contract) : repo.resolve(contract);
     });
   }
 
+  /**
+   * Returns a new repository, which contains the JSON Schema meta-schemas and the OpenAPI schemas of this version. The
+   * schemas are read and prepared only once per process, every repository is derived from them.
+   *
+   * @param vertx   The related Vert.x instance.
+   * @param baseUri The base URI of the repository.
+   * @return the repository.
+   */
   public Future<SchemaRepository> getRepository(Vertx vertx, String baseUri) {
-    JsonSchemaOptions opts = new JsonSchemaOptions().setDraft(draft).setBaseUri(baseUri).setOutputFormat(Basic);
-    return vertx.executeBlocking(() -> {
-      SchemaRepository repo = SchemaRepository.create(opts, formatValidator).preloadMetaSchema(vertx.fileSystem());
-      for (String ref : schemaFiles) {
-        JsonObject raw = new JsonObject(vertx.fileSystem().readFileBlocking(ref.substring("https://".length())));
-        repo.dereference(ref, JsonSchema.of(raw));
+    return vertx.executeBlocking(() -> getTemplate(vertx).derive(baseUri));
+  }
+
+  private SchemaRepositoryTemplate getTemplate(Vertx vertx) {
+    SchemaRepositoryTemplate current = template;
+    if (current == null) {
+      synchronized (this) {
+        current = template;
+        if (current == null) {
+          current = SchemaRepositoryTemplate.create(vertx.fileSystem(), draft, formatValidator, schemaFiles);
+          template = current;
+        }
       }
-      return repo;
-    });
+    }
+    return current;
   }
 }
@@ -27,6 +27,20 @@ import java.util.List;
 @VertxGen
 public interface Operation extends OpenAPIObject {
 
+  /**
+   * Overrides the maximum size in bytes of the request body, which is otherwise derived from the schema of the media
+   * type, see {@link MediaType#getMaxBodySize()}. A negative value disables the limit.
+   */
+  String EXTENSION_MAX_BODY_SIZE = "x-vertx-openapi-max-body-size";
+
+  /**
+   * Overrides the limits for decoding the JSON content of the request body, e.g.
+   * <i>{ "maxNestingDepth": 16, "maxStringLength": 1024, "maxNumberLength": 32, "maxTokenCount": 10000 }</i>. Limits
+   * that are not defined are inherited from the {@link io.vertx.openapi.validation.JsonDecodingOptions} of the
+   * validator.
+   */
+  String EXTENSION_JSON_DECODING_LIMITS = "x-vertx-openapi-json-limits";
+
   /**
    * @return operationId of this operation
    */
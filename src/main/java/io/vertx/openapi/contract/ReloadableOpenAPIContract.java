@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.json.JsonObject;
+import java.util.Map;
+
+/**
+ * A handle to an {@link OpenAPIContract} that can be updated while it is in use. Create it with
+ * {@link OpenAPIContractBuilder#buildReloadable()}.
+ * <p></p>
+ * An update is compared with the current contract by path, operation and component. Only the paths whose path item
+ * changed, or that reference a changed component, are validated and built again, all other paths and their operations
+ * are reused. A change of any other part of the contract, e.g. the servers, or of an additional contract part results
+ * in a complete build. The updated contract replaces the current contract atomically, and only if it was built
+ * successfully.
+ * <p></p>
+ * Validators created with {@link io.vertx.openapi.validation.RequestValidator#create(io.vertx.core.Vertx,
+ * ReloadableOpenAPIContract)} always validate against the current contract, a validation that is in progress while the
+ * contract is replaced finishes with the previous contract.
+ */
+@GenIgnore
+public interface ReloadableOpenAPIContract {
+
+  /**
+   * Returns the current contract. This method doesn't block and is cheap, so it can be called for every request.
+   *
+   * @return the current contract.
+   */
+  OpenAPIContract current();
+
+  /**
+   * Updates the contract. The additional contract parts stay unchanged.
+   *
+   * @param contract the updated unresolved contract.
+   * @return A succeeded Future with the updated contract, or a failed Future if the updated contract is invalid, in
+   * which case the current contract stays unchanged.
+   */
+  Future<OpenAPIContract> update(JsonObject contract);
+
+  /**
+   * Updates the contract and its additional contract parts.
+   *
+   * @param contract      the updated unresolved contract.
+   * @param contractParts all additional contract parts of the updated contract.
+   * @return A succeeded Future with the updated contract, or a failed Future if the updated contract is invalid, in
+   * which case the current contract stays unchanged.
+   */
+  Future<OpenAPIContract> update(JsonObject contract, Map<String, JsonObject> contractParts);
+
+  /**
+   * Reads the contract and the additional contract parts from the files they were originally read from, and updates
+   * the contract with them. Contracts and additional contract parts that were not read from files stay unchanged.
+   *
+   * @return A succeeded Future with the updated contract, or a failed Future if a file can't be read or the updated
+   * contract is invalid, in which case the current contract stays unchanged.
+   */
+  Future<OpenAPIContract> reload();
+
+  /**
+   * Checks the files of the contract and of the additional contract parts periodically, and {@link #reload() reloads}
+   * the contract when one of them was modified. A failed reload is logged and the current contract stays unchanged.
+   *
+   * @param intervalMillis the interval between two checks in milliseconds.
+   * @return this handle, for a fluent interface.
+   */
+  ReloadableOpenAPIContract watch(long intervalMillis);
+
+  /**
+   * Sets a handler that is called with the updated contract, after it replaced the previous contract.
+   *
+   * @param handler the handler.
+   * @return this handle, for a fluent interface.
+   */
+  ReloadableOpenAPIContract reloadHandler(Handler<OpenAPIContract> handler);
+
+  /**
+   * Stops {@link #watch(long) watching} the files. The current contract can still be used and updated.
+   */
+  void close();
+}
@@ -13,6 +13,7 @@
 package io.vertx.openapi.contract;
 
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.openapi.contract.impl.MediaTypeIndex;
 import java.util.List;
 import java.util.Map;
 
@@ -29,4 +30,34 @@ public interface Response extends OpenAPIObject {
    * type range and the value describes it.
    */
   Map<String, MediaType> getContent();
+
+  /**
+   * This method tries to determine the best fitting {@link MediaType} based on the passed content type.
+   * <br>
+   * <br>
+   * A declared media type that is equal to the content type is preferred. Otherwise, a declared media type fits if its
+   * parameters are a subset of the parameters of the content type, e.g. <i>application/json</i> fits
+   * <i>application/json; charset=utf-8</i>, but not the other way around. Media type ranges like <i>application/*</i>
+   * are considered last.
+   * <p></p>
+   * The default implementation indexes {@link #getContent()} on every call.
+   *
+   * @param contentType the content type of the response.
+   * @return A fitting media type, or null.
+   */
+  default MediaType determineContentType(String contentType) {
+    return new MediaTypeIndex(getContent()).find(contentType);
+  }
+
+  /**
+   * This method selects the {@link MediaType} that is preferred by the passed <i>Accept</i> header of a request,
+   * respecting the quality values of the media ranges.
+   *
+   * @param accept the value of the <i>Accept</i> header.
+   * @return The preferred media type, the first declared media type if the header is null, or null if none of the
+   * declared media types is acceptable.
+   */
+  default MediaType negotiateContentType(String accept) {
+    return new MediaTypeIndex(getContent()).negotiate(accept);
+  }
 }
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Computes a conservative upper bound for the size in bytes of a JSON document that is valid against a schema. The
+ * bound is only finite if every value in the schema is bounded, e.g. strings by <i>maxLength</i>, arrays by
+ * <i>maxItems</i> and objects by a closed set of properties or by <i>maxProperties</i>. Recursive schemas are
+ * unbounded.
+ * <p></p>
+ * The bound is conservative in the following ways:
+ * <ul>
+ * <li>every character of a string may be written as a <i>\\uXXXX</i> escape sequence, or a surrogate pair of them.</li>
+ * <li>every number may have the maximum length that is accepted by the JSON parser.</li>
+ * <li>the document may be pretty printed with an indentation of up to {@value #MAX_INDENT_PER_LEVEL} spaces per
+ * level.</li>
+ * </ul>
+ */
+public final class BodySizeEstimator {
+
+  /**
+   * The size of a document that is valid against the schema is not bounded.
+   */
+  public static final long UNBOUNDED = -1;
+
+  static final int MAX_INDENT_PER_LEVEL = 4;
+  // an escaped surrogate pair, a code point counts as one character for maxLength
+  private static final long MAX_BYTES_PER_CHAR = 12;
+  // integer part, fraction and exponent are limited by the parser, plus sign, dot and exponent marker
+  private static final long MAX_NUMBER_SIZE = 2L * StreamReadConstraints.DEFAULT_MAX_NUM_LEN + 8;
+  private static final long MAX_BOUND = 1L << 40;
+
+  private BodySizeEstimator() {
+  }
+
+  /**
+   * @param schema the schema, can be null.
+   * @return the maximum size in bytes of a document that is valid against the schema, or {@link #UNBOUNDED}.
+   */
+  public static long maxSize(JsonObject schema) {
+    if (schema == null) {
+      return UNBOUNDED;
+    }
+    Set<Object> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+    // leading and trailing line breaks
+    return sum(maxSize(schema, 0, visiting), 2);
+  }
+
+  private static long maxSize(Object schema, int depth, Set<Object> visiting) {
+    if (schema instanceof Boolean) {
+      // nothing is valid against the false schema
+      return (Boolean) schema ? UNBOUNDED : 0;
+    }
+    if (!(schema instanceof JsonObject)) {
+      return UNBOUNDED;
+    }
+    JsonObject json = (JsonObject) schema;
+    if (!visiting.add(json)) {
+      return UNBOUNDED;
+    }
+    try {
+      long size = ownSize(json, depth, visiting);
+      JsonArray allOf = json.getJsonArray("allOf");
+      if (allOf != null) {
+        // a valid value matches every subschema, so the smallest bound applies
+        for (Object subSchema : allOf) {
+          size = min(size, maxSize(subSchema, depth, visiting));
+        }
+      }
+      for (String key : new String[] { "anyOf", "oneOf" }) {
+        JsonArray subSchemas = json.getJsonArray(key);
+        if (subSchemas != null) {
+          long largest = 0;
+          for (Object subSchema : subSchemas) {
+            largest = max(largest, maxSize(subSchema, depth, visiting));
+          }
+          size = min(size, largest);
+        }
+      }
+      if (Boolean.TRUE.equals(json.getValue("nullable"))) {
+        // OpenAPI 3.0 allows null in addition to the type
+        size = max(size, 4);
+      }
+      return size;
+    } finally {
+      visiting.remove(json);
+    }
+  }
+
+  private static long ownSize(JsonObject schema, int depth, Set<Object> visiting) {
+    if (schema.containsKey("const")) {
+      return valueSize(schema.getValue("const"), depth);
+    }
+    JsonArray enumValues = schema.getJsonArray("enum");
+    if (enumValues != null) {
+      long largest = 0;
+      for (Object value : enumValues) {
+        largest = max(largest, valueSize(value, depth));
+      }
+      return largest;
+    }
+
+    Object type = schema.getValue("type");
+    if (type instanceof String) {
+      return typeSize(schema, (String) type, depth, visiting);
+    }
+    if (type instanceof JsonArray) {
+      long largest = 0;
+      for (Object t : (JsonArray) type) {
+        largest = max(largest, typeSize(schema, String.valueOf(t), depth, visiting));
+      }
+      return largest;
+    }
+    return UNBOUNDED;
+  }
+
+  private static long typeSize(JsonObject schema, String type, int depth, Set<Object> visiting) {
+    switch (type) {
+      case "null":
+        return 4;
+      case "boolean":
+        return 5;
+      case "integer":
+      case "number":
+        return MAX_NUMBER_SIZE;
+      case "string":
+        Number maxLength = schema.getNumber("maxLength");
+        return maxLength == null ? UNBOUNDED : stringSize(maxLength.longValue());
+      case "array":
+        return arraySize(schema, depth, visiting);
+      case "object":
+        return objectSize(schema, depth, visiting);
+      default:
+        return UNBOUNDED;
+    }
+  }
+
+  private static long arraySize(JsonObject schema, int depth, Set<Object> visiting) {
+    JsonArray prefixItems = schema.getJsonArray("prefixItems", new JsonArray());
+    Object items = schema.getValue("items");
+    Number maxItems = schema.getNumber("maxItems");
+    long count = Boolean.FALSE.equals(items) ? prefixItems.size() : maxItems == null ? UNBOUNDED : maxItems.longValue();
+    if (maxItems != null) {
+      count = min(count, maxItems.longValue());
+    }
+    if (count == UNBOUNDED) {
+      return UNBOUNDED;
+    }
+
+    long itemSize = 0;
+    for (int i = 0; i < prefixItems.size() && i < count; i++) {
+      itemSize = max(itemSize, maxSize(prefixItems.getValue(i), depth + 1, visiting));
+    }
+    if (count > prefixItems.size()) {
+      itemSize = max(itemSize, items == null ? UNBOUNDED : maxSize(items, depth + 1, visiting));
+    }
+    // every item is preceded by a line break and the indentation, and followed by a comma
+    long perItem = sum(itemSize, indentation(depth + 1), 1);
+    return sum(2, times(count, perItem), indentation(depth));
+  }
+
+  private static long objectSize(JsonObject schema, int depth, Set<Object> visiting) {
+    JsonObject properties = schema.getJsonObject("properties", new JsonObject());
+    JsonObject patternProperties = schema.getJsonObject("patternProperties");
+    Object additionalProperties = schema.getValue("additionalProperties");
+    boolean closed = Boolean.FALSE.equals(additionalProperties) && patternProperties == null;
+
+    long declared = 0;
+    long largestMember = 0;
+    for (Map.Entry<String, Object> property : properties) {
+      long member = memberSize(stringSize(codePoints(property.getKey())), property.getValue(), depth, visiting);
+      declared = sum(declared, member);
+      largestMember = max(largestMember, member);
+    }
+
+    Number maxProperties = schema.getNumber("maxProperties");
+    if (!closed) {
+      Object propertyNames = schema.getValue("propertyNames");
+      Number maxKeyLength = propertyNames instanceof JsonObject
+          ? ((JsonObject) propertyNames).getNumber("maxLength")
+          : null;
+      if (maxProperties == null || maxKeyLength == null || additionalProperties == null) {
+        return UNBOUNDED;
+      }
+      long keySize = stringSize(maxKeyLength.longValue());
+      largestMember = max(largestMember, memberSize(keySize, additionalProperties, depth, visiting));
+      if (patternProperties != null) {
+        for (Map.Entry<String, Object> property : patternProperties) {
+          largestMember = max(largestMember, memberSize(keySize, property.getValue(), depth, visiting));
+        }
+      }
+    }
+
+    long members = closed ? declared : UNBOUNDED;
+    if (maxProperties != null) {
+      members = min(members, times(maxProperties.longValue(), largestMember));
+    }
+    return sum(2, members, indentation(depth));
+  }
+
+  private static long memberSize(long keySize, Object valueSchema, int depth, Set<Object> visiting) {
+    // line break and indentation, key, colon and space, value, comma
+    return sum(indentation(depth + 1), keySize, 2, maxSize(valueSchema, depth + 1, visiting), 1);
+  }
+
+  private static long valueSize(Object value, int depth) {
+    if (value == null) {
+      return 4;
+    }
+    if (value instanceof Boolean) {
+      return 5;
+    }
+    if (value instanceof Number) {
+      return MAX_NUMBER_SIZE;
+    }
+    if (value instanceof String) {
+      return stringSize(codePoints((String) value));
+    }
+    if (value instanceof JsonArray) {
+      long size = 2;
+      for (Object item : (JsonArray) value) {
+        size = sum(size, indentation(depth + 1), valueSize(item, depth + 1), 1);
+      }
+      return sum(size, indentation(depth));
+    }
+    if (value instanceof JsonObject) {
+      long size = 2;
+      for (Map.Entry<String, Object> entry : (JsonObject) value) {
+        long keySize = stringSize(codePoints(entry.getKey()));
+        size = sum(size, indentation(depth + 1), keySize, 2, valueSize(entry.getValue(), depth + 1), 1);
+      }
+      return sum(size, indentation(depth));
+    }
+    return UNBOUNDED;
+  }
+
+  private static long stringSize(long length) {
+    return sum(2, times(length, MAX_BYTES_PER_CHAR));
+  }
+
+  private static long codePoints(String value) {
+    return value.codePointCount(0, value.length());
+  }
+
+  private static long indentation(int depth) {
+    return 1 + (long) MAX_INDENT_PER_LEVEL * depth;
+  }
+
+  private static long sum(long... sizes) {
+    long total = 0;
+    for (long size : sizes) {
+      if (size == UNBOUNDED) {
+        return UNBOUNDED;
+      }
+      total += size;
+      if (total > MAX_BOUND) {
+        return UNBOUNDED;
+      }
+    }
+    return total;
+  }
+
+  private static long times(long count, long size) {
+    if (count == UNBOUNDED || size == UNBOUNDED) {
+      return UNBOUNDED;
+    }
+    if (count != 0 && size > MAX_BOUND / count) {
+      return UNBOUNDED;
+    }
+    return count * size;
+  }
+
+  private static long min(long a, long b) {
+    if (a == UNBOUNDED) {
+      return b;
+    }
+    return b == UNBOUNDED ? a : Math.min(a, b);
+  }
+
+  private static long max(long a, long b) {
+    return a == UNBOUNDED || b == UNBOUNDED ? UNBOUNDED : Math.max(a, b);
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import static io.vertx.openapi.contract.Location.HEADER;
+import static io.vertx.openapi.contract.Location.PATH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reduces the memory of a contract that is built in compact mode:
+ * <ul>
+ *   <li>The model objects don't retain their part of the resolved contract, only its specification extensions.</li>
+ *   <li>Repeated strings, e.g. parameter names, media types and the types and formats of schemas, are interned.</li>
+ *   <li>Identical parameter and header definitions share one {@link ParameterImpl}.</li>
+ * </ul>
+ * A compactor is used for the build of one contract, and can be used by multiple threads.
+ */
+public final class ContractCompactor {
+
+  private static final String KEY_NAME = "name";
+  private static final String KEY_IN = "in";
+  private static final String KEY_TYPE = "type";
+  private static final String KEY_FORMAT = "format";
+  private static final String EXTENSION_PREFIX = "x-";
+
+  private final Map<ByteBuffer, ParameterImpl> parameters = new ConcurrentHashMap<>();
+  private final Set<Map<String, Object>> internedSchemas =
+      Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<>()));
+
+  /**
+   * @param value a string of the contract, or null.
+   * @return the canonical representation of the string.
+   */
+  public static String intern(String value) {
+    return value == null ? null : value.intern();
+  }
+
+  /**
+   * @param model a part of the resolved contract.
+   * @return a new model, which only contains the specification extensions of the passed model.
+   */
+  public static JsonObject retain(JsonObject model) {
+    JsonObject retained = new JsonObject(new LinkedHashMap<>(2));
+    model.getMap().forEach((key, value) -> {
+      if (key.startsWith(EXTENSION_PREFIX)) {
+        retained.put(intern(key), value);
+      }
+    });
+    return retained;
+  }
+
+  /**
+   * Returns the parameter of the passed definition. Identical definitions share one parameter.
+   *
+   * @param path           the path of the parameter.
+   * @param parameterModel the definition of the parameter.
+   * @return the parameter.
+   */
+  public ParameterImpl parameter(String path, JsonObject parameterModel) {
+    ByteBuffer key = key(parameterModel);
+    if (key == null) {
+      return new ParameterImpl(path, parameterModel, this);
+    }
+    ParameterImpl parameter = parameters.get(key);
+    if (parameter == null) {
+      parameter = new ParameterImpl(path, parameterModel, this);
+      ParameterImpl concurrent = parameters.putIfAbsent(key, parameter);
+      return concurrent == null ? parameter : concurrent;
+    }
+    // a shared parameter was validated for the path of its first definition
+    if (parameter.getIn() == PATH) {
+      ParameterImpl.checkPathParameterName(path, parameter.getName());
+    }
+    return parameter;
+  }
+
+  /**
+   * Returns the parameter of a header of a response. Unlike a deep copy of the header definition, the parameter shares
+   * the schema with the resolved contract, and identical headers share one parameter.
+   *
+   * @param name        the name of the header.
+   * @param headerModel the definition of the header.
+   * @return the parameter.
+   */
+  public ParameterImpl header(String name, JsonObject headerModel) {
+    JsonObject parameterModel = new JsonObject(new LinkedHashMap<>(headerModel.getMap()))
+        .put(KEY_NAME, intern(name))
+        .put(KEY_IN, HEADER.toString());
+    return parameter("", parameterModel);
+  }
+
+  /**
+   * Interns the types and formats of the passed schema and its subschemas. Schemas that are shared by multiple
+   * parameters or media types are only visited once.
+   *
+   * @param schema a schema of the resolved contract.
+   */
+  public void internSchema(JsonObject schema) {
+    internStrings(schema.getMap());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void internStrings(Object value) {
+    if (value instanceof JsonObject) {
+      internStrings(((JsonObject) value).getMap());
+    } else if (value instanceof JsonArray) {
+      internStrings(((JsonArray) value).getList());
+    } else if (value instanceof Map) {
+      Map<String, Object> map = (Map<String, Object>) value;
+      if (!internedSchemas.add(map)) {
+        return;
+      }
+      for (Map.Entry<String, Object> entry : map.entrySet()) {
+        Object entryValue = entry.getValue();
+        if (entryValue instanceof String && (KEY_TYPE.equals(entry.getKey()) || KEY_FORMAT.equals(entry.getKey()))) {
+          // replacing the value of an entry doesn't modify the structure of the map
+          entry.setValue(intern((String) entryValue));
+        } else {
+          internStrings(entryValue);
+        }
+      }
+    } else if (value instanceof List) {
+      for (Object item : (List<Object>) value) {
+        internStrings(item);
+      }
+    }
+  }
+
+  /**
+   * Returns the content hash of a definition, or null if the definition is recursive and can't be hashed.
+   */
+  private static ByteBuffer key(JsonObject model) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    Set<Object> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+    return hash(digest, model, ancestors) ? ByteBuffer.wrap(digest.digest()) : null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static boolean hash(MessageDigest digest, Object value, Set<Object> ancestors) {
+    if (value instanceof JsonObject) {
+      return hash(digest, ((JsonObject) value).getMap(), ancestors);
+    } else if (value instanceof JsonArray) {
+      return hash(digest, ((JsonArray) value).getList(), ancestors);
+    } else if (value instanceof Map) {
+      if (!ancestors.add(value)) {
+        return false;
+      }
+      digest.update((byte) '{');
+      for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+        update(digest, entry.getKey());
+        if (!hash(digest, entry.getValue(), ancestors)) {
+          return false;
+        }
+      }
+      digest.update((byte) '}');
+      ancestors.remove(value);
+    } else if (value instanceof List) {
+      digest.update((byte) '[');
+      for (Object item : (List<Object>) value) {
+        if (!hash(digest, item, ancestors)) {
+          return false;
+        }
+      }
+      digest.update((byte) ']');
+    } else if (value == null) {
+      digest.update((byte) 'n');
+    } else {
+      // the type is hashed as well, so that e.g. 1 and "1" differ
+      update(digest, value.getClass().getSimpleName());
+      update(digest, value.toString());
+    }
+    return true;
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    byte[] bytes = value.getBytes(UTF_8);
+    digest.update((byte) (bytes.length >>> 24));
+    digest.update((byte) (bytes.length >>> 16));
+    digest.update((byte) (bytes.length >>> 8));
+    digest.update((byte) bytes.length);
+    digest.update(bytes);
+  }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vertx.core.internal.net.RFC3986;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The content hashes of the parts of an unresolved contract, which are used to determine the parts that changed
+ * between two versions of a contract.
+ * <p></p>
+ * A contract is split into nodes: every path item, and every component, e.g. <i>#/components/schemas/Pet</i>. The
+ * nodes are identified by their JSON pointer. All other top-level entries of the contract, e.g. the servers or the
+ * global security requirements, and the additional contract parts are hashed as a whole, because a change of them
+ * affects every operation. The local references of the nodes are collected, so that a node that references a changed
+ * node, directly or transitively, is affected by the change as well.
+ */
+public final class ContractFingerprint {
+
+  private static final String KEY_PATHS = "paths";
+  private static final String KEY_COMPONENTS = "components";
+  private static final String KEY_REF = "$ref";
+  private static final String PATHS_POINTER = "#/paths/";
+  private static final String COMPONENTS_POINTER = "#/components/";
+
+  private final byte[] global;
+  private final Map<String, byte[]> nodes;
+  private final Map<String, Set<String>> references;
+
+  private ContractFingerprint(byte[] global, Map<String, byte[]> nodes, Map<String, Set<String>> references) {
+    this.global = global;
+    this.nodes = nodes;
+    this.references = references;
+  }
+
+  /**
+   * Computes the fingerprint of an unresolved contract. Annotations that were added while dereferencing the contract
+   * are ignored.
+   *
+   * @param contract      the unresolved contract.
+   * @param contractParts the additional contract parts.
+   * @return the fingerprint.
+   */
+  public static ContractFingerprint of(JsonObject contract, Map<String, JsonObject> contractParts) {
+    MessageDigest globalDigest = digest();
+    Map<String, byte[]> nodes = new HashMap<>();
+    Map<String, Set<String>> references = new HashMap<>();
+
+    contract.stream().filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES).forEach(entry -> {
+      Object value = entry.getValue();
+      if (KEY_PATHS.equals(entry.getKey()) && value instanceof JsonObject) {
+        ((JsonObject) value).stream().filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES)
+            .forEach(path -> addNode(pathNode(path.getKey()), path.getValue(), nodes, references));
+      } else if (KEY_COMPONENTS.equals(entry.getKey()) && value instanceof JsonObject) {
+        ((JsonObject) value).stream().filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES).forEach(type -> {
+          if (type.getValue() instanceof JsonObject) {
+            ((JsonObject) type.getValue()).stream().filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES)
+                .forEach(component -> addNode(componentNode(type.getKey(), component.getKey()), component.getValue(),
+                    nodes, references));
+          } else {
+            // e.g. an extension of the components object
+            update(globalDigest, KEY_COMPONENTS + "/" + type.getKey());
+            hash(globalDigest, type.getValue());
+          }
+        });
+      } else {
+        update(globalDigest, entry.getKey());
+        hash(globalDigest, value);
+      }
+    });
+
+    // the order of the parts doesn't matter
+    new TreeMap<>(contractParts).forEach((ref, part) -> {
+      update(globalDigest, ref);
+      hash(globalDigest, part);
+    });
+
+    return new ContractFingerprint(globalDigest.digest(), nodes, references);
+  }
+
+  /**
+   * @param path the key of a path in the paths object.
+   * @return the node of the path.
+   */
+  public static String pathNode(String path) {
+    return PATHS_POINTER + escape(path);
+  }
+
+  /**
+   * @param type the type of the component, e.g. <i>schemas</i>.
+   * @param name the name of the component.
+   * @return the node of the component.
+   */
+  public static String componentNode(String type, String name) {
+    return COMPONENTS_POINTER + escape(type) + "/" + escape(name);
+  }
+
+  /**
+   * @param previous the fingerprint of the previous version of the contract.
+   * @return true if an entry of the contract other than a path item or component, or an additional contract part
+   * changed.
+   */
+  public boolean hasGlobalChanges(ContractFingerprint previous) {
+    return !Arrays.equals(global, previous.global);
+  }
+
+  /**
+   * @param previous the fingerprint of the previous version of the contract.
+   * @return the nodes that were added, removed or changed.
+   */
+  public Set<String> changedNodes(ContractFingerprint previous) {
+    Set<String> changed = new HashSet<>();
+    nodes.forEach((node, hash) -> {
+      if (!Arrays.equals(hash, previous.nodes.get(node))) {
+        changed.add(node);
+      }
+    });
+    for (String node : previous.nodes.keySet()) {
+      if (!nodes.containsKey(node)) {
+        changed.add(node);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * @param changedNodes the changed nodes.
+   * @return the changed nodes and the nodes of this contract that reference them, directly or transitively.
+   */
+  public Set<String> affectedNodes(Set<String> changedNodes) {
+    Map<String, Set<String>> referencedBy = new HashMap<>();
+    references.forEach((node, targets) -> {
+      for (String target : targets) {
+        referencedBy.computeIfAbsent(target, t -> new HashSet<>()).add(node);
+      }
+    });
+
+    Set<String> affected = new HashSet<>(changedNodes);
+    Deque<String> queue = new ArrayDeque<>(changedNodes);
+    while (!queue.isEmpty()) {
+      for (String node : referencedBy.getOrDefault(queue.poll(), Collections.emptySet())) {
+        if (affected.add(node)) {
+          queue.add(node);
+        }
+      }
+    }
+    return affected;
+  }
+
+  private static void addNode(String node, Object value, Map<String, byte[]> nodes,
+      Map<String, Set<String>> references) {
+    MessageDigest digest = digest();
+    hash(digest, value);
+    nodes.put(node, digest.digest());
+    Set<String> targets = new HashSet<>();
+    collectReferences(value, targets);
+    if (!targets.isEmpty()) {
+      references.put(node, targets);
+    }
+  }
+
+  private static void collectReferences(Object value, Set<String> targets) {
+    if (value instanceof JsonObject) {
+      for (Map.Entry<String, Object> entry : (JsonObject) value) {
+        if (KEY_REF.equals(entry.getKey()) && entry.getValue() instanceof String) {
+          String target = referencedNode((String) entry.getValue());
+          if (target != null) {
+            targets.add(target);
+          }
+        } else {
+          collectReferences(entry.getValue(), targets);
+        }
+      }
+    } else if (value instanceof JsonArray) {
+      for (Object item : (JsonArray) value) {
+        collectReferences(item, targets);
+      }
+    }
+  }
+
+  /**
+   * Returns the node of a local reference, e.g. <i>#/components/schemas/Pet</i> for
+   * <i>#/components/schemas/Pet/properties/name</i>, or null if the reference doesn't refer to a node of this
+   * contract. References to other top-level entries are covered by the global hash.
+   */
+  private static String referencedNode(String ref) {
+    if (!ref.startsWith("#/")) {
+      return null;
+    }
+    String[] segments = RFC3986.decodeURIComponent(ref.substring(2)).split("/", -1);
+    if (segments.length >= 2 && KEY_PATHS.equals(segments[0])) {
+      return PATHS_POINTER + segments[1];
+    }
+    if (segments.length >= 3 && KEY_COMPONENTS.equals(segments[0])) {
+      return COMPONENTS_POINTER + segments[1] + "/" + segments[2];
+    }
+    return null;
+  }
+
+  private static String escape(String segment) {
+    return segment.replace("~", "~0").replace("/", "~1");
+  }
+
+  private static MessageDigest digest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void hash(MessageDigest digest, Object value) {
+    if (value instanceof JsonObject) {
+      digest.update((byte) '{');
+      ((JsonObject) value).stream().filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES).forEach(entry -> {
+        update(digest, entry.getKey());
+        hash(digest, entry.getValue());
+      });
+      digest.update((byte) '}');
+    } else if (value instanceof JsonArray) {
+      digest.update((byte) '[');
+      for (Object item : (JsonArray) value) {
+        hash(digest, item);
+      }
+      digest.update((byte) ']');
+    } else if (value == null) {
+      digest.update((byte) 'n');
+    } else {
+      // the type is hashed as well, so that e.g. 1 and "1" differ
+      update(digest, value.getClass().getSimpleName());
+      update(digest, value.toString());
+    }
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    byte[] bytes = value.getBytes(UTF_8);
+    digest.update((byte) (bytes.length >>> 24));
+    digest.update((byte) (bytes.length >>> 16));
+    digest.update((byte) (bytes.length >>> 8));
+    digest.update((byte) bytes.length);
+    digest.update(bytes);
+  }
+}
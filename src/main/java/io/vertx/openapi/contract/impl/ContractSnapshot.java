@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.internal.JsonArrayProxy;
+import io.vertx.json.schema.internal.JsonObjectProxy;
+import io.vertx.openapi.contract.OpenAPIVersion;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A binary snapshot of a resolved contract, which allows to skip the validation against the OpenAPI meta-schema and the
+ * resolution of references when a contract is loaded again.
+ * <p></p>
+ * A snapshot is keyed by the {@link #hash(JsonObject, Map, boolean) content hash} of the contract and all of its
+ * additional parts, it is only loaded if the hash of the current contract matches. The resolved contract is stored as
+ * a compressed tree, in which every string is written once and every object or array that occurs more than once, e.g.
+ * a referenced schema or a circular reference, is stored once and referenced afterwards. This preserves the structure
+ * of the resolved contract.
+ */
+public final class ContractSnapshot {
+
+  private static final int MAGIC = 0x56584f41;
+  private static final int FORMAT_VERSION = 1;
+  private static final String HASH_ALGORITHM = "SHA-256";
+
+  private static final byte NULL = 0;
+  private static final byte TRUE = 1;
+  private static final byte FALSE = 2;
+  private static final byte INT = 3;
+  private static final byte LONG = 4;
+  private static final byte FLOAT = 5;
+  private static final byte DOUBLE = 6;
+  private static final byte BIG_INTEGER = 7;
+  private static final byte BIG_DECIMAL = 8;
+  private static final byte STRING = 9;
+  private static final byte STRING_REF = 10;
+  private static final byte OBJECT = 11;
+  private static final byte OBJECT_PROXY = 12;
+  private static final byte ARRAY = 13;
+  private static final byte ARRAY_PROXY = 14;
+  private static final byte CONTAINER_REF = 15;
+
+  private final OpenAPIVersion version;
+  private final JsonObject resolvedSpec;
+
+  private ContractSnapshot(OpenAPIVersion version, JsonObject resolvedSpec) {
+    this.version = version;
+    this.resolvedSpec = resolvedSpec;
+  }
+
+  /**
+   * @return the OpenAPI version of the contract.
+   */
+  public OpenAPIVersion getVersion() {
+    return version;
+  }
+
+  /**
+   * @return the resolved contract.
+   */
+  public JsonObject getResolvedSpec() {
+    return resolvedSpec;
+  }
+
+  /**
+   * Computes the content hash of a contract and its additional parts. The hash must be computed before the contract is
+   * built, because building annotates the contract.
+   *
+   * @param contract           the unresolved contract.
+   * @param contractParts      the unresolved additional contract parts.
+   * @param preserveReferences true if the references of the contract are resolved in a way that preserves them, the
+   *                           resolved contract differs in the structure.
+   * @return the content hash.
+   */
+  public static byte[] hash(JsonObject contract, Map<String, JsonObject> contractParts, boolean preserveReferences) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    digest.update((byte) FORMAT_VERSION);
+    digest.update(preserveReferences ? TRUE : FALSE);
+    digest.update(contract.toBuffer().getBytes());
+    // the order in which the parts were added is not relevant
+    for (Map.Entry<String, JsonObject> part : new TreeMap<>(contractParts).entrySet()) {
+      digest.update((byte) 0);
+      digest.update(part.getKey().getBytes(UTF_8));
+      digest.update((byte) 0);
+      digest.update(part.getValue().toBuffer().getBytes());
+    }
+    return digest.digest();
+  }
+
+  /**
+   * Writes a snapshot of a resolved contract.
+   *
+   * @param hash         the content hash of the unresolved contract, see {@link #hash(JsonObject, Map, boolean)}.
+   * @param version      the OpenAPI version of the contract.
+   * @param resolvedSpec the resolved contract.
+   * @return the snapshot.
+   */
+  public static Buffer write(byte[] hash, OpenAPIVersion version, JsonObject resolvedSpec) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(hash.length);
+      out.write(hash);
+      out.writeUTF(version.name());
+      DataOutputStream compressed = new DataOutputStream(new DeflaterOutputStream(out));
+      new Writer(compressed).writeValue(resolvedSpec);
+      compressed.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return Buffer.buffer(bytes.toByteArray());
+  }
+
+  /**
+   * Reads a snapshot of a resolved contract.
+   *
+   * @param snapshot the snapshot.
+   * @param hash     the content hash of the current unresolved contract, see {@link #hash(JsonObject, Map, boolean)}.
+   * @return the snapshot, or null if it was written in another format or for another contract.
+   * @throws IOException if the snapshot is corrupt.
+   */
+  public static ContractSnapshot read(Buffer snapshot, byte[] hash) throws IOException {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot.getBytes()))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        return null;
+      }
+      byte[] snapshotHash = new byte[in.readInt()];
+      in.readFully(snapshotHash);
+      if (!Arrays.equals(hash, snapshotHash)) {
+        return null;
+      }
+      OpenAPIVersion version = OpenAPIVersion.valueOf(in.readUTF());
+      Object resolvedSpec = new Reader(new DataInputStream(new InflaterInputStream(in))).readValue();
+      if (!(resolvedSpec instanceof JsonObject)) {
+        throw new IOException("The snapshot does not contain a contract");
+      }
+      return new ContractSnapshot(version, (JsonObject) resolvedSpec);
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+      throw new IOException("The snapshot is corrupt", e);
+    }
+  }
+
+  private static final class Writer {
+    private final DataOutputStream out;
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<Object, Integer> containers = new IdentityHashMap<>();
+
+    Writer(DataOutputStream out) {
+      this.out = out;
+    }
+
+    void writeValue(Object value) throws IOException {
+      if (value == null) {
+        out.writeByte(NULL);
+      } else if (value instanceof Boolean) {
+        out.writeByte((Boolean) value ? TRUE : FALSE);
+      } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+        out.writeByte(INT);
+        out.writeInt(((Number) value).intValue());
+      } else if (value instanceof Long) {
+        out.writeByte(LONG);
+        out.writeLong((Long) value);
+      } else if (value instanceof Float) {
+        out.writeByte(FLOAT);
+        out.writeFloat((Float) value);
+      } else if (value instanceof Double) {
+        out.writeByte(DOUBLE);
+        out.writeDouble((Double) value);
+      } else if (value instanceof BigInteger) {
+        out.writeByte(BIG_INTEGER);
+        writeString(value.toString());
+      } else if (value instanceof BigDecimal) {
+        out.writeByte(BIG_DECIMAL);
+        writeString(value.toString());
+      } else if (value instanceof String) {
+        writeString((String) value);
+      } else if (value instanceof JsonObject) {
+        writeObject(value, value instanceof JsonObjectProxy, ((JsonObject) value).getMap());
+      } else if (value instanceof JsonArray) {
+        writeArray(value, value instanceof JsonArrayProxy, ((JsonArray) value).getList());
+      } else if (value instanceof Map) {
+        writeObject(value, false, (Map<?, ?>) value);
+      } else if (value instanceof List) {
+        writeArray(value, false, (List<?>) value);
+      } else {
+        throw new IllegalArgumentException("Unsupported value in contract: " + value.getClass().getName());
+      }
+    }
+
+    private boolean writeContainerRef(Object container) throws IOException {
+      Integer ref = containers.get(container);
+      if (ref != null) {
+        out.writeByte(CONTAINER_REF);
+        out.writeInt(ref);
+        return true;
+      }
+      // registered before the children are written, so that circular references are written as references
+      containers.put(container, containers.size());
+      return false;
+    }
+
+    private void writeObject(Object container, boolean proxy, Map<?, ?> map) throws IOException {
+      if (writeContainerRef(container)) {
+        return;
+      }
+      out.writeByte(proxy ? OBJECT_PROXY : OBJECT);
+      out.writeInt(map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        writeString(String.valueOf(entry.getKey()));
+        writeValue(entry.getValue());
+      }
+    }
+
+    private void writeArray(Object container, boolean proxy, List<?> list) throws IOException {
+      if (writeContainerRef(container)) {
+        return;
+      }
+      out.writeByte(proxy ? ARRAY_PROXY : ARRAY);
+      out.writeInt(list.size());
+      for (Object item : list) {
+        writeValue(item);
+      }
+    }
+
+    private void writeString(String value) throws IOException {
+      Integer ref = strings.get(value);
+      if (ref != null) {
+        out.writeByte(STRING_REF);
+        out.writeInt(ref);
+        return;
+      }
+      strings.put(value, strings.size());
+      // writeUTF is limited to 64 KiB, which is not sufficient for e.g. descriptions or examples
+      byte[] bytes = value.getBytes(UTF_8);
+      out.writeByte(STRING);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  private static final class Reader {
+    private final DataInputStream in;
+    private final List<String> strings = new ArrayList<>();
+    private final List<Object> containers = new ArrayList<>();
+
+    Reader(DataInputStream in) {
+      this.in = in;
+    }
+
+    Object readValue() throws IOException {
+      byte type = in.readByte();
+      switch (type) {
+        case NULL:
+          return null;
+        case TRUE:
+          return true;
+        case FALSE:
+          return false;
+        case INT:
+          return in.readInt();
+        case LONG:
+          return in.readLong();
+        case FLOAT:
+          return in.readFloat();
+        case DOUBLE:
+          return in.readDouble();
+        case BIG_INTEGER:
+          return new BigInteger(readString());
+        case BIG_DECIMAL:
+          return new BigDecimal(readString());
+        case STRING:
+        case STRING_REF:
+          return readString(type);
+        case OBJECT:
+        case OBJECT_PROXY:
+          return readObject(type == OBJECT_PROXY ? new JsonObjectProxy() : new JsonObject());
+        case ARRAY:
+        case ARRAY_PROXY:
+          return readArray(type == ARRAY_PROXY ? new JsonArrayProxy() : new JsonArray());
+        case CONTAINER_REF:
+          return containers.get(in.readInt());
+        default:
+          throw new IOException("Unknown value type " + type);
+      }
+    }
+
+    private JsonObject readObject(JsonObject object) throws IOException {
+      containers.add(object);
+      int size = in.readInt();
+      for (int i = 0; i < size; i++) {
+        // the raw map stores the very same container instances, which preserves shared and circular references
+        object.getMap().put(readString(), readValue());
+      }
+      return object;
+    }
+
+    private JsonArray readArray(JsonArray array) throws IOException {
+      containers.add(array);
+      int size = in.readInt();
+      for (int i = 0; i < size; i++) {
+        array.add(readValue());
+      }
+      return array;
+    }
+
+    private String readString() throws IOException {
+      return readString(in.readByte());
+    }
+
+    private String readString(byte type) throws IOException {
+      if (type == STRING_REF) {
+        return strings.get(in.readInt());
+      }
+      if (type != STRING) {
+        throw new IOException("Expected a string, but found value type " + type);
+      }
+      byte[] bytes = new byte[in.readInt()];
+      in.readFully(bytes);
+      String value = new String(bytes, UTF_8);
+      strings.add(value);
+      return value;
+    }
+  }
+}
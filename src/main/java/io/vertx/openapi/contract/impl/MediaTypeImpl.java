@@ -21,20 +21,31 @@ import io.vertx.openapi.mediatype.MediaTypeRegistration;
 
 public class MediaTypeImpl implements MediaType {
   private static final String KEY_SCHEMA = "schema";
+  private static final String APPLICATION_JSON = "application/json";
+  private static final String JSON_SUFFIX = "+json";
   private final JsonObject mediaTypeModel;
   private final String identifier;
   private final MediaTypeRegistration registration;
 
   private final JsonSchema schema;
+  private final long maxBodySize;
 
   public MediaTypeImpl(String identifier, JsonObject mediaTypeModel, MediaTypeRegistration registration) {
-    this.identifier = identifier;
-    this.mediaTypeModel = mediaTypeModel;
+    this(identifier, mediaTypeModel, registration, null);
+  }
+
+  /**
+   * @param compactor the compactor of a contract that is built in compact mode, or null.
+   */
+  public MediaTypeImpl(String identifier, JsonObject mediaTypeModel, MediaTypeRegistration registration,
+      ContractCompactor compactor) {
+    this.identifier = compactor == null ? identifier : ContractCompactor.intern(identifier);
     this.registration = registration;
 
     if (mediaTypeModel == null) {
       throw createUnsupportedFeature("Media Type without a schema");
     }
+    this.mediaTypeModel = compactor == null ? mediaTypeModel : ContractCompactor.retain(mediaTypeModel);
 
     boolean emptySchema = mediaTypeModel
         .fieldNames().stream()
@@ -49,9 +60,20 @@ public class MediaTypeImpl implements MediaType {
       if (schemaJson == null || schemaJson.isEmpty()) {
         throw createUnsupportedFeature("Media Type without a schema");
       }
+      if (compactor != null) {
+        compactor.internSchema(schemaJson);
+      }
       schema = JsonSchema.of(schemaJson);
-
     }
+    maxBodySize = schema != null && isJson(identifier)
+        ? BodySizeEstimator.maxSize(mediaTypeModel.getJsonObject(KEY_SCHEMA))
+        : BodySizeEstimator.UNBOUNDED;
+  }
+
+  private static boolean isJson(String identifier) {
+    int paramsStart = identifier.indexOf(';');
+    String type = (paramsStart < 0 ? identifier : identifier.substring(0, paramsStart)).trim().toLowerCase();
+    return type.equals(APPLICATION_JSON) || type.endsWith(JSON_SUFFIX);
   }
 
   @Override
@@ -64,6 +86,11 @@ public class MediaTypeImpl implements MediaType {
     return identifier;
   }
 
+  @Override
+  public long getMaxBodySize() {
+    return maxBodySize;
+  }
+
   @Override
   public JsonObject getOpenAPIModel() {
     return mediaTypeModel;
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import io.vertx.openapi.contract.MediaType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An index over the media types declared in the <i>content</i> of a request body or a response, which is built once
+ * when the contract is loaded.
+ * <p></p>
+ * A content type is matched against the declared media types with the following precedence:
+ * <ol>
+ *   <li>The declared media type is equal to the content type. Type, subtype, suffix and parameter names are compared
+ *   case-insensitive, whitespaces and the order of the parameters are ignored.</li>
+ *   <li>The declared media type has the same type, subtype and suffix and its parameters are a subset of the
+ *   parameters of the content type, e.g. <i>application/json</i> matches <i>application/json; charset=utf-8</i>, but
+ *   not the other way around. If multiple media types match, the one with the most parameters wins.</li>
+ *   <li>The declared media type is a subtype wildcard, e.g. <i>application/*</i>.</li>
+ *   <li>The declared media type is <i>*&#47;*</i>.</li>
+ * </ol>
+ */
+public class MediaTypeIndex {
+
+  private static final Comparator<Entry> MOST_PARAMETERS_FIRST =
+      Comparator.comparingInt((Entry e) -> e.parsed.parameters.size()).reversed();
+
+  private final Map<String, MediaType> byIdentifier = new HashMap<>();
+  private final Map<String, MediaType> exact = new HashMap<>();
+  private final Map<String, List<Entry>> byFullType = new HashMap<>();
+  private final Map<String, List<Entry>> byType = new HashMap<>();
+  private final List<Entry> any = new ArrayList<>();
+  private final List<Entry> declared = new ArrayList<>();
+
+  /**
+   * @param content the declared media types, the iteration order of the map is used as declaration order.
+   */
+  public MediaTypeIndex(Map<String, MediaType> content) {
+    for (Map.Entry<String, MediaType> declaredType : content.entrySet()) {
+      MediaType mediaType = declaredType.getValue();
+      byIdentifier.putIfAbsent(declaredType.getKey(), mediaType);
+      byIdentifier.putIfAbsent(mediaType.getIdentifier(), mediaType);
+
+      ParsedMediaType parsed = ParsedMediaType.parse(mediaType.getIdentifier());
+      if (parsed == null) {
+        continue;
+      }
+      Entry entry = new Entry(parsed, mediaType);
+      declared.add(entry);
+      exact.putIfAbsent(parsed.normalized, mediaType);
+      if ("*".equals(parsed.type)) {
+        any.add(entry);
+      } else if ("*".equals(parsed.subtype)) {
+        byType.computeIfAbsent(parsed.type, k -> new ArrayList<>()).add(entry);
+      } else {
+        byFullType.computeIfAbsent(parsed.fullType, k -> new ArrayList<>()).add(entry);
+      }
+    }
+    // stable sort, so that the declaration order decides between media types with the same number of parameters
+    byFullType.values().forEach(entries -> entries.sort(MOST_PARAMETERS_FIRST));
+    byType.values().forEach(entries -> entries.sort(MOST_PARAMETERS_FIRST));
+    any.sort(MOST_PARAMETERS_FIRST);
+  }
+
+  /**
+   * Finds the declared media type that matches the passed content type best.
+   *
+   * @param contentType the content type, e.g. from the <i>Content-Type</i> header.
+   * @return the matching media type, or null if no declared media type matches.
+   */
+  public MediaType find(String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    MediaType mediaType = byIdentifier.get(contentType);
+    if (mediaType != null) {
+      return mediaType;
+    }
+
+    ParsedMediaType parsed = ParsedMediaType.parse(contentType);
+    if (parsed == null) {
+      return null;
+    }
+    mediaType = exact.get(parsed.normalized);
+    if (mediaType == null) {
+      mediaType = findIncluding(byFullType.get(parsed.fullType), parsed);
+    }
+    if (mediaType == null) {
+      mediaType = findIncluding(byType.get(parsed.type), parsed);
+    }
+    if (mediaType == null) {
+      mediaType = findIncluding(any, parsed);
+    }
+    return mediaType;
+  }
+
+  /**
+   * Selects the declared media type that is preferred by the passed <i>Accept</i> header. The quality of a declared
+   * media type is taken from the most specific media range that matches it. If multiple media types have the same
+   * quality, the one declared first wins.
+   *
+   * @param accept the value of the <i>Accept</i> header.
+   * @return the preferred media type, the first declared media type if the header is absent, or null if none of the
+   * declared media types is acceptable.
+   */
+  public MediaType negotiate(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return declared.isEmpty() ? null : declared.get(0).mediaType;
+    }
+
+    List<ParsedMediaType> ranges = new ArrayList<>();
+    for (String range : split(accept, ',')) {
+      ParsedMediaType parsed = ParsedMediaType.parse(range);
+      if (parsed != null) {
+        ranges.add(parsed);
+      }
+    }
+
+    MediaType best = null;
+    float bestQuality = 0;
+    for (Entry entry : declared) {
+      float quality = quality(ranges, entry.parsed);
+      if (quality > bestQuality) {
+        best = entry.mediaType;
+        bestQuality = quality;
+      }
+    }
+    return best;
+  }
+
+  private static float quality(List<ParsedMediaType> ranges, ParsedMediaType mediaType) {
+    int bestSpecificity = -1;
+    float quality = 0;
+    for (ParsedMediaType range : ranges) {
+      int specificity;
+      if ("*".equals(range.type)) {
+        specificity = 0;
+      } else if (!range.type.equals(mediaType.type)) {
+        continue;
+      } else if ("*".equals(range.subtype)) {
+        specificity = 1;
+      } else if (range.fullType.equals(mediaType.fullType)) {
+        specificity = 2;
+      } else {
+        continue;
+      }
+      if (!includesParameters(range, mediaType)) {
+        continue;
+      }
+      specificity = specificity * 100 + range.parameters.size();
+      if (specificity > bestSpecificity) {
+        bestSpecificity = specificity;
+        quality = range.quality;
+      }
+    }
+    return quality;
+  }
+
+  private static MediaType findIncluding(List<Entry> entries, ParsedMediaType parsed) {
+    if (entries != null) {
+      for (Entry entry : entries) {
+        if (includesParameters(entry.parsed, parsed)) {
+          return entry.mediaType;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return true if all parameters of the first media type are also parameters of the second one.
+   */
+  private static boolean includesParameters(ParsedMediaType including, ParsedMediaType included) {
+    for (Map.Entry<String, String> parameter : including.parameters.entrySet()) {
+      if (!parameter.getValue().equals(included.parameters.get(parameter.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Splits the passed string at the passed delimiter, but ignores delimiters within quoted strings.
+   */
+  private static List<String> split(String s, char delimiter) {
+    List<String> parts = new ArrayList<>();
+    boolean quoted = false;
+    int start = 0;
+    for (int i = 0; i < s.length(); i++) {
+      char c = s.charAt(i);
+      if (c == '\\' && quoted) {
+        i++;
+      } else if (c == '"') {
+        quoted = !quoted;
+      } else if (c == delimiter && !quoted) {
+        parts.add(s.substring(start, i));
+        start = i + 1;
+      }
+    }
+    parts.add(s.substring(start));
+    return parts;
+  }
+
+  private static final class Entry {
+    private final ParsedMediaType parsed;
+    private final MediaType mediaType;
+
+    private Entry(ParsedMediaType parsed, MediaType mediaType) {
+      this.parsed = parsed;
+      this.mediaType = mediaType;
+    }
+  }
+
+  private static final class ParsedMediaType {
+    private final String type;
+    private final String subtype;
+    // type/subtype+suffix
+    private final String fullType;
+    private final Map<String, String> parameters;
+    private final float quality;
+    private final String normalized;
+
+    private ParsedMediaType(String type, String subtype, Map<String, String> parameters, float quality) {
+      this.type = type;
+      this.subtype = subtype;
+      this.fullType = type + "/" + subtype;
+      this.parameters = parameters;
+      this.quality = quality;
+
+      StringBuilder sb = new StringBuilder(fullType);
+      parameters.forEach((key, value) -> sb.append(';').append(key).append('=').append(value));
+      this.normalized = sb.toString();
+    }
+
+    /**
+     * Parses a media type or a media range of an <i>Accept</i> header. Type, subtype and parameter names are
+     * converted to lower case, the value of the <i>charset</i> parameter as well. The <i>q</i> parameter and all
+     * following accept extensions are not part of the parameters, but define the quality.
+     *
+     * @return the parsed media type, or null if the media type is malformed.
+     */
+    static ParsedMediaType parse(String mediaType) {
+      List<String> segments = split(mediaType, ';');
+      String fullType = segments.get(0).trim().toLowerCase(Locale.ROOT);
+      int slash = fullType.indexOf('/');
+      if (slash <= 0 || slash == fullType.length() - 1) {
+        return null;
+      }
+
+      Map<String, String> parameters = Collections.emptyMap();
+      float quality = 1;
+      for (int i = 1; i < segments.size(); i++) {
+        String segment = segments.get(i);
+        int eq = segment.indexOf('=');
+        if (eq <= 0) {
+          continue;
+        }
+        String key = segment.substring(0, eq).trim().toLowerCase(Locale.ROOT);
+        String value = unquote(segment.substring(eq + 1).trim());
+        if ("q".equals(key)) {
+          quality = parseQuality(value);
+          break;
+        }
+        if ("charset".equals(key)) {
+          value = value.toLowerCase(Locale.ROOT);
+        }
+        if (parameters.isEmpty()) {
+          parameters = new TreeMap<>();
+        }
+        parameters.put(key, value);
+      }
+      return new ParsedMediaType(fullType.substring(0, slash).trim(), fullType.substring(slash + 1).trim(),
+          parameters, quality);
+    }
+
+    private static float parseQuality(String value) {
+      try {
+        float quality = Float.parseFloat(value);
+        return quality < 0 || quality > 1 ? 0 : quality;
+      } catch (NumberFormatException e) {
+        return 0;
+      }
+    }
+
+    private static String unquote(String value) {
+      if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+        return value;
+      }
+      StringBuilder sb = new StringBuilder(value.length() - 2);
+      for (int i = 1; i < value.length() - 1; i++) {
+        char c = value.charAt(i);
+        if (c == '\\' && i < value.length() - 2) {
+          c = value.charAt(++i);
+        }
+        sb.append(c);
+      }
+      return sb.toString();
+    }
+  }
+}
@@ -16,6 +16,7 @@ import static io.vertx.openapi.contract.OpenAPIContractException.createInvalidCo
 import static io.vertx.openapi.contract.OpenAPIContractException.createUnsupportedFeature;
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_ARRAY;
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_OBJECT;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.groupingBy;
@@ -37,23 +38,24 @@ import io.vertx.openapi.contract.SecurityScheme;
 import io.vertx.openapi.contract.Server;
 import io.vertx.openapi.mediatype.MediaTypeRegistry;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.UnaryOperator;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class OpenAPIContractImpl implements OpenAPIContract {
   private static final String KEY_SERVERS = "servers";
   private static final String KEY_PATHS = "paths";
   private static final String KEY_SECURITY = "security";
-  private static final String PATH_PARAM_PLACEHOLDER_REGEX = "\\{(.*?)}";
-  private static final UnaryOperator<String> ELIMINATE_PATH_PARAM_PLACEHOLDER =
-      path -> path.replaceAll(PATH_PARAM_PLACEHOLDER_REGEX, "{}");
+  private static final String KEY_COMPONENTS = "components";
+  private static final String KEY_WEBHOOKS = "webhooks";
 
   private final List<Server> servers;
 
   private final List<Path> paths;
 
-  private final Map<String, Operation> operations;
+  private final Map<String, PathImpl.LazyOperation> operations;
 
   private final OpenAPIVersion version;
 
@@ -68,6 +70,12 @@ public class OpenAPIContractImpl implements OpenAPIContract {
 
   private final MediaTypeRegistry mediaTypeRegistry;
 
+  private final ForkJoinPool buildPool;
+
+  private final boolean lazyOperations;
+
+  private final boolean compact;
+
   // VisibleForTesting
   final String basePath;
 
@@ -78,10 +86,47 @@ public class OpenAPIContractImpl implements OpenAPIContract {
 
   public OpenAPIContractImpl(JsonObject resolvedSpec, OpenAPIVersion version, SchemaRepository schemaRepository,
       MediaTypeRegistry mediaTypeRegistry) {
-    this.rawContract = resolvedSpec;
+    this(resolvedSpec, version, schemaRepository, mediaTypeRegistry, null);
+  }
+
+  public OpenAPIContractImpl(JsonObject resolvedSpec, OpenAPIVersion version, SchemaRepository schemaRepository,
+      MediaTypeRegistry mediaTypeRegistry, ForkJoinPool buildPool) {
+    this(resolvedSpec, version, schemaRepository, mediaTypeRegistry, buildPool, false);
+  }
+
+  /**
+   * @param buildPool      the pool to build the paths and their operations in parallel, or null to build them
+   *                       sequentially. Both result in the same contract.
+   * @param lazyOperations true to only build the paths immediately, and each operation on its first lookup, false to
+   *                       build all operations immediately.
+   */
+  public OpenAPIContractImpl(JsonObject resolvedSpec, OpenAPIVersion version, SchemaRepository schemaRepository,
+      MediaTypeRegistry mediaTypeRegistry, ForkJoinPool buildPool, boolean lazyOperations) {
+    this(resolvedSpec, version, schemaRepository, mediaTypeRegistry, buildPool, lazyOperations, false);
+  }
+
+  /**
+   * @param compact true to build a contract, which doesn't retain the resolved spec, see {@link ContractCompactor}.
+   *                Then {@link #getRawContract()} only returns the top-level entries of the resolved spec except the
+   *                paths, components and webhooks, and the models of the paths, operations, parameters, request
+   *                bodies, responses and media types only contain their specification extensions.
+   */
+  public OpenAPIContractImpl(JsonObject resolvedSpec, OpenAPIVersion version, SchemaRepository schemaRepository,
+      MediaTypeRegistry mediaTypeRegistry, ForkJoinPool buildPool, boolean lazyOperations, boolean compact) {
+    this(resolvedSpec, version, schemaRepository, mediaTypeRegistry, buildPool, lazyOperations, compact, emptyMap());
+  }
+
+  private OpenAPIContractImpl(JsonObject resolvedSpec, OpenAPIVersion version, SchemaRepository schemaRepository,
+      MediaTypeRegistry mediaTypeRegistry, ForkJoinPool buildPool, boolean lazyOperations, boolean compact,
+      Map<String, PathImpl> reusablePaths) {
+    this.rawContract = compact ? topLevelEntries(resolvedSpec) : resolvedSpec;
     this.version = version;
     this.schemaRepository = schemaRepository;
     this.mediaTypeRegistry = mediaTypeRegistry;
+    this.buildPool = buildPool;
+    this.lazyOperations = lazyOperations;
+    this.compact = compact;
+    ContractCompactor compactor = compact ? new ContractCompactor() : null;
 
     servers = resolvedSpec
         .getJsonArray(KEY_SERVERS, EMPTY_JSON_ARRAY)
@@ -100,18 +145,22 @@ public class OpenAPIContractImpl implements OpenAPIContract {
     } else {
       this.basePath = servers.isEmpty() ? "" : servers.get(0).getBasePath();
     }
-    List<PathImpl> unsortedPaths = resolvedSpec
+    List<Map.Entry<String, Object>> pathEntries = resolvedSpec
         .getJsonObject(KEY_PATHS, EMPTY_JSON_OBJECT)
         .stream()
         .filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES)
-        .map(pathEntry -> new PathImpl(basePath, pathEntry.getKey(), (JsonObject) pathEntry.getValue(),
-            securityRequirements, mediaTypeRegistry))
         .collect(toList());
+    List<PathImpl> unsortedPaths = ParallelBuild.map(pathEntries, pathEntry -> {
+      PathImpl reusable = reusablePaths.get(pathEntry.getKey());
+      return reusable != null ? reusable
+          : new PathImpl(basePath, pathEntry.getKey(), (JsonObject) pathEntry.getValue(), securityRequirements,
+              mediaTypeRegistry, lazyOperations, compactor);
+    }, buildPool);
 
     List<PathImpl> sortedPaths = applyMountOrder(unsortedPaths);
     this.paths = unmodifiableList(sortedPaths);
-    this.operations = paths.stream().flatMap(path -> path.getOperations().stream()).collect(toMap(
-        Operation::getOperationId, operation -> operation));
+    this.operations = sortedPaths.stream().flatMap(path -> path.getLazyOperations().stream()).collect(toMap(
+        PathImpl.LazyOperation::getOperationId, operation -> operation));
     // It is important that PathFinder gets the ordered Paths
     this.pathFinder = new PathFinder(sortedPaths);
 
@@ -124,6 +173,16 @@ public class OpenAPIContractImpl implements OpenAPIContract {
             .collect(toMap(Map.Entry::getKey, value -> new SecuritySchemeImpl((JsonObject) value.getValue())));
   }
 
+  private static JsonObject topLevelEntries(JsonObject resolvedSpec) {
+    JsonObject topLevelEntries = new JsonObject();
+    resolvedSpec.getMap().forEach((key, value) -> {
+      if (!KEY_PATHS.equals(key) && !KEY_COMPONENTS.equals(key) && !KEY_WEBHOOKS.equals(key)) {
+        topLevelEntries.put(key, value);
+      }
+    });
+    return topLevelEntries;
+  }
+
   /**
    * From
    * <a href="https://github.com/OAI/OpenAPI-Specification/blob/main/versions/3.1.0.md#paths-object">Paths documentation</a>:
@@ -140,54 +199,124 @@ public class OpenAPIContractImpl implements OpenAPIContract {
       return unsorted;
     }
 
-    List<PathImpl> withTemplating = new ArrayList<>();
+    // the sort keys are computed once per path, and not on every comparison
+    List<MountKey> withTemplating = new ArrayList<>();
     List<PathImpl> withoutTemplating = new ArrayList<>();
 
     for (PathImpl path : unsorted) {
       if (path.getName().contains("{")) {
-        withTemplating.add(path);
+        withTemplating.add(new MountKey(path, eliminatePathParamPlaceholders(path.getName())));
       } else {
         withoutTemplating.add(path);
       }
     }
 
-    withTemplating.sort(comparing(p -> ELIMINATE_PATH_PARAM_PLACEHOLDER.apply(p.getName())));
-    withoutTemplating.sort(comparing(p -> ELIMINATE_PATH_PARAM_PLACEHOLDER.apply(p.getName())));
+    withTemplating.sort(comparing(key -> key.normalizedName));
+    withoutTemplating.sort(comparing(PathImpl::getName));
 
-    // Check for Paths with same hierarchy but different templated names
+    // Check for Paths with same hierarchy but different templated names, which are neighbours after sorting
     for (int x = 1; x < withTemplating.size(); x++) {
-      String first = withTemplating.get(x - 1).getName();
-      String firstWithoutPlaceHolder = ELIMINATE_PATH_PARAM_PLACEHOLDER.apply(first);
-      String second = withTemplating.get(x).getName();
-      String secondWithoutPlaceholder = ELIMINATE_PATH_PARAM_PLACEHOLDER.apply(second);
-
-      if (firstWithoutPlaceHolder.equals(secondWithoutPlaceholder)) {
-        if (first.equals(second)) {
-          throw createInvalidContract("Found Path duplicate: " + first);
+      MountKey first = withTemplating.get(x - 1);
+      MountKey second = withTemplating.get(x);
+
+      if (first.normalizedName.equals(second.normalizedName)) {
+        if (first.path.getName().equals(second.path.getName())) {
+          throw createInvalidContract("Found Path duplicate: " + first.path.getName());
         } else {
           throw createInvalidContract(
-              "Found Paths with same hierarchy but different templated names: " + firstWithoutPlaceHolder);
+              "Found Paths with same hierarchy but different templated names: " + first.normalizedName);
         }
       }
     }
 
-    withoutTemplating.addAll(withTemplating);
+    List<PathImpl> sorted = new ArrayList<>(unsorted.size());
+    sorted.addAll(withoutTemplating);
+    for (MountKey key : withTemplating) {
+      sorted.add(key.path);
+    }
+    return sorted;
+  }
 
-    return withoutTemplating;
+  /**
+   * Replaces the names of all path parameters with empty placeholders, e.g. <i>/pets/{petId}</i> becomes
+   * <i>/pets/{}</i>.
+   */
+  // VisibleForTesting
+  public static String eliminatePathParamPlaceholders(String path) {
+    int open = path.indexOf('{');
+    if (open < 0) {
+      return path;
+    }
+    StringBuilder sb = new StringBuilder(path.length());
+    int from = 0;
+    while (open >= 0) {
+      int close = path.indexOf('}', open + 1);
+      if (close < 0) {
+        break;
+      }
+      sb.append(path, from, open).append("{}");
+      from = close + 1;
+      open = path.indexOf('{', from);
+    }
+    return sb.append(path, from, path.length()).toString();
+  }
+
+  private static final class MountKey {
+    private final PathImpl path;
+    private final String normalizedName;
+
+    private MountKey(PathImpl path, String normalizedName) {
+      this.path = path;
+      this.normalizedName = normalizedName;
+    }
   }
 
   public String basePath() {
     return basePath;
   }
 
+  /**
+   * Builds a contract from an updated resolved spec, which reuses the paths and operations of this contract that are
+   * not affected by the update. The servers and global security requirements of the updated spec must be equal to the
+   * ones of this contract, because the reused paths depend on them.
+   *
+   * @param resolvedSpec     the updated resolved spec.
+   * @param schemaRepository the repository of the updated spec.
+   * @param affectedPaths    the keys of the paths that were changed or depend on changed components, they are built
+   *                         again.
+   * @return the updated contract.
+   */
+  public OpenAPIContractImpl rebuild(JsonObject resolvedSpec, SchemaRepository schemaRepository,
+      Set<String> affectedPaths) {
+    Map<String, PathImpl> reusablePaths = new HashMap<>();
+    for (Path path : paths) {
+      PathImpl pathImpl = (PathImpl) path;
+      if (!affectedPaths.contains(pathImpl.getKey())) {
+        reusablePaths.put(pathImpl.getKey(), pathImpl);
+      }
+    }
+    return new OpenAPIContractImpl(resolvedSpec, version, schemaRepository, mediaTypeRegistry, buildPool,
+        lazyOperations, compact, reusablePaths);
+  }
+
+  /**
+   * Builds all operations that are not built yet. Used to warm up a contract, whose operations are built lazily.
+   *
+   * @param buildPool the pool to build the operations in parallel, or null to build them sequentially.
+   */
+  public void buildOperations(ForkJoinPool buildPool) {
+    ParallelBuild.map(List.copyOf(operations.values()), PathImpl.LazyOperation::get, buildPool);
+  }
+
   @Override
   public @Nullable Operation operation(String operationId) {
-    return operations.get(operationId);
+    PathImpl.LazyOperation operation = operations.get(operationId);
+    return operation == null ? null : operation.get();
   }
 
   @Override
   public List<Operation> operations() {
-    return List.copyOf(operations.values());
+    return operations.values().stream().map(PathImpl.LazyOperation::get).collect(toUnmodifiableList());
   }
 
   @Override
@@ -222,15 +351,8 @@ public class OpenAPIContractImpl implements OpenAPIContract {
 
   @Override
   public Operation findOperation(String urlPath, HttpMethod method) {
-    Path pathObject = findPath(urlPath);
-    if (pathObject != null) {
-      for (Operation op : pathObject.getOperations()) {
-        if (op.getHttpMethod().equals(method)) {
-          return op;
-        }
-      }
-    }
-    return null;
+    PathImpl pathObject = (PathImpl) findPath(urlPath);
+    return pathObject == null ? null : pathObject.getOperation(method);
   }
 
   @Override
@@ -36,9 +36,10 @@ import io.vertx.openapi.contract.Response;
 import io.vertx.openapi.contract.SecurityRequirement;
 import io.vertx.openapi.mediatype.MediaTypeRegistry;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 public class OperationImpl implements Operation {
@@ -69,11 +70,20 @@ public class OperationImpl implements Operation {
   public OperationImpl(String absolutePath, String path, HttpMethod method, JsonObject operationModel,
       List<Parameter> pathParameters, Map<String, Object> pathExtensions,
       List<SecurityRequirement> globalSecReq, MediaTypeRegistry registry) {
+    this(absolutePath, path, method, operationModel, pathParameters, pathExtensions, globalSecReq, registry, null);
+  }
+
+  /**
+   * @param compactor the compactor of a contract that is built in compact mode, or null.
+   */
+  public OperationImpl(String absolutePath, String path, HttpMethod method, JsonObject operationModel,
+      List<Parameter> pathParameters, Map<String, Object> pathExtensions,
+      List<SecurityRequirement> globalSecReq, MediaTypeRegistry registry, ContractCompactor compactor) {
     this.absolutePath = absolutePath;
     this.operationId = operationModel.getString(KEY_OPERATION_ID);
     this.method = method;
     this.path = path;
-    this.operationModel = operationModel;
+    this.operationModel = compactor == null ? operationModel : ContractCompactor.retain(operationModel);
 
     HashMap<String, Object> allExtensions = new HashMap<>(Operation.super.getExtensions());
     pathExtensions.forEach(allExtensions::putIfAbsent);
@@ -81,6 +91,7 @@ public class OperationImpl implements Operation {
 
     this.tags =
         operationModel.getJsonArray(KEY_TAGS, EMPTY_JSON_ARRAY).stream().map(Object::toString)
+            .map(tag -> compactor == null ? tag : ContractCompactor.intern(tag))
             .collect(toUnmodifiableList());
 
     this.securityRequirements =
@@ -90,24 +101,27 @@ public class OperationImpl implements Operation {
             .collect(toUnmodifiableList()) : globalSecReq;
 
     List<Parameter> operationParameters =
-        parseParameters(path, operationModel.getJsonArray(KEY_PARAMETERS, EMPTY_JSON_ARRAY));
-    // pretty sure there is a smarter / more efficient way
-    for (Parameter pathParam : pathParameters) {
-      Optional<Parameter> parameterDuplicate = operationParameters.stream()
-          .filter(param -> pathParam.getName().equals(param.getName()) && pathParam.getIn().equals(param.getIn()))
-          .findAny();
-
-      if (parameterDuplicate.isPresent()) {
-        LOG.debug("Found ambiguous parameter (" + pathParam.getName() + ") in operation: " + operationId);
-      } else {
-        operationParameters.add(pathParam);
+        parseParameters(path, operationModel.getJsonArray(KEY_PARAMETERS, EMPTY_JSON_ARRAY), compactor);
+    if (!pathParameters.isEmpty()) {
+      Set<String> parameterKeys = new HashSet<>();
+      for (Parameter param : operationParameters) {
+        parameterKeys.add(parameterKey(param));
+      }
+      for (Parameter pathParam : pathParameters) {
+        if (parameterKeys.add(parameterKey(pathParam))) {
+          operationParameters.add(pathParam);
+        } else {
+          LOG.debug("Found ambiguous parameter (" + pathParam.getName() + ") in operation: " + operationId);
+        }
       }
     }
 
-    long explodedQueryParams =
-        operationParameters.stream()
-            .filter(p -> p.isExplode() && p.getStyle() == FORM && p.getIn() == QUERY && p.getSchemaType() == OBJECT)
-            .count();
+    int explodedQueryParams = 0;
+    for (Parameter p : operationParameters) {
+      if (p.isExplode() && p.getStyle() == FORM && p.getIn() == QUERY && p.getSchemaType() == OBJECT) {
+        explodedQueryParams++;
+      }
+    }
     if (explodedQueryParams > 1) {
       String msg =
           "Found multiple exploded query parameters of style form with type object in operation: " + operationId;
@@ -120,7 +134,7 @@ public class OperationImpl implements Operation {
     if (requestBodyJson == null || requestBodyJson.isEmpty()) {
       this.requestBody = null;
     } else {
-      this.requestBody = new RequestBodyImpl(requestBodyJson, operationId, registry);
+      this.requestBody = new RequestBodyImpl(requestBodyJson, operationId, registry, compactor);
     }
 
     JsonObject responsesJson = operationModel.getJsonObject(KEY_RESPONSES, EMPTY_JSON_OBJECT);
@@ -129,7 +143,7 @@ public class OperationImpl implements Operation {
       throw createInvalidContract(msg);
     }
     defaultResponse = responsesJson.stream().filter(entry -> "default".equalsIgnoreCase(entry.getKey())).findFirst()
-        .map(entry -> new ResponseImpl((JsonObject) entry.getValue(), operationId, registry)).orElse(null);
+        .map(entry -> new ResponseImpl((JsonObject) entry.getValue(), operationId, registry, compactor)).orElse(null);
     responses =
         unmodifiableMap(
             responsesJson
@@ -139,7 +153,15 @@ public class OperationImpl implements Operation {
                 .filter(RESPONSE_CODE_PATTERN.asPredicate())
                 .collect(
                     toMap(Integer::parseInt,
-                        key -> new ResponseImpl(responsesJson.getJsonObject(key), operationId, registry))));
+                        key -> new ResponseImpl(responsesJson.getJsonObject(key), operationId, registry,
+                            compactor))));
+  }
+
+  /**
+   * A parameter is identified by its location and name. The location contains no colon, so the key is unique.
+   */
+  private static String parameterKey(Parameter parameter) {
+    return parameter.getIn() + ":" + parameter.getName();
   }
 
   @Override
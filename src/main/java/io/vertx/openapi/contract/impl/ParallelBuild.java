@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Maps the parts of a contract, e.g. its paths, either sequentially or in parallel on a {@link ForkJoinPool}.
+ * <p></p>
+ * The result is deterministic: the results are in the order of the passed items, and if mapping fails for several
+ * items, the failure of the first of them is thrown, exactly like in a sequential build.
+ */
+public final class ParallelBuild {
+
+  private ParallelBuild() {
+  }
+
+  /**
+   * @param items  the items to map.
+   * @param mapper the mapper, which must not modify state that is shared between the items.
+   * @param pool   the pool to map the items in parallel, or null to map them sequentially.
+   * @return the mapped items, in the order of the passed items.
+   */
+  public static <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> mapper, ForkJoinPool pool) {
+    if (pool == null || items.size() <= 1) {
+      List<R> results = new ArrayList<>(items.size());
+      for (T item : items) {
+        results.add(mapper.apply(item));
+      }
+      return results;
+    }
+
+    // a parallel stream, that is started within a pool, is processed by the threads of that pool
+    List<Result<R>> results = pool.submit(() -> items.parallelStream().map(item -> {
+      try {
+        return new Result<R>(mapper.apply(item), null);
+      } catch (RuntimeException e) {
+        return new Result<R>(null, e);
+      }
+    }).collect(toList())).join();
+
+    List<R> mapped = new ArrayList<>(results.size());
+    for (Result<R> result : results) {
+      if (result.failure != null) {
+        throw result.failure;
+      }
+      mapped.add(result.value);
+    }
+    return mapped;
+  }
+
+  private static final class Result<R> {
+    private final R value;
+    private final RuntimeException failure;
+
+    private Result(R value, RuntimeException failure) {
+      this.value = value;
+      this.failure = failure;
+    }
+  }
+}
@@ -62,13 +62,21 @@ public class ParameterImpl implements Parameter {
   private final Style style;
 
   public ParameterImpl(String path, JsonObject parameterModel) {
-    this.name = parameterModel.getString(KEY_NAME);
+    this(path, parameterModel, null);
+  }
+
+  /**
+   * @param compactor the compactor of a contract that is built in compact mode, or null.
+   */
+  public ParameterImpl(String path, JsonObject parameterModel, ContractCompactor compactor) {
+    this.name = compactor == null ? parameterModel.getString(KEY_NAME)
+        : ContractCompactor.intern(parameterModel.getString(KEY_NAME));
     this.required = Optional.ofNullable(parameterModel.getBoolean(KEY_REQUIRED)).orElse(false);
     this.in = Location.parse(parameterModel.getString(KEY_IN));
     this.style =
         Optional.ofNullable(Style.parse(parameterModel.getString(KEY_STYLE))).orElse(Style.defaultByLocation(in));
     this.explode = Optional.ofNullable(parameterModel.getBoolean(KEY_EXPLODE)).orElse(style == FORM);
-    this.parameterModel = parameterModel;
+    this.parameterModel = compactor == null ? parameterModel : ContractCompactor.retain(parameterModel);
     JsonObject schemaJson = parameterModel.getJsonObject(KEY_SCHEMA);
     if (schemaJson == null) {
       if (parameterModel.containsKey(KEY_CONTENT)) {
@@ -77,6 +85,9 @@ public class ParameterImpl implements Parameter {
       }
       throw createInvalidContract("A parameter MUST contain either the \"schema\" or \"content\" property");
     }
+    if (compactor != null) {
+      compactor.internSchema(schemaJson);
+    }
     this.schema = JsonSchema.of(schemaJson);
 
     String schemaTypeString = schema.get("type");
@@ -85,10 +96,7 @@ public class ParameterImpl implements Parameter {
     }
     schemaType = SchemaType.valueOf(schemaTypeString.toUpperCase());
     if (in == PATH) {
-      // if location is "path", name must be part of the path
-      if (StringUtil.isNullOrEmpty(name) || !path.contains("{" + name + "}")) {
-        throw createInvalidContract("Path parameters MUST have a name that is part of the path");
-      }
+      checkPathParameterName(path, name);
       // if location is "path", required must be true
       if (!required) {
         throw createInvalidContract("\"required\" MUST be true for path parameters");
@@ -125,11 +133,26 @@ public class ParameterImpl implements Parameter {
     }
   }
 
+  static void checkPathParameterName(String path, String name) {
+    // if location is "path", name must be part of the path
+    if (StringUtil.isNullOrEmpty(name) || !path.contains("{" + name + "}")) {
+      throw createInvalidContract("Path parameters MUST have a name that is part of the path");
+    }
+  }
+
   public static List<Parameter> parseParameters(String path, JsonArray parametersArray) {
+    return parseParameters(path, parametersArray, null);
+  }
+
+  /**
+   * @param compactor the compactor of a contract that is built in compact mode, or null.
+   */
+  public static List<Parameter> parseParameters(String path, JsonArray parametersArray, ContractCompactor compactor) {
     return parametersArray
         .stream()
         .map(JsonObject.class::cast)
-        .map(parameterModel -> new ParameterImpl(path, parameterModel))
+        .map(parameterModel -> compactor == null ? new ParameterImpl(path, parameterModel)
+            : compactor.parameter(path, parameterModel))
         .collect(toList());
   }
 
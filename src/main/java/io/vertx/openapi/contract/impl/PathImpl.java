@@ -24,6 +24,7 @@ import static io.vertx.openapi.contract.OpenAPIContractException.createInvalidCo
 import static io.vertx.openapi.contract.impl.ParameterImpl.parseParameters;
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_ARRAY;
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toUnmodifiableList;
 
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
@@ -57,16 +58,39 @@ public class PathImpl implements Path {
     SUPPORTED_METHODS.put("trace", TRACE);
   }
 
+  private final String key;
   private final String name;
-  private final List<Operation> operations;
+  private final List<LazyOperation> lazyOperations;
+  private volatile List<Operation> operations;
   private final List<Parameter> parameters;
   private final JsonObject pathModel;
   private final String absolutePath;
+  private final List<SecurityRequirement> globalSecReq;
+  private final MediaTypeRegistry registry;
+  private final ContractCompactor compactor;
 
   public PathImpl(String basePath, String name, JsonObject pathModel, List<SecurityRequirement> globalSecReq,
       MediaTypeRegistry registry) {
+    this(basePath, name, pathModel, globalSecReq, registry, false);
+  }
+
+  /**
+   * @param lazyOperations true to build the operations of this path on first access, false to build them immediately.
+   */
+  public PathImpl(String basePath, String name, JsonObject pathModel, List<SecurityRequirement> globalSecReq,
+      MediaTypeRegistry registry, boolean lazyOperations) {
+    this(basePath, name, pathModel, globalSecReq, registry, lazyOperations, null);
+  }
+
+  /**
+   * @param lazyOperations true to build the operations of this path on first access, false to build them immediately.
+   * @param compactor      the compactor of a contract that is built in compact mode, or null.
+   */
+  public PathImpl(String basePath, String name, JsonObject pathModel, List<SecurityRequirement> globalSecReq,
+      MediaTypeRegistry registry, boolean lazyOperations, ContractCompactor compactor) {
     this.absolutePath = (basePath.endsWith("/") ? basePath.substring(0, basePath.length() - 1) : basePath) + name;
-    this.pathModel = pathModel;
+    this.key = name;
+    this.pathModel = compactor == null ? pathModel : ContractCompactor.retain(pathModel);
     if (name.contains("*")) {
       throw createInvalidContract("Paths must not have a wildcard (asterisk): " + name);
     }
@@ -79,14 +103,21 @@ public class PathImpl implements Path {
     } else {
       this.name = name;
     }
-    this.parameters = unmodifiableList(parseParameters(name, pathModel.getJsonArray(KEY_PARAMETERS, EMPTY_JSON_ARRAY)));
+    this.parameters =
+        unmodifiableList(parseParameters(name, pathModel.getJsonArray(KEY_PARAMETERS, EMPTY_JSON_ARRAY), compactor));
 
-    List<Operation> ops = new ArrayList<>();
+    this.globalSecReq = globalSecReq;
+    this.registry = registry;
+    this.compactor = compactor;
+
+    List<LazyOperation> ops = new ArrayList<>();
     SUPPORTED_METHODS.forEach((methodName, method) -> Optional.ofNullable(pathModel.getJsonObject(methodName))
-        .map(operationModel -> new OperationImpl(absolutePath, name, method, operationModel, parameters,
-            getExtensions(), globalSecReq, registry))
+        .map(operationModel -> new LazyOperation(name, method, operationModel))
         .ifPresent(ops::add));
-    this.operations = unmodifiableList(ops);
+    this.lazyOperations = unmodifiableList(ops);
+    if (!lazyOperations) {
+      getOperations();
+    }
   }
 
   @Override
@@ -96,7 +127,38 @@ public class PathImpl implements Path {
 
   @Override
   public List<Operation> getOperations() {
-    return operations;
+    List<Operation> ops = operations;
+    if (ops == null) {
+      ops = lazyOperations.stream().map(LazyOperation::get).collect(toUnmodifiableList());
+      operations = ops;
+    }
+    return ops;
+  }
+
+  /**
+   * Returns the operation of the passed method, and only builds this operation if the operations are built lazily.
+   *
+   * @param method the method of the operation.
+   * @return the operation, or null if this path has no operation for the passed method.
+   */
+  public Operation getOperation(HttpMethod method) {
+    for (LazyOperation op : lazyOperations) {
+      if (op.method.equals(method)) {
+        return op.get();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the key of this path in the paths object of the contract, which, unlike the name, can end with a slash.
+   */
+  String getKey() {
+    return key;
+  }
+
+  List<LazyOperation> getLazyOperations() {
+    return lazyOperations;
   }
 
   @Override
@@ -117,4 +179,45 @@ public class PathImpl implements Path {
   public String getAbsolutePath() {
     return absolutePath;
   }
+
+  /**
+   * An operation, which is built once on first access. Concurrent first accesses wait for the same build, a failed
+   * build is repeated on the next access. In compact mode the model is released once the operation is built.
+   */
+  final class LazyOperation {
+    private final String path;
+    private final HttpMethod method;
+    private final String operationId;
+    private JsonObject operationModel;
+    private volatile Operation operation;
+
+    private LazyOperation(String path, HttpMethod method, JsonObject operationModel) {
+      this.path = path;
+      this.method = method;
+      this.operationId = operationModel.getString("operationId");
+      this.operationModel = operationModel;
+    }
+
+    String getOperationId() {
+      return operationId;
+    }
+
+    Operation get() {
+      Operation op = operation;
+      if (op == null) {
+        synchronized (this) {
+          op = operation;
+          if (op == null) {
+            op = new OperationImpl(absolutePath, path, method, operationModel, parameters, getExtensions(),
+                globalSecReq, registry, compactor);
+            operation = op;
+            if (compactor != null) {
+              operationModel = null;
+            }
+          }
+        }
+      }
+      return op;
+    }
+  }
 }
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static io.vertx.openapi.contract.OpenAPIContractException.createInvalidContract;
+import static io.vertx.openapi.contract.impl.ContractFingerprint.componentNode;
+import static io.vertx.openapi.contract.impl.ContractFingerprint.pathNode;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.logging.Logger;
+import io.vertx.core.internal.logging.LoggerFactory;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.json.schema.JsonSchemaValidationException;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.OpenAPIContractException;
+import io.vertx.openapi.contract.OpenAPIVersion;
+import io.vertx.openapi.contract.ReloadableOpenAPIContract;
+import io.vertx.openapi.impl.Utils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+public class ReloadableOpenAPIContractImpl implements ReloadableOpenAPIContract {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ReloadableOpenAPIContractImpl.class);
+  private static final String BASE_URI = "app://";
+  private static final String KEY_PATHS = "paths";
+  private static final String KEY_COMPONENTS = "components";
+
+  private final Vertx vertx;
+  private final String contractPath;
+  private final Map<String, String> contractPartPaths;
+  private final boolean preserveReferences;
+  private final BiFunction<JsonObject, Map<String, JsonObject>, Future<OpenAPIContract>> fullBuild;
+  private final Map<String, Long> lastModified = new ConcurrentHashMap<>();
+
+  private volatile OpenAPIContract current;
+  private volatile Handler<OpenAPIContract> reloadHandler;
+
+  // only accessed by the update that is currently applied
+  private ContractFingerprint fingerprint;
+  private JsonObject contract;
+  private Map<String, JsonObject> contractParts;
+
+  private Future<OpenAPIContract> lastUpdate;
+  private long timerId = -1;
+  // incremented by close(), a closed watch must neither set its timer nor reload after a check that is in progress
+  private volatile long watchGeneration;
+
+  /**
+   * @param vertx              the related Vert.x instance.
+   * @param initial            the initial contract.
+   * @param contract           the unresolved initial contract.
+   * @param contractParts      the additional contract parts of the initial contract.
+   * @param contractPath       the path the contract was read from, or null.
+   * @param contractPartPaths  the paths the additional contract parts were read from.
+   * @param preserveReferences true if the references of the contract are resolved in a way that preserves them.
+   * @param fullBuild          builds a contract from an unresolved contract and its additional contract parts, it is
+   *                           used for updates that affect the whole contract.
+   */
+  public ReloadableOpenAPIContractImpl(Vertx vertx, OpenAPIContract initial, JsonObject contract,
+      Map<String, JsonObject> contractParts, String contractPath, Map<String, String> contractPartPaths,
+      boolean preserveReferences, BiFunction<JsonObject, Map<String, JsonObject>, Future<OpenAPIContract>> fullBuild) {
+    this.vertx = vertx;
+    this.current = initial;
+    this.contract = contract;
+    this.contractParts = Map.copyOf(contractParts);
+    this.contractPath = contractPath;
+    this.contractPartPaths = Map.copyOf(contractPartPaths);
+    this.preserveReferences = preserveReferences;
+    this.fullBuild = fullBuild;
+    this.fingerprint = ContractFingerprint.of(contract, contractParts);
+    this.lastUpdate = succeededFuture(initial);
+  }
+
+  @Override
+  public OpenAPIContract current() {
+    return current;
+  }
+
+  @Override
+  public Future<OpenAPIContract> update(JsonObject contract) {
+    Objects.requireNonNull(contract);
+    return enqueue(() -> apply(contract, contractParts));
+  }
+
+  @Override
+  public Future<OpenAPIContract> update(JsonObject contract, Map<String, JsonObject> contractParts) {
+    Objects.requireNonNull(contract);
+    Map<String, JsonObject> parts = Map.copyOf(contractParts);
+    return enqueue(() -> apply(contract, parts));
+  }
+
+  @Override
+  public Future<OpenAPIContract> reload() {
+    return enqueue(() -> {
+      Future<JsonObject> readContract = contractPath == null ? succeededFuture(contract)
+          : Utils.readYamlOrJson(vertx, contractPath);
+      Map<String, JsonObject> parts = new HashMap<>(contractParts);
+      List<Future<?>> readParts = new ArrayList<>();
+      contractPartPaths.forEach((ref, path) -> readParts.add(Utils.readYamlOrJson(vertx, path)
+          .onSuccess(part -> parts.put(ref, part))));
+      return Future.all(readParts).compose(v -> readContract).compose(c -> apply(c, parts));
+    });
+  }
+
+  @Override
+  public synchronized ReloadableOpenAPIContract watch(long intervalMillis) {
+    close();
+    long generation = watchGeneration;
+    List<String> files = new ArrayList<>(contractPartPaths.values());
+    if (contractPath != null) {
+      files.add(contractPath);
+    }
+    // the modification times must be known before a change can be detected
+    checkModified(files).onComplete(ar -> {
+      synchronized (this) {
+        if (generation != watchGeneration) {
+          return;
+        }
+        timerId = vertx.setPeriodic(intervalMillis, id -> checkModified(files).onSuccess(modified -> {
+          if (modified && generation == watchGeneration) {
+            reload().onFailure(e -> LOG.warn("Failed to reload the modified contract", e));
+          }
+        }));
+      }
+    });
+    return this;
+  }
+
+  @Override
+  public ReloadableOpenAPIContract reloadHandler(Handler<OpenAPIContract> handler) {
+    this.reloadHandler = handler;
+    return this;
+  }
+
+  @Override
+  public synchronized void close() {
+    watchGeneration++;
+    if (timerId >= 0) {
+      vertx.cancelTimer(timerId);
+      timerId = -1;
+    }
+  }
+
+  private Future<Boolean> checkModified(List<String> files) {
+    List<Future<Boolean>> checks = new ArrayList<>();
+    for (String file : files) {
+      checks.add(vertx.fileSystem().props(file).map(props -> {
+        Long previous = lastModified.put(file, props.lastModifiedTime());
+        return previous != null && previous != props.lastModifiedTime();
+      }));
+    }
+    return Future.all(checks).map(res -> checks.stream().anyMatch(Future::result));
+  }
+
+  /**
+   * Updates are applied one after another, so that each update is compared with the contract of the previous update.
+   */
+  private synchronized Future<OpenAPIContract> enqueue(Supplier<Future<OpenAPIContract>> update) {
+    Future<OpenAPIContract> next = lastUpdate.transform(ignored -> update.get());
+    lastUpdate = next;
+    return next;
+  }
+
+  private Future<OpenAPIContract> apply(JsonObject updatedContract, Map<String, JsonObject> updatedParts) {
+    return vertx.executeBlocking(() -> ContractFingerprint.of(updatedContract, updatedParts)).compose(updated -> {
+      OpenAPIContract previous = current;
+      if (updated.hasGlobalChanges(fingerprint) || !(previous instanceof OpenAPIContractImpl)) {
+        return fullBuild.apply(updatedContract, updatedParts)
+            .map(built -> swap(built, updated, updatedContract, updatedParts));
+      }
+      Set<String> changed = updated.changedNodes(fingerprint);
+      if (changed.isEmpty()) {
+        return succeededFuture(previous);
+      }
+      return rebuild((OpenAPIContractImpl) previous, updatedContract, updatedParts, updated, changed)
+          .map(built -> swap(built, updated, updatedContract, updatedParts));
+    });
+  }
+
+  private Future<OpenAPIContract> rebuild(OpenAPIContractImpl previous, JsonObject updatedContract,
+      Map<String, JsonObject> updatedParts, ContractFingerprint updated, Set<String> changed) {
+    OpenAPIVersion version = previous.getVersion();
+    Set<String> affected = updated.affectedNodes(changed);
+    Set<String> affectedPaths = new HashSet<>();
+    for (String path : updatedContract.getJsonObject(KEY_PATHS, Utils.EMPTY_JSON_OBJECT).fieldNames()) {
+      if (affected.contains(pathNode(path))) {
+        affectedPaths.add(path);
+      }
+    }
+
+    return version.getRepository(vertx, BASE_URI)
+        .compose(repository -> vertx.executeBlocking(() -> {
+          // the additional contract parts didn't change, they were validated when the contract was built
+          updatedParts.forEach((ref, part) -> repository.dereference(ref, JsonSchema.of(ref, part)));
+          return repository;
+        }))
+        .compose(repository -> version.validateContract(vertx, repository, changedParts(updatedContract, changed))
+            .compose(res -> {
+              try {
+                res.checkValidity();
+                return version.resolve(vertx, repository, updatedContract, preserveReferences);
+              } catch (JsonSchemaValidationException | UnsupportedOperationException e) {
+                return failedFuture(createInvalidContract(null, e));
+              }
+            })
+            .compose(resolvedSpec -> vertx.<OpenAPIContract>executeBlocking(
+                () -> previous.rebuild(resolvedSpec, repository, affectedPaths))))
+        .recover(e -> {
+          if (e instanceof OpenAPIContractException) {
+            return failedFuture(e);
+          }
+          return failedFuture(
+              createInvalidContract("Found issue in specification for reference: " + e.getMessage(), e));
+        });
+  }
+
+  /**
+   * Returns a contract, which only contains the changed path items and components, and the unchanged top-level
+   * entries. The OpenAPI schema validates path items and components independent of each other, so validating this
+   * contract is equivalent to validating the whole updated contract.
+   */
+  private static JsonObject changedParts(JsonObject updatedContract, Set<String> changed) {
+    JsonObject changedParts = new JsonObject();
+    updatedContract.stream().filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES).forEach(entry -> {
+      if (!KEY_PATHS.equals(entry.getKey()) && !KEY_COMPONENTS.equals(entry.getKey())) {
+        changedParts.put(entry.getKey(), entry.getValue());
+      }
+    });
+
+    JsonObject paths = new JsonObject();
+    updatedContract.getJsonObject(KEY_PATHS, Utils.EMPTY_JSON_OBJECT).stream()
+        .filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES)
+        .filter(path -> changed.contains(pathNode(path.getKey())))
+        .forEach(path -> paths.put(path.getKey(), path.getValue()));
+    changedParts.put(KEY_PATHS, paths);
+
+    JsonObject components = updatedContract.getJsonObject(KEY_COMPONENTS);
+    if (components != null) {
+      JsonObject changedComponents = new JsonObject();
+      components.stream().filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES)
+          .filter(type -> type.getValue() instanceof JsonObject)
+          .forEach(type -> ((JsonObject) type.getValue()).stream()
+              .filter(JsonSchema.EXCLUDE_ANNOTATION_ENTRIES)
+              .filter(component -> changed.contains(componentNode(type.getKey(), component.getKey())))
+              .forEach(component -> {
+                JsonObject ofType = changedComponents.getJsonObject(type.getKey());
+                if (ofType == null) {
+                  ofType = new JsonObject();
+                  changedComponents.put(type.getKey(), ofType);
+                }
+                ofType.put(component.getKey(), component.getValue());
+              }));
+      changedParts.put(KEY_COMPONENTS, changedComponents);
+    }
+    return changedParts;
+  }
+
+  private OpenAPIContract swap(OpenAPIContract updated, ContractFingerprint updatedFingerprint,
+      JsonObject updatedContract, Map<String, JsonObject> updatedParts) {
+    this.fingerprint = updatedFingerprint;
+    this.contract = updatedContract;
+    this.contractParts = updatedParts;
+    this.current = updated;
+    Handler<OpenAPIContract> handler = reloadHandler;
+    if (handler != null) {
+      handler.handle(updated);
+    }
+    return updated;
+  }
+}
@@ -25,6 +25,7 @@ import io.vertx.openapi.contract.MediaType;
 import io.vertx.openapi.contract.RequestBody;
 import io.vertx.openapi.mediatype.MediaTypeRegistration;
 import io.vertx.openapi.mediatype.MediaTypeRegistry;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class RequestBodyImpl implements RequestBody {
@@ -37,8 +38,18 @@ public class RequestBodyImpl implements RequestBody {
 
   private final Map<String, MediaType> content;
 
+  private final MediaTypeIndex mediaTypeIndex;
+
   public RequestBodyImpl(JsonObject requestBodyModel, String operationId, MediaTypeRegistry registry) {
-    this.requestBodyModel = requestBodyModel;
+    this(requestBodyModel, operationId, registry, null);
+  }
+
+  /**
+   * @param compactor the compactor of a contract that is built in compact mode, or null.
+   */
+  public RequestBodyImpl(JsonObject requestBodyModel, String operationId, MediaTypeRegistry registry,
+      ContractCompactor compactor) {
+    this.requestBodyModel = compactor == null ? requestBodyModel : ContractCompactor.retain(requestBodyModel);
     this.required = requestBodyModel.getBoolean(KEY_REQUIRED, false);
     JsonObject contentObject = requestBodyModel.getJsonObject(KEY_CONTENT, EMPTY_JSON_OBJECT);
 
@@ -55,11 +66,13 @@ public class RequestBodyImpl implements RequestBody {
               throw createUnsupportedFeature(
                   String.format(msgTemplate, operationId, join(", ", registry.supportedTypes())));
             })
-            .collect(toMap(this::removeWhiteSpaces, key -> {
+            .collect(toMap(key -> compactor == null ? removeWhiteSpaces(key)
+                : ContractCompactor.intern(removeWhiteSpaces(key)), key -> {
               // Can't be null, otherwise isSupported would have returned false
               MediaTypeRegistration registration = registry.get(key);
-              return new MediaTypeImpl(key, contentObject.getJsonObject(key), registration);
-            })));
+              return new MediaTypeImpl(key, contentObject.getJsonObject(key), registration, compactor);
+            }, (a, b) -> a, LinkedHashMap::new)));
+    this.mediaTypeIndex = new MediaTypeIndex(content);
 
     if (content.isEmpty()) {
       String msg =
@@ -85,21 +98,7 @@ public class RequestBodyImpl implements RequestBody {
 
   @Override
   public MediaType determineContentType(String contentType) {
-    if (contentType == null) {
-      return null;
-    }
-
-    String condensedIdentifier = removeWhiteSpaces(contentType);
-    if (content.containsKey(condensedIdentifier)) {
-      return content.get(condensedIdentifier);
-    }
-
-    for (Map.Entry<String, MediaType> declaredType : content.entrySet()) {
-      if (condensedIdentifier.startsWith(removeWhiteSpaces(declaredType.getKey()))) {
-        return declaredType.getValue();
-      }
-    }
-    return null;
+    return mediaTypeIndex.find(contentType);
   }
 
   private String removeWhiteSpaces(String s) {
@@ -18,7 +18,6 @@ import static io.vertx.openapi.contract.OpenAPIContractException.createUnsupport
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_OBJECT;
 import static java.lang.String.join;
 import static java.util.Collections.unmodifiableMap;
-import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toUnmodifiableList;
 
@@ -29,6 +28,7 @@ import io.vertx.openapi.contract.Parameter;
 import io.vertx.openapi.contract.Response;
 import io.vertx.openapi.mediatype.MediaTypeRegistration;
 import io.vertx.openapi.mediatype.MediaTypeRegistry;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -43,10 +43,20 @@ public class ResponseImpl implements Response {
 
   private final Map<String, MediaType> content;
 
+  private final MediaTypeIndex mediaTypeIndex;
+
   private final JsonObject responseModel;
 
   public ResponseImpl(JsonObject responseModel, String operationId, MediaTypeRegistry registry) {
-    this.responseModel = responseModel;
+    this(responseModel, operationId, registry, null);
+  }
+
+  /**
+   * @param compactor the compactor of a contract that is built in compact mode, or null.
+   */
+  public ResponseImpl(JsonObject responseModel, String operationId, MediaTypeRegistry registry,
+      ContractCompactor compactor) {
+    this.responseModel = compactor == null ? responseModel : ContractCompactor.retain(responseModel);
 
     JsonObject headersObject = responseModel.getJsonObject(KEY_HEADERS, EMPTY_JSON_OBJECT);
     this.headers = headersObject
@@ -54,7 +64,10 @@ public class ResponseImpl implements Response {
         .stream()
         .filter(JsonSchema.EXCLUDE_ANNOTATIONS)
         .filter(FILTER_CONTENT_TYPE)
-        .map(name -> {
+        .<Parameter>map(name -> {
+          if (compactor != null) {
+            return compactor.header(name, headersObject.getJsonObject(name));
+          }
           JsonObject headerModel = headersObject.getJsonObject(name).copy().put("name", name).put("in",
               HEADER.toString());
           return new ParameterImpl("", headerModel);
@@ -74,11 +87,12 @@ public class ResponseImpl implements Response {
               throw createUnsupportedFeature(
                   String.format(msgTemplate, operationId, join(", ", registry.supportedTypes())));
             })
-            .collect(toMap(identity(), key -> {
+            .collect(toMap(key -> compactor == null ? key : ContractCompactor.intern(key), key -> {
               // Can't be null, otherwise isSupported would have returned false
               MediaTypeRegistration registration = registry.get(key);
-              return new MediaTypeImpl(key, contentObject.getJsonObject(key), registration);
-            })));
+              return new MediaTypeImpl(key, contentObject.getJsonObject(key), registration, compactor);
+            }, (a, b) -> a, LinkedHashMap::new)));
+    this.mediaTypeIndex = new MediaTypeIndex(content);
   }
 
   @Override
@@ -95,4 +109,14 @@ public class ResponseImpl implements Response {
   public Map<String, MediaType> getContent() {
     return content;
   }
+
+  @Override
+  public MediaType determineContentType(String contentType) {
+    return mediaTypeIndex.find(contentType);
+  }
+
+  @Override
+  public MediaType negotiateContentType(String accept) {
+    return mediaTypeIndex.negotiate(accept);
+  }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import static io.vertx.json.schema.OutputFormat.Basic;
+
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.Draft;
+import io.vertx.json.schema.JsonFormatValidator;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.json.schema.JsonSchemaOptions;
+import io.vertx.json.schema.SchemaRepository;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable set of meta-schemas, from which {@link SchemaRepository repositories} are derived.
+ * <p></p>
+ * The meta-schemas are read and parsed only once. They are dereferenced once when the template is created, which
+ * annotates them with their absolute URIs. Dereferencing the annotated meta-schemas into a derived repository only
+ * registers them, it neither reads files nor modifies the meta-schemas, so a template can be shared by all contracts of
+ * a process.
+ */
+public final class SchemaRepositoryTemplate {
+
+  private final Draft draft;
+  private final JsonFormatValidator formatValidator;
+  private final Map<String, JsonSchema> schemas;
+
+  private SchemaRepositoryTemplate(Draft draft, JsonFormatValidator formatValidator, Map<String, JsonSchema> schemas) {
+    this.draft = draft;
+    this.formatValidator = formatValidator;
+    this.schemas = schemas;
+  }
+
+  /**
+   * Creates a template with the meta-schemas of the passed draft and additional schemas. The schemas are read blocking
+   * from the classpath.
+   *
+   * @param fs                    the file system to read the schemas from.
+   * @param draft                 the draft of the meta-schemas.
+   * @param formatValidator       the format validator of the derived repositories.
+   * @param additionalSchemaFiles the references of additional schemas, e.g. the OpenAPI schemas.
+   * @return the template.
+   */
+  public static SchemaRepositoryTemplate create(FileSystem fs, Draft draft, JsonFormatValidator formatValidator,
+      List<String> additionalSchemaFiles) {
+    Map<String, JsonSchema> schemas = new LinkedHashMap<>();
+    for (String ref : metaSchemaFiles(draft)) {
+      JsonObject raw = read(fs, ref);
+      // like SchemaRepository#preloadMetaSchema, the meta-schemas are registered with their own identifier
+      schemas.put(raw.getString("$id", raw.getString("id")), JsonSchema.of(raw));
+    }
+    for (String ref : additionalSchemaFiles) {
+      schemas.put(ref, JsonSchema.of(read(fs, ref)));
+    }
+    SchemaRepositoryTemplate template =
+        new SchemaRepositoryTemplate(draft, formatValidator, Collections.unmodifiableMap(schemas));
+    // annotates the schemas, so that deriving a repository doesn't modify them anymore
+    template.derive("app://");
+    return template;
+  }
+
+  /**
+   * Derives a new repository, which contains all schemas of this template. Schemas that are dereferenced into the
+   * derived repository don't affect this template.
+   *
+   * @param baseUri the base URI of the derived repository.
+   * @return the derived repository.
+   */
+  public SchemaRepository derive(String baseUri) {
+    JsonSchemaOptions opts = new JsonSchemaOptions().setDraft(draft).setBaseUri(baseUri).setOutputFormat(Basic);
+    SchemaRepository repository = SchemaRepository.create(opts, formatValidator);
+    schemas.forEach(repository::dereference);
+    return repository;
+  }
+
+  private static JsonObject read(FileSystem fs, String ref) {
+    return new JsonObject(fs.readFileBlocking(ref.substring(ref.indexOf("://") + 3)));
+  }
+
+  private static List<String> metaSchemaFiles(Draft draft) {
+    switch (draft) {
+      case DRAFT4:
+        return List.of("http://json-schema.org/draft-04/schema");
+      case DRAFT7:
+        return List.of("http://json-schema.org/draft-07/schema");
+      case DRAFT201909:
+        return List.of(
+            "https://json-schema.org/draft/2019-09/schema",
+            "https://json-schema.org/draft/2019-09/meta/core",
+            "https://json-schema.org/draft/2019-09/meta/applicator",
+            "https://json-schema.org/draft/2019-09/meta/validation",
+            "https://json-schema.org/draft/2019-09/meta/meta-data",
+            "https://json-schema.org/draft/2019-09/meta/format",
+            "https://json-schema.org/draft/2019-09/meta/content");
+      case DRAFT202012:
+        return List.of(
+            "https://json-schema.org/draft/2020-12/schema",
+            "https://json-schema.org/draft/2020-12/meta/core",
+            "https://json-schema.org/draft/2020-12/meta/applicator",
+            "https://json-schema.org/draft/2020-12/meta/validation",
+            "https://json-schema.org/draft/2020-12/meta/meta-data",
+            "https://json-schema.org/draft/2020-12/meta/format-annotation",
+            "https://json-schema.org/draft/2020-12/meta/content",
+            "https://json-schema.org/draft/2020-12/meta/unevaluated");
+      default:
+        throw new IllegalStateException("Unsupported draft " + draft);
+    }
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.contract.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.vertx.core.internal.net.RFC3986;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.json.schema.internal.JsonArrayProxy;
+import io.vertx.json.schema.internal.JsonObjectProxy;
+import io.vertx.json.schema.internal.JsonProxyEncoder;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolves the references of a contract, like {@link SchemaRepository#resolve(JsonObject)}, but resolves every
+ * referenced object only once:
+ * <ul>
+ *   <li>All references to the same object, also to an object of an additional contract part, share one resolved
+ *   instance. Therefore, the size of the resolved contract depends on the number of distinct objects, and not on the
+ *   number of references.</li>
+ *   <li>A recursive reference refers to the enclosing resolved instance. When a resolved object is encoded, a recursive
+ *   reference is encoded as <i>$ref</i> to the absolute URI of the referenced object.</li>
+ *   <li>A reference to an object that is a reference itself is followed to the final object.</li>
+ * </ul>
+ * <i>$dynamicRef</i> is not resolved, the validator resolves it from the schema repository.
+ */
+public final class SharedReferenceResolver {
+
+  private static final String KEY_REF = "$ref";
+  private static final String KEY_ID = "$id";
+
+  private final SchemaRepository repository;
+  private final JsonObject contract;
+  // the resolved instances by the map of the unresolved object, so that an object which is reachable from the contract
+  // and from references is only resolved once
+  private final Map<Map<String, Object>, SharedObject> resolved = new IdentityHashMap<>();
+  private final Map<String, SharedObject> references = new HashMap<>();
+
+  private SharedReferenceResolver(SchemaRepository repository, JsonObject contract) {
+    this.repository = repository;
+    this.contract = contract;
+  }
+
+  /**
+   * Resolves the references of the passed contract. The contract and the additional contract parts must be
+   * dereferenced in the passed repository. The passed contract is not modified.
+   *
+   * @param repository the repository of the contract.
+   * @param contract   the unresolved contract.
+   * @return the resolved contract.
+   * @throws UnsupportedOperationException if a reference can't be resolved.
+   */
+  public static JsonObject resolve(SchemaRepository repository, JsonObject contract) {
+    return new SharedReferenceResolver(repository, contract).resolveObject(contract, "");
+  }
+
+  private Object resolveValue(Object value, String base) {
+    if (value instanceof JsonObject) {
+      JsonObject object = (JsonObject) value;
+      Object ref = object.getValue(KEY_REF);
+      return ref instanceof String ? resolveReference((String) ref, base) : resolveObject(object, base);
+    } else if (value instanceof JsonArray) {
+      JsonArrayProxy array = new JsonArrayProxy();
+      for (Object item : (JsonArray) value) {
+        array.add(resolveValue(item, base));
+      }
+      return array;
+    }
+    return value;
+  }
+
+  private SharedObject resolveObject(JsonObject unresolved, String base) {
+    SharedObject object = resolved.get(unresolved.getMap());
+    if (object != null) {
+      return object;
+    }
+    // registered before the entries are resolved, so that a recursive reference refers to this instance
+    object = new SharedObject();
+    resolved.put(unresolved.getMap(), object);
+    String objectBase = base(unresolved, base);
+    for (Map.Entry<String, Object> entry : unresolved) {
+      object.put(entry.getKey(), resolveValue(entry.getValue(), objectBase));
+    }
+    return object;
+  }
+
+  private SharedObject resolveReference(String ref, String base) {
+    String uri = ref.startsWith("#") ? base + ref : ref;
+    SharedObject object = references.get(uri);
+    if (object != null) {
+      return object;
+    }
+
+    Set<String> visited = new HashSet<>();
+    String target = uri;
+    Target unresolved = find(target);
+    // follows a reference to a reference to the final object
+    while (unresolved.object.getValue(KEY_REF) instanceof String) {
+      if (!visited.add(target)) {
+        throw new UnsupportedOperationException("Circular reference: " + uri);
+      }
+      String next = unresolved.object.getString(KEY_REF);
+      target = next.startsWith("#") ? unresolved.base + next : next;
+      unresolved = find(target);
+    }
+
+    object = resolveObject(unresolved.object, unresolved.base);
+    if (object.reference == null) {
+      object.reference = target;
+    }
+    references.put(uri, object);
+    return object;
+  }
+
+  /**
+   * Returns the unresolved object that is referenced by the passed URI, and the base URI of the object.
+   */
+  private Target find(String uri) {
+    int hash = uri.indexOf('#');
+    String document = hash < 0 ? uri : uri.substring(0, hash);
+    String fragment = hash < 0 ? "" : RFC3986.decodeURIComponent(uri.substring(hash + 1));
+
+    Object current;
+    if (!fragment.isEmpty() && fragment.charAt(0) != '/') {
+      // an anchor, which is registered in the repository
+      current = repository.find(uri);
+    } else {
+      current = document.isEmpty() ? contract : repository.find(document);
+    }
+    if (!(current instanceof JsonObject)) {
+      throw new UnsupportedOperationException("Unable to resolve reference: " + uri);
+    }
+
+    String base = base((JsonObject) current, document);
+    if (!fragment.isEmpty() && fragment.charAt(0) == '/') {
+      for (String segment : fragment.substring(1).split("/", -1)) {
+        current = child(current, segment.replace("~1", "/").replace("~0", "~"));
+        if (!(current instanceof JsonObject || current instanceof JsonArray)) {
+          throw new UnsupportedOperationException("Unable to resolve reference: " + uri);
+        }
+        if (current instanceof JsonObject) {
+          base = base((JsonObject) current, base);
+        }
+      }
+    }
+    if (!(current instanceof JsonObject)) {
+      throw new UnsupportedOperationException("Unable to resolve reference: " + uri);
+    }
+    return new Target((JsonObject) current, base);
+  }
+
+  private static Object child(Object parent, String segment) {
+    if (parent instanceof JsonObject) {
+      return ((JsonObject) parent).getValue(segment);
+    }
+    JsonArray array = (JsonArray) parent;
+    try {
+      int index = Integer.parseInt(segment);
+      return index >= 0 && index < array.size() ? array.getValue(index) : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns the base URI of the passed object, which is its <i>$id</i> without the fragment, or the base URI of its
+   * parent.
+   */
+  private static String base(JsonObject object, String parentBase) {
+    Object id = object.getValue(KEY_ID);
+    if (!(id instanceof String)) {
+      return parentBase;
+    }
+    String base = (String) id;
+    int hash = base.indexOf('#');
+    return hash < 0 ? base : base.substring(0, hash);
+  }
+
+  private static final class Target {
+    private final JsonObject object;
+    private final String base;
+
+    private Target(JsonObject object, String base) {
+      this.object = object;
+      this.base = base;
+    }
+  }
+
+  /**
+   * A resolved object. If it is the target of a reference, it knows the absolute URI of the reference, so that it can
+   * be encoded even if it contains itself.
+   */
+  private static final class SharedObject extends JsonObjectProxy {
+
+    private String reference;
+
+    @Override
+    public String encode() {
+      return new SharedObjectEncoder().encode(this, false);
+    }
+
+    @Override
+    public String encodePrettily() {
+      return new SharedObjectEncoder().encode(this, true);
+    }
+  }
+
+  /**
+   * Encodes a resolved object, an object that is already being encoded is encoded as reference.
+   */
+  private static final class SharedObjectEncoder implements JsonProxyEncoder {
+
+    private final Set<Object> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private String encode(Object json, boolean pretty) {
+      StringWriter writer = new StringWriter();
+      JsonGenerator generator = createGenerator(writer, pretty);
+      try {
+        encodeJson(json, generator);
+        generator.flush();
+        return writer.toString();
+      } catch (IOException e) {
+        throw new EncodeException(e.getMessage(), e);
+      }
+    }
+
+    @Override
+    public void encodeJson(Object json, JsonGenerator generator) throws EncodeException {
+      if (!(json instanceof SharedObject) || ((SharedObject) json).reference == null) {
+        JsonProxyEncoder.super.encodeJson(json, generator);
+        return;
+      }
+      if (!ancestors.add(json)) {
+        try {
+          generator.writeStartObject();
+          generator.writeStringField(KEY_REF, ((SharedObject) json).reference);
+          generator.writeEndObject();
+          return;
+        } catch (IOException e) {
+          throw new EncodeException(e.getMessage(), e);
+        }
+      }
+      try {
+        // the entries are encoded with this encoder, because the default implementation calls this method for them
+        JsonProxyEncoder.super.encodeJson(json, generator);
+      } finally {
+        ancestors.remove(json);
+      }
+    }
+  }
+}
@@ -15,6 +15,7 @@ import java.util.Date;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.constructor.SafeConstructor;
 import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.ScalarNode;
 import org.yaml.snakeyaml.nodes.Tag;
 
 /**
@@ -31,6 +32,16 @@ public class OpenAPIYamlConstructor extends SafeConstructor {
     this.yamlConstructors.put(Tag.TIMESTAMP, new ConstructInstantTimestamp());
   }
 
+  /**
+   * Constructs the value of a single scalar, without registering it as a constructed object.
+   *
+   * @param node the scalar with its resolved tag.
+   * @return the value.
+   */
+  Object constructScalarValue(ScalarNode node) {
+    return getConstructor(node).construct(node);
+  }
+
   private static class ConstructInstantTimestamp extends SafeConstructor.ConstructYamlTimestamp {
     public Object construct(Node node) {
       Date date = (Date) super.construct(node);
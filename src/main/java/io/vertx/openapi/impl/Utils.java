@@ -18,13 +18,16 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
 import io.vertx.core.Future;
+import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
-import java.nio.charset.StandardCharsets;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import org.yaml.snakeyaml.Yaml;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import org.yaml.snakeyaml.reader.UnicodeReader;
 
 public final class Utils {
   public static final JsonArray EMPTY_JSON_ARRAY = new JsonArray(emptyList());
@@ -47,7 +50,7 @@ public final class Utils {
       if ("json".equals(suffix)) {
         return succeededFuture(buff.toJsonObject());
       } else if ("yaml".equals(suffix) || "yml".equals(suffix)) {
-        return yamlStringToJson(buff.toString(StandardCharsets.UTF_8));
+        return yamlBufferToJson(buff);
       } else {
         return failedFuture(new IllegalArgumentException("Only JSON or YAML files are allowed"));
       }
@@ -62,33 +65,27 @@ public final class Utils {
    */
   public static Future<JsonObject> yamlStringToJson(String yamlString) {
     try {
-      final Yaml yaml = new Yaml(new OpenAPIYamlConstructor());
-      Map<Object, Object> doc = yaml.load(yamlString);
-      return succeededFuture(new JsonObject(jsonify(doc)));
+      return succeededFuture(YamlJsonLoader.load(new StringReader(yamlString)));
     } catch (RuntimeException e) {
       return failedFuture(e);
     }
   }
 
   /**
-   * Yaml allows map keys of type object, however json always requires key as String,
-   * this helper method will ensure we adapt keys to the right type
+   * Reads YAML from the bytes of a buffer and transforms it into a JsonObject, without decoding the buffer into a
+   * String first. The encoding is detected from the byte order mark, the default is UTF-8.
    *
-   * @param yaml yaml map
-   * @return json map
+   * @param yaml The YAML content
+   * @return A succeeded Future holding the JsonObject, or a failed Future if the content could not be parsed.
    */
-  @SuppressWarnings("unchecked")
-  private static Map<String, Object> jsonify(Map<Object, Object> yaml) {
-    final Map<String, Object> json = new LinkedHashMap<>();
-
-    for (Map.Entry<Object, Object> kv : yaml.entrySet()) {
-      Object value = kv.getValue();
-      if (value instanceof Map) {
-        value = jsonify((Map<Object, Object>) value);
-      }
-      json.put(kv.getKey().toString(), value);
+  public static Future<JsonObject> yamlBufferToJson(Buffer yaml) {
+    InputStream in = yaml instanceof BufferInternal
+        ? new ByteBufInputStream(((BufferInternal) yaml).getByteBuf())
+        : new ByteArrayInputStream(yaml.getBytes());
+    try {
+      return succeededFuture(YamlJsonLoader.load(new UnicodeReader(in)));
+    } catch (RuntimeException e) {
+      return failedFuture(e);
     }
-
-    return json;
   }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.impl;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Loads a YAML document directly into a {@link JsonObject}.
+ * <p></p>
+ * The document is built in a single pass from the parser events, mappings become JsonObjects with String keys and
+ * sequences become JsonArrays. Unlike loading the document with {@link org.yaml.snakeyaml.Yaml}, no intermediate node
+ * graph and no intermediate maps are created. Scalars are resolved and constructed exactly like the
+ * {@link OpenAPIYamlConstructor} does, e.g. timestamps become {@link java.time.Instant}s. Aliases refer to the same
+ * instance as their anchor, and merge keys (<i>&lt;&lt;</i>) are supported.
+ */
+public final class YamlJsonLoader {
+
+  private final LoaderOptions options;
+  private final Resolver resolver = new Resolver();
+  private final OpenAPIYamlConstructor constructor = new OpenAPIYamlConstructor();
+  private final Map<String, Object> anchors = new HashMap<>();
+  private int collectionAliases;
+  private int depth;
+
+  private YamlJsonLoader(LoaderOptions options) {
+    this.options = options;
+  }
+
+  /**
+   * Loads a YAML document, whose root is a mapping.
+   *
+   * @param reader the YAML document.
+   * @return the document.
+   * @throws YAMLException if the document is not valid YAML, or its root is not a mapping.
+   */
+  public static JsonObject load(Reader reader) {
+    LoaderOptions options = new LoaderOptions();
+    // contracts are local files, they are not limited to the 3 MB of untrusted documents
+    options.setCodePointLimit(Integer.MAX_VALUE);
+    Parser parser = new ParserImpl(new StreamReader(reader), options);
+    return new YamlJsonLoader(options).loadDocument(parser);
+  }
+
+  private JsonObject loadDocument(Parser parser) {
+    expect(parser, Event.ID.StreamStart);
+    if (parser.checkEvent(Event.ID.StreamEnd)) {
+      throw new YAMLException("The YAML document is empty");
+    }
+    expect(parser, Event.ID.DocumentStart);
+    Object document = readNode(parser);
+    expect(parser, Event.ID.DocumentEnd);
+    if (!parser.checkEvent(Event.ID.StreamEnd)) {
+      throw new YAMLException("Expected a single YAML document, but found more");
+    }
+    if (!(document instanceof JsonObject)) {
+      throw new YAMLException("The root of the YAML document must be a mapping");
+    }
+    return (JsonObject) document;
+  }
+
+  private Object readNode(Parser parser) {
+    Event event = parser.getEvent();
+    switch (event.getEventId()) {
+      case Alias:
+        return readAlias((AliasEvent) event);
+      case Scalar:
+        return anchor(event, readScalar((ScalarEvent) event));
+      case SequenceStart:
+        return anchor(event, readSequence(parser));
+      case MappingStart:
+        return anchor(event, readMapping(parser));
+      default:
+        throw new YAMLException("Unexpected YAML event " + event);
+    }
+  }
+
+  private Object readAlias(AliasEvent event) {
+    String anchor = event.getAnchor();
+    if (!anchors.containsKey(anchor)) {
+      // an alias of an enclosing collection is not registered yet, JSON can't represent it
+      throw new YAMLException("Found undefined or recursive alias " + anchor + " " + event.getStartMark());
+    }
+    Object value = anchors.get(anchor);
+    if ((value instanceof JsonObject || value instanceof JsonArray)
+        && ++collectionAliases > options.getMaxAliasesForCollections()) {
+      throw new YAMLException(
+          "Number of aliases for non-scalar nodes exceeds the specified max=" + options.getMaxAliasesForCollections());
+    }
+    return value;
+  }
+
+  private Object readScalar(ScalarEvent event) {
+    ScalarNode node =
+        new ScalarNode(tag(event), event.getValue(), event.getStartMark(), event.getEndMark(), event.getScalarStyle());
+    return constructor.constructScalarValue(node);
+  }
+
+  private JsonArray readSequence(Parser parser) {
+    enterCollection(parser);
+    JsonArray array = new JsonArray();
+    while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+      array.add(readNode(parser));
+    }
+    parser.getEvent();
+    depth--;
+    return array;
+  }
+
+  private JsonObject readMapping(Parser parser) {
+    enterCollection(parser);
+    JsonObject object = new JsonObject();
+    List<Object> merges = null;
+    while (!parser.checkEvent(Event.ID.MappingEnd)) {
+      Event keyEvent = parser.peekEvent();
+      if (keyEvent instanceof ScalarEvent && Tag.MERGE.equals(tag((ScalarEvent) keyEvent))) {
+        parser.getEvent();
+        if (merges == null) {
+          merges = new ArrayList<>();
+        }
+        merges.add(readNode(parser));
+        continue;
+      }
+      // YAML allows keys of any type, JSON requires them to be Strings
+      String key = String.valueOf(readNode(parser));
+      object.getMap().put(key, readNode(parser));
+    }
+    parser.getEvent();
+    depth--;
+    if (merges != null) {
+      merge(object, merges);
+    }
+    return object;
+  }
+
+  /**
+   * Applies merge keys: the keys of the mapping override the merged keys, and earlier merged mappings override later
+   * ones.
+   */
+  private static void merge(JsonObject object, List<Object> merges) {
+    for (Object merge : merges) {
+      if (merge instanceof JsonObject) {
+        ((JsonObject) merge).getMap().forEach(object.getMap()::putIfAbsent);
+      } else if (merge instanceof JsonArray) {
+        for (Object item : (JsonArray) merge) {
+          if (!(item instanceof JsonObject)) {
+            throw new YAMLException("Expected a mapping for merging, but found " + item);
+          }
+          ((JsonObject) item).getMap().forEach(object.getMap()::putIfAbsent);
+        }
+      } else {
+        throw new YAMLException("Expected a mapping or a list of mappings for merging, but found " + merge);
+      }
+    }
+  }
+
+  private void enterCollection(Parser parser) {
+    if (++depth > options.getNestingDepthLimit()) {
+      throw new YAMLException("Nesting Depth exceeded max " + options.getNestingDepthLimit() + " "
+          + parser.peekEvent().getStartMark());
+    }
+  }
+
+  private Tag tag(ScalarEvent event) {
+    String tag = event.getTag();
+    if (tag == null || "!".equals(tag)) {
+      return resolver.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar());
+    }
+    return new Tag(tag);
+  }
+
+  private Object anchor(Event event, Object value) {
+    String anchor = ((NodeEvent) event).getAnchor();
+    if (anchor != null) {
+      anchors.put(anchor, value);
+    }
+    return value;
+  }
+
+  private static void expect(Parser parser, Event.ID id) {
+    Event event = parser.getEvent();
+    if (!event.is(id)) {
+      throw new YAMLException("Expected " + id + ", but found " + event);
+    }
+  }
+}
@@ -12,7 +12,10 @@
 
 package io.vertx.openapi.mediatype;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.openapi.validation.JsonDecodingOptions;
 import io.vertx.openapi.validation.ValidatorException;
 
 /**
@@ -45,4 +48,25 @@ public interface ContentAnalyser {
    * @return the transformed content.
    */
   Object transform();
+
+  /**
+   * Passes the schema of the related media type, before the content is analysed. It can be used to transform the
+   * content, e.g. to coerce values, the validation against the schema is done by the validator. Analysers that don't
+   * need the schema can ignore it, which is the default.
+   *
+   * @param schema the schema of the related media type, can be null.
+   */
+  @GenIgnore
+  default void setSchema(JsonSchema schema) {
+  }
+
+  /**
+   * Passes the limits for decoding JSON content, before the content is analysed. Analysers that don't decode JSON can
+   * ignore the limits, which is the default.
+   *
+   * @param decodingOptions the limits, or null for the default limits.
+   */
+  @GenIgnore
+  default void setJsonDecodingOptions(JsonDecodingOptions decodingOptions) {
+  }
 }
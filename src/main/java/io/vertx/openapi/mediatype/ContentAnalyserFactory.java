@@ -12,11 +12,15 @@
 
 package io.vertx.openapi.mediatype;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.openapi.mediatype.impl.ApplicationJsonAnalyser;
+import io.vertx.openapi.mediatype.impl.BinaryJsonAnalyser;
+import io.vertx.openapi.mediatype.impl.JsonSequenceAnalyser;
 import io.vertx.openapi.mediatype.impl.MultipartFormAnalyser;
 import io.vertx.openapi.mediatype.impl.NoOpAnalyser;
+import io.vertx.openapi.mediatype.impl.StatelessContentAnalyserFactory;
 import io.vertx.openapi.mediatype.impl.XWwwFormUrlencodedAnalyser;
 import io.vertx.openapi.validation.ValidationContext;
 
@@ -33,19 +37,94 @@ public interface ContentAnalyserFactory {
    */
   ContentAnalyser create(String contentType, Buffer content, ValidationContext context);
 
+  /**
+   * Creates a new {@link SequenceContentAnalyser}, if the bodies of this factory are sequences of records.
+   *
+   * @param contentType The raw content type from the http headers.
+   * @param content     The content of the request or response, can be null if the content is fed.
+   * @param context     Whether the analyser is for a request or response.
+   * @return A fresh sequence analyser instance, or null if the bodies are no sequences of records, which is the
+   * default.
+   */
+  @GenIgnore
+  default SequenceContentAnalyser createSequenceAnalyser(String contentType, Buffer content,
+      ValidationContext context) {
+    return null;
+  }
+
+  /**
+   * Creates a factory for analysers of JSON bodies. The factory is also a {@link StatelessContentAnalyser}.
+   *
+   * @return the factory.
+   */
   static ContentAnalyserFactory json() {
-    return ApplicationJsonAnalyser::new;
+    return new StatelessContentAnalyserFactory(ApplicationJsonAnalyser::new, ApplicationJsonAnalyser.STATELESS);
   }
 
+  /**
+   * Creates a factory for analysers that neither check nor transform the body. The factory is also a
+   * {@link StatelessContentAnalyser}.
+   *
+   * @return the factory.
+   */
   static ContentAnalyserFactory noop() {
-    return NoOpAnalyser::new;
+    return new StatelessContentAnalyserFactory(NoOpAnalyser::new, NoOpAnalyser.STATELESS);
   }
 
   static ContentAnalyserFactory multipart() {
     return MultipartFormAnalyser::new;
   }
 
+  /**
+   * Creates a factory for analysers of <i>application/x-www-form-urlencoded</i> bodies. The factory is also a
+   * {@link StatelessContentAnalyser}.
+   *
+   * @return the factory.
+   */
   static ContentAnalyserFactory xWwwFormUrlencoded() {
-    return XWwwFormUrlencodedAnalyser::new;
+    return new StatelessContentAnalyserFactory(XWwwFormUrlencodedAnalyser::new, XWwwFormUrlencodedAnalyser.STATELESS);
+  }
+
+  /**
+   * Creates a factory for analysers of sequences of JSON texts, which also creates them as
+   * {@link SequenceContentAnalyser}.
+   *
+   * @return the factory.
+   */
+  static ContentAnalyserFactory jsonSequence() {
+    return new ContentAnalyserFactory() {
+      @Override
+      public ContentAnalyser create(String contentType, Buffer content, ValidationContext context) {
+        return createSequenceAnalyser(contentType, content, context);
+      }
+
+      @Override
+      public SequenceContentAnalyser createSequenceAnalyser(String contentType, Buffer content,
+          ValidationContext context) {
+        return new JsonSequenceAnalyser(contentType, content, context);
+      }
+    };
+  }
+
+  /**
+   * Creates a factory for analysers that decode CBOR into the same JSON model as {@link #json()}. Requires the optional
+   * dependency <i>com.fasterxml.jackson.dataformat:jackson-dataformat-cbor</i>.
+   *
+   * @return the factory.
+   */
+  static ContentAnalyserFactory cbor() {
+    return (contentType, content, context) -> new BinaryJsonAnalyser(BinaryJsonAnalyser.cborFactory(), contentType,
+        content, context);
+  }
+
+  /**
+   * Creates a factory for analysers that decode Smile into the same JSON model as {@link #json()}. Requires the
+   * optional dependency <i>com.fasterxml.jackson.dataformat:jackson-dataformat-smile</i>.
+   *
+   * @return the factory.
+   */
+  static ContentAnalyserFactory smile() {
+    return (contentType, content, context) -> new BinaryJsonAnalyser(BinaryJsonAnalyser.smileFactory(), contentType,
+        content, context);
   }
 }
@@ -12,6 +12,7 @@
 
 package io.vertx.openapi.mediatype;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration;
@@ -51,6 +52,33 @@ public interface MediaTypeRegistration {
       MediaTypePredicate.ofExactTypes(DefaultMediaTypeRegistration.APPLICATION_X_WWW_FORM_URL_ENCODED),
       ContentAnalyserFactory.xWwwFormUrlencoded());
 
+  /**
+   * Sequences of JSON texts, i.e. newline delimited JSON and JSON text sequences. Every record is validated on its own
+   * against the <i>items</i> of the schema.
+   */
+  MediaTypeRegistration JSON_SEQUENCE = new DefaultMediaTypeRegistration(
+      MediaTypePredicate.ofExactTypes(
+          DefaultMediaTypeRegistration.APPLICATION_X_NDJSON,
+          DefaultMediaTypeRegistration.APPLICATION_JSONL,
+          DefaultMediaTypeRegistration.APPLICATION_JSON_SEQ),
+      ContentAnalyserFactory.jsonSequence());
+
+  /**
+   * CBOR bodies, which are validated against the same schemas as JSON bodies. This registration is not part of the
+   * default registry, because it requires the optional dependency <i>jackson-dataformat-cbor</i>.
+   */
+  MediaTypeRegistration APPLICATION_CBOR = new DefaultMediaTypeRegistration(
+      MediaTypePredicate.ofExactTypes(DefaultMediaTypeRegistration.APPLICATION_CBOR),
+      ContentAnalyserFactory.cbor());
+
+  /**
+   * Smile bodies, which are validated against the same schemas as JSON bodies. This registration is not part of the
+   * default registry, because it requires the optional dependency <i>jackson-dataformat-smile</i>.
+   */
+  MediaTypeRegistration APPLICATION_SMILE = new DefaultMediaTypeRegistration(
+      MediaTypePredicate.ofExactTypes(DefaultMediaTypeRegistration.APPLICATION_X_JACKSON_SMILE),
+      ContentAnalyserFactory.smile());
+
   MediaTypeRegistration VENDOR_SPECIFIC_JSON = new DefaultMediaTypeRegistration(
       MediaTypePredicate.ofRegexp(Pattern.compile("^[^/]+/vnd\\.[\\w.-]+\\+json$").pattern()),
       ContentAnalyserFactory.json());
@@ -65,6 +93,35 @@ public interface MediaTypeRegistration {
    */
   ContentAnalyser createContentAnalyser(String contentType, Buffer content, ValidationContext context);
 
+  /**
+   * Returns an analyser that is shared by all validations of this registration. If present, the validators use it
+   * instead of creating a new {@link ContentAnalyser} via {@link #createContentAnalyser} for every body.
+   *
+   * @return the stateless content analyser, or null if the analysers of this registration are stateful.
+   */
+  default StatelessContentAnalyser getStatelessContentAnalyser() {
+    return null;
+  }
+
+  /**
+   * Creates a new {@link SequenceContentAnalyser}, if the bodies of this registration are sequences of records. If
+   * present, the validators validate every record on its own instead of the transformed body, and a body that is
+   * streamed by {@link io.vertx.openapi.validation.RequestUtils#extract(io.vertx.core.Vertx,
+   * io.vertx.core.http.HttpServerRequest, io.vertx.openapi.contract.Operation,
+   * io.vertx.openapi.validation.StreamingMultipartOptions)} can be spooled to a temporary file.
+   *
+   * @param contentType The raw content type from the http headers.
+   * @param content     The content of the request or response, can be null if the content is fed.
+   * @param context     Whether the analyser is for a request or response.
+   * @return A fresh sequence analyser instance, or null if the bodies are no sequences of records, which is the
+   * default.
+   */
+  @GenIgnore
+  default SequenceContentAnalyser createSequenceAnalyser(String contentType, Buffer content,
+      ValidationContext context) {
+    return null;
+  }
+
   /**
    * Checks if this registration can handle the given media type. This method is intended to be used by the
    * MediaTypeRegistry.
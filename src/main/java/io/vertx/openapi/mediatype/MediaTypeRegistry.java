@@ -34,6 +34,7 @@ public interface MediaTypeRegistry {
         .register(MediaTypeRegistration.APPLICATION_OCTET_STREAM)
         .register(MediaTypeRegistration.APPLICATION_X_WWW_FORM_URL_ENCODED)
         .register(MediaTypeRegistration.TEXT_PLAIN)
+        .register(MediaTypeRegistration.JSON_SEQUENCE)
         .register(MediaTypeRegistration.VENDOR_SPECIFIC_JSON);
   }
 
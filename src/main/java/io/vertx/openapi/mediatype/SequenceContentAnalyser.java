@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.openapi.validation.ValidatorException;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link ContentAnalyser} for bodies that are sequences of records, e.g. newline delimited JSON. The validators
+ * validate every record on its own while it is decoded, instead of transforming the whole body, see
+ * {@link MediaTypeRegistration#createSequenceAnalyser}.
+ * <p>
+ * A body that is not held in memory can be fed chunk by chunk, see {@link #feed(Buffer)} and {@link #end()}.
+ */
+public interface SequenceContentAnalyser extends ContentAnalyser {
+
+  /**
+   * Sets a handler that is called with the index and the value of every record while the syntax is checked. The
+   * handler can throw a {@link ValidatorException} to reject a record.
+   *
+   * @param recordHandler the record handler.
+   */
+  void setRecordHandler(BiConsumer<Long, Object> recordHandler);
+
+  /**
+   * @return the number of records, available after {@link #checkSyntacticalCorrectness()} or {@link #end()} was
+   * called.
+   */
+  long getRecordCount();
+
+  /**
+   * Feeds the next chunk of a body, which is read as a stream instead of being passed to the analyser. Every complete
+   * record is passed to the record handler immediately.
+   *
+   * @param chunk the next chunk of the body.
+   */
+  void feed(Buffer chunk);
+
+  /**
+   * Signals that the body was fed completely.
+   */
+  void end();
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype;
+
+import io.vertx.codegen.annotations.GenIgnore;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.openapi.validation.JsonDecodingOptions;
+import io.vertx.openapi.validation.ValidationContext;
+import io.vertx.openapi.validation.ValidatorException;
+
+/**
+ * A content analyser that doesn't keep any state between the analysis of two bodies. Unlike a {@link ContentAnalyser},
+ * which is created for every body, a single instance is shared by all validations of a {@link MediaTypeRegistration},
+ * see {@link MediaTypeRegistration#getStatelessContentAnalyser()}. Implementations must therefore be thread-safe.
+ * <p>
+ * A {@link ContentAnalyserFactory} that also implements this interface is used as the stateless analyser of a
+ * registration. The built-in factories {@link ContentAnalyserFactory#json()}, {@link ContentAnalyserFactory#noop()} and
+ * {@link ContentAnalyserFactory#xWwwFormUrlencoded()} do so.
+ */
+@VertxGen
+public interface StatelessContentAnalyser {
+
+  /**
+   * Checks if the content has the expected format i.e. is syntactically correct, and transforms it into a format that
+   * can be validated by the {@link io.vertx.openapi.validation.RequestValidator}, or
+   * {@link io.vertx.openapi.validation.ResponseValidator}. This combines
+   * {@link ContentAnalyser#checkSyntacticalCorrectness()} and {@link ContentAnalyser#transform()}.
+   * <p>
+   * Throws a {@link ValidatorException} if the content is syntactically incorrect or can't be transformed.
+   *
+   * @param contentType The raw content type from the http headers.
+   * @param content     The content of the request or response.
+   * @param schema      The schema of the related media type, can be null. It can be used to transform the content,
+   *                    e.g. to coerce values, the validation against the schema is done by the validator.
+   * @param context     Whether the content is of a request or response.
+   * @return the transformed content.
+   */
+  Object analyse(String contentType, Buffer content, JsonSchema schema, ValidationContext context)
+      throws ValidatorException;
+
+  /**
+   * Like {@link #analyse(String, Buffer, JsonSchema, ValidationContext)}, but JSON content is decoded within the passed
+   * limits. Analysers that don't decode JSON can ignore the limits, which is the default.
+   *
+   * @param contentType     The raw content type from the http headers.
+   * @param content         The content of the request or response.
+   * @param schema          The schema of the related media type, can be null.
+   * @param context         Whether the content is of a request or response.
+   * @param decodingOptions The limits for decoding JSON content, can be null for the default limits.
+   * @return the transformed content.
+   */
+  @GenIgnore
+  default Object analyse(String contentType, Buffer content, JsonSchema schema, ValidationContext context,
+      JsonDecodingOptions decodingOptions) throws ValidatorException {
+    return analyse(contentType, content, schema, context);
+  }
+}
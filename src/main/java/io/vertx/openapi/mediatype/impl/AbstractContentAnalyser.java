@@ -13,11 +13,13 @@
 package io.vertx.openapi.mediatype.impl;
 
 import static io.vertx.openapi.validation.ValidatorErrorType.ILLEGAL_VALUE;
+import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
 
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
-import io.vertx.core.json.Json;
 import io.vertx.openapi.mediatype.ContentAnalyser;
+import io.vertx.openapi.validation.JsonDecodingOptions;
 import io.vertx.openapi.validation.ValidationContext;
 import io.vertx.openapi.validation.ValidatorException;
 
@@ -29,6 +31,7 @@ public abstract class AbstractContentAnalyser implements ContentAnalyser {
   protected final String contentType;
   protected final Buffer content;
   protected final ValidationContext requestOrResponse;
+  protected JsonDecodingOptions decodingOptions;
 
   /**
    * Creates a new content analyser.
@@ -43,6 +46,16 @@ public abstract class AbstractContentAnalyser implements ContentAnalyser {
     this.requestOrResponse = context;
   }
 
+  /**
+   * Sets the limits for decoding JSON content.
+   *
+   * @param decodingOptions the limits, or null for the default limits.
+   */
+  @Override
+  public void setJsonDecodingOptions(JsonDecodingOptions decodingOptions) {
+    this.decodingOptions = decodingOptions;
+  }
+
   /**
    * Builds a {@link ValidatorException} for the case that the content is syntactically incorrect.
    *
@@ -60,10 +73,37 @@ public abstract class AbstractContentAnalyser implements ContentAnalyser {
    * @throws ValidatorException if the content can't be decoded.
    */
   protected static Object decodeJsonContent(Buffer content, ValidationContext requestOrResponse) {
+    return decodeJsonContent(content, requestOrResponse, null);
+  }
+
+  /**
+   * Decodes the passed content as JSON within the passed limits.
+   *
+   * @return an object representing the passed JSON content.
+   * @throws ValidatorException if the content can't be decoded or exceeds a limit.
+   */
+  protected static Object decodeJsonContent(Buffer content, ValidationContext requestOrResponse,
+      JsonDecodingOptions decodingOptions) {
     try {
-      return Json.decodeValue(content);
+      return JsonBufferDecoder.decode(content, decodingOptions);
     } catch (DecodeException e) {
-      throw buildSyntaxException("The " + requestOrResponse + " body can't be decoded");
+      throw decodingFailed(e, requestOrResponse);
+    }
+  }
+
+  /**
+   * Builds the {@link ValidatorException} for content that can't be decoded as JSON.
+   *
+   * @param e                 the exception of the decoding.
+   * @param requestOrResponse the context in which the content is used.
+   * @return the {@link ValidatorException}.
+   */
+  protected static ValidatorException decodingFailed(DecodeException e, ValidationContext requestOrResponse) {
+    if (JsonBufferDecoder.isLimitExceeded(e)) {
+      String msg = "The " + requestOrResponse + " body exceeds a JSON decoding limit. Reason: "
+          + ((StreamConstraintsException) e.getCause()).getOriginalMessage();
+      return new ValidatorException(msg, INVALID_VALUE);
     }
+    return buildSyntaxException("The " + requestOrResponse + " body can't be decoded");
   }
 }
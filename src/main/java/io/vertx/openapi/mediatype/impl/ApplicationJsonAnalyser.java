@@ -13,9 +13,28 @@
 package io.vertx.openapi.mediatype.impl;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.openapi.mediatype.StatelessContentAnalyser;
+import io.vertx.openapi.validation.JsonDecodingOptions;
 import io.vertx.openapi.validation.ValidationContext;
 
 public class ApplicationJsonAnalyser extends AbstractContentAnalyser {
+  /**
+   * The stateless variant of this analyser, which can be shared by all validations.
+   */
+  public static final StatelessContentAnalyser STATELESS = new StatelessContentAnalyser() {
+    @Override
+    public Object analyse(String contentType, Buffer content, JsonSchema schema, ValidationContext context) {
+      return decodeJsonContent(content, context);
+    }
+
+    @Override
+    public Object analyse(String contentType, Buffer content, JsonSchema schema, ValidationContext context,
+        JsonDecodingOptions decodingOptions) {
+      return decodeJsonContent(content, context, decodingOptions);
+    }
+  };
+
   private Object decodedValue;
 
   public ApplicationJsonAnalyser(String contentType, Buffer content, ValidationContext context) {
@@ -24,7 +43,7 @@ public class ApplicationJsonAnalyser extends AbstractContentAnalyser {
 
   @Override
   public void checkSyntacticalCorrectness() {
-    decodedValue = decodeJsonContent(content, requestOrResponse);
+    decodedValue = decodeJsonContent(content, requestOrResponse, decodingOptions);
   }
 
   @Override
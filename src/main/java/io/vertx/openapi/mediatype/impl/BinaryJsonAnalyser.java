@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.validation.ValidationContext;
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * Decodes a binary JSON format like CBOR or Smile into the Vert.x JSON model, so that the same schemas apply as for
+ * JSON bodies. The content is decoded directly from the token stream of the related Jackson parser, without an
+ * intermediate JSON text. Binary values, which can't be expressed in JSON, are represented as Base64 encoded strings,
+ * like {@link JsonObject#getBinary(String)} expects them.
+ * <p></p>
+ * The Jackson data formats are optional dependencies, the related factory is only loaded when an analyser for the
+ * format is created.
+ */
+public class BinaryJsonAnalyser extends AbstractContentAnalyser {
+
+  private final JsonFactory factory;
+  private Object decodedValue;
+
+  public BinaryJsonAnalyser(JsonFactory factory, String contentType, Buffer content, ValidationContext context) {
+    super(contentType, content, context);
+    this.factory = factory;
+  }
+
+  /**
+   * @return the shared factory for CBOR parsers, requires <i>jackson-dataformat-cbor</i>.
+   */
+  public static JsonFactory cborFactory() {
+    return CborHolder.FACTORY;
+  }
+
+  /**
+   * @return the shared factory for Smile parsers, requires <i>jackson-dataformat-smile</i>.
+   */
+  public static JsonFactory smileFactory() {
+    return SmileHolder.FACTORY;
+  }
+
+  @Override
+  public void checkSyntacticalCorrectness() {
+    if (content == null || content.length() == 0) {
+      throw buildSyntaxException("The " + requestOrResponse + " body can't be decoded");
+    }
+    try (JsonParser parser = factory.createParser(content.getBytes())) {
+      JsonToken token = parser.nextToken();
+      decodedValue = readValue(parser, token);
+      if (parser.nextToken() != null) {
+        throw buildSyntaxException("The " + requestOrResponse + " body can't be decoded, it contains trailing data");
+      }
+    } catch (IOException | IllegalStateException e) {
+      throw buildSyntaxException("The " + requestOrResponse + " body can't be decoded");
+    }
+  }
+
+  @Override
+  public Object transform() {
+    return decodedValue;
+  }
+
+  private static Object readValue(JsonParser parser, JsonToken token) throws IOException {
+    if (token == null) {
+      throw new IllegalStateException("Unexpected end of content");
+    }
+    switch (token) {
+      case START_OBJECT:
+        JsonObject object = new JsonObject();
+        for (token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+          String name = parser.currentName();
+          object.put(name, readValue(parser, parser.nextToken()));
+        }
+        if (token != JsonToken.END_OBJECT) {
+          throw new IllegalStateException("Unexpected token " + token);
+        }
+        return object;
+      case START_ARRAY:
+        JsonArray array = new JsonArray();
+        for (token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+          array.add(readValue(parser, token));
+        }
+        return array;
+      case VALUE_STRING:
+        return parser.getText();
+      case VALUE_NUMBER_INT:
+      case VALUE_NUMBER_FLOAT:
+        return parser.getNumberValue();
+      case VALUE_TRUE:
+        return Boolean.TRUE;
+      case VALUE_FALSE:
+        return Boolean.FALSE;
+      case VALUE_NULL:
+        return null;
+      case VALUE_EMBEDDED_OBJECT:
+        Object embedded = parser.getEmbeddedObject();
+        if (embedded instanceof byte[]) {
+          return Base64.getEncoder().encodeToString((byte[]) embedded);
+        }
+        throw new IllegalStateException("Unsupported embedded object");
+      default:
+        throw new IllegalStateException("Unexpected token " + token);
+    }
+  }
+
+  private static final class CborHolder {
+    private static final JsonFactory FACTORY = new CBORFactory();
+  }
+
+  private static final class SmileHolder {
+    private static final JsonFactory FACTORY = new SmileFactory();
+  }
+}
@@ -18,6 +18,8 @@ import io.vertx.openapi.mediatype.ContentAnalyserFactory;
 import io.vertx.openapi.mediatype.MediaTypeInfo;
 import io.vertx.openapi.mediatype.MediaTypePredicate;
 import io.vertx.openapi.mediatype.MediaTypeRegistration;
+import io.vertx.openapi.mediatype.SequenceContentAnalyser;
+import io.vertx.openapi.mediatype.StatelessContentAnalyser;
 import io.vertx.openapi.validation.ValidationContext;
 import java.util.List;
 
@@ -30,9 +32,15 @@ public class DefaultMediaTypeRegistration implements MediaTypeRegistration {
   public static final String TEXT_PLAIN = "text/plain";
   public static final String TEXT_PLAIN_UTF8 = TEXT_PLAIN + "; charset=utf-8";
   public static final String APPLICATION_X_WWW_FORM_URL_ENCODED = "application/x-www-form-urlencoded";
+  public static final String APPLICATION_X_NDJSON = "application/x-ndjson";
+  public static final String APPLICATION_JSONL = "application/jsonl";
+  public static final String APPLICATION_JSON_SEQ = "application/json-seq";
+  public static final String APPLICATION_CBOR = "application/cbor";
+  public static final String APPLICATION_X_JACKSON_SMILE = "application/x-jackson-smile";
 
   private final MediaTypePredicate canHandleMediaType;
   private final ContentAnalyserFactory contentAnalyserFactory;
+  private final StatelessContentAnalyser statelessContentAnalyser;
 
   /**
    * Creates a new registration from the provided predicate and ContentAnalyserFactory.
@@ -44,6 +52,9 @@ public class DefaultMediaTypeRegistration implements MediaTypeRegistration {
       ContentAnalyserFactory contentAnalyserFactory) {
     this.canHandleMediaType = canHandleMediaType;
     this.contentAnalyserFactory = contentAnalyserFactory;
+    this.statelessContentAnalyser = contentAnalyserFactory instanceof StatelessContentAnalyser
+        ? (StatelessContentAnalyser) contentAnalyserFactory
+        : null;
   }
 
   @Override
@@ -51,9 +62,33 @@ public class DefaultMediaTypeRegistration implements MediaTypeRegistration {
     return contentAnalyserFactory.create(contentType, content, context);
   }
 
+  @Override
+  public SequenceContentAnalyser createSequenceAnalyser(String contentType, Buffer content,
+      ValidationContext context) {
+    return contentAnalyserFactory.createSequenceAnalyser(contentType, content, context);
+  }
+
+  /**
+   * Returns the passed {@link ContentAnalyserFactory}, if it is also a {@link StatelessContentAnalyser}.
+   */
+  @Override
+  public StatelessContentAnalyser getStatelessContentAnalyser() {
+    return statelessContentAnalyser;
+  }
+
   @Override
   public boolean canHandle(String mediaType) {
-    return canHandleMediaType.test(MediaTypeInfo.of(mediaType));
+    return canHandle(MediaTypeInfo.of(mediaType));
+  }
+
+  /**
+   * Same as {@link #canHandle(String)}, but for an already parsed media type.
+   *
+   * @param mediaType The parsed media type to check
+   * @return true if the mediatype can be handled, false otherwise
+   */
+  public boolean canHandle(MediaTypeInfo mediaType) {
+    return canHandleMediaType.test(mediaType);
   }
 
   @Override
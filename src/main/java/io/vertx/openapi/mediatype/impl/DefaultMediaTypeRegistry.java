@@ -12,21 +12,40 @@
 
 package io.vertx.openapi.mediatype.impl;
 
+import io.vertx.openapi.mediatype.MediaTypeInfo;
 import io.vertx.openapi.mediatype.MediaTypeRegistration;
 import io.vertx.openapi.mediatype.MediaTypeRegistry;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
- * Default implementation for MediaTypeRegistry
+ * Default implementation for MediaTypeRegistry.
+ * <p></p>
+ * Resolved content types are cached, so that a known content type is resolved with a single hash lookup. The
+ * registrations are copied on write, therefore registering a new type is safe while other threads are resolving
+ * content types.
  */
 public class DefaultMediaTypeRegistry implements MediaTypeRegistry {
-  private final List<MediaTypeRegistration> registrations = new ArrayList<>();
+
+  // VisibleForTesting
+  public static final int MAX_CACHE_SIZE = 512;
+
+  private volatile List<MediaTypeRegistration> registrations = Collections.emptyList();
+  private final Map<String, Resolution> cache = new ConcurrentHashMap<>();
 
   @Override
   public DefaultMediaTypeRegistry register(MediaTypeRegistration registration) {
-    this.registrations.add(registration);
+    synchronized (this) {
+      List<MediaTypeRegistration> copy = new ArrayList<>(registrations);
+      copy.add(registration);
+      registrations = Collections.unmodifiableList(copy);
+      // a new registration could handle content types that were unknown before
+      cache.clear();
+    }
     return this;
   }
 
@@ -37,6 +56,65 @@ public class DefaultMediaTypeRegistry implements MediaTypeRegistry {
 
   @Override
   public MediaTypeRegistration get(String mediaType) {
-    return registrations.stream().filter(x -> x.canHandle(mediaType)).findFirst().orElse(null);
+    return mediaType == null ? null : resolve(mediaType).registration;
+  }
+
+  /**
+   * Returns the parsed representation of the passed media type. The returned instance is shared and its parameters
+   * can't be modified.
+   *
+   * @param mediaType The raw media type string.
+   * @return The parsed media type.
+   */
+  public MediaTypeInfo getMediaTypeInfo(String mediaType) {
+    return resolve(mediaType).info;
+  }
+
+  // VisibleForTesting
+  public int cacheSize() {
+    return cache.size();
+  }
+
+  private Resolution resolve(String mediaType) {
+    List<MediaTypeRegistration> current = registrations;
+    Resolution resolution = cache.get(mediaType);
+    // a resolution is only valid for the registrations it was resolved with, because a registration can be added
+    // between resolving and caching, after the cache was cleared
+    if (resolution == null || resolution.registrations != current) {
+      resolution = new Resolution(current, mediaType);
+      if (cache.size() >= MAX_CACHE_SIZE) {
+        // content types are provided by the client, e.g. multipart boundaries are random, so the cache must be bounded
+        cache.clear();
+      }
+      cache.put(mediaType, resolution);
+    }
+    return resolution;
+  }
+
+  private static final class Resolution {
+    private final List<MediaTypeRegistration> registrations;
+    private final MediaTypeInfo info;
+    private final MediaTypeRegistration registration;
+
+    private Resolution(List<MediaTypeRegistration> registrations, String mediaType) {
+      this.registrations = registrations;
+      MediaTypeInfo parsed = MediaTypeInfo.of(mediaType);
+      this.info = new MediaTypeInfo(parsed.type(), parsed.subtype(), parsed.suffix().orElse(null),
+          Collections.unmodifiableMap(parsed.parameters()));
+      this.registration = findRegistration(registrations, mediaType, info);
+    }
+
+    private static MediaTypeRegistration findRegistration(List<MediaTypeRegistration> registrations,
+        String mediaType, MediaTypeInfo info) {
+      for (MediaTypeRegistration registration : registrations) {
+        boolean canHandle = registration instanceof DefaultMediaTypeRegistration
+            ? ((DefaultMediaTypeRegistration) registration).canHandle(info)
+            : registration.canHandle(mediaType);
+        if (canHandle) {
+          return registration;
+        }
+      }
+      return null;
+    }
   }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.openapi.validation.JsonDecodingOptions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodes JSON directly from the {@link ByteBuf} of a {@link Buffer} into the Vert.x JSON model.
+ * <p></p>
+ * If the buffer is backed by a heap array, which is the case for bodies that were aggregated by Vert.x, Jackson parses
+ * the array in place. Otherwise, e.g. for direct or composite buffers, Jackson reads the components through an
+ * {@link java.io.InputStream}. In both cases no intermediate copy of the complete content is created.
+ * <p></p>
+ * The {@link JsonDecodingOptions} are enforced by the parser via {@link StreamReadConstraints}. A parser factory is
+ * created once for every distinct combination of limits.
+ */
+public final class JsonBufferDecoder {
+  private static final JsonFactory FACTORY = new JsonFactory();
+  private static final Map<List<Long>, JsonFactory> FACTORIES = new ConcurrentHashMap<>();
+
+  private JsonBufferDecoder() {
+  }
+
+  /**
+   * Decodes the passed content.
+   *
+   * @param content the JSON content.
+   * @return the decoded value, i.e. a JsonObject, JsonArray, String, Number, Boolean or null.
+   * @throws DecodeException if the content is not valid JSON.
+   */
+  public static Object decode(Buffer content) throws DecodeException {
+    return decode(content, null);
+  }
+
+  /**
+   * Decodes the passed content within the passed limits.
+   *
+   * @param content the JSON content.
+   * @param options the decoding limits, or null for the default limits.
+   * @return the decoded value, i.e. a JsonObject, JsonArray, String, Number, Boolean or null.
+   * @throws DecodeException if the content is not valid JSON or exceeds a limit, see
+   *                         {@link #isLimitExceeded(DecodeException)}.
+   */
+  public static Object decode(Buffer content, JsonDecodingOptions options) throws DecodeException {
+    if (!(content instanceof BufferInternal)) {
+      if (options == null) {
+        return Json.decodeValue(content);
+      }
+      content = Buffer.buffer(content.getBytes());
+    }
+    ByteBuf byteBuf = ((BufferInternal) content).getByteBuf();
+    // JacksonCodec.fromParser closes the parser and fails on trailing tokens
+    return JacksonCodec.fromParser(createParser(factory(options), byteBuf), Object.class);
+  }
+
+  /**
+   * Decodes the passed JSON text within the passed limits.
+   *
+   * @param content the JSON text.
+   * @param options the decoding limits, or null for the default limits.
+   * @return the decoded value, i.e. a JsonObject, JsonArray, String, Number, Boolean or null.
+   * @throws DecodeException if the content is not valid JSON or exceeds a limit.
+   */
+  public static Object decode(String content, JsonDecodingOptions options) throws DecodeException {
+    if (options == null) {
+      return Json.decodeValue(content);
+    }
+    try {
+      return JacksonCodec.fromParser(factory(options).createParser(content), Object.class);
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * @param e the exception of a decoding.
+   * @return true if the content was rejected, because it exceeds one of the decoding limits.
+   */
+  public static boolean isLimitExceeded(DecodeException e) {
+    return e.getCause() instanceof StreamConstraintsException;
+  }
+
+  private static JsonFactory factory(JsonDecodingOptions options) {
+    if (options == null) {
+      return FACTORY;
+    }
+    List<Long> key = List.of((long) options.getMaxNestingDepth(), (long) options.getMaxStringLength(),
+        (long) options.getMaxNumberLength(), options.getMaxTokenCount());
+    return FACTORIES.computeIfAbsent(key, k -> JsonFactory.builder()
+        .streamReadConstraints(StreamReadConstraints.builder()
+            .maxNestingDepth(options.getMaxNestingDepth())
+            .maxStringLength(options.getMaxStringLength())
+            .maxNumberLength(options.getMaxNumberLength())
+            .maxTokenCount(options.getMaxTokenCount())
+            .build())
+        .build());
+  }
+
+  private static JsonParser createParser(JsonFactory factory, ByteBuf byteBuf) {
+    try {
+      if (byteBuf.hasArray()) {
+        return factory.createParser(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(),
+            byteBuf.readableBytes());
+      }
+      return factory.createParser((InputStream) new ByteBufInputStream(byteBuf));
+    } catch (IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.openapi.mediatype.SequenceContentAnalyser;
+import io.vertx.openapi.validation.ValidationContext;
+import io.vertx.openapi.validation.ValidatorException;
+import java.util.function.BiConsumer;
+
+/**
+ * Analyses a sequence of JSON texts, e.g. <i>application/x-ndjson</i>, <i>application/jsonl</i> or
+ * <i>application/json-seq</i>. The records are separated by line feeds, or by record separators (0x1E) in case of
+ * JSON text sequences. Empty records are ignored.
+ * <p></p>
+ * Every record is decoded on its own, so that only a single record must be held in memory at a time. If a record
+ * handler is set, see {@link #setRecordHandler(BiConsumer)}, it is called with every decoded record and can validate
+ * it. In this case the body should not be transformed, because {@link #transform()} decodes all records into a single
+ * {@link JsonArray}.
+ * <p></p>
+ * A body that is not held in memory can be fed chunk by chunk, see {@link #feed(Buffer)} and {@link #end()}.
+ */
+public class JsonSequenceAnalyser extends AbstractContentAnalyser implements SequenceContentAnalyser {
+  private static final byte LINE_FEED = '\n';
+  private static final byte RECORD_SEPARATOR = 0x1E;
+
+  private BiConsumer<Long, Object> recordHandler;
+  private long recordCount;
+  // the beginning of a record, whose end is not yet fed
+  private Buffer pending = Buffer.buffer();
+
+  public JsonSequenceAnalyser(String contentType, Buffer content, ValidationContext context) {
+    super(contentType, content, context);
+  }
+
+  /**
+   * Sets a handler that is called with the index and the value of every record while the syntax is checked. The
+   * handler can throw a {@link ValidatorException} to reject a record.
+   *
+   * @param recordHandler the record handler.
+   */
+  @Override
+  public void setRecordHandler(BiConsumer<Long, Object> recordHandler) {
+    this.recordHandler = recordHandler;
+  }
+
+  /**
+   * @return the number of records, available after {@link #checkSyntacticalCorrectness()} or {@link #end()} was
+   * called.
+   */
+  @Override
+  public long getRecordCount() {
+    return recordCount;
+  }
+
+  @Override
+  public void checkSyntacticalCorrectness() {
+    recordCount = 0;
+    pending = Buffer.buffer();
+    if (content != null) {
+      feed(content);
+    }
+    end();
+  }
+
+  @Override
+  public Object transform() {
+    JsonArray records = new JsonArray();
+    BiConsumer<Long, Object> handler = recordHandler;
+    long count = recordCount;
+    recordHandler = (index, record) -> records.add(record);
+    try {
+      checkSyntacticalCorrectness();
+    } finally {
+      recordHandler = handler;
+      recordCount = count;
+    }
+    return records;
+  }
+
+  /**
+   * Feeds the next chunk of a body, which is read as a stream instead of being passed to the constructor. Every
+   * complete record is decoded and passed to the record handler immediately, only the beginning of an incomplete
+   * record is kept until its end is fed.
+   *
+   * @param chunk the next chunk of the body.
+   */
+  @Override
+  public void feed(Buffer chunk) {
+    int start = 0;
+    int length = chunk.length();
+    for (int i = 0; i < length; i++) {
+      byte b = chunk.getByte(i);
+      if (b == LINE_FEED || b == RECORD_SEPARATOR) {
+        if (pending.length() > 0) {
+          pending.appendBuffer(chunk, start, i - start);
+          handleRecord(pending);
+          pending = Buffer.buffer();
+        } else {
+          handleRecord(chunk.slice(start, i));
+        }
+        start = i + 1;
+      }
+    }
+    if (start < length) {
+      pending.appendBuffer(chunk, start, length - start);
+    }
+  }
+
+  /**
+   * Signals that the body was fed completely, the last record doesn't need to be terminated.
+   */
+  @Override
+  public void end() {
+    if (pending.length() > 0) {
+      Buffer last = pending;
+      pending = Buffer.buffer();
+      handleRecord(last);
+    }
+  }
+
+  private void handleRecord(Buffer record) {
+    int start = 0;
+    int end = record.length();
+    while (start < end && isWhitespace(record.getByte(start))) {
+      start++;
+    }
+    while (end > start && isWhitespace(record.getByte(end - 1))) {
+      end--;
+    }
+    if (end > start) {
+      Object value = decodeRecord(record.slice(start, end), recordCount);
+      if (recordHandler != null) {
+        recordHandler.accept(recordCount, value);
+      }
+      recordCount++;
+    }
+  }
+  private Object decodeRecord(Buffer record, long index) {
+    try {
+      return JsonBufferDecoder.decode(record, decodingOptions);
+    } catch (DecodeException e) {
+      if (JsonBufferDecoder.isLimitExceeded(e)) {
+        throw decodingFailed(e, requestOrResponse);
+      }
+      throw buildSyntaxException("The " + requestOrResponse + " body can't be decoded, record " + index
+          + " is not valid JSON");
+    }
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\r';
+  }
+}
@@ -18,7 +18,6 @@ import static io.vertx.openapi.validation.ValidatorErrorType.UNSUPPORTED_VALUE_F
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import io.vertx.openapi.validation.ValidationContext;
 import io.vertx.openapi.validation.ValidatorException;
@@ -40,6 +39,22 @@ public class MultipartFormAnalyser extends AbstractContentAnalyser {
     super(contentType, content, context);
   }
 
+  /**
+   * Creates a new content analyser for a multipart message, whose parts were already parsed while the message was
+   * read.
+   *
+   * @param contentType the content type.
+   * @param parts       the parsed parts.
+   * @param context     the context in which the content is used.
+   * @return the content analyser.
+   */
+  public static MultipartFormAnalyser fromParts(String contentType, List<MultipartPart> parts,
+      ValidationContext context) {
+    MultipartFormAnalyser analyser = new MultipartFormAnalyser(contentType, null, context);
+    analyser.parts = parts;
+    return analyser;
+  }
+
   // VisibleForTesting
   public static String extractBoundary(String contentType) {
     String[] parts = contentType.split(BOUNDARY, 2);
@@ -64,7 +79,9 @@ public class MultipartFormAnalyser extends AbstractContentAnalyser {
       throw new ValidatorException(msg, MISSING_REQUIRED_PARAMETER);
     }
 
-    parts = MultipartPart.fromMultipartBody(content.toString(), boundary);
+    if (parts == null) {
+      parts = MultipartPart.fromMultipartBody(content, boundary);
+    }
   }
 
   @Override
@@ -78,14 +95,17 @@ public class MultipartFormAnalyser extends AbstractContentAnalyser {
       // getContentType() can't be null
       if (part.getContentType().startsWith("text/plain")) {
         try {
-          formData.put(part.getName(), Json.decodeValue(part.getBody()));
+          formData.put(part.getName(), JsonBufferDecoder.decode(part.getBody(), decodingOptions));
         } catch (DecodeException de) {
+          if (JsonBufferDecoder.isLimitExceeded(de)) {
+            throw decodingFailed(de, requestOrResponse);
+          }
           // Value isn't a number, boolean, etc. -> therefore it is treated as a string.
           Buffer quotedBody = Buffer.buffer("\"").appendBuffer(part.getBody()).appendString("\"");
-          formData.put(part.getName(), decodeJsonContent(quotedBody, requestOrResponse));
+          formData.put(part.getName(), decodeJsonContent(quotedBody, requestOrResponse, decodingOptions));
         }
       } else if (part.getContentType().startsWith("application/json")) {
-        formData.put(part.getName(), decodeJsonContent(part.getBody(), requestOrResponse));
+        formData.put(part.getName(), decodeJsonContent(part.getBody(), requestOrResponse, decodingOptions));
       } else if (part.getContentType().startsWith("application/octet-stream")) {
         formData.put(part.getName(), part.getBody());
       } else {
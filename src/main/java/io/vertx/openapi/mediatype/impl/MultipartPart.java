@@ -13,75 +13,206 @@
 package io.vertx.openapi.mediatype.impl;
 
 import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.openapi.validation.ValidatorException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
+/**
+ * A part of a multipart message. The message is parsed directly on the bytes of the {@link Buffer}, so that binary
+ * parts are not corrupted, and the body of a part is a slice of the message and therefore not copied.
+ */
 public class MultipartPart {
-  private static final Pattern NAME_PATTERN = Pattern.compile("Content-Disposition: form-data; name=\"(.*?)\"",
-      CASE_INSENSITIVE);
-  private static final Pattern CONTENT_TYPE_PATTERN = Pattern.compile("Content-Type: (.*)", CASE_INSENSITIVE);
+  private static final byte CR = '\r';
+  private static final byte LF = '\n';
+  private static final byte DASH = '-';
+  private static final byte[] HEADER_SECTION_DELIMITER = { CR, LF, CR, LF };
+
+  private static final String HEADER_CONTENT_DISPOSITION = "Content-Disposition";
+  private static final String HEADER_CONTENT_TYPE = "Content-Type";
+  private static final String PARAM_NAME = "name";
 
   private final String name;
   private final String contentType;
   private final Buffer body;
 
   // Should only be called by MultipartPartFormTransformer
-  static List<MultipartPart> fromMultipartBody(String body, String boundary) {
-    return parseParts(body, boundary).stream().map(MultipartPart::parsePart).collect(Collectors.toList());
+  static List<MultipartPart> fromMultipartBody(Buffer body, String boundary) {
+    List<Buffer> rawParts = parseParts(body, boundary);
+    List<MultipartPart> parts = new ArrayList<>(rawParts.size());
+    for (Buffer rawPart : rawParts) {
+      parts.add(parsePart(rawPart));
+    }
+    return parts;
   }
 
+  /**
+   * Splits the multipart message into its parts. A part starts after the line of a delimiter and ends before the line
+   * break that precedes the next delimiter. Everything before the first delimiter (preamble) and after the closing
+   * delimiter (epilogue) is ignored.
+   *
+   * @param body     the multipart message.
+   * @param boundary the boundary of the multipart message.
+   * @return the raw parts as slices of the passed message.
+   */
   // VisibleForTesting
-  public static List<String> parseParts(String body, String boundary) {
-    String delimiter = "--" + boundary + "|\r\n--" + boundary;
-    String[] rawParts = body.split(delimiter);
-
-    if (rawParts.length < 3 || !"--".equals(rawParts[rawParts.length - 1].strip())) {
-      String msg = "The multipart message doesn't contain any parts, or has an invalid structure.";
-      throw new ValidatorException(msg, INVALID_VALUE);
+  public static List<Buffer> parseParts(Buffer body, String boundary) {
+    byte[] delimiter = ("\r\n--" + boundary).getBytes(UTF_8);
+    int length = body.length();
+
+    // The first delimiter has no preceding line break if there is no preamble
+    int delimiterEnd;
+    if (startsWith(body, 0, delimiter, 2)) {
+      delimiterEnd = delimiter.length - 2;
+    } else {
+      int idx = indexOf(body, delimiter, 0);
+      delimiterEnd = idx == -1 ? -1 : idx + delimiter.length;
     }
 
-    List<String> parts = new ArrayList<>(rawParts.length - 2);
-
-    // Omit first and last part, because first part is everything up to the first delimiter and the last part
-    // contains "--";
-    for (int i = 1; i < rawParts.length - 1; i++) {
-      parts.add(rawParts[i].strip());
+    List<Buffer> parts = new ArrayList<>();
+    boolean closed = false;
+    while (delimiterEnd != -1) {
+      if (delimiterEnd + 1 < length && body.getByte(delimiterEnd) == DASH && body.getByte(delimiterEnd + 1) == DASH) {
+        closed = true;
+        break;
+      }
+      int partStart = skipLineBreak(body, skipWhiteSpaces(body, delimiterEnd));
+      int partEnd = indexOf(body, delimiter, partStart);
+      if (partEnd == -1) {
+        break;
+      }
+      parts.add(body.slice(partStart, partEnd));
+      delimiterEnd = partEnd + delimiter.length;
     }
 
+    if (parts.isEmpty() || !closed) {
+      String msg = "The multipart message doesn't contain any parts, or has an invalid structure.";
+      throw new ValidatorException(msg, INVALID_VALUE);
+    }
     return parts;
   }
 
-  private static Optional<String> parsePattern(Pattern pattern, String rawPart) {
-    return pattern.matcher(rawPart).results().findFirst().map(m -> m.group(1));
-  }
-
+  /**
+   * Parses the headers of the passed part. The body of the returned part is a slice of the passed part, or null if
+   * the part has no or an empty body.
+   *
+   * @param rawPart the raw part including the headers.
+   * @return the parsed part.
+   */
   // VisibleForTesting
-  public static MultipartPart parsePart(String rawPart) {
-    String sectionDelimiterPattern = "\r\n\r\n";
-    int sectionDelimiter = rawPart.indexOf(sectionDelimiterPattern);
+  public static MultipartPart parsePart(Buffer rawPart) {
+    int sectionDelimiter = indexOf(rawPart, HEADER_SECTION_DELIMITER, 0);
 
     // if no empty line exists, there are only headers
-    String headerSection = sectionDelimiter == -1 ? rawPart : rawPart.substring(0, sectionDelimiter);
-    String body =
-        sectionDelimiter == -1 ? null : rawPart.substring(sectionDelimiter + sectionDelimiterPattern.length());
+    int headerEnd = sectionDelimiter == -1 ? rawPart.length() : sectionDelimiter;
+    int bodyStart = sectionDelimiter == -1 ? -1 : sectionDelimiter + HEADER_SECTION_DELIMITER.length;
+    Buffer body = bodyStart == -1 || bodyStart == rawPart.length() ? null : rawPart.slice(bodyStart, rawPart.length());
 
-    String name = parsePattern(NAME_PATTERN, headerSection).orElseThrow(() -> {
+    String headerSection = rawPart.getString(0, headerEnd, UTF_8.name());
+    return fromHeaderSection(headerSection, body);
+  }
+
+  /**
+   * Creates a part from the passed header section, which are the lines of headers without the empty line.
+   *
+   * @param headerSection the header section.
+   * @param body          the body of the part, or null.
+   * @return the part.
+   */
+  static MultipartPart fromHeaderSection(String headerSection, Buffer body) {
+    String name = null;
+    String contentType = null;
+    for (int lineStart = 0; lineStart < headerSection.length();) {
+      int lineEnd = headerSection.indexOf("\r\n", lineStart);
+      if (lineEnd == -1) {
+        lineEnd = headerSection.length();
+      }
+      String header = headerSection.substring(lineStart, lineEnd);
+      lineStart = lineEnd + 2;
+
+      int colon = header.indexOf(':');
+      if (colon == -1) {
+        continue;
+      }
+      String headerName = header.substring(0, colon).trim();
+      if (HEADER_CONTENT_DISPOSITION.equalsIgnoreCase(headerName)) {
+        name = parseDispositionParameter(header.substring(colon + 1), PARAM_NAME);
+      } else if (HEADER_CONTENT_TYPE.equalsIgnoreCase(headerName)) {
+        contentType = header.substring(colon + 1).trim();
+      }
+    }
+
+    if (name == null) {
       String msg = "A part of the multipart message doesn't contain a name.";
-      return new ValidatorException(msg, INVALID_VALUE);
-    });
+      throw new ValidatorException(msg, INVALID_VALUE);
+    }
 
     // If no header is set, content type defaults to text/plain
-    String contentType = parsePattern(CONTENT_TYPE_PATTERN, headerSection).orElse("text/plain");
+    boolean noContentType = contentType == null || contentType.isEmpty();
+    return new MultipartPart(name, noContentType ? "text/plain" : contentType, body);
+  }
+
+  /**
+   * @return the value of the passed parameter of a <i>form-data</i> disposition, or null.
+   */
+  static String parseDispositionParameter(String disposition, String parameter) {
+    String[] segments = disposition.split(";");
+    if (!"form-data".equalsIgnoreCase(segments[0].trim())) {
+      return null;
+    }
+    for (int i = 1; i < segments.length; i++) {
+      String segment = segments[i];
+      int eq = segment.indexOf('=');
+      if (eq != -1 && parameter.equalsIgnoreCase(segment.substring(0, eq).trim())) {
+        String value = segment.substring(eq + 1).trim();
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+          value = value.substring(1, value.length() - 1);
+        }
+        return value;
+      }
+    }
+    return null;
+  }
+
+  private static int skipWhiteSpaces(Buffer buffer, int from) {
+    int i = from;
+    while (i < buffer.length() && (buffer.getByte(i) == ' ' || buffer.getByte(i) == '\t')) {
+      i++;
+    }
+    return i;
+  }
 
-    return new MultipartPart(name, contentType, body == null ? null : Buffer.buffer(body));
+  private static int skipLineBreak(Buffer buffer, int from) {
+    if (from + 1 < buffer.length() && buffer.getByte(from) == CR && buffer.getByte(from + 1) == LF) {
+      return from + 2;
+    }
+    return from;
+  }
+
+  private static boolean startsWith(Buffer buffer, int from, byte[] needle, int needleOffset) {
+    if (from + needle.length - needleOffset > buffer.length()) {
+      return false;
+    }
+    for (int i = needleOffset; i < needle.length; i++) {
+      if (buffer.getByte(from + i - needleOffset) != needle[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static int indexOf(Buffer buffer, byte[] needle, int from) {
+    byte first = needle[0];
+    int last = buffer.length() - needle.length;
+    for (int i = from; i <= last; i++) {
+      if (buffer.getByte(i) == first && startsWith(buffer, i, needle, 0)) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   public MultipartPart(String name, String contentType, Buffer body) {
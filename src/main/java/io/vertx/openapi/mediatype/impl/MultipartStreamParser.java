@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype.impl;
+
+import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.openapi.validation.ValidatorException;
+
+/**
+ * An incremental parser for multipart/form-data messages, which is fed with the chunks of a message as they arrive.
+ * Only the bytes that could belong to a delimiter, or to the headers of a part, are retained between two chunks. The
+ * body of a part is passed to the {@link PartHandler} in slices of the received chunks.
+ */
+public class MultipartStreamParser {
+
+  /**
+   * Receives the parts of a multipart message.
+   */
+  public interface PartHandler {
+
+    /**
+     * Called when the headers of a part were parsed.
+     *
+     * @param part     the part without body.
+     * @param fileName the file name of the disposition, or null.
+     */
+    void start(MultipartPart part, String fileName);
+
+    /**
+     * Called for every slice of the body of the current part.
+     *
+     * @param data a slice of the body.
+     */
+    void data(Buffer data);
+
+    /**
+     * Called when the body of the current part is complete.
+     */
+    void end();
+  }
+
+  // VisibleForTesting
+  public static final int MAX_HEADER_SECTION_SIZE = 16 * 1024;
+
+  private static final byte[] CRLF = { '\r', '\n' };
+  private static final byte[] HEADER_SECTION_DELIMITER = { '\r', '\n', '\r', '\n' };
+
+  private enum State {
+    PREAMBLE, DELIMITER, HEADERS, BODY, EPILOGUE
+  }
+
+  private final byte[] delimiter;
+  private final PartHandler handler;
+
+  // starts with a line break, so that the first delimiter doesn't need special treatment
+  private Buffer pending = Buffer.buffer(CRLF);
+  private State state = State.PREAMBLE;
+  private int parts;
+
+  public MultipartStreamParser(String boundary, PartHandler handler) {
+    this.delimiter = ("\r\n--" + boundary).getBytes(UTF_8);
+    this.handler = handler;
+  }
+
+  /**
+   * Parses the next chunk of the message.
+   *
+   * @param chunk the next chunk.
+   * @throws ValidatorException if the message has an invalid structure.
+   */
+  public void handle(Buffer chunk) {
+    if (state == State.EPILOGUE) {
+      return;
+    }
+    pending.appendBuffer(chunk);
+
+    int pos = 0;
+    boolean progress = true;
+    while (progress) {
+      switch (state) {
+        case PREAMBLE: {
+          int idx = MultipartPart.indexOf(pending, delimiter, pos);
+          if (idx == -1) {
+            pos = Math.max(pos, pending.length() - delimiter.length + 1);
+            progress = false;
+          } else {
+            pos = idx + delimiter.length;
+            state = State.DELIMITER;
+          }
+          break;
+        }
+        case DELIMITER: {
+          // a delimiter is followed by "--" for the last part, otherwise by optional white spaces and a line break
+          if (pending.length() - pos >= 2 && pending.getByte(pos) == '-' && pending.getByte(pos + 1) == '-') {
+            if (parts == 0) {
+              throw invalidStructure();
+            }
+            state = State.EPILOGUE;
+            pos = pending.length();
+            progress = false;
+            break;
+          }
+          int lineEnd = MultipartPart.indexOf(pending, CRLF, pos);
+          if (lineEnd == -1) {
+            checkSize(pending.length() - pos);
+            progress = false;
+          } else {
+            pos = lineEnd + CRLF.length;
+            state = State.HEADERS;
+          }
+          break;
+        }
+        case HEADERS: {
+          if (pending.length() - pos < CRLF.length) {
+            progress = false;
+            break;
+          }
+          String headerSection;
+          if (pending.getByte(pos) == '\r' && pending.getByte(pos + 1) == '\n') {
+            headerSection = "";
+            pos += CRLF.length;
+          } else {
+            int idx = MultipartPart.indexOf(pending, HEADER_SECTION_DELIMITER, pos);
+            if (idx == -1) {
+              checkSize(pending.length() - pos);
+              progress = false;
+              break;
+            }
+            headerSection = pending.getString(pos, idx, UTF_8.name());
+            pos = idx + HEADER_SECTION_DELIMITER.length;
+          }
+          String fileName = parseFileName(headerSection);
+          handler.start(MultipartPart.fromHeaderSection(headerSection, null), fileName);
+          parts++;
+          state = State.BODY;
+          break;
+        }
+        case BODY: {
+          int idx = MultipartPart.indexOf(pending, delimiter, pos);
+          if (idx == -1) {
+            // the end of the pending bytes could be the beginning of a delimiter
+            int safeEnd = pending.length() - delimiter.length + 1;
+            if (safeEnd > pos) {
+              handler.data(pending.slice(pos, safeEnd));
+              pos = safeEnd;
+            }
+            progress = false;
+          } else {
+            if (idx > pos) {
+              handler.data(pending.slice(pos, idx));
+            }
+            handler.end();
+            pos = idx + delimiter.length;
+            state = State.DELIMITER;
+          }
+          break;
+        }
+        default:
+          progress = false;
+      }
+    }
+
+    if (pos > 0) {
+      // copy the remaining bytes, because the handler may still reference slices of the pending bytes
+      pending = pending.getBuffer(pos, pending.length());
+    }
+  }
+
+  /**
+   * Must be called after the last chunk was passed.
+   *
+   * @throws ValidatorException if the message is incomplete or has an invalid structure.
+   */
+  public void end() {
+    if (state != State.EPILOGUE) {
+      throw invalidStructure();
+    }
+  }
+
+  private static String parseFileName(String headerSection) {
+    for (int lineStart = 0; lineStart < headerSection.length();) {
+      int lineEnd = headerSection.indexOf("\r\n", lineStart);
+      if (lineEnd == -1) {
+        lineEnd = headerSection.length();
+      }
+      String header = headerSection.substring(lineStart, lineEnd);
+      lineStart = lineEnd + 2;
+
+      int colon = header.indexOf(':');
+      if (colon != -1 && "Content-Disposition".equalsIgnoreCase(header.substring(0, colon).trim())) {
+        return MultipartPart.parseDispositionParameter(header.substring(colon + 1), "filename");
+      }
+    }
+    return null;
+  }
+
+  private static void checkSize(int headerSectionSize) {
+    if (headerSectionSize > MAX_HEADER_SECTION_SIZE) {
+      String msg = "The headers of a part of the multipart message exceed " + MAX_HEADER_SECTION_SIZE + " bytes.";
+      throw new ValidatorException(msg, INVALID_VALUE);
+    }
+  }
+
+  private static ValidatorException invalidStructure() {
+    String msg = "The multipart message doesn't contain any parts, or has an invalid structure.";
+    return new ValidatorException(msg, INVALID_VALUE);
+  }
+}
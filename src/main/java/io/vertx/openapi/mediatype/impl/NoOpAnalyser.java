@@ -13,9 +13,15 @@
 package io.vertx.openapi.mediatype.impl;
 
 import io.vertx.core.buffer.Buffer;
+import io.vertx.openapi.mediatype.StatelessContentAnalyser;
 import io.vertx.openapi.validation.ValidationContext;
 
 public class NoOpAnalyser extends AbstractContentAnalyser {
+  /**
+   * The stateless variant of this analyser, which can be shared by all validations.
+   */
+  public static final StatelessContentAnalyser STATELESS = (contentType, content, schema, context) -> content;
+
   public NoOpAnalyser(String contentType, Buffer content, ValidationContext context) {
     super(contentType, content, context);
   }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.mediatype.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.openapi.mediatype.ContentAnalyser;
+import io.vertx.openapi.mediatype.ContentAnalyserFactory;
+import io.vertx.openapi.mediatype.StatelessContentAnalyser;
+import io.vertx.openapi.validation.JsonDecodingOptions;
+import io.vertx.openapi.validation.ValidationContext;
+
+/**
+ * A {@link ContentAnalyserFactory} that also offers a {@link StatelessContentAnalyser} for the same format. The
+ * factory is still needed for callers of {@link io.vertx.openapi.mediatype.MediaTypeRegistration#createContentAnalyser},
+ * while the validators use the shared stateless analyser.
+ */
+public class StatelessContentAnalyserFactory implements ContentAnalyserFactory, StatelessContentAnalyser {
+  private final ContentAnalyserFactory factory;
+  private final StatelessContentAnalyser analyser;
+
+  public StatelessContentAnalyserFactory(ContentAnalyserFactory factory, StatelessContentAnalyser analyser) {
+    this.factory = factory;
+    this.analyser = analyser;
+  }
+
+  @Override
+  public ContentAnalyser create(String contentType, Buffer content, ValidationContext context) {
+    return factory.create(contentType, content, context);
+  }
+
+  @Override
+  public Object analyse(String contentType, Buffer content, JsonSchema schema, ValidationContext context) {
+    return analyser.analyse(contentType, content, schema, context);
+  }
+
+  @Override
+  public Object analyse(String contentType, Buffer content, JsonSchema schema, ValidationContext context,
+      JsonDecodingOptions decodingOptions) {
+    return analyser.analyse(contentType, content, schema, context, decodingOptions);
+  }
+}
@@ -17,20 +17,52 @@ import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PA
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
 import io.vertx.openapi.mediatype.MediaTypeInfo;
+import io.vertx.openapi.mediatype.StatelessContentAnalyser;
+import io.vertx.openapi.validation.JsonDecodingOptions;
 import io.vertx.openapi.validation.ValidationContext;
 import io.vertx.openapi.validation.ValidatorException;
-import java.net.URLDecoder;
+import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 
+/**
+ * Parses an <i>application/x-www-form-urlencoded</i> body in a single pass over its bytes.
+ * <p></p>
+ * If the schema of the body is known, see {@link #setSchema(JsonSchema)}, the values are coerced to the type of the
+ * related property, e.g. <i>age=42</i> results in a number if the property <i>age</i> is of type <i>integer</i>.
+ * Values of properties of type <i>array</i> are always collected in an array. Without schema, or for properties
+ * without type, values that look like JSON are decoded as JSON and all other values are treated as strings.
+ */
 public class XWwwFormUrlencodedAnalyser extends AbstractContentAnalyser {
+  private static final String KEY_PROPERTIES = "properties";
+  private static final String KEY_TYPE = "type";
+  private static final String KEY_ITEMS = "items";
+
+  /**
+   * The stateless variant of this analyser, which can be shared by all validations. The values are coerced based on
+   * the passed schema.
+   */
+  public static final StatelessContentAnalyser STATELESS =
+      new StatelessContentAnalyser() {
+        @Override
+        public Object analyse(String contentType, Buffer content, JsonSchema schema, ValidationContext context) {
+          return parse(contentType, content, propertiesOf(schema), context, null);
+        }
+
+        @Override
+        public Object analyse(String contentType, Buffer content, JsonSchema schema, ValidationContext context,
+            JsonDecodingOptions decodingOptions) {
+          return parse(contentType, content, propertiesOf(schema), context, decodingOptions);
+        }
+      };
 
+  private JsonObject properties;
   private JsonObject parsedForm;
 
   /**
@@ -44,18 +76,19 @@ public class XWwwFormUrlencodedAnalyser extends AbstractContentAnalyser {
     super(contentType, content, context);
   }
 
+  /**
+   * Sets the schema of the body, which is used to coerce the values to the types of the related properties.
+   *
+   * @param schema the schema of the body, can be null.
+   */
   @Override
-  public void checkSyntacticalCorrectness() {
-    if (contentType == null || contentType.isEmpty()
-        || !contentType.startsWith(APPLICATION_X_WWW_FORM_URL_ENCODED)) {
-      String msg = "The expected application/x-www-form-urlencoded " + requestOrResponse
-          + " doesn't contain the required content-type header.";
-      throw new ValidatorException(msg, MISSING_REQUIRED_PARAMETER);
-    }
+  public void setSchema(JsonSchema schema) {
+    this.properties = propertiesOf(schema);
+  }
 
-    Charset charset = resolveCharset(contentType);
-    String body = content == null ? "" : content.toString(charset);
-    parsedForm = parseFormData(body, charset);
+  @Override
+  public void checkSyntacticalCorrectness() {
+    parsedForm = parse(contentType, content, properties, requestOrResponse, decodingOptions);
   }
 
   @Override
@@ -77,52 +110,272 @@ public class XWwwFormUrlencodedAnalyser extends AbstractContentAnalyser {
     return StandardCharsets.UTF_8;
   }
 
-  private JsonObject parseFormData(String body, Charset charset) {
+  private static JsonObject propertiesOf(JsonSchema schema) {
+    Object props = schema == null ? null : schema.get(KEY_PROPERTIES);
+    return props instanceof JsonObject ? (JsonObject) props : null;
+  }
+
+  private static JsonObject parse(String contentType, Buffer content, JsonObject properties,
+      ValidationContext requestOrResponse, JsonDecodingOptions decodingOptions) {
+    if (contentType == null || contentType.isEmpty()
+        || !contentType.startsWith(APPLICATION_X_WWW_FORM_URL_ENCODED)) {
+      String msg = "The expected application/x-www-form-urlencoded " + requestOrResponse
+          + " doesn't contain the required content-type header.";
+      throw new ValidatorException(msg, MISSING_REQUIRED_PARAMETER);
+    }
+    return parseFormData(content, resolveCharset(contentType), properties, requestOrResponse, decodingOptions);
+  }
+
+  private static JsonObject parseFormData(Buffer body, Charset charset, JsonObject properties,
+      ValidationContext requestOrResponse, JsonDecodingOptions decodingOptions) {
     JsonObject result = new JsonObject();
-    if (body.isEmpty()) {
+    if (body == null || body.length() == 0) {
       return result;
     }
 
-    for (String pair : body.split("&")) {
-      if (pair.isEmpty()) {
-        continue;
+    // a decoded value is never longer than its encoded representation
+    byte[] decoded = new byte[body.length()];
+    int pairStart = 0;
+    while (pairStart <= body.length()) {
+      int pairEnd = indexOf(body, '&', pairStart, body.length());
+      if (pairEnd > pairStart) {
+        int eq = indexOf(body, '=', pairStart, pairEnd);
+        String key = decode(body, pairStart, eq, charset, decoded, requestOrResponse);
+        String rawValue = eq < pairEnd ? decode(body, eq + 1, pairEnd, charset, decoded, requestOrResponse) : "";
+        addValue(result, key, rawValue, properties, new Coercion(requestOrResponse, decodingOptions));
       }
-      int idx = pair.indexOf('=');
-      String rawKey = idx >= 0 ? pair.substring(0, idx) : pair;
-      String rawValue = idx >= 0 ? pair.substring(idx + 1) : "";
-
-      String key = URLDecoder.decode(rawKey, charset);
-      String decodedValue = URLDecoder.decode(rawValue, charset);
-      Object value = coerceValue(decodedValue);
-      // Handle array notation: key[]=value1&key[]=value2
-      if (key.endsWith("[]")) {
-        String arrayKey = key.substring(0, key.length() - 2);
-        if (!result.containsKey(arrayKey)) {
-          result.put(arrayKey, new JsonArray());
+      pairStart = pairEnd + 1;
+    }
+    return result;
+  }
+
+  private static void addValue(JsonObject result, String key, String rawValue, JsonObject properties,
+      Coercion coercion) {
+    // Handle array notation: key[]=value1&key[]=value2
+    boolean arrayNotation = key.endsWith("[]");
+    String name = arrayNotation ? key.substring(0, key.length() - 2) : key;
+    Object propertySchema = properties == null ? null : properties.getValue(name);
+    Object type = typeOf(propertySchema);
+
+    if ("array".equals(type)) {
+      Object itemsSchema = ((JsonObject) propertySchema).getValue(KEY_ITEMS);
+      Object existing = result.getValue(name);
+      JsonArray values = existing instanceof JsonArray ? (JsonArray) existing : new JsonArray();
+      if (existing == null && !rawValue.isEmpty() && rawValue.charAt(0) == '[') {
+        Object array = decodeJsonOrString(rawValue, coercion);
+        if (array instanceof JsonArray) {
+          result.put(name, array);
+          return;
         }
-        result.getJsonArray(arrayKey).add(value);
+      }
+      values.add(coerceValue(rawValue, typeOf(itemsSchema), coercion));
+      result.put(name, values);
+      return;
+    }
+
+    Object value = coerceValue(rawValue, type, coercion);
+    if (arrayNotation) {
+      if (!result.containsKey(name)) {
+        result.put(name, new JsonArray());
+      }
+      result.getJsonArray(name).add(value);
+    } else if (result.containsKey(name)) {
+      // Handle duplicate keys: if key already exists, convert to array
+      Object existing = result.getValue(name);
+      if (existing instanceof JsonArray) {
+        ((JsonArray) existing).add(value);
       } else {
-        // Handle duplicate keys: if key already exists, convert to array
-        if (result.containsKey(key)) {
-          Object existing = result.getValue(key);
-          if (existing instanceof JsonArray) {
-            ((JsonArray) existing).add(value);
-          } else {
-            result.put(key, new JsonArray().add(existing).add(value));
-          }
-        } else {
-          result.put(key, value);
+        result.put(name, new JsonArray().add(existing).add(value));
+      }
+    } else {
+      result.put(name, value);
+    }
+  }
+
+  private static String decode(Buffer body, int start, int end, Charset charset, byte[] decoded,
+      ValidationContext requestOrResponse) {
+    int length = 0;
+    for (int i = start; i < end; i++) {
+      byte b = body.getByte(i);
+      if (b == '+') {
+        decoded[length++] = ' ';
+      } else if (b == '%') {
+        int high = i + 2 < end ? Character.digit(body.getByte(i + 1), 16) : -1;
+        int low = i + 2 < end ? Character.digit(body.getByte(i + 2), 16) : -1;
+        if (high == -1 || low == -1) {
+          throw buildSyntaxException("The " + requestOrResponse + " body contains an invalid escape sequence");
         }
+        decoded[length++] = (byte) ((high << 4) + low);
+        i += 2;
+      } else {
+        decoded[length++] = b;
       }
     }
-    return result;
+    return new String(decoded, 0, length, charset);
+  }
+
+  private static int indexOf(Buffer body, char c, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (body.getByte(i) == c) {
+        return i;
+      }
+    }
+    return end;
   }
 
+  private static Object typeOf(Object schema) {
+    return schema instanceof JsonObject ? ((JsonObject) schema).getValue(KEY_TYPE) : null;
+  }
+
+  /**
+   * Coerces the passed value to the passed schema type. If the value doesn't match the type, it is returned as string
+   * and the schema validation reports the mismatch.
+   *
+   * @param value    the decoded value.
+   * @param type     the type of the schema of the related property, or null if unknown.
+   * @param coercion the limits for decoding JSON values.
+   * @return the coerced value.
+   */
+  static Object coerceValue(String value, Object type, Coercion coercion) {
+    if ("string".equals(type)) {
+      return value;
+    } else if ("integer".equals(type) || "number".equals(type)) {
+      Number number = parseNumber(value);
+      return number == null ? value : number;
+    } else if ("boolean".equals(type)) {
+      if ("true".equals(value)) {
+        return true;
+      }
+      return "false".equals(value) ? false : value;
+    } else if ("object".equals(type)) {
+      return !value.isEmpty() && value.charAt(0) == '{' ? decodeJsonOrString(value, coercion) : value;
+    }
+    return coerceValue(value, coercion);
+  }
+
+  /**
+   * Coerces the passed value without knowing its type. Values that look like a JSON number, boolean, null, string,
+   * object or array are decoded as JSON, all other values are returned as they are.
+   *
+   * @param value the decoded value.
+   * @return the coerced value.
+   */
   public static Object coerceValue(String value) {
+    return coerceValue(value, Coercion.DEFAULT);
+  }
+
+  private static Object coerceValue(String value, Coercion coercion) {
+    if (value.isEmpty()) {
+      return value;
+    }
+    switch (value.charAt(0)) {
+      case '{':
+      case '[':
+      case '"':
+        return decodeJsonOrString(value, coercion);
+      case 't':
+        return "true".equals(value) ? Boolean.TRUE : value;
+      case 'f':
+        return "false".equals(value) ? Boolean.FALSE : value;
+      case 'n':
+        return "null".equals(value) ? null : value;
+      default:
+        Number number = parseNumber(value);
+        return number == null ? value : number;
+    }
+  }
+
+  private static Object decodeJsonOrString(String value, Coercion coercion) {
     try {
-      return Json.decodeValue(value);
+      return JsonBufferDecoder.decode(value, coercion.decodingOptions);
     } catch (DecodeException e) {
+      if (JsonBufferDecoder.isLimitExceeded(e)) {
+        // a value that exceeds a limit must not be accepted as string instead
+        throw decodingFailed(e, coercion.requestOrResponse);
+      }
       return value;
     }
   }
+
+  /**
+   * The context that is required to decode JSON values while the values of a form are coerced.
+   */
+  static final class Coercion {
+    static final Coercion DEFAULT = new Coercion(null, null);
+
+    final ValidationContext requestOrResponse;
+    final JsonDecodingOptions decodingOptions;
+
+    Coercion(ValidationContext requestOrResponse, JsonDecodingOptions decodingOptions) {
+      this.requestOrResponse = requestOrResponse;
+      this.decodingOptions = decodingOptions;
+    }
+  }
+
+  /**
+   * Parses a number in JSON notation. Like the JSON decoder, integers are returned as Integer, Long or BigInteger
+   * depending on their size and all other numbers as Double.
+   *
+   * @return the number, or null if the value isn't a number in JSON notation.
+   */
+  private static Number parseNumber(String value) {
+    int i = 0;
+    int length = value.length();
+    if (i < length && value.charAt(i) == '-') {
+      i++;
+    }
+    int digitsStart = i;
+    while (i < length && isDigit(value.charAt(i))) {
+      i++;
+    }
+    int integerDigits = i - digitsStart;
+    if (integerDigits == 0 || (integerDigits > 1 && value.charAt(digitsStart) == '0')) {
+      return null;
+    }
+    boolean integer = true;
+    if (i < length && value.charAt(i) == '.') {
+      integer = false;
+      int fractionStart = ++i;
+      while (i < length && isDigit(value.charAt(i))) {
+        i++;
+      }
+      if (i == fractionStart) {
+        return null;
+      }
+    }
+    if (i < length && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+      integer = false;
+      i++;
+      if (i < length && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+        i++;
+      }
+      int exponentStart = i;
+      while (i < length && isDigit(value.charAt(i))) {
+        i++;
+      }
+      if (i == exponentStart) {
+        return null;
+      }
+    }
+    if (i != length) {
+      return null;
+    }
+
+    if (!integer) {
+      return Double.parseDouble(value);
+    }
+    if (integerDigits < 10) {
+      return Integer.parseInt(value);
+    }
+    if (integerDigits < 19) {
+      long l = Long.parseLong(value);
+      return l == (int) l ? (Number) (int) l : (Number) l;
+    }
+    BigInteger big = new BigInteger(value);
+    return big.bitLength() < 64 ? (Number) big.longValue() : big;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+/**
+ * Options for decoding a request body with a <i>Content-Encoding</i> like <i>gzip</i> or <i>deflate</i>, see
+ * {@link RequestUtils#extract(io.vertx.core.http.HttpServerRequest, io.vertx.openapi.contract.Operation,
+ * ContentDecodingOptions)}.
+ * <p></p>
+ * The limits protect against decompression bombs: the body is inflated incrementally and rejected as soon as one of
+ * the limits is exceeded.
+ */
+public class ContentDecodingOptions {
+
+  /**
+   * Default maximum size in bytes of a decoded request body = 10 MiB
+   */
+  public static final long DEFAULT_MAX_DECODED_SIZE = 10 * 1024 * 1024;
+
+  /**
+   * Default maximum ratio between the decoded and the encoded size of a request body = 100
+   */
+  public static final int DEFAULT_MAX_RATIO = 100;
+
+  private long maxDecodedSize = DEFAULT_MAX_DECODED_SIZE;
+  private int maxRatio = DEFAULT_MAX_RATIO;
+
+  /**
+   * @return the maximum size in bytes of a decoded request body.
+   */
+  public long getMaxDecodedSize() {
+    return maxDecodedSize;
+  }
+
+  /**
+   * Sets the maximum size in bytes of a decoded request body.
+   *
+   * @param maxDecodedSize the maximum size in bytes.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public ContentDecodingOptions setMaxDecodedSize(long maxDecodedSize) {
+    if (maxDecodedSize <= 0) {
+      throw new IllegalArgumentException("maxDecodedSize must be > 0");
+    }
+    this.maxDecodedSize = maxDecodedSize;
+    return this;
+  }
+
+  /**
+   * @return the maximum ratio between the decoded and the encoded size of a request body.
+   */
+  public int getMaxRatio() {
+    return maxRatio;
+  }
+
+  /**
+   * Sets the maximum ratio between the decoded and the encoded size of a request body. The ratio is only checked for
+   * bodies larger than 64 KiB, because small bodies with a high ratio, e.g. a few repeated characters, are harmless.
+   *
+   * @param maxRatio the maximum ratio.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public ContentDecodingOptions setMaxRatio(int maxRatio) {
+    if (maxRatio <= 0) {
+      throw new IllegalArgumentException("maxRatio must be > 0");
+    }
+    this.maxRatio = maxRatio;
+    return this;
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Limits for decoding JSON content, i.e. JSON bodies and the JSON values in multipart/form-data and
+ * application/x-www-form-urlencoded bodies, see {@link RequestValidator#create(io.vertx.core.Vertx,
+ * io.vertx.openapi.contract.OpenAPIContract, JsonDecodingOptions)}.
+ * <p></p>
+ * The limits are enforced by the JSON parser itself, so that abusive content is rejected while it is parsed, before
+ * the whole content is decoded and validated against the schema. The limits of an operation can be overridden with the
+ * extension {@link io.vertx.openapi.contract.Operation#EXTENSION_JSON_DECODING_LIMITS}.
+ */
+public class JsonDecodingOptions {
+
+  /**
+   * Default maximum nesting depth of arrays and objects = 1000
+   */
+  public static final int DEFAULT_MAX_NESTING_DEPTH = 1000;
+
+  /**
+   * Default maximum length of a string, in characters = 20 000 000
+   */
+  public static final int DEFAULT_MAX_STRING_LENGTH = 20_000_000;
+
+  /**
+   * Default maximum length of a number, in characters = 1000
+   */
+  public static final int DEFAULT_MAX_NUMBER_LENGTH = 1000;
+
+  /**
+   * Default maximum number of tokens of a document = unlimited
+   */
+  public static final long DEFAULT_MAX_TOKEN_COUNT = -1;
+
+  private static final String KEY_MAX_NESTING_DEPTH = "maxNestingDepth";
+  private static final String KEY_MAX_STRING_LENGTH = "maxStringLength";
+  private static final String KEY_MAX_NUMBER_LENGTH = "maxNumberLength";
+  private static final String KEY_MAX_TOKEN_COUNT = "maxTokenCount";
+
+  private int maxNestingDepth = DEFAULT_MAX_NESTING_DEPTH;
+  private int maxStringLength = DEFAULT_MAX_STRING_LENGTH;
+  private int maxNumberLength = DEFAULT_MAX_NUMBER_LENGTH;
+  private long maxTokenCount = DEFAULT_MAX_TOKEN_COUNT;
+
+  public JsonDecodingOptions() {
+  }
+
+  /**
+   * Copy constructor.
+   *
+   * @param other the options to copy.
+   */
+  public JsonDecodingOptions(JsonDecodingOptions other) {
+    this.maxNestingDepth = other.maxNestingDepth;
+    this.maxStringLength = other.maxStringLength;
+    this.maxNumberLength = other.maxNumberLength;
+    this.maxTokenCount = other.maxTokenCount;
+  }
+
+  /**
+   * Creates a copy of these options, in which the limits that are defined in the passed JSON are overridden. This is
+   * used for the limits of an operation.
+   *
+   * @param limits the limits to override, e.g. <i>{ "maxNestingDepth": 16 }</i>.
+   * @return the new options.
+   */
+  public JsonDecodingOptions merge(JsonObject limits) {
+    JsonDecodingOptions merged = new JsonDecodingOptions(this);
+    if (limits.containsKey(KEY_MAX_NESTING_DEPTH)) {
+      merged.setMaxNestingDepth(limits.getInteger(KEY_MAX_NESTING_DEPTH));
+    }
+    if (limits.containsKey(KEY_MAX_STRING_LENGTH)) {
+      merged.setMaxStringLength(limits.getInteger(KEY_MAX_STRING_LENGTH));
+    }
+    if (limits.containsKey(KEY_MAX_NUMBER_LENGTH)) {
+      merged.setMaxNumberLength(limits.getInteger(KEY_MAX_NUMBER_LENGTH));
+    }
+    if (limits.containsKey(KEY_MAX_TOKEN_COUNT)) {
+      merged.setMaxTokenCount(limits.getLong(KEY_MAX_TOKEN_COUNT));
+    }
+    return merged;
+  }
+
+  /**
+   * @return the maximum nesting depth of arrays and objects.
+   */
+  public int getMaxNestingDepth() {
+    return maxNestingDepth;
+  }
+
+  /**
+   * Sets the maximum nesting depth of arrays and objects.
+   *
+   * @param maxNestingDepth the maximum nesting depth.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public JsonDecodingOptions setMaxNestingDepth(int maxNestingDepth) {
+    if (maxNestingDepth < 0) {
+      throw new IllegalArgumentException("maxNestingDepth must be >= 0");
+    }
+    this.maxNestingDepth = maxNestingDepth;
+    return this;
+  }
+
+  /**
+   * @return the maximum length of a string, in characters.
+   */
+  public int getMaxStringLength() {
+    return maxStringLength;
+  }
+
+  /**
+   * Sets the maximum length of a string, in characters. This applies to values and property names.
+   *
+   * @param maxStringLength the maximum length.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public JsonDecodingOptions setMaxStringLength(int maxStringLength) {
+    if (maxStringLength < 0) {
+      throw new IllegalArgumentException("maxStringLength must be >= 0");
+    }
+    this.maxStringLength = maxStringLength;
+    return this;
+  }
+
+  /**
+   * @return the maximum length of a number, in characters.
+   */
+  public int getMaxNumberLength() {
+    return maxNumberLength;
+  }
+
+  /**
+   * Sets the maximum length of a number, in characters.
+   *
+   * @param maxNumberLength the maximum length.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public JsonDecodingOptions setMaxNumberLength(int maxNumberLength) {
+    if (maxNumberLength < 0) {
+      throw new IllegalArgumentException("maxNumberLength must be >= 0");
+    }
+    this.maxNumberLength = maxNumberLength;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of tokens of a document, or a value &lt;= 0 if the number is unlimited.
+   */
+  public long getMaxTokenCount() {
+    return maxTokenCount;
+  }
+
+  /**
+   * Sets the maximum number of tokens of a document, e.g. every value, property name and the start and end of every
+   * array and object is a token.
+   *
+   * @param maxTokenCount the maximum number of tokens, or a value &lt;= 0 for an unlimited number.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public JsonDecodingOptions setMaxTokenCount(long maxTokenCount) {
+    this.maxTokenCount = maxTokenCount;
+    return this;
+  }
+}
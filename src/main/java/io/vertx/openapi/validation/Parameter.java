@@ -103,6 +103,42 @@ public interface Parameter {
     return isNumber() ? Double.valueOf(((Number) get()).doubleValue()) : defaultValue;
   }
 
+  /**
+   * Like {@link #getInteger(Integer)}, but returns a primitive value and therefore avoids boxing.
+   *
+   * @return the default supplied if value is not a {@link Number} or is null, otherwise it returns the value.
+   */
+  default int getInt(int defaultValue) {
+    return isNumber() ? ((Number) get()).intValue() : defaultValue;
+  }
+
+  /**
+   * Like {@link #getLong(Long)}, but returns a primitive value and therefore avoids boxing.
+   *
+   * @return the default supplied if value is not a {@link Number} or is null, otherwise it returns the value.
+   */
+  default long getLongValue(long defaultValue) {
+    return isNumber() ? ((Number) get()).longValue() : defaultValue;
+  }
+
+  /**
+   * Like {@link #getFloat(Float)}, but returns a primitive value and therefore avoids boxing.
+   *
+   * @return the default supplied if value is not a {@link Number} or is null, otherwise it returns the value.
+   */
+  default float getFloatValue(float defaultValue) {
+    return isNumber() ? ((Number) get()).floatValue() : defaultValue;
+  }
+
+  /**
+   * Like {@link #getDouble(Double)}, but returns a primitive value and therefore avoids boxing.
+   *
+   * @return the default supplied if value is not a {@link Number} or is null, otherwise it returns the value.
+   */
+  default double getDoubleValue(double defaultValue) {
+    return isNumber() ? ((Number) get()).doubleValue() : defaultValue;
+  }
+
   /**
    * @return true if value of this instance is a {@link Number} instance
    */
@@ -125,6 +161,15 @@ public interface Parameter {
     return isBoolean() ? (Boolean) get() : defaultValue;
   }
 
+  /**
+   * Like {@link #getBoolean(Boolean)}, but returns a primitive value and therefore avoids boxing.
+   *
+   * @return the default supplied if value is not a {@link Boolean} or is null, otherwise it returns the value.
+   */
+  default boolean getBooleanValue(boolean defaultValue) {
+    return isBoolean() ? (Boolean) get() : defaultValue;
+  }
+
   /**
    * @return true if value of this instance is a {@link Boolean} instance
    */
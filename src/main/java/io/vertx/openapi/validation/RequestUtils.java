@@ -13,16 +13,25 @@
 package io.vertx.openapi.validation;
 
 import static io.vertx.openapi.validation.ValidatorErrorType.ILLEGAL_VALUE;
+import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
 import static java.util.stream.Collectors.joining;
 
 import io.vertx.core.Future;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.openapi.contract.MediaType;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.Parameter;
+import io.vertx.openapi.contract.impl.MediaTypeImpl;
+import io.vertx.openapi.mediatype.MediaTypeRegistration;
+import io.vertx.openapi.mediatype.impl.MultipartFormAnalyser;
+import io.vertx.openapi.validation.impl.ContentDecoder;
 import io.vertx.openapi.validation.impl.RequestParameterImpl;
+import io.vertx.openapi.validation.impl.SpoolingBodyReader;
+import io.vertx.openapi.validation.impl.StreamingMultipartReader;
 import io.vertx.openapi.validation.impl.ValidatableRequestImpl;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
@@ -35,6 +44,9 @@ import java.util.stream.Collectors;
 
 public class RequestUtils {
   private static final RequestParameter EMPTY = new RequestParameterImpl(null);
+  private static final String MULTIPART_FORM_DATA = "multipart/form-data";
+  private static final String IDENTITY = "identity";
+  private static final ContentDecodingOptions DEFAULT_CONTENT_DECODING_OPTIONS = new ContentDecodingOptions();
   private static final Function<Collection<String>, String> GET_FIRST_VALUE =
       values -> values.stream().findFirst().orElse(null);
 
@@ -51,12 +63,135 @@ public class RequestUtils {
    * @return A {@link Future} holding the ValidatableRequest.
    */
   public static Future<ValidatableRequest> extract(HttpServerRequest request, Operation operation) {
-    return extract(request, operation, request::body);
+    return extract(request, operation, DEFAULT_CONTENT_DECODING_OPTIONS);
+  }
+
+  /**
+   * Like {@link #extract(HttpServerRequest, Operation)}, but with custom limits for decoding a body with a
+   * <i>Content-Encoding</i>. A body with the content encoding <i>gzip</i> or <i>deflate</i> is decoded while it is
+   * read, so that the encoded body is never held in memory, and it is rejected as soon as it exceeds one of the limits
+   * of the passed options. A body with any other content encoding is rejected.
+   *
+   * @param request   the incoming request.
+   * @param operation the operation of the related request.
+   * @param options   the options for decoding the body.
+   * @return A {@link Future} holding the ValidatableRequest.
+   */
+  public static Future<ValidatableRequest> extract(HttpServerRequest request, Operation operation,
+      ContentDecodingOptions options) {
+    return extractRequest(request, operation, () -> readBody(request, operation, options));
+  }
+
+  /**
+   * Extracts and transforms only the parameters of an incoming request, without reading its body. Together with
+   * {@link #extractBody(HttpServerRequest, Operation, ContentDecodingOptions)} this allows to validate the parameters
+   * before the body is received, see {@link RequestValidator#validateParametersFirst(HttpServerRequest, String)}.
+   *
+   * @param request   the incoming request.
+   * @param operation the operation of the related request.
+   * @return A {@link Future} holding the ValidatableRequest without a body.
+   */
+  public static Future<ValidatableRequest> extractParameters(HttpServerRequest request, Operation operation) {
+    Map<String, RequestParameter> cookies = new HashMap<>();
+    Map<String, RequestParameter> headers = new HashMap<>();
+    Map<String, RequestParameter> pathParams = new HashMap<>();
+    Map<String, RequestParameter> query = new HashMap<>();
+    try {
+      extractParameters(request, operation, cookies, headers, pathParams, query);
+    } catch (RuntimeException e) {
+      return Future.failedFuture(e);
+    }
+    return Future.succeededFuture(new ValidatableRequestImpl(cookies, headers, pathParams, query));
+  }
+
+  /**
+   * Reads the body of an incoming request, like {@link #extract(HttpServerRequest, Operation, ContentDecodingOptions)}
+   * does. A body with a <i>Content-Encoding</i> is decoded while it is read.
+   *
+   * @param request   the incoming request.
+   * @param operation the operation of the related request.
+   * @param options   the options for decoding the body.
+   * @return A {@link Future} holding the body.
+   */
+  public static Future<RequestParameter> extractBody(HttpServerRequest request, Operation operation,
+      ContentDecodingOptions options) {
+    try {
+      return readBody(request, operation, options).map(RequestParameterImpl::new);
+    } catch (RuntimeException e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Reads the body and rejects it as soon as it exceeds the maximum body size of the operation. The declared
+   * <i>Content-Length</i> is checked before anything is read, a body without a declared length is counted while it is
+   * read. An encoded body is limited by its decoded size.
+   */
+  private static Future<Buffer> readBody(HttpServerRequest request, Operation operation,
+      ContentDecodingOptions options) {
+    String contentEncoding = request.headers().get(HttpHeaders.CONTENT_ENCODING);
+    long maxBodySize = maxBodySize(request, operation);
+    boolean encoded = ContentDecoder.isEncoded(contentEncoding);
+    if (maxBodySize >= 0 && !encoded) {
+      checkContentLength(request, maxBodySize);
+    }
+    boolean limited = maxBodySize >= 0 && (encoded || request.getHeader(HttpHeaders.CONTENT_LENGTH) == null);
+    if (!encoded && !limited) {
+      return request.body();
+    }
+    if (request.isEnded()) {
+      return Future.failedFuture(new IllegalStateException("Request has already been read"));
+    }
+    return ContentDecoder.decode(request, encoded ? contentEncoding : IDENTITY,
+        limited ? limit(options, maxBodySize) : options);
+  }
+
+  private static ContentDecodingOptions limit(ContentDecodingOptions options, long maxBodySize) {
+    if (maxBodySize >= options.getMaxDecodedSize()) {
+      return options;
+    }
+    // an empty body is limited by the Content-Length check, the decoder requires a positive limit
+    return new ContentDecodingOptions().setMaxRatio(options.getMaxRatio())
+        .setMaxDecodedSize(Math.max(maxBodySize, 1));
+  }
+
+  /**
+   * @return the maximum size in bytes of the request body, or a negative value if the size is not limited.
+   */
+  private static long maxBodySize(HttpServerRequest request, Operation operation) {
+    Object override = operation.getExtensions().get(Operation.EXTENSION_MAX_BODY_SIZE);
+    if (override instanceof Number) {
+      return ((Number) override).longValue();
+    }
+    if (operation.getRequestBody() == null) {
+      return -1;
+    }
+    MediaType mediaType = operation.getRequestBody().determineContentType(request.getHeader(HttpHeaders.CONTENT_TYPE));
+    return mediaType == null ? -1 : mediaType.getMaxBodySize();
+  }
+
+  private static void checkContentLength(HttpServerRequest request, long maxBodySize) {
+    String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+    if (contentLength == null) {
+      return;
+    }
+    long length;
+    try {
+      length = Long.parseLong(contentLength.trim());
+    } catch (NumberFormatException e) {
+      // the server rejects an invalid Content-Length, before the request is handled
+      return;
+    }
+    if (length > maxBodySize) {
+      String msg = String.format("The request body exceeds the maximum size of %d bytes", maxBodySize);
+      throw new ValidatorException(msg, INVALID_VALUE);
+    }
   }
 
   /**
    * Like {@link #extract(HttpServerRequest, Operation)}, but offers to pass a supplier fpr the body. This is
-   * helpful in case that the request has already been read.
+   * helpful in case that the request has already been read. If the request has a <i>Content-Encoding</i>, the
+   * supplied body is decoded with the default {@link ContentDecodingOptions}.
    *
    * @param request      the incoming request.
    * @param operation    the operation of the related request.
@@ -65,11 +200,131 @@ public class RequestUtils {
    */
   public static Future<ValidatableRequest> extract(HttpServerRequest request, Operation operation,
       Supplier<Future<Buffer>> bodySupplier) {
+    return extractRequest(request, operation, () -> {
+      String contentEncoding = request.headers().get(HttpHeaders.CONTENT_ENCODING);
+      if (!ContentDecoder.isEncoded(contentEncoding)) {
+        return bodySupplier.get();
+      }
+      return bodySupplier.get()
+          .map(body -> ContentDecoder.decode(body, contentEncoding, DEFAULT_CONTENT_DECODING_OPTIONS));
+    });
+  }
+
+  /**
+   * Like {@link #extract(HttpServerRequest, Operation)}, but for a body that was already decoded into the Vert.x JSON
+   * model, e.g. by an upstream body handler. The decoded value is validated directly, without encoding and parsing it
+   * again. This applies to media types whose bodies are validated in the JSON model, e.g. <i>application/json</i>.
+   *
+   * @param request     the incoming request.
+   * @param operation   the operation of the related request.
+   * @param decodedBody the decoded body, i.e. a JsonObject, JsonArray, String, Number, Boolean or null.
+   * @return A {@link Future} holding the ValidatableRequest.
+   */
+  public static Future<ValidatableRequest> extractDecoded(HttpServerRequest request, Operation operation,
+      Object decodedBody) {
+    return extractRequest(request, operation, () -> Future.succeededFuture(decodedBody), true);
+  }
+
+  private static Future<ValidatableRequest> extractRequest(HttpServerRequest request, Operation operation,
+      Supplier<Future<Buffer>> bodySupplier) {
+    return extractRequest(request, operation, bodySupplier, false);
+  }
+
+  private static Future<ValidatableRequest> extractRequest(HttpServerRequest request, Operation operation,
+      Supplier<? extends Future<?>> bodySupplier, boolean bodyDecoded) {
+    Map<String, RequestParameter> cookies = new HashMap<>();
+    Map<String, RequestParameter> headers = new HashMap<>();
+    Map<String, RequestParameter> pathParams = new HashMap<>();
+    Map<String, RequestParameter> query = new HashMap<>();
+    extractParameters(request, operation, cookies, headers, pathParams, query);
+
+    if (operation.getRequestBody() == null) {
+      return Future.succeededFuture(new ValidatableRequestImpl(cookies, headers, pathParams, query));
+    }
+
+    String contentType = request.headers().get(HttpHeaders.CONTENT_TYPE);
+    try {
+      return bodySupplier.get().map(value -> {
+        RequestParameter body = new RequestParameterImpl(value);
+        return new ValidatableRequestImpl(cookies, headers, pathParams, query, body, contentType, bodyDecoded);
+      });
+    } catch (RuntimeException e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Like {@link #extract(HttpServerRequest, Operation)}, but a multipart/form-data body is read as a stream instead of
+   * being buffered completely in memory. Parts of type <i>application/octet-stream</i> that exceed the
+   * {@link StreamingMultipartOptions#getSpoolThreshold() spool threshold} are written to temporary files and are
+   * available via {@link ValidatedRequest#getSpooledParts()}, all other parts are kept in memory up to the limits of
+   * the options. A part that exceeds the <i>maxLength</i> declared in the schema of the related property is rejected
+   * while it is read.
+   * <p></p>
+   * A JSON text sequence body, e.g. <i>application/x-ndjson</i>, that exceeds the spool threshold is written to a
+   * temporary file as a whole. It is available as spooled part with the name <i>body</i>, and the validation reads
+   * its records from the file one by one. The records are not validated while the body is read, the validation starts
+   * only once the whole body was received. An invalid record is therefore reported only after the complete body was
+   * read or spooled, use the maximum body size of the operation to bound the amount of data that is accepted.
+   * <p></p>
+   * The maximum body size of the operation is checked against the declared <i>Content-Length</i> before anything is
+   * read, and the streamed body is rejected as soon as it exceeds the maximum body size while it is read.
+   * <p></p>
+   * Requests with any other content type, or with a <i>Content-Encoding</i>, are extracted like in
+   * {@link #extract(HttpServerRequest, Operation)}.
+   *
+   * @param vertx     the related Vert.x instance.
+   * @param request   the incoming request.
+   * @param operation the operation of the related request.
+   * @param options   the options for reading the multipart body.
+   * @return A {@link Future} holding the ValidatableRequest.
+   */
+  public static Future<ValidatableRequest> extract(Vertx vertx, HttpServerRequest request, Operation operation,
+      StreamingMultipartOptions options) {
+    String contentType = request.headers().get(HttpHeaders.CONTENT_TYPE);
+    boolean isMultipart = contentType != null
+        && contentType.regionMatches(true, 0, MULTIPART_FORM_DATA, 0, MULTIPART_FORM_DATA.length());
+    String boundary = isMultipart ? MultipartFormAnalyser.extractBoundary(contentType) : null;
+    MediaType mediaType = operation.getRequestBody() == null || contentType == null ? null
+        : operation.getRequestBody().determineContentType(contentType);
+    MediaTypeRegistration registration =
+        mediaType instanceof MediaTypeImpl ? ((MediaTypeImpl) mediaType).getRegistration() : null;
+    // the body of a sequence of records can be spooled, because its records are validated one by one
+    boolean isSequence = registration != null
+        && registration.createSequenceAnalyser(contentType, null, ValidationContext.REQUEST) != null;
+    if (mediaType == null || (boundary == null && !isSequence)
+        || ContentDecoder.isEncoded(request.headers().get(HttpHeaders.CONTENT_ENCODING))) {
+      return extract(request, operation);
+    }
+
     Map<String, RequestParameter> cookies = new HashMap<>();
     Map<String, RequestParameter> headers = new HashMap<>();
     Map<String, RequestParameter> pathParams = new HashMap<>();
     Map<String, RequestParameter> query = new HashMap<>();
+    long maxBodySize = maxBodySize(request, operation);
+    try {
+      extractParameters(request, operation, cookies, headers, pathParams, query);
+      if (maxBodySize >= 0) {
+        checkContentLength(request, maxBodySize);
+      }
+    } catch (RuntimeException e) {
+      return Future.failedFuture(e);
+    }
 
+    // a body without a declared length is counted while it is read
+    if (isSequence) {
+      return new SpoolingBodyReader(vertx.fileSystem(), request, contentType, options, maxBodySize).read()
+          .map(body -> new ValidatableRequestImpl(cookies, headers, pathParams, query, body, contentType));
+    }
+    Map<String, Long> maxSizes = StreamingMultipartReader.maxSizes(mediaType);
+    return new StreamingMultipartReader(vertx.fileSystem(), request, boundary, options, maxSizes, maxBodySize).read()
+        .map(body -> new ValidatableRequestImpl(cookies, headers, pathParams, query, new RequestParameterImpl(body),
+            contentType));
+  }
+
+  private static void extractParameters(HttpServerRequest request, Operation operation,
+      Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
+      Map<String, RequestParameter> pathParams, Map<String, RequestParameter> query) {
     for (Parameter param : operation.getParameters()) {
       switch (param.getIn()) {
         case COOKIE:
@@ -86,20 +341,6 @@ public class RequestUtils {
           query.put(param.getName(), extractQuery(request, param));
       }
     }
-
-    if (operation.getRequestBody() == null) {
-      return Future.succeededFuture(new ValidatableRequestImpl(cookies, headers, pathParams, query));
-    }
-
-    String contentType = request.headers().get(HttpHeaders.CONTENT_TYPE);
-    try {
-      return bodySupplier.get().map(buffer -> {
-        RequestParameter body = new RequestParameterImpl(buffer);
-        return new ValidatableRequestImpl(cookies, headers, pathParams, query, body, contentType);
-      });
-    } catch (RuntimeException e) {
-      return Future.failedFuture(e);
-    }
   }
 
   private static RequestParameter extractCookie(HttpServerRequest request, Parameter parameter) {
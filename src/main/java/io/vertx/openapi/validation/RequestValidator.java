@@ -12,12 +12,16 @@
 
 package io.vertx.openapi.validation;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.ReloadableOpenAPIContract;
+import io.vertx.openapi.validation.impl.ReloadingRequestValidator;
 import io.vertx.openapi.validation.impl.RequestValidatorImpl;
+import java.util.function.Function;
 
 /**
  * The {@link RequestValidator} requires the {@link ValidatableRequest parameters} in a specific format to be able to
@@ -104,6 +108,34 @@ public interface RequestValidator {
     return new RequestValidatorImpl(vertx, contract);
   }
 
+  /**
+   * Create a new {@link RequestValidator}, which decodes JSON content within the passed limits. The limits of an
+   * operation can be overridden with the extension
+   * {@link io.vertx.openapi.contract.Operation#EXTENSION_JSON_DECODING_LIMITS}.
+   *
+   * @param vertx           the related Vert.x instance
+   * @param contract        the related {@link OpenAPIContract}
+   * @param decodingOptions the limits for decoding JSON content
+   * @return an instance of {@link RequestValidator}.
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  static RequestValidator create(Vertx vertx, OpenAPIContract contract, JsonDecodingOptions decodingOptions) {
+    return new RequestValidatorImpl(vertx, contract, decodingOptions);
+  }
+
+  /**
+   * Create a new {@link RequestValidator}, which validates every request against the current contract of the passed
+   * {@link ReloadableOpenAPIContract}.
+   *
+   * @param vertx    the related Vert.x instance
+   * @param contract the related {@link ReloadableOpenAPIContract}
+   * @return an instance of {@link RequestValidator}.
+   */
+  @GenIgnore
+  static RequestValidator create(Vertx vertx, ReloadableOpenAPIContract contract) {
+    return new ReloadingRequestValidator(vertx, contract, null);
+  }
+
   /**
    * Like {@link #validate(ValidatableRequest, String)}, but the operationId and {@link ValidatableRequest} are
    * determined from the passed request.
@@ -124,6 +156,51 @@ public interface RequestValidator {
    */
   Future<ValidatedRequest> validate(HttpServerRequest request, String operationId);
 
+  /**
+   * Like {@link #validate(HttpServerRequest, String)}, but validates the request in two phases. The cookie, header,
+   * path and query parameters are validated first, and only if they are valid the body is read and validated. This
+   * avoids receiving and buffering the body of a request that would be rejected anyway.
+   * <p></p>
+   * If the client sent <i>Expect: 100-continue</i>, the <i>100 Continue</i> response is written after the parameters
+   * were validated, so that a rejected client doesn't send the body at all. This requires that the server doesn't
+   * handle <i>100-continue</i> automatically, which is the default of {@link io.vertx.core.http.HttpServerOptions}.
+   * <p></p>
+   * The request is paused while the parameters are validated, so this method must be called before the body of the
+   * request is read.
+   *
+   * @param request     the request to validate
+   * @param operationId the id of the related operation.
+   * @return A succeeded Future with the parsed and validated request parameters, or a failed Future containing ValidationException.
+   */
+  default Future<ValidatedRequest> validateParametersFirst(HttpServerRequest request, String operationId) {
+    return validateParametersFirst(request, operationId, null);
+  }
+
+  /**
+   * Like {@link #validateParametersFirst(HttpServerRequest, String)}, but calls the passed check after the parameters
+   * were validated and before the body is read. The check receives the validated parameters without a body, and can be
+   * used e.g. to verify the security requirements of the operation. If the returned Future fails, the body is not read
+   * and the validation fails with the same cause.
+   * <p></p>
+   * The default implementation falls back to {@link #validate(HttpServerRequest, String)} and calls the check after
+   * the whole request was validated, so the body is always read. The validators created by
+   * {@link #create(Vertx, OpenAPIContract)} validate the parameters before the body is read.
+   *
+   * @param request     the request to validate
+   * @param operationId the id of the related operation.
+   * @param beforeBody  the check to run before the body is read, can be null.
+   * @return A succeeded Future with the parsed and validated request parameters, or a failed Future containing ValidationException.
+   */
+  @GenIgnore(GenIgnore.PERMITTED_TYPE)
+  default Future<ValidatedRequest> validateParametersFirst(HttpServerRequest request, String operationId,
+      Function<ValidatedRequest, Future<Void>> beforeBody) {
+    Future<ValidatedRequest> validated = validate(request, operationId);
+    if (beforeBody == null) {
+      return validated;
+    }
+    return validated.compose(params -> beforeBody.apply(params).map(params));
+  }
+
   /**
    * Validates the passed request parameters against the operation defined in the related OpenAPI contract.
    *
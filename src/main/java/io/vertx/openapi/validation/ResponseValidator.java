@@ -15,6 +15,8 @@ package io.vertx.openapi.validation;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.ReloadableOpenAPIContract;
+import io.vertx.openapi.validation.impl.ReloadingResponseValidator;
 import io.vertx.openapi.validation.impl.ResponseValidatorImpl;
 
 /**
@@ -53,6 +55,18 @@ public interface ResponseValidator {
     return new ResponseValidatorImpl(vertx, contract);
   }
 
+  /**
+   * Create a new {@link ResponseValidator}, which validates every response against the current contract of the passed
+   * {@link ReloadableOpenAPIContract}.
+   *
+   * @param vertx    the related Vert.x instance
+   * @param contract the related {@link ReloadableOpenAPIContract}
+   * @return an instance of {@link ResponseValidator}.
+   */
+  static ResponseValidator create(Vertx vertx, ReloadableOpenAPIContract contract) {
+    return new ReloadingResponseValidator(vertx, contract);
+  }
+
   /**
    * Validates the passed response parameters against the operation defined in the related OpenAPI contract.
    *
@@ -48,6 +48,13 @@ public class SchemaValidationException extends ValidatorException {
     return new SchemaValidationException(msg, INVALID_VALUE, outputUnit, cause);
   }
 
+  public static SchemaValidationException createInvalidValueRecord(OutputUnit outputUnit,
+      ValidationContext requestOrResponse, long recordIndex, JsonSchemaValidationException cause) {
+    String msg = String.format("The value of record %d of the " + requestOrResponse + " body is invalid. Reason: %s",
+        recordIndex, extractReason(outputUnit));
+    return new SchemaValidationException(msg, INVALID_VALUE, outputUnit, cause);
+  }
+
   public static SchemaValidationException createMissingValueRequestBody(OutputUnit outputUnit,
       JsonSchemaValidationException cause) {
     String msg = String.format("The value of the request body is missing. Reason: %s", extractReason(outputUnit));
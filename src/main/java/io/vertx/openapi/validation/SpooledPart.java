@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.codegen.annotations.Nullable;
+import io.vertx.codegen.annotations.VertxGen;
+import io.vertx.core.Future;
+import io.vertx.core.file.AsyncFile;
+
+/**
+ * A part of a multipart/form-data request body, or a complete JSON text sequence body, which was spooled to a
+ * temporary file while the request was read.
+ * <p></p>
+ * The temporary file is owned by the application and must be deleted via {@link #delete()} once it is no longer
+ * needed. Only if the extraction or the validation of the request fails, the temporary files are deleted
+ * automatically.
+ */
+@VertxGen
+public interface SpooledPart {
+
+  /**
+   * @return the name of the part, which is the name of the related property in the schema, or <i>body</i> for a
+   * spooled JSON text sequence body.
+   */
+  String getName();
+
+  /**
+   * @return the file name of the part, or null if the part has no file name.
+   */
+  @Nullable
+  String getFileName();
+
+  /**
+   * @return the content type of the part.
+   */
+  String getContentType();
+
+  /**
+   * @return the size of the part in bytes.
+   */
+  long getSize();
+
+  /**
+   * @return the path of the temporary file.
+   */
+  String getPath();
+
+  /**
+   * Opens the temporary file for reading.
+   *
+   * @return A succeeded Future with the opened file, which can be used as a {@link io.vertx.core.streams.ReadStream}.
+   */
+  Future<AsyncFile> open();
+
+  /**
+   * Deletes the temporary file.
+   *
+   * @return A succeeded Future, once the file is deleted.
+   */
+  Future<Void> delete();
+}
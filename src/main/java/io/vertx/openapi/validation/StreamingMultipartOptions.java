@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+/**
+ * Options for reading a multipart/form-data request body as a stream, see
+ * {@link RequestUtils#extract(io.vertx.core.Vertx, io.vertx.core.http.HttpServerRequest,
+ * io.vertx.openapi.contract.Operation, StreamingMultipartOptions)}.
+ */
+public class StreamingMultipartOptions {
+
+  /**
+   * Default directory for the temporary files of spooled parts = "file-uploads"
+   */
+  public static final String DEFAULT_UPLOADS_DIRECTORY = "file-uploads";
+
+  /**
+   * Default size in bytes above which a part is spooled to a temporary file = 64 KiB
+   */
+  public static final long DEFAULT_SPOOL_THRESHOLD = 64 * 1024;
+
+  /**
+   * Default maximum size in bytes of a part that is kept in memory = 1 MiB
+   */
+  public static final long DEFAULT_MAX_PART_MEMORY_SIZE = 1024 * 1024;
+
+  /**
+   * Default maximum size in bytes of all parts that are kept in memory = 10 MiB
+   */
+  public static final long DEFAULT_MAX_MEMORY_SIZE = 10 * 1024 * 1024;
+
+  private String uploadsDirectory = DEFAULT_UPLOADS_DIRECTORY;
+  private long spoolThreshold = DEFAULT_SPOOL_THRESHOLD;
+  private long maxPartMemorySize = DEFAULT_MAX_PART_MEMORY_SIZE;
+  private long maxMemorySize = DEFAULT_MAX_MEMORY_SIZE;
+
+  /**
+   * @return the directory for the temporary files of spooled parts.
+   */
+  public String getUploadsDirectory() {
+    return uploadsDirectory;
+  }
+
+  /**
+   * Sets the directory for the temporary files of spooled parts. The directory is created if it doesn't exist.
+   *
+   * @param uploadsDirectory the directory.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public StreamingMultipartOptions setUploadsDirectory(String uploadsDirectory) {
+    this.uploadsDirectory = uploadsDirectory;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes above which a part of type <i>application/octet-stream</i> is spooled to a temporary
+   * file.
+   */
+  public long getSpoolThreshold() {
+    return spoolThreshold;
+  }
+
+  /**
+   * Sets the size in bytes above which a part of type <i>application/octet-stream</i> is spooled to a temporary file.
+   * All other parts are kept in memory, because they must be decoded for the schema validation. A JSON text sequence
+   * body that exceeds the threshold is spooled as a whole, its records are validated one by one.
+   *
+   * @param spoolThreshold the threshold in bytes.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public StreamingMultipartOptions setSpoolThreshold(long spoolThreshold) {
+    if (spoolThreshold < 0) {
+      throw new IllegalArgumentException("spoolThreshold must be >= 0");
+    }
+    this.spoolThreshold = spoolThreshold;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of a part that is kept in memory, or -1 if it is not limited.
+   */
+  public long getMaxPartMemorySize() {
+    return maxPartMemorySize;
+  }
+
+  /**
+   * Sets the maximum size in bytes of a part that is kept in memory. A body with a larger part that is not spooled to
+   * a temporary file is rejected while it is read. The limit should be greater than the spool threshold, otherwise
+   * also parts of type <i>application/octet-stream</i> are rejected before they are spooled.
+   *
+   * @param maxPartMemorySize the limit in bytes, or -1 to disable it.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public StreamingMultipartOptions setMaxPartMemorySize(long maxPartMemorySize) {
+    if (maxPartMemorySize < -1) {
+      throw new IllegalArgumentException("maxPartMemorySize must be >= -1");
+    }
+    this.maxPartMemorySize = maxPartMemorySize;
+    return this;
+  }
+
+  /**
+   * @return the maximum size in bytes of all parts that are kept in memory, or -1 if it is not limited.
+   */
+  public long getMaxMemorySize() {
+    return maxMemorySize;
+  }
+
+  /**
+   * Sets the maximum size in bytes of all parts of a body that are kept in memory. A body whose parts exceed the limit
+   * is rejected while it is read.
+   *
+   * @param maxMemorySize the limit in bytes, or -1 to disable it.
+   * @return a reference to this, so the API can be used fluently.
+   */
+  public StreamingMultipartOptions setMaxMemorySize(long maxMemorySize) {
+    if (maxMemorySize < -1) {
+      throw new IllegalArgumentException("maxMemorySize must be >= -1");
+    }
+    this.maxMemorySize = maxMemorySize;
+    return this;
+  }
+}
@@ -31,5 +31,18 @@ public interface ValidatableRequest extends ValidatedRequest {
     return RequestUtils.extract(request, operation);
   }
 
+  /**
+   * Like {@link #of(HttpServerRequest, Operation)}, but for a body that was already decoded into the Vert.x JSON model,
+   * see {@link RequestUtils#extractDecoded(HttpServerRequest, Operation, Object)}.
+   *
+   * @param request     The related request
+   * @param operation   The related operation
+   * @param decodedBody The decoded body, i.e. a JsonObject, JsonArray, String, Number, Boolean or null
+   * @return a {@link ValidatableRequest} object
+   */
+  static Future<ValidatableRequest> ofDecoded(HttpServerRequest request, Operation operation, Object decodedBody) {
+    return RequestUtils.extractDecoded(request, operation, decodedBody);
+  }
+
   String getContentType();
 }
@@ -12,16 +12,12 @@
 
 package io.vertx.openapi.validation;
 
-import static java.util.Collections.emptyMap;
-import static java.util.stream.Collectors.toMap;
-
 import io.vertx.codegen.annotations.Nullable;
 import io.vertx.codegen.annotations.VertxGen;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.openapi.validation.impl.RequestParameterImpl;
 import io.vertx.openapi.validation.impl.ValidatableResponseImpl;
 import java.util.Map;
-import java.util.Optional;
 
 @VertxGen
 public interface ValidatableResponse {
@@ -72,9 +68,7 @@ public interface ValidatableResponse {
    * @throws IllegalArgumentException in case body is passed without contentType.
    */
   static ValidatableResponse create(int statusCode, Map<String, String> headers, Buffer body, String contentType) {
-    Map<String, ResponseParameter> transformedHeaders =
-        Optional.ofNullable(headers).orElse(emptyMap()).entrySet().stream().collect(toMap(
-            entry -> entry.getKey().toLowerCase(), entry -> new RequestParameterImpl(entry.getValue())));
+    Map<String, ResponseParameter> transformedHeaders = ValidatableResponseImpl.transformHeaders(headers);
 
     if (body != null && contentType == null) {
       throw new IllegalArgumentException("When a body is passed, the content type MUST be specified");
@@ -83,6 +77,41 @@ public interface ValidatableResponse {
     return new ValidatableResponseImpl(statusCode, transformedHeaders, new RequestParameterImpl(body), contentType);
   }
 
+  /**
+   * Creates a new {@link ValidatableResponse} object with a body that is already decoded into the Vert.x JSON model.
+   * The decoded value is validated directly, and it is only encoded once when the
+   * {@link ValidatedResponse#send(io.vertx.core.http.HttpServerResponse) validated response is sent}.
+   *
+   * @param statusCode  The related status code
+   * @param body        The related body, i.e. a JsonObject, JsonArray, String, Number, Boolean or null
+   * @param contentType The related content type, e.g. <i>application/json</i>
+   * @return a {@link ValidatableResponse} object
+   * @throws IllegalArgumentException in case body is passed without contentType.
+   */
+  static ValidatableResponse createDecoded(int statusCode, Object body, String contentType) {
+    return createDecoded(statusCode, null, body, contentType);
+  }
+
+  /**
+   * Like {@link #createDecoded(int, Object, String)}, but with headers.
+   *
+   * @param statusCode  The related status code
+   * @param headers     The related headers
+   * @param body        The related body, i.e. a JsonObject, JsonArray, String, Number, Boolean or null
+   * @param contentType The related content type, e.g. <i>application/json</i>
+   * @return a {@link ValidatableResponse} object
+   * @throws IllegalArgumentException in case body is passed without contentType.
+   */
+  static ValidatableResponse createDecoded(int statusCode, Map<String, String> headers, Object body,
+      String contentType) {
+    if (body != null && contentType == null) {
+      throw new IllegalArgumentException("When a body is passed, the content type MUST be specified");
+    }
+
+    return new ValidatableResponseImpl(statusCode, ValidatableResponseImpl.transformHeaders(headers),
+        new RequestParameterImpl(body), contentType, true);
+  }
+
   /**
    * @return the header parameters.
    */
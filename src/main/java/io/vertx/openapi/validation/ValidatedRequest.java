@@ -12,7 +12,9 @@
 
 package io.vertx.openapi.validation;
 
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.annotations.VertxGen;
+import java.util.Collections;
 import java.util.Map;
 
 @VertxGen
@@ -42,4 +44,15 @@ public interface ValidatedRequest {
    * @return the body.
    */
   RequestParameter getBody();
+
+  /**
+   * @return the parts of a multipart/form-data body that were spooled to temporary files, or a spooled JSON text
+   * sequence body, by name. Only a request that was extracted via
+   * {@link RequestUtils#extract(io.vertx.core.Vertx, io.vertx.core.http.HttpServerRequest,
+   * io.vertx.openapi.contract.Operation, StreamingMultipartOptions)} can contain spooled parts.
+   */
+  @GenIgnore
+  default Map<String, SpooledPart> getSpooledParts() {
+    return Collections.emptyMap();
+  }
 }
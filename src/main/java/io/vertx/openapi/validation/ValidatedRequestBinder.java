@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation;
+
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.validation.impl.ValidatedRequestBinderImpl;
+
+/**
+ * A {@link ValidatedRequestBinder} copies the parameters and the body of a {@link ValidatedRequest} into an instance
+ * of a user supplied type, e.g. a record.
+ * <p></p>
+ * The mapping between the parameters of the {@link Operation} and the target type is resolved once when the binder is
+ * created, so that binding a request doesn't require any reflection or map lookups. A binder is thread-safe and should
+ * be created once per operation and reused.
+ * <p></p>
+ * The following rules apply:
+ * <ul>
+ *   <li>A record is created via its canonical constructor, every record component must be bound.</li>
+ *   <li>Any other class must provide a no-argument constructor, every non-static and non-final field must be
+ *   bound.</li>
+ *   <li>A component or field is bound to the parameter with the same name. Case and the characters <i>-</i>, <i>_</i>
+ *   and <i>.</i> are ignored, so that e.g. a field <i>xRequestId</i> is bound to the header <i>X-Request-Id</i>.</li>
+ *   <li>A component or field with the name <i>body</i> is bound to the request body.</li>
+ *   <li>Supported types are the primitive types int, long, float, double and boolean, their wrapper types,
+ *   {@link String}, {@link io.vertx.core.json.JsonObject}, {@link io.vertx.core.json.JsonArray},
+ *   {@link io.vertx.core.buffer.Buffer}, {@link RequestParameter} and {@link Object}. Primitives of absent optional
+ *   parameters are bound to their default value.</li>
+ * </ul>
+ *
+ * @param <T> the type to bind to.
+ */
+public interface ValidatedRequestBinder<T> {
+
+  /**
+   * Creates a new {@link ValidatedRequestBinder}.
+   *
+   * @param operation the related operation.
+   * @param type      the type to bind to.
+   * @param <T>       the type to bind to.
+   * @return the binder.
+   * @throws IllegalArgumentException if the type can't be bound to the operation.
+   */
+  static <T> ValidatedRequestBinder<T> create(Operation operation, Class<T> type) {
+    return new ValidatedRequestBinderImpl<>(operation, type);
+  }
+
+  /**
+   * Copies the values of the passed request into a new instance of the target type.
+   *
+   * @param request the validated request.
+   * @return the new instance.
+   */
+  T bind(ValidatedRequest request);
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.openapi.validation.StreamingMultipartOptions;
+import io.vertx.openapi.validation.ValidatorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Base class of the readers that write the data of a stream partially to temporary files.
+ * <p></p>
+ * The file operations are chained, to keep the order of the writes. While a file operation is in progress the stream
+ * is paused, so that a slow disk can't cause the buffered data to grow. In case of a failure the remaining data of the
+ * stream is drained and all temporary files are deleted. A stream that exceeds the maximum body size is rejected as
+ * soon as the limit is exceeded.
+ *
+ * @param <T> the type of the result.
+ */
+public abstract class AbstractSpoolingReader<T> {
+
+  protected final FileSystem fileSystem;
+  protected final ReadStream<Buffer> stream;
+  protected final StreamingMultipartOptions options;
+  private final long maxBodySize;
+
+  private final Promise<T> promise = Promise.promise();
+  private final List<Spool> spools = new ArrayList<>();
+
+  private Future<Void> fileOperations = succeededFuture();
+  private int pendingFileOperations;
+  private boolean failed;
+
+  private long bodySize;
+
+  /**
+   * @param fileSystem  the file system for the temporary files.
+   * @param stream      the stream to read.
+   * @param options     the options.
+   * @param maxBodySize the maximum size in bytes of the stream, or a negative value if the size is not limited.
+   */
+  protected AbstractSpoolingReader(FileSystem fileSystem, ReadStream<Buffer> stream,
+      StreamingMultipartOptions options, long maxBodySize) {
+    this.fileSystem = fileSystem;
+    this.stream = stream;
+    this.options = options;
+    this.maxBodySize = maxBodySize;
+  }
+
+  /**
+   * Starts reading the stream.
+   *
+   * @return A succeeded Future with the result once the stream ended and all file operations are completed, or a
+   * failed Future. In case of a failure all temporary files are deleted.
+   */
+  public Future<T> read() {
+    stream.handler(chunk -> {
+      if (failed) {
+        return;
+      }
+      bodySize += chunk.length();
+      if (maxBodySize >= 0 && bodySize > maxBodySize) {
+        String msg = String.format("The request body exceeds the maximum size of %d bytes", maxBodySize);
+        fail(new ValidatorException(msg, INVALID_VALUE));
+        return;
+      }
+      try {
+        handle(chunk);
+      } catch (RuntimeException e) {
+        fail(e);
+      }
+    });
+    stream.exceptionHandler(this::fail);
+    stream.endHandler(v -> {
+      if (failed) {
+        return;
+      }
+      try {
+        endOfStream();
+      } catch (RuntimeException e) {
+        fail(e);
+        return;
+      }
+      fileOperations.onComplete(ar -> {
+        if (ar.failed()) {
+          fail(ar.cause());
+        } else if (!failed) {
+          promise.tryComplete(result());
+        }
+      });
+    });
+    stream.resume();
+    return promise.future();
+  }
+
+  /**
+   * Handles a chunk of the stream. It is not called after the reading failed.
+   *
+   * @param chunk the chunk.
+   */
+  protected abstract void handle(Buffer chunk);
+
+  /**
+   * Called when the stream ended, before the pending file operations are completed.
+   */
+  protected abstract void endOfStream();
+
+  /**
+   * @return the result, it is called once all file operations are completed.
+   */
+  protected abstract T result();
+
+  /**
+   * @return true if the reading failed, the remaining data of the stream is ignored.
+   */
+  protected boolean failed() {
+    return failed;
+  }
+
+  /**
+   * Creates a temporary file and writes the passed data to it.
+   *
+   * @param buffered the data that was buffered before spooling started.
+   * @return the spool, whose path is known once the file operation is completed.
+   */
+  protected Spool startSpool(Buffer buffered) {
+    Spool spool = new Spool();
+    spools.add(spool);
+
+    String directory = options.getUploadsDirectory();
+    enqueue(() -> fileSystem.mkdirs(directory)
+        .compose(v -> fileSystem.createTempFile(directory, "openapi-upload-", null, (String) null))
+        .compose(path -> {
+          spool.path = path;
+          return fileSystem.open(path, new OpenOptions().setWrite(true));
+        })
+        .compose(file -> {
+          spool.file = file;
+          return file.write(buffered);
+        }));
+    return spool;
+  }
+
+  /**
+   * Appends the passed data to the temporary file of a spool.
+   */
+  protected void write(Spool spool, Buffer data) {
+    enqueue(() -> spool.file.write(data));
+  }
+
+  /**
+   * Closes the temporary file of a spool.
+   */
+  protected void close(Spool spool) {
+    close(spool, () -> {
+    });
+  }
+
+  /**
+   * Closes the temporary file of a spool.
+   *
+   * @param spool  the spool.
+   * @param closed called once the file is closed.
+   */
+  protected void close(Spool spool, Runnable closed) {
+    enqueue(() -> spool.file.close().onSuccess(v -> {
+      spool.closed = true;
+      closed.run();
+    }));
+  }
+
+  /**
+   * Fails the reading, if it didn't fail already.
+   *
+   * @param cause the cause of the failure.
+   */
+  protected void fail(Throwable cause) {
+    if (failed) {
+      return;
+    }
+    failed = true;
+    // drain the remaining data, it is ignored
+    stream.resume();
+    fileOperations.transform(ar -> deleteTemporaryFiles()).onComplete(ar -> promise.tryFail(cause));
+  }
+
+  private void enqueue(Supplier<Future<?>> operation) {
+    pendingFileOperations++;
+    stream.pause();
+    fileOperations = fileOperations.compose(v -> operation.get()).<Void>mapEmpty().andThen(ar -> {
+      if (ar.failed()) {
+        fail(ar.cause());
+      }
+      if (--pendingFileOperations == 0 && !failed) {
+        stream.resume();
+      }
+    });
+  }
+
+  private Future<Void> deleteTemporaryFiles() {
+    List<Future<?>> deletions = new ArrayList<>();
+    for (Spool spool : spools) {
+      // closing a closed file fails synchronously
+      Future<Void> closed =
+          spool.file == null || spool.closed ? succeededFuture() : spool.file.close().otherwiseEmpty();
+      if (spool.path != null) {
+        deletions.add(closed.compose(v -> fileSystem.delete(spool.path)).otherwiseEmpty());
+      }
+    }
+    return Future.join(deletions).mapEmpty();
+  }
+
+  /**
+   * A temporary file.
+   */
+  protected static final class Spool {
+    private String path;
+    private AsyncFile file;
+    private boolean closed;
+
+    /**
+     * @return the path of the temporary file, or null if it is not yet created.
+     */
+    public String getPath() {
+      return path;
+    }
+  }
+}
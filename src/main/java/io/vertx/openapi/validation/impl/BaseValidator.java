@@ -15,30 +15,91 @@ package io.vertx.openapi.validation.impl;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static io.vertx.openapi.validation.SchemaValidationException.createInvalidValueBody;
+import static io.vertx.openapi.validation.SchemaValidationException.createInvalidValueRecord;
+import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
 import static io.vertx.openapi.validation.ValidatorErrorType.UNSUPPORTED_VALUE_FORMAT;
 import static io.vertx.openapi.validation.ValidatorException.createOperationIdInvalid;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
 import io.vertx.json.schema.JsonSchemaValidationException;
 import io.vertx.json.schema.OutputUnit;
+import io.vertx.json.schema.Validator;
 import io.vertx.openapi.contract.MediaType;
 import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.impl.MediaTypeImpl;
 import io.vertx.openapi.mediatype.ContentAnalyser;
+import io.vertx.openapi.mediatype.MediaTypeRegistration;
+import io.vertx.openapi.mediatype.SequenceContentAnalyser;
+import io.vertx.openapi.mediatype.StatelessContentAnalyser;
+import io.vertx.openapi.validation.JsonDecodingOptions;
+import io.vertx.openapi.validation.SpooledPart;
 import io.vertx.openapi.validation.ValidationContext;
 import io.vertx.openapi.validation.ValidatorException;
-import java.util.Optional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BaseValidator {
+  private static final String KEY_ITEMS = "items";
+  private static final String KEY_MIN_ITEMS = "minItems";
+  private static final String KEY_MAX_ITEMS = "maxItems";
+  private static final int SPOOLED_CHUNK_SIZE = 64 * 1024;
+
   protected final Vertx vertx;
   protected final OpenAPIContract contract;
+  protected final JsonDecodingOptions decodingOptions;
+  // the validators by the identity of the map of their schema, so that parameters and media types that share a schema
+  // also share its validator, creating a validator copies the lookup of the schema repository
+  private final Map<SchemaKey, Validator> validators = new ConcurrentHashMap<>();
 
   public BaseValidator(Vertx vertx, OpenAPIContract contract) {
+    this(vertx, contract, null);
+  }
+
+  /**
+   * @param vertx           the related Vert.x instance.
+   * @param contract        the related contract.
+   * @param decodingOptions the limits for decoding JSON content, or null for the default limits.
+   */
+  public BaseValidator(Vertx vertx, OpenAPIContract contract, JsonDecodingOptions decodingOptions) {
     this.vertx = vertx;
     this.contract = contract;
+    this.decodingOptions = decodingOptions;
+  }
+
+  /**
+   * Returns the validator of the passed schema of the contract. The validator is created once per schema and reused
+   * for all further validations.
+   *
+   * @param schema a schema of the contract.
+   * @return the validator of the schema.
+   */
+  protected Validator validator(JsonSchema schema) {
+    if (!(schema instanceof JsonObject)) {
+      return contract.getSchemaRepository().validator(schema);
+    }
+    SchemaKey key = new SchemaKey(((JsonObject) schema).getMap());
+    Validator validator = validators.get(key);
+    if (validator == null) {
+      // no lock is held while the validator is created, concurrent validations may create it twice, but only one of
+      // them is kept
+      Validator created = contract.getSchemaRepository().validator(schema);
+      validator = validators.putIfAbsent(key, created);
+      if (validator == null) {
+        validator = created;
+      }
+    }
+    return validator;
   }
 
   protected Future<Operation> getOperation(String operationId) {
@@ -69,31 +130,174 @@ public class BaseValidator {
 
   protected RequestParameterImpl validate(MediaType mediaType, String contentType, Buffer rawContent,
       ValidationContext requestOrResponse) {
+    return validate(mediaType, contentType, rawContent, requestOrResponse, decodingOptions);
+  }
+
+  protected RequestParameterImpl validate(MediaType mediaType, String contentType, Buffer rawContent,
+      ValidationContext requestOrResponse, JsonDecodingOptions jsonDecodingOptions) {
 
     MediaTypeImpl mediaTypeImpl = (MediaTypeImpl) mediaType;
-    ContentAnalyser contentAnalyser = Optional.ofNullable(mediaTypeImpl).map(MediaTypeImpl::getRegistration)
-        .map(r -> r.createContentAnalyser(contentType, rawContent, requestOrResponse))
-        .orElse(null);
+    MediaTypeRegistration registration = mediaTypeImpl == null ? null : mediaTypeImpl.getRegistration();
+    StatelessContentAnalyser statelessAnalyser = registration == null ? null
+        : registration.getStatelessContentAnalyser();
+    if (statelessAnalyser != null) {
+      // Throws an exception if the content is not syntactically correct
+      Object transformedValue =
+          statelessAnalyser.analyse(contentType, rawContent, mediaType.getSchema(), requestOrResponse,
+              jsonDecodingOptions);
+      if (isSchemaValidationRequired(mediaType)) {
+        return validateContent(mediaType, transformedValue, requestOrResponse);
+      }
+      return new RequestParameterImpl(rawContent);
+    }
+
+    SequenceContentAnalyser sequenceAnalyser = registration == null || !isSchemaValidationRequired(mediaType) ? null
+        : registration.createSequenceAnalyser(contentType, rawContent, requestOrResponse);
+    if (sequenceAnalyser != null) {
+      sequenceAnalyser.setJsonDecodingOptions(jsonDecodingOptions);
+      return validateRecords(sequenceAnalyser, mediaType, rawContent, sequenceAnalyser::checkSyntacticalCorrectness,
+          requestOrResponse);
+    }
+
+    ContentAnalyser contentAnalyser = registration == null ? null
+        : registration.createContentAnalyser(contentType, rawContent, requestOrResponse);
 
     if (contentAnalyser == null) {
       throw new ValidatorException("The format of the " + requestOrResponse + " body is not supported",
           UNSUPPORTED_VALUE_FORMAT);
     }
 
+    // e.g. to coerce the values of a form based on the schema, instead of guessing their types
+    contentAnalyser.setSchema(mediaType.getSchema());
+    contentAnalyser.setJsonDecodingOptions(jsonDecodingOptions);
+
     // Throws an exception if the content is not syntactically correct
     contentAnalyser.checkSyntacticalCorrectness();
 
     if (isSchemaValidationRequired(mediaType)) {
-      Object transformedValue = contentAnalyser.transform();
-      OutputUnit result = contract.getSchemaRepository().validator(mediaType.getSchema()).validate(transformedValue);
+      return validateContent(mediaType, contentAnalyser.transform(), requestOrResponse);
+    }
+
+    return new RequestParameterImpl(rawContent);
+  }
+
+  /**
+   * Validates a body that is already decoded into the Vert.x JSON model, without encoding and parsing it again.
+   */
+  protected RequestParameterImpl validateDecoded(MediaType mediaType, Object decodedValue,
+      ValidationContext requestOrResponse) {
+    if (mediaType == null) {
+      throw new ValidatorException("The format of the " + requestOrResponse + " body is not supported",
+          UNSUPPORTED_VALUE_FORMAT);
+    }
+    if (isSchemaValidationRequired(mediaType)) {
+      return validateContent(mediaType, decodedValue, requestOrResponse);
+    }
+    return new RequestParameterImpl(decodedValue);
+  }
+
+  private RequestParameterImpl validateContent(MediaType mediaType, Object transformedValue,
+      ValidationContext requestOrResponse) {
+    OutputUnit result = validator(mediaType.getSchema()).validate(transformedValue);
+    try {
+      result.checkValidity();
+      return new RequestParameterImpl(transformedValue);
+    } catch (JsonSchemaValidationException e) {
+      throw createInvalidValueBody(result, requestOrResponse, e);
+    }
+  }
+
+  /**
+   * Validates a JSON sequence body that was spooled to a temporary file. The records are read from the file chunk by
+   * chunk, so that only a single record must be held in memory at a time. The spooled body is returned as value of
+   * the body.
+   */
+  protected RequestParameterImpl validateSpooled(MediaType mediaType, String contentType, SpooledPart spooledBody,
+      ValidationContext requestOrResponse, JsonDecodingOptions jsonDecodingOptions) {
+    MediaTypeRegistration registration =
+        mediaType instanceof MediaTypeImpl ? ((MediaTypeImpl) mediaType).getRegistration() : null;
+    SequenceContentAnalyser analyser = registration == null ? null
+        : registration.createSequenceAnalyser(contentType, null, requestOrResponse);
+    if (analyser == null) {
+      throw new ValidatorException("The format of the " + requestOrResponse + " body is not supported",
+          UNSUPPORTED_VALUE_FORMAT);
+    }
+    analyser.setJsonDecodingOptions(jsonDecodingOptions);
+    Runnable feed = () -> feed(analyser, spooledBody);
+    if (isSchemaValidationRequired(mediaType)) {
+      return validateRecords(analyser, mediaType, spooledBody, feed, requestOrResponse);
+    }
+    feed.run();
+    return new RequestParameterImpl(spooledBody);
+  }
+
+  private static void feed(SequenceContentAnalyser analyser, SpooledPart spooledBody) {
+    byte[] chunk = new byte[SPOOLED_CHUNK_SIZE];
+    try (InputStream in = Files.newInputStream(Path.of(spooledBody.getPath()))) {
+      int read;
+      while ((read = in.read(chunk)) > 0) {
+        analyser.feed(Buffer.buffer(Arrays.copyOf(chunk, read)));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    analyser.end();
+  }
+
+  /**
+   * Validates every record of a JSON sequence against the <i>items</i> of the schema, or against the schema itself if
+   * it doesn't define <i>items</i>. The records are validated while they are decoded by the passed check, so that the
+   * sequence is never materialized as a whole. Therefore, the passed value is returned as value of the body.
+   */
+  private RequestParameterImpl validateRecords(SequenceContentAnalyser analyser, MediaType mediaType, Object value,
+      Runnable check, ValidationContext requestOrResponse) {
+    JsonSchema schema = mediaType.getSchema();
+    Object items = schema.get(KEY_ITEMS);
+    JsonSchema recordSchema = items instanceof JsonObject ? JsonSchema.of((JsonObject) items) : schema;
+    Validator validator = validator(recordSchema);
+
+    analyser.setRecordHandler((index, record) -> {
+      OutputUnit result = validator.validate(record);
       try {
         result.checkValidity();
-        return new RequestParameterImpl(transformedValue);
       } catch (JsonSchemaValidationException e) {
-        throw createInvalidValueBody(result, requestOrResponse, e);
+        throw createInvalidValueRecord(result, requestOrResponse, index, e);
       }
+    });
+    check.run();
+
+    if (items instanceof JsonObject) {
+      long count = analyser.getRecordCount();
+      Number minItems = schema.get(KEY_MIN_ITEMS);
+      Number maxItems = schema.get(KEY_MAX_ITEMS);
+      if ((minItems != null && count < minItems.longValue()) || (maxItems != null && count > maxItems.longValue())) {
+        String msg = String.format("The number of records of the %s body is invalid. Reason: %d records are not " +
+            "within the range [%s, %s]", requestOrResponse, count, minItems == null ? 0 : minItems,
+            maxItems == null ? "*" : maxItems);
+        throw new ValidatorException(msg, INVALID_VALUE);
+      }
+    }
+    return new RequestParameterImpl(value);
+  }
+
+  /**
+   * Compares the map of a schema by identity, equal schemas of different locations in the contract are not merged.
+   */
+  private static final class SchemaKey {
+    private final Map<String, Object> schema;
+
+    SchemaKey(Map<String, Object> schema) {
+      this.schema = schema;
     }
 
-    return new RequestParameterImpl(rawContent);
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof SchemaKey && ((SchemaKey) o).schema == schema;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(schema);
+    }
   }
 }
@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import static io.vertx.openapi.validation.ValidatorErrorType.ILLEGAL_VALUE;
+import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
+import static io.vertx.openapi.validation.ValidatorErrorType.UNSUPPORTED_VALUE_FORMAT;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.openapi.validation.ContentDecodingOptions;
+import io.vertx.openapi.validation.ValidatorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Decodes a request body with the <i>gzip</i> or <i>deflate</i> content encoding incrementally. The encoded body is
+ * passed in chunks, every chunk is inflated in steps of {@value #CHUNK_SIZE} bytes, and the limits of the
+ * {@link ContentDecodingOptions} are checked after every step. This means that a decompression bomb is rejected after
+ * at most one step beyond the limit, and that the encoded body is never held completely in memory.
+ * <p></p>
+ * Multiple encodings are decoded in the reverse order in which they were applied, as described in
+ * <a href="https://www.rfc-editor.org/rfc/rfc9110#name-content-encoding">RFC 9110</a>.
+ */
+public class ContentDecoder {
+  static final int CHUNK_SIZE = 8 * 1024;
+  static final long RATIO_CHECK_THRESHOLD = 64 * 1024;
+
+  private static final String IDENTITY = "identity";
+  private static final String GZIP = "gzip";
+  private static final String X_GZIP = "x-gzip";
+  private static final String DEFLATE = "deflate";
+
+  private final List<Stage> stages = new ArrayList<>();
+  private final ContentDecodingOptions options;
+  private final Buffer decoded = Buffer.buffer();
+  private long encodedSize;
+
+  /**
+   * @param contentEncoding the value of the <i>Content-Encoding</i> header.
+   * @param options         the options.
+   * @throws ValidatorException if the content encoding is not supported.
+   */
+  public ContentDecoder(String contentEncoding, ContentDecodingOptions options) {
+    this.options = options;
+    String[] encodings = contentEncoding.split(",");
+    for (int i = encodings.length - 1; i >= 0; i--) {
+      String encoding = encodings[i].trim().toLowerCase(Locale.ROOT);
+      switch (encoding) {
+        case "":
+        case IDENTITY:
+          break;
+        case GZIP:
+        case X_GZIP:
+          stages.add(new GzipStage());
+          break;
+        case DEFLATE:
+          stages.add(new DeflateStage());
+          break;
+        default:
+          close();
+          String msg = String.format("The content encoding %s of the request body is not supported", encoding);
+          throw new ValidatorException(msg, UNSUPPORTED_VALUE_FORMAT);
+      }
+    }
+  }
+
+  /**
+   * @param contentEncoding the value of the <i>Content-Encoding</i> header, can be null.
+   * @return true if the content encoding requires a decoding, otherwise false.
+   */
+  public static boolean isEncoded(String contentEncoding) {
+    if (contentEncoding == null) {
+      return false;
+    }
+    for (String encoding : contentEncoding.split(",")) {
+      String trimmed = encoding.trim();
+      if (!trimmed.isEmpty() && !IDENTITY.equalsIgnoreCase(trimmed)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Decodes a complete body.
+   *
+   * @param body            the encoded body.
+   * @param contentEncoding the value of the <i>Content-Encoding</i> header.
+   * @param options         the options.
+   * @return the decoded body.
+   * @throws ValidatorException if the body can't be decoded or exceeds a limit.
+   */
+  public static Buffer decode(Buffer body, String contentEncoding, ContentDecodingOptions options) {
+    ContentDecoder decoder = new ContentDecoder(contentEncoding, options);
+    try {
+      if (body != null) {
+        decoder.write(body);
+      }
+      return decoder.end();
+    } finally {
+      decoder.close();
+    }
+  }
+
+  /**
+   * Decodes a body while it is read from a stream.
+   *
+   * @param stream          the stream of the encoded body.
+   * @param contentEncoding the value of the <i>Content-Encoding</i> header.
+   * @param options         the options.
+   * @return A succeeded Future with the decoded body once the stream ended, or a failed Future. In case of a failure
+   * the remaining data of the stream is discarded.
+   */
+  public static Future<Buffer> decode(ReadStream<Buffer> stream, String contentEncoding,
+      ContentDecodingOptions options) {
+    ContentDecoder decoder;
+    try {
+      decoder = new ContentDecoder(contentEncoding, options);
+    } catch (ValidatorException e) {
+      return Future.failedFuture(e);
+    }
+    Promise<Buffer> promise = Promise.promise();
+    stream.handler(chunk -> {
+      if (promise.future().isComplete()) {
+        return;
+      }
+      try {
+        decoder.write(chunk);
+      } catch (RuntimeException e) {
+        decoder.close();
+        promise.tryFail(e);
+      }
+    });
+    stream.exceptionHandler(t -> {
+      decoder.close();
+      promise.tryFail(t);
+    });
+    stream.endHandler(v -> {
+      if (promise.future().isComplete()) {
+        return;
+      }
+      try {
+        promise.tryComplete(decoder.end());
+      } catch (RuntimeException e) {
+        promise.tryFail(e);
+      } finally {
+        decoder.close();
+      }
+    });
+    stream.resume();
+    return promise.future();
+  }
+
+  /**
+   * Decodes the next chunk of the encoded body.
+   *
+   * @param chunk the chunk.
+   * @throws ValidatorException if the chunk can't be decoded or the decoded body exceeds a limit.
+   */
+  public void write(Buffer chunk) {
+    encodedSize += chunk.length();
+    byte[] bytes = chunk.getBytes();
+    push(0, bytes, 0, bytes.length);
+  }
+
+  /**
+   * Signals the end of the encoded body.
+   *
+   * @return the decoded body.
+   * @throws ValidatorException if the encoded body is incomplete.
+   */
+  public Buffer end() {
+    if (encodedSize == 0) {
+      // an empty body is accepted, like it would be without a content encoding
+      return decoded;
+    }
+    for (Stage stage : stages) {
+      if (!stage.isComplete()) {
+        throw decodingFailed(stage.encoding);
+      }
+    }
+    return decoded;
+  }
+
+  /**
+   * Releases the native resources of the decoder. Calling this method more than once has no effect.
+   */
+  public void close() {
+    for (Stage stage : stages) {
+      if (stage.inflater != null) {
+        stage.inflater.end();
+      }
+    }
+  }
+
+  private void push(int index, byte[] data, int offset, int length) {
+    if (index == stages.size()) {
+      decoded.appendBytes(data, offset, length);
+      checkLimits();
+      return;
+    }
+    Stage stage = stages.get(index);
+    try {
+      stage.write(data, offset, length, (d, o, l) -> push(index + 1, d, o, l));
+    } catch (DataFormatException e) {
+      throw decodingFailed(stage.encoding);
+    }
+  }
+
+  private void checkLimits() {
+    long size = decoded.length();
+    if (size > options.getMaxDecodedSize()) {
+      String msg = String.format(stages.isEmpty()
+          ? "The request body exceeds the maximum size of %d bytes"
+          : "The decoded request body exceeds the maximum size of %d bytes", options.getMaxDecodedSize());
+      throw new ValidatorException(msg, INVALID_VALUE);
+    }
+    if (size > RATIO_CHECK_THRESHOLD && size > encodedSize * options.getMaxRatio()) {
+      String msg = String.format("The compression ratio of the request body exceeds the maximum of %d",
+          options.getMaxRatio());
+      throw new ValidatorException(msg, INVALID_VALUE);
+    }
+  }
+
+  private static ValidatorException decodingFailed(String encoding) {
+    return new ValidatorException("The request body can't be decoded with content encoding " + encoding,
+        ILLEGAL_VALUE);
+  }
+
+  @FunctionalInterface
+  private interface Sink {
+    void accept(byte[] data, int offset, int length);
+  }
+
+  private abstract static class Stage {
+    final String encoding;
+    final byte[] output = new byte[CHUNK_SIZE];
+    Inflater inflater;
+
+    Stage(String encoding) {
+      this.encoding = encoding;
+    }
+
+    abstract void write(byte[] data, int offset, int length, Sink sink) throws DataFormatException;
+
+    abstract boolean isComplete();
+
+    /**
+     * Inflates the passed data until the inflater needs more input or the end of the deflate stream is reached.
+     *
+     * @return the number of bytes that were not consumed, because they follow the end of the deflate stream.
+     */
+    int inflate(byte[] data, int offset, int length, Sink sink, CRC32 crc) throws DataFormatException {
+      inflater.setInput(data, offset, length);
+      while (!inflater.finished()) {
+        int inflated = inflater.inflate(output);
+        if (inflated > 0) {
+          if (crc != null) {
+            crc.update(output, 0, inflated);
+          }
+          sink.accept(output, 0, inflated);
+        } else if (inflater.needsInput()) {
+          return 0;
+        } else if (inflater.needsDictionary()) {
+          throw new DataFormatException("Preset dictionaries are not supported");
+        }
+      }
+      return inflater.getRemaining();
+    }
+  }
+
+  /**
+   * Decodes the <i>deflate</i> content encoding. Some clients send a raw deflate stream instead of the zlib format
+   * mandated by RFC 9110, which is detected by the first two bytes.
+   */
+  private static final class DeflateStage extends Stage {
+    private final byte[] head = new byte[2];
+    private int headLength;
+
+    DeflateStage() {
+      super(DEFLATE);
+    }
+
+    @Override
+    void write(byte[] data, int offset, int length, Sink sink) throws DataFormatException {
+      if (inflater == null) {
+        while (headLength < 2 && length > 0) {
+          head[headLength++] = data[offset++];
+          length--;
+        }
+        if (headLength < 2) {
+          return;
+        }
+        int cmf = head[0] & 0xFF;
+        int flg = head[1] & 0xFF;
+        boolean zlib = (cmf & 0x0F) == 8 && (cmf * 256 + flg) % 31 == 0;
+        inflater = new Inflater(!zlib);
+        if (inflate(head, 0, 2, sink, null) > 0) {
+          throw new DataFormatException("Trailing data");
+        }
+      }
+      if (length > 0 && inflate(data, offset, length, sink, null) > 0) {
+        throw new DataFormatException("Trailing data");
+      }
+    }
+
+    @Override
+    boolean isComplete() {
+      return inflater != null && inflater.finished();
+    }
+  }
+
+  /**
+   * Decodes the <i>gzip</i> content encoding as described in RFC 1952, including concatenated members.
+   */
+  private static final class GzipStage extends Stage {
+    private static final int MAX_HEADER_SIZE = 64 * 1024;
+    private static final int TRAILER_SIZE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private enum State {
+      HEADER, DATA, TRAILER
+    }
+
+    private final CRC32 crc = new CRC32();
+    private final byte[] trailer = new byte[TRAILER_SIZE];
+    private State state = State.HEADER;
+    private Buffer header = Buffer.buffer();
+    private int trailerLength;
+    private int completedMembers;
+
+    GzipStage() {
+      super(GZIP);
+      inflater = new Inflater(true);
+    }
+
+    @Override
+    void write(byte[] data, int offset, int length, Sink sink) throws DataFormatException {
+      int end = offset + length;
+      while (offset < end) {
+        switch (state) {
+          case HEADER:
+            int before = header.length();
+            header.appendBytes(data, offset, Math.min(end - offset, MAX_HEADER_SIZE - before));
+            int headerLength = headerLength(header);
+            if (headerLength < 0) {
+              if (header.length() >= MAX_HEADER_SIZE) {
+                throw new DataFormatException("Header too large");
+              }
+              return;
+            }
+            offset += headerLength - before;
+            header = Buffer.buffer();
+            state = State.DATA;
+            break;
+          case DATA:
+            int remaining = inflate(data, offset, end - offset, sink, crc);
+            if (!inflater.finished()) {
+              return;
+            }
+            offset = end - remaining;
+            state = State.TRAILER;
+            break;
+          case TRAILER:
+            int available = Math.min(end - offset, TRAILER_SIZE - trailerLength);
+            System.arraycopy(data, offset, trailer, trailerLength, available);
+            trailerLength += available;
+            offset += available;
+            if (trailerLength == TRAILER_SIZE) {
+              verifyTrailer();
+            }
+            break;
+        }
+      }
+    }
+
+    private void verifyTrailer() throws DataFormatException {
+      Buffer buffer = Buffer.buffer(trailer);
+      if (buffer.getUnsignedIntLE(0) != crc.getValue()
+          || buffer.getUnsignedIntLE(4) != (inflater.getBytesWritten() & 0xFFFFFFFFL)) {
+        throw new DataFormatException("Corrupt trailer");
+      }
+      completedMembers++;
+      crc.reset();
+      inflater.reset();
+      trailerLength = 0;
+      state = State.HEADER;
+    }
+
+    @Override
+    boolean isComplete() {
+      return completedMembers > 0 && state == State.HEADER && header.length() == 0;
+    }
+
+    /**
+     * @return the length of the header, or -1 if the header is incomplete.
+     */
+    private static int headerLength(Buffer header) throws DataFormatException {
+      int length = header.length();
+      if (length < 10) {
+        return -1;
+      }
+      if (header.getUnsignedByte(0) != 0x1F || header.getUnsignedByte(1) != 0x8B || header.getByte(2) != 8) {
+        throw new DataFormatException("Not in gzip format");
+      }
+      int flags = header.getUnsignedByte(3);
+      int position = 10;
+      if ((flags & FEXTRA) != 0) {
+        if (length < position + 2) {
+          return -1;
+        }
+        position += 2 + header.getUnsignedShortLE(position);
+      }
+      if ((flags & FNAME) != 0) {
+        position = skipZeroTerminated(header, position);
+      }
+      if ((flags & FCOMMENT) != 0 && position >= 0) {
+        position = skipZeroTerminated(header, position);
+      }
+      if ((flags & FHCRC) != 0 && position >= 0) {
+        position += 2;
+      }
+      return position < 0 || position > length ? -1 : position;
+    }
+
+    private static int skipZeroTerminated(Buffer header, int position) {
+      for (int i = position; i < header.length(); i++) {
+        if (header.getByte(i) == 0) {
+          return i + 1;
+        }
+      }
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.ReloadableOpenAPIContract;
+import java.util.function.Function;
+
+/**
+ * Holds the validator of the current contract of a {@link ReloadableOpenAPIContract}. A new validator is created
+ * when the contract was replaced, without locking, so two threads may create a validator for the same contract, of
+ * which one is discarded.
+ */
+class CurrentValidator<V> {
+
+  private final ReloadableOpenAPIContract contract;
+  private final Function<OpenAPIContract, V> factory;
+  private volatile Versioned<V> current;
+
+  CurrentValidator(ReloadableOpenAPIContract contract, Function<OpenAPIContract, V> factory) {
+    this.contract = contract;
+    this.factory = factory;
+  }
+
+  V get() {
+    OpenAPIContract currentContract = contract.current();
+    Versioned<V> versioned = current;
+    if (versioned == null || versioned.contract != currentContract) {
+      versioned = new Versioned<>(currentContract, factory.apply(currentContract));
+      current = versioned;
+    }
+    return versioned.validator;
+  }
+
+  private static final class Versioned<V> {
+    private final OpenAPIContract contract;
+    private final V validator;
+
+    private Versioned(OpenAPIContract contract, V validator) {
+      this.contract = contract;
+      this.validator = validator;
+    }
+  }
+}
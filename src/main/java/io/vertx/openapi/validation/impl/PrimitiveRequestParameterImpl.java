@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.json.schema.common.dsl.SchemaType;
+
+/**
+ * A {@link RequestParameterImpl} for values of schema type <i>integer</i>, <i>number</i> or <i>boolean</i>. The value
+ * is additionally stored unboxed, so that the primitive accessors like {@link #getInt(int)} neither unbox nor allocate
+ * a wrapper on every call.
+ */
+public class PrimitiveRequestParameterImpl extends RequestParameterImpl {
+
+  private enum Kind {
+    INTEGRAL, FLOATING, BOOLEAN
+  }
+
+  private final Kind kind;
+  private final long longValue;
+  private final double doubleValue;
+
+  private PrimitiveRequestParameterImpl(Object value, Kind kind, long longValue, double doubleValue) {
+    super(value);
+    this.kind = kind;
+    this.longValue = longValue;
+    this.doubleValue = doubleValue;
+  }
+
+  /**
+   * Creates a {@link RequestParameterImpl} for an already validated value. If the schema type is known to be primitive
+   * and the value fits into a primitive, a {@link PrimitiveRequestParameterImpl} is returned.
+   *
+   * @param schemaType the schema type of the related parameter, can be null.
+   * @param value      the validated value.
+   * @return the parameter holding the value.
+   */
+  public static RequestParameterImpl of(SchemaType schemaType, Object value) {
+    if (schemaType == null || value == null) {
+      return new RequestParameterImpl(value);
+    }
+    switch (schemaType) {
+      case INTEGER:
+      case NUMBER:
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+          long l = ((Number) value).longValue();
+          return new PrimitiveRequestParameterImpl(value, Kind.INTEGRAL, l, l);
+        }
+        if (value instanceof Double || value instanceof Float) {
+          double d = ((Number) value).doubleValue();
+          return new PrimitiveRequestParameterImpl(value, Kind.FLOATING, (long) d, d);
+        }
+        break;
+      case BOOLEAN:
+        if (value instanceof Boolean) {
+          long l = (Boolean) value ? 1 : 0;
+          return new PrimitiveRequestParameterImpl(value, Kind.BOOLEAN, l, l);
+        }
+        break;
+      default:
+        break;
+    }
+    return new RequestParameterImpl(value);
+  }
+
+  @Override
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public boolean isNumber() {
+    return kind != Kind.BOOLEAN;
+  }
+
+  @Override
+  public boolean isBoolean() {
+    return kind == Kind.BOOLEAN;
+  }
+
+  @Override
+  public boolean isString() {
+    return false;
+  }
+
+  @Override
+  public int getInt(int defaultValue) {
+    if (kind == Kind.INTEGRAL) {
+      return (int) longValue;
+    }
+    return kind == Kind.FLOATING ? (int) doubleValue : defaultValue;
+  }
+
+  @Override
+  public long getLongValue(long defaultValue) {
+    return isNumber() ? longValue : defaultValue;
+  }
+
+  @Override
+  public float getFloatValue(float defaultValue) {
+    return isNumber() ? (float) doubleValue : defaultValue;
+  }
+
+  @Override
+  public double getDoubleValue(double defaultValue) {
+    return isNumber() ? doubleValue : defaultValue;
+  }
+
+  @Override
+  public boolean getBooleanValue(boolean defaultValue) {
+    return isBoolean() ? longValue != 0 : defaultValue;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.openapi.contract.ReloadableOpenAPIContract;
+import io.vertx.openapi.validation.JsonDecodingOptions;
+import io.vertx.openapi.validation.RequestValidator;
+import io.vertx.openapi.validation.ValidatableRequest;
+import io.vertx.openapi.validation.ValidatedRequest;
+import java.util.function.Function;
+
+/**
+ * Validates every request with the current contract of a {@link ReloadableOpenAPIContract}. A validation uses a single
+ * version of the contract from start to end, even if the contract is replaced in the meantime.
+ */
+public class ReloadingRequestValidator implements RequestValidator {
+
+  private final CurrentValidator<RequestValidator> validator;
+
+  public ReloadingRequestValidator(Vertx vertx, ReloadableOpenAPIContract contract,
+      JsonDecodingOptions decodingOptions) {
+    this.validator = new CurrentValidator<>(contract, c -> new RequestValidatorImpl(vertx, c, decodingOptions));
+  }
+
+  @Override
+  public Future<ValidatedRequest> validate(HttpServerRequest request) {
+    return validator.get().validate(request);
+  }
+
+  @Override
+  public Future<ValidatedRequest> validate(HttpServerRequest request, String operationId) {
+    return validator.get().validate(request, operationId);
+  }
+
+  @Override
+  public Future<ValidatedRequest> validateParametersFirst(HttpServerRequest request, String operationId,
+      Function<ValidatedRequest, Future<Void>> beforeBody) {
+    return validator.get().validateParametersFirst(request, operationId, beforeBody);
+  }
+
+  @Override
+  public Future<ValidatedRequest> validate(ValidatableRequest params, String operationId) {
+    return validator.get().validate(params, operationId);
+  }
+}
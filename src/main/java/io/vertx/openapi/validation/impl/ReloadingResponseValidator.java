@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.openapi.contract.ReloadableOpenAPIContract;
+import io.vertx.openapi.validation.ResponseValidator;
+import io.vertx.openapi.validation.ValidatableResponse;
+import io.vertx.openapi.validation.ValidatedResponse;
+
+/**
+ * Validates every response with the current contract of a {@link ReloadableOpenAPIContract}. A validation uses a
+ * single version of the contract from start to end, even if the contract is replaced in the meantime.
+ */
+public class ReloadingResponseValidator implements ResponseValidator {
+
+  private final CurrentValidator<ResponseValidator> validator;
+
+  public ReloadingResponseValidator(Vertx vertx, ReloadableOpenAPIContract contract) {
+    this.validator = new CurrentValidator<>(contract, c -> new ResponseValidatorImpl(vertx, c));
+  }
+
+  @Override
+  public Future<ValidatedResponse> validate(ValidatableResponse params, String operationId) {
+    return validator.get().validate(params, operationId);
+  }
+}
@@ -13,14 +13,18 @@
 package io.vertx.openapi.validation.impl;
 
 import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
 import static io.vertx.openapi.contract.Style.DEEP_OBJECT;
 import static io.vertx.openapi.contract.Style.FORM;
 import static io.vertx.openapi.contract.Style.LABEL;
 import static io.vertx.openapi.contract.Style.MATRIX;
 import static io.vertx.openapi.contract.Style.SIMPLE;
 import static io.vertx.openapi.validation.SchemaValidationException.createErrorFromOutputUnitType;
+import static io.vertx.openapi.validation.SchemaValidationException.createInvalidValueBody;
 import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
 import static io.vertx.openapi.validation.ValidatorErrorType.MISSING_REQUIRED_PARAMETER;
+import static io.vertx.openapi.validation.ValidatorErrorType.UNSUPPORTED_VALUE_FORMAT;
 import static io.vertx.openapi.validation.ValidatorException.createMissingRequiredParameter;
 import static io.vertx.openapi.validation.ValidatorException.createOperationNotFound;
 import static io.vertx.openapi.validation.ValidatorException.createUnsupportedValueFormat;
@@ -28,17 +32,27 @@ import static io.vertx.openapi.validation.ValidatorException.createUnsupportedVa
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
 import io.vertx.json.schema.JsonSchemaValidationException;
 import io.vertx.json.schema.OutputUnit;
+import io.vertx.json.schema.Validator;
 import io.vertx.openapi.contract.MediaType;
 import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.Parameter;
 import io.vertx.openapi.contract.RequestBody;
 import io.vertx.openapi.contract.Style;
+import io.vertx.openapi.mediatype.impl.MultipartFormAnalyser;
+import io.vertx.openapi.validation.ContentDecodingOptions;
+import io.vertx.openapi.validation.JsonDecodingOptions;
 import io.vertx.openapi.validation.RequestParameter;
+import io.vertx.openapi.validation.RequestUtils;
 import io.vertx.openapi.validation.RequestValidator;
+import io.vertx.openapi.validation.SpooledPart;
 import io.vertx.openapi.validation.ValidatableRequest;
 import io.vertx.openapi.validation.ValidatedRequest;
 import io.vertx.openapi.validation.ValidatorException;
@@ -50,13 +64,37 @@ import io.vertx.openapi.validation.transformer.ParameterTransformer;
 import io.vertx.openapi.validation.transformer.SimpleTransformer;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class RequestValidatorImpl extends BaseValidator implements RequestValidator {
+  private static final String KEY_PROPERTIES = "properties";
+  private static final String KEY_ADDITIONAL_PROPERTIES = "additionalProperties";
+  private static final String KEY_REQUIRED = "required";
+  private static final String KEY_MIN_PROPERTIES = "minProperties";
+  private static final String KEY_MAX_PROPERTIES = "maxProperties";
+  private static final String KEY_MIN_LENGTH = "minLength";
+  private static final String KEY_MAX_LENGTH = "maxLength";
+  private static final ContentDecodingOptions DEFAULT_CONTENT_DECODING_OPTIONS = new ContentDecodingOptions();
+
   private final Map<Style, ParameterTransformer> parameterTransformers;
+  private final Map<Operation, Optional<JsonDecodingOptions>> operationDecodingOptions = new ConcurrentHashMap<>();
+  // the validators of multipart schemas without the properties of spooled parts, by the media type and the names of
+  // the spooled properties
+  private final Map<MediaType, Map<Set<String>, Validator>> spooledSchemaValidators = new ConcurrentHashMap<>();
 
   public RequestValidatorImpl(Vertx vertx, OpenAPIContract contract) {
-    super(vertx, contract);
+    this(vertx, contract, null);
+  }
+
+  public RequestValidatorImpl(Vertx vertx, OpenAPIContract contract, JsonDecodingOptions decodingOptions) {
+    super(vertx, contract, decodingOptions);
     parameterTransformers = new EnumMap<>(Style.class);
     parameterTransformers.put(SIMPLE, new SimpleTransformer());
     parameterTransformers.put(LABEL, new LabelTransformer());
@@ -82,33 +120,106 @@ public class RequestValidatorImpl extends BaseValidator implements RequestValida
 
   @Override
   public Future<ValidatedRequest> validate(ValidatableRequest request, String operationId) {
-    return getOperation(operationId).compose(operation -> vertx.executeBlocking(() -> {
-      Map<String, RequestParameter> cookies = new HashMap<>(request.getCookies().size());
-      Map<String, RequestParameter> headers = new HashMap<>(request.getHeaders().size());
-      Map<String, RequestParameter> path = new HashMap<>(request.getPathParameters().size());
-      Map<String, RequestParameter> query = new HashMap<>(request.getQuery().size());
-
-      for (Parameter param : operation.getParameters()) {
-        switch (param.getIn()) {
-          case COOKIE:
-            cookies.put(param.getName(), validateParameter(param, request.getCookies().get(param.getName())));
-            break;
-          case HEADER:
-            headers.put(param.getName(), validateParameter(param, request.getHeaders().get(param.getName())));
-            break;
-          case PATH:
-            path.put(param.getName(), validateParameter(param, request.getPathParameters().get(param.getName())));
-            break;
-          case QUERY:
-            query.put(param.getName(), validateParameter(param, request.getQuery().get(param.getName())));
-        }
+    Future<ValidatedRequest> validated = validateRequest(request, operationId);
+    if (request == null || request.getSpooledParts().isEmpty()) {
+      return validated;
+    }
+    // the temporary files are only handed over to the application, if the request is valid
+    return validated.onFailure(e -> request.getSpooledParts().values().forEach(SpooledPart::delete));
+  }
+
+  @Override
+  public Future<ValidatedRequest> validateParametersFirst(HttpServerRequest request, String operationId,
+      Function<ValidatedRequest, Future<Void>> beforeBody) {
+    // the body must not be consumed before it is clear, whether it is needed at all
+    boolean paused = !request.isEnded();
+    if (paused) {
+      request.pause();
+    }
+    Future<ValidatedRequest> validated = getOperation(operationId).compose(operation -> RequestUtils
+        .extractParameters(request, operation)
+        .compose(params -> vertx.executeBlocking(() -> validateParameters(operation, params))
+            .compose(validatedParams -> {
+              Future<Void> check = beforeBody == null ? succeededFuture() : beforeBody.apply(validatedParams);
+              return check.compose(v -> validateBody(request, operation, params, validatedParams, paused));
+            })));
+    if (paused) {
+      // a rejected request is resumed, so that a body that is sent anyway is discarded
+      validated.onFailure(e -> request.resume());
+    }
+    return validated;
+  }
+
+  private Future<ValidatedRequest> validateBody(HttpServerRequest request, Operation operation,
+      ValidatableRequest params, ValidatedRequestImpl validatedParams, boolean paused) {
+    if (operation.getRequestBody() == null) {
+      if (paused) {
+        request.resume();
       }
+      return succeededFuture(validatedParams);
+    }
+    // the declared Content-Length is checked before anything is read, so that a client which announced a too large
+    // body isn't asked to send it
+    Future<RequestParameter> body = RequestUtils.extractBody(request, operation, DEFAULT_CONTENT_DECODING_OPTIONS);
+    if (!body.failed() && HttpHeaders.CONTINUE.toString().equalsIgnoreCase(request.getHeader(HttpHeaders.EXPECT))) {
+      request.response().writeContinue();
+    }
+    if (paused) {
+      request.resume();
+    }
+    String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+    return body.compose(value -> vertx.executeBlocking(() -> {
+      ValidatableRequest withBody = new ValidatableRequestImpl(params.getCookies(), params.getHeaders(),
+          params.getPathParameters(), params.getQuery(), value, contentType);
+      return validatedParams.withBody(validateBody(operation.getRequestBody(), withBody,
+          decodingOptions(operation)), null);
+    }));
+  }
 
-      RequestParameter body = validateBody(operation.getRequestBody(), request);
-      return new ValidatedRequestImpl(cookies, headers, path, query, body);
+  private Future<ValidatedRequest> validateRequest(ValidatableRequest request, String operationId) {
+    return getOperation(operationId).compose(operation -> vertx.executeBlocking(() -> {
+      ValidatedRequestImpl validatedParams = validateParameters(operation, request);
+      RequestParameter body = validateBody(operation.getRequestBody(), request, decodingOptions(operation));
+      return validatedParams.withBody(body, request.getSpooledParts());
     }));
   }
 
+  private ValidatedRequestImpl validateParameters(Operation operation, ValidatableRequest request) {
+    Map<String, RequestParameter> cookies = new HashMap<>(request.getCookies().size());
+    Map<String, RequestParameter> headers = new HashMap<>(request.getHeaders().size());
+    Map<String, RequestParameter> path = new HashMap<>(request.getPathParameters().size());
+    Map<String, RequestParameter> query = new HashMap<>(request.getQuery().size());
+
+    List<Parameter> parameters = operation.getParameters();
+    RequestParameter[] indexed = new RequestParameter[parameters.size() + 1];
+
+    for (int i = 0; i < parameters.size(); i++) {
+      Parameter param = parameters.get(i);
+      RequestParameter validated;
+      switch (param.getIn()) {
+        case COOKIE:
+          validated = validateParameter(param, request.getCookies().get(param.getName()));
+          cookies.put(param.getName(), validated);
+          break;
+        case HEADER:
+          validated = validateParameter(param, request.getHeaders().get(param.getName()));
+          headers.put(param.getName(), validated);
+          break;
+        case PATH:
+          validated = validateParameter(param, request.getPathParameters().get(param.getName()));
+          path.put(param.getName(), validated);
+          break;
+        default:
+          validated = validateParameter(param, request.getQuery().get(param.getName()));
+          query.put(param.getName(), validated);
+      }
+      indexed[i] = validated;
+    }
+    RequestParameter noBody = new RequestParameterImpl(null);
+    indexed[parameters.size()] = noBody;
+    return new ValidatedRequestImpl(cookies, headers, path, query, noBody, operation, indexed);
+  }
+
   // VisibleForTesting
   public RequestParameter validateParameter(Parameter parameter, RequestParameter value) throws ValidatorException {
     if (value == null || value.isNull()) {
@@ -125,25 +236,45 @@ public class RequestValidatorImpl extends BaseValidator implements RequestValida
     }
     Object transformedValue = transformer.transform(parameter, String.valueOf(value.get()));
 
-    OutputUnit result = contract
-        .getSchemaRepository()
-        .validator(parameter.getSchema())
-        .validate(transformedValue);
+    OutputUnit result = validator(parameter.getSchema()).validate(transformedValue);
 
     try {
       result.checkValidity();
-      return new RequestParameterImpl(transformedValue);
+      return PrimitiveRequestParameterImpl.of(parameter.getSchemaType(), transformedValue);
     } catch (JsonSchemaValidationException e) {
       throw createErrorFromOutputUnitType(parameter, result, e);
     }
   }
 
+  /**
+   * Returns the limits for decoding the JSON content of the passed operation. The limits of the validator are
+   * overridden by the extension {@link Operation#EXTENSION_JSON_DECODING_LIMITS}, they are merged once per operation.
+   */
+  private JsonDecodingOptions decodingOptions(Operation operation) {
+    return operationDecodingOptions.computeIfAbsent(operation, op -> {
+      Object limits = operation.getExtensions().get(Operation.EXTENSION_JSON_DECODING_LIMITS);
+      if (!(limits instanceof JsonObject)) {
+        return Optional.ofNullable(decodingOptions);
+      }
+      JsonDecodingOptions base = decodingOptions == null ? new JsonDecodingOptions() : decodingOptions;
+      return Optional.of(base.merge((JsonObject) limits));
+    }).orElse(null);
+  }
+
   // VisibleForTesting
   public RequestParameter validateBody(RequestBody requestBody, ValidatableRequest request) {
+    return validateBody(requestBody, request, decodingOptions);
+  }
+
+  private RequestParameter validateBody(RequestBody requestBody, ValidatableRequest request,
+      JsonDecodingOptions jsonDecodingOptions) {
     if (requestBody == null) {
       return new RequestParameterImpl(null);
     }
-    if (request.getBody() == null || request.getBody().isEmpty()) {
+    // a decoded body like an empty JsonObject is not empty in terms of the request body
+    boolean bodyDecoded =
+        request instanceof ValidatableRequestImpl && ((ValidatableRequestImpl) request).isBodyDecoded();
+    if (request.getBody() == null || (bodyDecoded ? request.getBody().isNull() : request.getBody().isEmpty())) {
       if (requestBody.isRequired()) {
         throw new ValidatorException("The related request does not contain the required body.",
             MISSING_REQUIRED_PARAMETER);
@@ -153,8 +284,121 @@ public class RequestValidatorImpl extends BaseValidator implements RequestValida
     }
 
     MediaType mediaType = requestBody.determineContentType(request.getContentType());
+    if (bodyDecoded) {
+      return validateDecoded(mediaType, request.getBody().get(), REQUEST);
+    }
+    if (request.getBody().get() instanceof SpooledPart) {
+      return validateSpooled(mediaType, request.getContentType(), (SpooledPart) request.getBody().get(), REQUEST,
+          jsonDecodingOptions);
+    }
+    if (request.getBody().get() instanceof StreamedMultipartBody) {
+      return validateStreamedBody(mediaType, request.getContentType(), (StreamedMultipartBody) request.getBody().get(),
+          jsonDecodingOptions);
+    }
     Buffer content = request.getBody().getBuffer(Buffer.buffer());
 
-    return validate(mediaType, request.getContentType(), content, REQUEST);
+    return validate(mediaType, request.getContentType(), content, REQUEST, jsonDecodingOptions);
+  }
+
+  /**
+   * Validates a multipart body that was read as a stream. The spooled parts can't be part of the schema validation,
+   * therefore the other parts are validated against the schema without the properties of the spooled parts, and the
+   * size of every spooled part is checked against the declared <i>minLength</i> and <i>maxLength</i> of its property.
+   */
+  private RequestParameter validateStreamedBody(MediaType mediaType, String contentType, StreamedMultipartBody body,
+      JsonDecodingOptions jsonDecodingOptions) {
+    if (mediaType == null) {
+      throw new ValidatorException("The format of the " + REQUEST + " body is not supported",
+          UNSUPPORTED_VALUE_FORMAT);
+    }
+
+    MultipartFormAnalyser analyser = MultipartFormAnalyser.fromParts(contentType, body.getParts(), REQUEST);
+    analyser.setJsonDecodingOptions(jsonDecodingOptions);
+    analyser.checkSyntacticalCorrectness();
+    JsonObject formData = (JsonObject) analyser.transform();
+    if (!isSchemaValidationRequired(mediaType) || !(mediaType.getSchema() instanceof JsonObject)) {
+      return new RequestParameterImpl(formData);
+    }
+
+    JsonObject schema = (JsonObject) mediaType.getSchema();
+    JsonObject properties = schema.getValue(KEY_PROPERTIES) instanceof JsonObject
+        ? schema.getJsonObject(KEY_PROPERTIES)
+        : new JsonObject();
+    Set<String> spooledProperties = new TreeSet<>();
+    for (SpooledPart spooledPart : body.getSpooledParts().values()) {
+      Object propertySchema = properties.getValue(spooledPart.getName());
+      if (propertySchema != null) {
+        spooledProperties.add(spooledPart.getName());
+      } else {
+        propertySchema = schema.getValue(KEY_ADDITIONAL_PROPERTIES);
+        if (Boolean.FALSE.equals(propertySchema)) {
+          String msg = String.format("The request body property %s is not allowed.", spooledPart.getName());
+          throw new ValidatorException(msg, INVALID_VALUE);
+        }
+      }
+      validateSpooledPart(spooledPart, propertySchema);
+    }
+
+    Validator validator = spooledProperties.isEmpty() ? validator(mediaType.getSchema())
+        : spooledSchemaValidators.computeIfAbsent(mediaType, type -> new ConcurrentHashMap<>())
+            .computeIfAbsent(spooledProperties, names -> contract.getSchemaRepository()
+                .validator(JsonSchema.of(withoutProperties(schema, names))));
+    OutputUnit result = validator.validate(formData);
+    try {
+      result.checkValidity();
+    } catch (JsonSchemaValidationException e) {
+      throw createInvalidValueBody(result, REQUEST, e);
+    }
+    return new RequestParameterImpl(formData);
+  }
+
+  private static void validateSpooledPart(SpooledPart spooledPart, Object propertySchema) {
+    if (!(propertySchema instanceof JsonObject)) {
+      return;
+    }
+    Object minLength = ((JsonObject) propertySchema).getValue(KEY_MIN_LENGTH);
+    if (minLength instanceof Number && spooledPart.getSize() < ((Number) minLength).longValue()) {
+      String msg = String.format("The value of the request body property %s is smaller than the minimum size of " +
+          "%s bytes.", spooledPart.getName(), minLength);
+      throw new ValidatorException(msg, INVALID_VALUE);
+    }
+    Object maxLength = ((JsonObject) propertySchema).getValue(KEY_MAX_LENGTH);
+    if (maxLength instanceof Number && spooledPart.getSize() > ((Number) maxLength).longValue()) {
+      String msg = String.format("The value of the request body property %s exceeds the maximum size of %s bytes.",
+          spooledPart.getName(), maxLength);
+      throw new ValidatorException(msg, INVALID_VALUE);
+    }
+  }
+
+  /**
+   * Returns a shallow copy of the passed object schema without the passed properties. They are also removed from
+   * <i>required</i>, and the bounds of the number of properties are reduced by their number.
+   */
+  private static JsonObject withoutProperties(JsonObject schema, Set<String> names) {
+    JsonObject copy = new JsonObject(new LinkedHashMap<>(schema.getMap()));
+    JsonObject properties = new JsonObject(new LinkedHashMap<>(schema.getJsonObject(KEY_PROPERTIES).getMap()));
+    names.forEach(properties::remove);
+    copy.put(KEY_PROPERTIES, properties);
+
+    Object required = schema.getValue(KEY_REQUIRED);
+    if (required instanceof JsonArray) {
+      JsonArray remaining = new JsonArray();
+      for (Object name : (JsonArray) required) {
+        if (!names.contains(name)) {
+          remaining.add(name);
+        }
+      }
+      copy.put(KEY_REQUIRED, remaining);
+    }
+    Object minProperties = schema.getValue(KEY_MIN_PROPERTIES);
+    if (minProperties instanceof Number) {
+      copy.put(KEY_MIN_PROPERTIES, Math.max(0, ((Number) minProperties).intValue() - names.size()));
+    }
+    Object maxProperties = schema.getValue(KEY_MAX_PROPERTIES);
+    if (maxProperties instanceof Number) {
+      // a negative bound can't be satisfied, like the bound of the complete body can't be satisfied
+      copy.put(KEY_MAX_PROPERTIES, ((Number) maxProperties).intValue() - names.size());
+    }
+    return copy;
   }
 }
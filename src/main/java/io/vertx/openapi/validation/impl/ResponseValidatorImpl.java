@@ -82,11 +82,11 @@ public class ResponseValidatorImpl extends BaseValidator implements ResponseVali
     }
     Object transformedValue = TRANSFORMER.transform(parameter, String.valueOf(value.get()));
 
-    OutputUnit result = contract.getSchemaRepository().validator(parameter.getSchema()).validate(transformedValue);
+    OutputUnit result = validator(parameter.getSchema()).validate(transformedValue);
 
     try {
       result.checkValidity();
-      return new RequestParameterImpl(transformedValue);
+      return PrimitiveRequestParameterImpl.of(parameter.getSchemaType(), transformedValue);
     } catch (JsonSchemaValidationException e) {
       throw createInvalidValueParameter(parameter, result, e);
     }
@@ -97,12 +97,18 @@ public class ResponseValidatorImpl extends BaseValidator implements ResponseVali
     if (response.getContent().isEmpty()) {
       return new RequestParameterImpl(null);
     }
-    if (params.getBody() == null || params.getBody().isEmpty()) {
+    // a decoded body like an empty JsonObject is not empty in terms of the response body
+    boolean bodyDecoded =
+        params instanceof ValidatableResponseImpl && ((ValidatableResponseImpl) params).isBodyDecoded();
+    if (params.getBody() == null || (bodyDecoded ? params.getBody().isNull() : params.getBody().isEmpty())) {
       throw new ValidatorException("The related response does not contain the required body.",
           MISSING_REQUIRED_PARAMETER);
     }
 
-    MediaType mediaType = response.getContent().get(params.getContentType());
+    MediaType mediaType = response.determineContentType(params.getContentType());
+    if (bodyDecoded) {
+      return validateDecoded(mediaType, params.getBody().get(), RESPONSE);
+    }
     Buffer content = params.getBody().getBuffer(Buffer.buffer());
 
     return validate(mediaType, params.getContentType(), content, RESPONSE);
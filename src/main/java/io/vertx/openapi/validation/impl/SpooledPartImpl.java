@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.Future;
+import io.vertx.core.file.AsyncFile;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.file.OpenOptions;
+import io.vertx.openapi.validation.SpooledPart;
+
+public class SpooledPartImpl implements SpooledPart {
+  private final FileSystem fileSystem;
+  private final String name;
+  private final String fileName;
+  private final String contentType;
+  private final long size;
+  private final String path;
+
+  public SpooledPartImpl(FileSystem fileSystem, String name, String fileName, String contentType, long size,
+      String path) {
+    this.fileSystem = fileSystem;
+    this.name = name;
+    this.fileName = fileName;
+    this.contentType = contentType;
+    this.size = size;
+    this.path = path;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getFileName() {
+    return fileName;
+  }
+
+  @Override
+  public String getContentType() {
+    return contentType;
+  }
+
+  @Override
+  public long getSize() {
+    return size;
+  }
+
+  @Override
+  public String getPath() {
+    return path;
+  }
+
+  @Override
+  public Future<AsyncFile> open() {
+    return fileSystem.open(path, new OpenOptions().setRead(true).setWrite(false).setCreate(false));
+  }
+
+  @Override
+  public Future<Void> delete() {
+    return fileSystem.delete(path);
+  }
+}
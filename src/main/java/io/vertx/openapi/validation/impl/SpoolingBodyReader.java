@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.openapi.validation.RequestParameter;
+import io.vertx.openapi.validation.SpooledPart;
+import io.vertx.openapi.validation.StreamingMultipartOptions;
+
+/**
+ * Reads a complete body from a stream, e.g. a JSON text sequence. The body is kept in memory up to the spool
+ * threshold, a larger body is written to a temporary file and is passed as {@link SpooledPart} with the name
+ * {@link #SPOOLED_BODY_NAME}. The result of {@link #read()} is either a {@link Buffer} or a {@link SpooledPart}.
+ * The content of the body is not inspected while it is read, e.g. the records of a JSON text sequence are validated
+ * only after the whole body was read.
+ */
+public class SpoolingBodyReader extends AbstractSpoolingReader<RequestParameter> {
+
+  /**
+   * The name of a spooled body.
+   */
+  public static final String SPOOLED_BODY_NAME = "body";
+
+  private final String contentType;
+
+  private Buffer memory = Buffer.buffer();
+  private Spool spool;
+  private long size;
+
+  /**
+   * @param fileSystem  the file system for the temporary file.
+   * @param stream      the stream of the body.
+   * @param contentType the content type of the body.
+   * @param options     the options.
+   */
+  public SpoolingBodyReader(FileSystem fileSystem, ReadStream<Buffer> stream, String contentType,
+      StreamingMultipartOptions options) {
+    this(fileSystem, stream, contentType, options, -1);
+  }
+
+  /**
+   * @param fileSystem  the file system for the temporary file.
+   * @param stream      the stream of the body.
+   * @param contentType the content type of the body.
+   * @param options     the options.
+   * @param maxBodySize the maximum size in bytes of the body, or a negative value if the size is not limited.
+   */
+  public SpoolingBodyReader(FileSystem fileSystem, ReadStream<Buffer> stream, String contentType,
+      StreamingMultipartOptions options, long maxBodySize) {
+    super(fileSystem, stream, options, maxBodySize);
+    this.contentType = contentType;
+  }
+
+  @Override
+  protected void handle(Buffer chunk) {
+    size += chunk.length();
+    if (spool != null) {
+      write(spool, chunk);
+    } else {
+      memory.appendBuffer(chunk);
+      if (memory.length() > options.getSpoolThreshold()) {
+        spool = startSpool(memory);
+        memory = null;
+      }
+    }
+  }
+
+  @Override
+  protected void endOfStream() {
+    if (spool != null) {
+      close(spool);
+    }
+  }
+
+  @Override
+  protected RequestParameter result() {
+    if (spool == null) {
+      return new RequestParameterImpl(memory);
+    }
+    return new RequestParameterImpl(
+        new SpooledPartImpl(fileSystem, SPOOLED_BODY_NAME, null, contentType, size, spool.getPath()));
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import io.vertx.openapi.mediatype.impl.MultipartPart;
+import io.vertx.openapi.validation.SpooledPart;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The body of a multipart/form-data request that was read as a stream. The parts that are kept in memory are already
+ * parsed, the others are spooled to temporary files.
+ */
+public class StreamedMultipartBody {
+  private final List<MultipartPart> parts;
+  private final Map<String, SpooledPart> spooledParts;
+
+  public StreamedMultipartBody(List<MultipartPart> parts, Map<String, SpooledPart> spooledParts) {
+    this.parts = Collections.unmodifiableList(parts);
+    this.spooledParts = Collections.unmodifiableMap(spooledParts);
+  }
+
+  public List<MultipartPart> getParts() {
+    return parts;
+  }
+
+  public Map<String, SpooledPart> getSpooledParts() {
+    return spooledParts;
+  }
+
+  /**
+   * Deletes the temporary files of all spooled parts.
+   */
+  public void deleteSpooledParts() {
+    spooledParts.values().forEach(SpooledPart::delete);
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import static io.vertx.openapi.validation.ValidatorErrorType.INVALID_VALUE;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.file.FileSystem;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.openapi.contract.MediaType;
+import io.vertx.openapi.mediatype.impl.MultipartPart;
+import io.vertx.openapi.mediatype.impl.MultipartStreamParser;
+import io.vertx.openapi.validation.SpooledPart;
+import io.vertx.openapi.validation.StreamingMultipartOptions;
+import io.vertx.openapi.validation.ValidatorException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads a multipart/form-data body from a stream. Parts of type <i>application/octet-stream</i> that exceed the spool
+ * threshold are written to temporary files, all other parts are kept in memory. The declared <i>maxLength</i> of a
+ * property is enforced while reading, so that an oversized part is rejected before it is completely received. The
+ * parts that are kept in memory are limited by {@link StreamingMultipartOptions#getMaxPartMemorySize()} and
+ * {@link StreamingMultipartOptions#getMaxMemorySize()}. A spooled part must not occur more than once, because only one
+ * spooled part per name can be passed on.
+ */
+public class StreamingMultipartReader extends AbstractSpoolingReader<StreamedMultipartBody>
+    implements MultipartStreamParser.PartHandler {
+  private static final String KEY_PROPERTIES = "properties";
+  private static final String KEY_MAX_LENGTH = "maxLength";
+  private static final String OCTET_STREAM = "application/octet-stream";
+
+  private final Map<String, Long> maxSizes;
+  private final MultipartStreamParser parser;
+
+  private final List<MultipartPart> parts = new ArrayList<>();
+  private final Map<String, SpooledPart> spooledParts = new LinkedHashMap<>();
+  private final Set<String> spooledNames = new HashSet<>();
+  // the size of all parts that are kept in memory
+  private long memorySize;
+
+  // state of the current part
+  private MultipartPart part;
+  private String fileName;
+  private Buffer memory;
+  private Spool spool;
+  private long size;
+
+  /**
+   * @param fileSystem the file system for the temporary files.
+   * @param stream     the stream of the body.
+   * @param boundary   the boundary of the multipart message.
+   * @param options    the options.
+   * @param maxSizes   the maximum sizes of the parts in bytes, see {@link #maxSizes(MediaType)}.
+   */
+  public StreamingMultipartReader(FileSystem fileSystem, ReadStream<Buffer> stream, String boundary,
+      StreamingMultipartOptions options, Map<String, Long> maxSizes) {
+    this(fileSystem, stream, boundary, options, maxSizes, -1);
+  }
+
+  /**
+   * @param fileSystem  the file system for the temporary files.
+   * @param stream      the stream of the body.
+   * @param boundary    the boundary of the multipart message.
+   * @param options     the options.
+   * @param maxSizes    the maximum sizes of the parts in bytes, see {@link #maxSizes(MediaType)}.
+   * @param maxBodySize the maximum size in bytes of the body, or a negative value if the size is not limited.
+   */
+  public StreamingMultipartReader(FileSystem fileSystem, ReadStream<Buffer> stream, String boundary,
+      StreamingMultipartOptions options, Map<String, Long> maxSizes, long maxBodySize) {
+    super(fileSystem, stream, options, maxBodySize);
+    this.maxSizes = maxSizes;
+    this.parser = new MultipartStreamParser(boundary, this);
+  }
+
+  /**
+   * Extracts the declared <i>maxLength</i> of the properties of a multipart media type.
+   *
+   * @param mediaType the media type, can be null.
+   * @return the maximum sizes in bytes by property name.
+   */
+  public static Map<String, Long> maxSizes(MediaType mediaType) {
+    JsonSchema schema = mediaType == null ? null : mediaType.getSchema();
+    Object properties = schema == null ? null : schema.get(KEY_PROPERTIES);
+    if (!(properties instanceof JsonObject)) {
+      return Collections.emptyMap();
+    }
+    Map<String, Long> maxSizes = new HashMap<>();
+    for (Map.Entry<String, Object> property : (JsonObject) properties) {
+      if (property.getValue() instanceof JsonObject) {
+        Object maxLength = ((JsonObject) property.getValue()).getValue(KEY_MAX_LENGTH);
+        if (maxLength instanceof Number) {
+          maxSizes.put(property.getKey(), ((Number) maxLength).longValue());
+        }
+      }
+    }
+    return maxSizes;
+  }
+
+  @Override
+  protected void handle(Buffer chunk) {
+    parser.handle(chunk);
+  }
+
+  @Override
+  protected void endOfStream() {
+    parser.end();
+  }
+
+  @Override
+  protected StreamedMultipartBody result() {
+    return new StreamedMultipartBody(parts, spooledParts);
+  }
+
+  @Override
+  public void start(MultipartPart part, String fileName) {
+    this.part = part;
+    this.fileName = fileName;
+    this.memory = Buffer.buffer();
+    this.spool = null;
+    this.size = 0;
+  }
+
+  @Override
+  public void data(Buffer data) {
+    if (failed()) {
+      return;
+    }
+    size += data.length();
+    Long maxSize = maxSizes.get(part.getName());
+    if (maxSize != null && size > maxSize) {
+      String msg = String.format("The value of the request body property %s exceeds the maximum size of %d bytes.",
+          part.getName(), maxSize);
+      fail(new ValidatorException(msg, INVALID_VALUE));
+      return;
+    }
+
+    if (spool != null) {
+      write(spool, data);
+      return;
+    }
+    memory.appendBuffer(data);
+    memorySize += data.length();
+    if (memory.length() > options.getSpoolThreshold() && part.getContentType().startsWith(OCTET_STREAM)) {
+      if (!spooledNames.add(part.getName())) {
+        String msg = String.format("The request body property %s occurs more than once, which is not supported for "
+            + "parts that are spooled to temporary files.", part.getName());
+        fail(new ValidatorException(msg, INVALID_VALUE));
+        return;
+      }
+      memorySize -= memory.length();
+      spool = startSpool(memory);
+      memory = null;
+    } else if (options.getMaxPartMemorySize() >= 0 && memory.length() > options.getMaxPartMemorySize()) {
+      String msg = String.format("The value of the request body property %s exceeds the maximum in-memory size of %d "
+          + "bytes.", part.getName(), options.getMaxPartMemorySize());
+      fail(new ValidatorException(msg, INVALID_VALUE));
+    } else if (options.getMaxMemorySize() >= 0 && memorySize > options.getMaxMemorySize()) {
+      String msg = String.format("The request body parts exceed the maximum in-memory size of %d bytes.",
+          options.getMaxMemorySize());
+      fail(new ValidatorException(msg, INVALID_VALUE));
+    }
+  }
+
+  @Override
+  public void end() {
+    if (failed()) {
+      return;
+    }
+    if (spool == null) {
+      parts.add(new MultipartPart(part.getName(), part.getContentType(), memory.length() == 0 ? null : memory));
+    } else {
+      Spool current = spool;
+      String name = part.getName();
+      String contentType = part.getContentType();
+      String currentFileName = fileName;
+      long currentSize = size;
+      close(current, () -> spooledParts.put(name,
+          new SpooledPartImpl(fileSystem, name, currentFileName, contentType, currentSize, current.getPath())));
+    }
+    part = null;
+    memory = null;
+    spool = null;
+  }
+}
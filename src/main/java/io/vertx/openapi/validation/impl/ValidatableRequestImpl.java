@@ -13,11 +13,14 @@
 package io.vertx.openapi.validation.impl;
 
 import io.vertx.openapi.validation.RequestParameter;
+import io.vertx.openapi.validation.SpooledPart;
 import io.vertx.openapi.validation.ValidatableRequest;
+import java.util.Collections;
 import java.util.Map;
 
 public class ValidatableRequestImpl extends ValidatedRequestImpl implements ValidatableRequest {
   private final String contentType;
+  private final boolean bodyDecoded;
 
   public ValidatableRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
       Map<String, RequestParameter> path, Map<String, RequestParameter> query) {
@@ -27,12 +30,40 @@ public class ValidatableRequestImpl extends ValidatedRequestImpl implements Vali
   public ValidatableRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
       Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body,
       String contentType) {
-    super(cookies, headers, path, query, body);
+    this(cookies, headers, path, query, body, contentType, false);
+  }
+
+  /**
+   * @param bodyDecoded true if the body was already decoded into the Vert.x JSON model, and must not be parsed again.
+   */
+  public ValidatableRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
+      Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body,
+      String contentType, boolean bodyDecoded) {
+    super(cookies, headers, path, query, body, null, null, spooledPartsOf(body));
     this.contentType = contentType;
+    this.bodyDecoded = bodyDecoded;
+  }
+
+  private static Map<String, SpooledPart> spooledPartsOf(RequestParameter body) {
+    if (body != null && body.get() instanceof StreamedMultipartBody) {
+      return ((StreamedMultipartBody) body.get()).getSpooledParts();
+    }
+    if (body != null && body.get() instanceof SpooledPart) {
+      SpooledPart spooledBody = (SpooledPart) body.get();
+      return Collections.singletonMap(spooledBody.getName(), spooledBody);
+    }
+    return null;
   }
 
   @Override
   public String getContentType() {
     return contentType;
   }
+
+  /**
+   * @return true if the body was already decoded into the Vert.x JSON model.
+   */
+  public boolean isBodyDecoded() {
+    return bodyDecoded;
+  }
 }
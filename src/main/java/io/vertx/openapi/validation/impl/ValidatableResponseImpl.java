@@ -12,9 +12,13 @@
 
 package io.vertx.openapi.validation.impl;
 
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toMap;
+
 import io.vertx.openapi.validation.ResponseParameter;
 import io.vertx.openapi.validation.ValidatableResponse;
 import java.util.Map;
+import java.util.Optional;
 
 public class ValidatableResponseImpl extends ValidatedResponseImpl implements ValidatableResponse {
 
@@ -22,15 +26,37 @@ public class ValidatableResponseImpl extends ValidatedResponseImpl implements Va
 
   private final int statusCode;
 
+  private final boolean bodyDecoded;
+
   public ValidatableResponseImpl(int statusCode, Map<String, ResponseParameter> headers) {
     this(statusCode, headers, null, null);
   }
 
   public ValidatableResponseImpl(int statusCode, Map<String, ResponseParameter> headers, ResponseParameter body,
       String contentType) {
+    this(statusCode, headers, body, contentType, false);
+  }
+
+  /**
+   * @param bodyDecoded true if the body was already decoded into the Vert.x JSON model, and must not be parsed again.
+   */
+  public ValidatableResponseImpl(int statusCode, Map<String, ResponseParameter> headers, ResponseParameter body,
+      String contentType, boolean bodyDecoded) {
     super(headers, body, null);
     this.statusCode = statusCode;
     this.contentType = contentType;
+    this.bodyDecoded = bodyDecoded;
+  }
+
+  /**
+   * Transforms the passed headers into response parameters with lower case names.
+   *
+   * @param headers the headers, can be null.
+   * @return the transformed headers.
+   */
+  public static Map<String, ResponseParameter> transformHeaders(Map<String, String> headers) {
+    return Optional.ofNullable(headers).orElse(emptyMap()).entrySet().stream().collect(toMap(
+        entry -> entry.getKey().toLowerCase(), entry -> new RequestParameterImpl(entry.getValue())));
   }
 
   @Override
@@ -42,4 +68,11 @@ public class ValidatableResponseImpl extends ValidatedResponseImpl implements Va
   public int getStatusCode() {
     return statusCode;
   }
+
+  /**
+   * @return true if the body was already decoded into the Vert.x JSON model.
+   */
+  public boolean isBodyDecoded() {
+    return bodyDecoded;
+  }
 }
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.openapi.validation.impl;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.Parameter;
+import io.vertx.openapi.validation.RequestParameter;
+import io.vertx.openapi.validation.ValidatedRequest;
+import io.vertx.openapi.validation.ValidatedRequestBinder;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class ValidatedRequestBinderImpl<T> implements ValidatedRequestBinder<T> {
+  private static final String BODY = "body";
+  private static final RequestParameter EMPTY = new RequestParameterImpl(null);
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final Map<Class<?>, MethodHandle> EXTRACTORS = new HashMap<>();
+
+  static {
+    registerExtractor(int.class, "asInt");
+    registerExtractor(long.class, "asLong");
+    registerExtractor(float.class, "asFloat");
+    registerExtractor(double.class, "asDouble");
+    registerExtractor(boolean.class, "asBoolean");
+    registerExtractor(Integer.class, "asIntegerObject");
+    registerExtractor(Long.class, "asLongObject");
+    registerExtractor(Float.class, "asFloatObject");
+    registerExtractor(Double.class, "asDoubleObject");
+    registerExtractor(Boolean.class, "asBooleanObject");
+    registerExtractor(String.class, "asString");
+    registerExtractor(JsonObject.class, "asJsonObject");
+    registerExtractor(JsonArray.class, "asJsonArray");
+    registerExtractor(Buffer.class, "asBuffer");
+    registerExtractor(RequestParameter.class, "asParameter");
+    registerExtractor(Object.class, "asObject");
+  }
+
+  private final Class<T> type;
+  private final Operation operation;
+  private final List<Parameter> parameters;
+  // (RequestParameter[]) -> Object
+  private final MethodHandle factory;
+  // (Object, RequestParameter[]) -> void
+  private final MethodHandle[] setters;
+
+  public ValidatedRequestBinderImpl(Operation operation, Class<T> type) {
+    this.type = type;
+    this.operation = operation;
+    this.parameters = operation.getParameters();
+    ValidatedRequestBinderImpl.class.getModule().addReads(type.getModule());
+
+    Object[] recordComponents = recordComponents(type);
+    if (recordComponents != null) {
+      this.factory = recordFactory(recordComponents);
+      this.setters = new MethodHandle[0];
+    } else {
+      this.factory = classFactory();
+      this.setters = fieldSetters();
+    }
+  }
+
+  @Override
+  public T bind(ValidatedRequest request) {
+    RequestParameter[] values = null;
+    // the indexed parameters are only in the order of the parameters of this binder, if the request was validated for
+    // the operation of this binder
+    if (request instanceof ValidatedRequestImpl && ((ValidatedRequestImpl) request).getOperation() == operation) {
+      values = ((ValidatedRequestImpl) request).getIndexedParameters();
+    }
+    if (values == null || values.length != parameters.size() + 1) {
+      values = collect(request);
+    }
+
+    try {
+      Object instance = (Object) factory.invokeExact(values);
+      for (MethodHandle setter : setters) {
+        setter.invokeExact(instance, values);
+      }
+      return type.cast(instance);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException("Can't bind request to " + type.getName(), t);
+    }
+  }
+
+  private RequestParameter[] collect(ValidatedRequest request) {
+    RequestParameter[] values = new RequestParameter[parameters.size() + 1];
+    for (int i = 0; i < parameters.size(); i++) {
+      Parameter param = parameters.get(i);
+      Map<String, RequestParameter> source;
+      switch (param.getIn()) {
+        case COOKIE:
+          source = request.getCookies();
+          break;
+        case HEADER:
+          source = request.getHeaders();
+          break;
+        case PATH:
+          source = request.getPathParameters();
+          break;
+        default:
+          source = request.getQuery();
+      }
+      values[i] = orEmpty(source.get(param.getName()));
+    }
+    values[parameters.size()] = orEmpty(request.getBody());
+    return values;
+  }
+
+  private MethodHandle recordFactory(Object[] components) {
+    try {
+      String[] names = new String[components.length];
+      Class<?>[] types = new Class<?>[components.length];
+      for (int i = 0; i < components.length; i++) {
+        names[i] = (String) components[i].getClass().getMethod("getName").invoke(components[i]);
+        types[i] = (Class<?>) components[i].getClass().getMethod("getType").invoke(components[i]);
+      }
+      Constructor<T> constructor = type.getDeclaredConstructor(types);
+      constructor.setAccessible(true);
+      MethodHandle ctor = LOOKUP.unreflectConstructor(constructor);
+
+      MethodHandle[] filters = new MethodHandle[components.length];
+      for (int i = 0; i < components.length; i++) {
+        filters[i] = extractor(names[i], types[i]);
+      }
+      MethodHandle filtered = MethodHandles.filterArguments(ctor, 0, filters);
+      // all constructor arguments are extracted from the same array
+      MethodHandle collapsed = MethodHandles.permuteArguments(filtered,
+          methodType(type, RequestParameter[].class), new int[components.length]);
+      return collapsed.asType(methodType(Object.class, RequestParameter[].class));
+    } catch (IllegalArgumentException e) {
+      throw e;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw bindingNotPossible(e.getMessage(), e);
+    }
+  }
+
+  private MethodHandle classFactory() {
+    try {
+      Constructor<T> constructor = type.getDeclaredConstructor();
+      constructor.setAccessible(true);
+      MethodHandle ctor = LOOKUP.unreflectConstructor(constructor).asType(methodType(Object.class));
+      return MethodHandles.dropArguments(ctor, 0, RequestParameter[].class);
+    } catch (NoSuchMethodException e) {
+      throw bindingNotPossible("A class must provide a no-argument constructor", e);
+    } catch (IllegalArgumentException e) {
+      throw e;
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw bindingNotPossible(e.getMessage(), e);
+    }
+  }
+
+  private MethodHandle[] fieldSetters() {
+    List<MethodHandle> fieldSetters = new ArrayList<>();
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isTransient(modifiers)
+            || field.isSynthetic()) {
+          continue;
+        }
+        try {
+          field.setAccessible(true);
+          MethodHandle setter = LOOKUP.unreflectSetter(field);
+          MethodHandle filtered =
+              MethodHandles.filterArguments(setter, 1, extractor(field.getName(), field.getType()));
+          fieldSetters.add(filtered.asType(methodType(void.class, Object.class, RequestParameter[].class)));
+        } catch (IllegalArgumentException e) {
+          throw e;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+          throw bindingNotPossible(e.getMessage(), e);
+        }
+      }
+    }
+    return fieldSetters.toArray(new MethodHandle[0]);
+  }
+
+  /**
+   * @return a method handle of type (RequestParameter[]) -> targetType, that extracts the value of the related
+   * parameter.
+   */
+  private MethodHandle extractor(String name, Class<?> targetType) {
+    MethodHandle extractor = EXTRACTORS.get(targetType);
+    if (extractor == null) {
+      throw bindingNotPossible("Type " + targetType.getName() + " of " + name + " is not supported", null);
+    }
+    return MethodHandles.insertArguments(extractor, 1, resolveIndex(name));
+  }
+
+  private int resolveIndex(String name) {
+    if (BODY.equals(name)) {
+      return parameters.size();
+    }
+    String normalizedName = normalize(name);
+    int index = -1;
+    for (int i = 0; i < parameters.size(); i++) {
+      if (normalize(parameters.get(i).getName()).equals(normalizedName)) {
+        if (index != -1) {
+          throw bindingNotPossible("Name " + name + " matches multiple parameters", null);
+        }
+        index = i;
+      }
+    }
+    if (index == -1) {
+      throw bindingNotPossible("Name " + name + " doesn't match any parameter", null);
+    }
+    return index;
+  }
+
+  private IllegalArgumentException bindingNotPossible(String reason, Throwable cause) {
+    return new IllegalArgumentException("Can't bind " + type.getName() + ": " + reason, cause);
+  }
+
+  private static String normalize(String name) {
+    StringBuilder sb = new StringBuilder(name.length());
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c != '-' && c != '_' && c != '.') {
+        sb.append(c);
+      }
+    }
+    return sb.toString().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Records are only available in Java 16+, therefore they are detected via reflection.
+   *
+   * @return the record components, or null if the passed type is not a record.
+   */
+  private static Object[] recordComponents(Class<?> type) {
+    try {
+      Method getRecordComponents = Class.class.getMethod("getRecordComponents");
+      return (Object[]) getRecordComponents.invoke(type);
+    } catch (NoSuchMethodException e) {
+      return null;
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Can't inspect " + type.getName(), e);
+    }
+  }
+
+  private static void registerExtractor(Class<?> targetType, String methodName) {
+    try {
+      MethodType mt = methodType(targetType, RequestParameter[].class, int.class);
+      EXTRACTORS.put(targetType, LOOKUP.findStatic(ValidatedRequestBinderImpl.class, methodName, mt));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static RequestParameter orEmpty(RequestParameter parameter) {
+    return parameter == null ? EMPTY : parameter;
+  }
+
+  private static int asInt(RequestParameter[] values, int index) {
+    return values[index].getInt(0);
+  }
+
+  private static long asLong(RequestParameter[] values, int index) {
+    return values[index].getLongValue(0L);
+  }
+
+  private static float asFloat(RequestParameter[] values, int index) {
+    return values[index].getFloatValue(0f);
+  }
+
+  private static double asDouble(RequestParameter[] values, int index) {
+    return values[index].getDoubleValue(0d);
+  }
+
+  private static boolean asBoolean(RequestParameter[] values, int index) {
+    return values[index].getBooleanValue(false);
+  }
+
+  private static Integer asIntegerObject(RequestParameter[] values, int index) {
+    return values[index].getInteger();
+  }
+
+  private static Long asLongObject(RequestParameter[] values, int index) {
+    return values[index].getLong();
+  }
+
+  private static Float asFloatObject(RequestParameter[] values, int index) {
+    return values[index].getFloat();
+  }
+
+  private static Double asDoubleObject(RequestParameter[] values, int index) {
+    return values[index].getDouble();
+  }
+
+  private static Boolean asBooleanObject(RequestParameter[] values, int index) {
+    return values[index].getBoolean();
+  }
+
+  private static String asString(RequestParameter[] values, int index) {
+    return values[index].getString();
+  }
+
+  private static JsonObject asJsonObject(RequestParameter[] values, int index) {
+    return values[index].getJsonObject();
+  }
+
+  private static JsonArray asJsonArray(RequestParameter[] values, int index) {
+    return values[index].getJsonArray();
+  }
+
+  private static Buffer asBuffer(RequestParameter[] values, int index) {
+    return values[index].getBuffer();
+  }
+
+  private static RequestParameter asParameter(RequestParameter[] values, int index) {
+    return values[index];
+  }
+
+  private static Object asObject(RequestParameter[] values, int index) {
+    return values[index].get();
+  }
+}
@@ -12,7 +12,9 @@
 
 package io.vertx.openapi.validation.impl;
 
+import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.validation.RequestParameter;
+import io.vertx.openapi.validation.SpooledPart;
 import io.vertx.openapi.validation.ValidatedRequest;
 import java.util.Collections;
 import java.util.Map;
@@ -23,6 +25,9 @@ public class ValidatedRequestImpl implements ValidatedRequest {
   private final Map<String, RequestParameter> path;
   private final Map<String, RequestParameter> query;
   private final RequestParameter body;
+  private final Operation operation;
+  private final RequestParameter[] indexedParameters;
+  private final Map<String, SpooledPart> spooledParts;
 
   public ValidatedRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
       Map<String, RequestParameter> path, Map<String, RequestParameter> query) {
@@ -31,11 +36,48 @@ public class ValidatedRequestImpl implements ValidatedRequest {
 
   public ValidatedRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
       Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body) {
+    this(cookies, headers, path, query, body, null, null);
+  }
+
+  /**
+   * @param operation         the operation the parameters were validated for, or null.
+   * @param indexedParameters the validated parameters in the order of {@link Operation#getParameters()} of the passed
+   *                          operation, followed by the body, or null.
+   */
+  public ValidatedRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
+      Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body,
+      Operation operation, RequestParameter[] indexedParameters) {
+    this(cookies, headers, path, query, body, operation, indexedParameters, null);
+  }
+
+  public ValidatedRequestImpl(Map<String, RequestParameter> cookies, Map<String, RequestParameter> headers,
+      Map<String, RequestParameter> path, Map<String, RequestParameter> query, RequestParameter body,
+      Operation operation, RequestParameter[] indexedParameters, Map<String, SpooledPart> spooledParts) {
     this.cookies = safeUnmodifiableMap(cookies);
     this.headers = safeUnmodifiableMap(headers);
     this.path = safeUnmodifiableMap(path);
     this.query = safeUnmodifiableMap(query);
     this.body = body == null ? new RequestParameterImpl(null) : body;
+    this.operation = operation;
+    this.indexedParameters = indexedParameters;
+    this.spooledParts = spooledParts == null ? Collections.emptyMap() : Collections.unmodifiableMap(spooledParts);
+  }
+
+  /**
+   * Creates a copy of this validated request with the passed body. This request is not modified, because it may
+   * already have been passed to a check before the body was read.
+   *
+   * @param body         the validated body.
+   * @param spooledParts the spooled parts of the body, can be null.
+   * @return the validated request with the body.
+   */
+  public ValidatedRequestImpl withBody(RequestParameter body, Map<String, SpooledPart> spooledParts) {
+    RequestParameter[] indexed = null;
+    if (indexedParameters != null) {
+      indexed = indexedParameters.clone();
+      indexed[indexed.length - 1] = body;
+    }
+    return new ValidatedRequestImpl(cookies, headers, path, query, body, operation, indexed, spooledParts);
   }
 
   private static Map<String, RequestParameter> safeUnmodifiableMap(Map<String, RequestParameter> map) {
@@ -66,4 +108,26 @@ public class ValidatedRequestImpl implements ValidatedRequest {
   public RequestParameter getBody() {
     return body;
   }
+
+  @Override
+  public Map<String, SpooledPart> getSpooledParts() {
+    return spooledParts;
+  }
+
+  /**
+   * @return the operation the parameters were validated for, or null if it is not known.
+   */
+  public Operation getOperation() {
+    return operation;
+  }
+
+  /**
+   * Used by the {@link ValidatedRequestBinderImpl} to access the parameters without map lookups.
+   *
+   * @return the validated parameters in the order of {@link Operation#getParameters()} of {@link #getOperation()},
+   * followed by the body, or null if they are not available.
+   */
+  public RequestParameter[] getIndexedParameters() {
+    return indexedParameters;
+  }
 }
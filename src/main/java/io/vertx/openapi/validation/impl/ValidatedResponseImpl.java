@@ -18,6 +18,7 @@ import static java.util.stream.Collectors.toMap;
 
 import io.vertx.core.Future;
 import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
 import io.vertx.openapi.validation.ResponseParameter;
 import io.vertx.openapi.validation.ValidatableResponse;
 import io.vertx.openapi.validation.ValidatedResponse;
@@ -83,7 +84,10 @@ public class ValidatedResponseImpl implements ValidatedResponse {
       return serverResponse.send();
     } else {
       serverResponse.headers().add(CONTENT_TYPE.toString(), unvalidated.getContentType());
-      return serverResponse.send(unvalidated.getBody().getBuffer());
+      ResponseParameter unvalidatedBody = unvalidated.getBody();
+      // a decoded body is encoded only once, when it is sent
+      return serverResponse.send(unvalidatedBody.isBuffer() ? unvalidatedBody.getBuffer()
+          : Json.encodeToBuffer(unvalidatedBody.get()));
     }
   }
 }
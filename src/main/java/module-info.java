@@ -1,14 +1,18 @@
 module io.vertx.openapi {
 
+  requires io.netty.buffer;
   requires io.netty.codec.http;
   requires io.netty.common;
   requires org.yaml.snakeyaml;
   requires transitive io.vertx.core;
   requires transitive io.vertx.jsonschema;
   requires io.vertx.core.logging;
+  requires com.fasterxml.jackson.core;
 
   requires static io.vertx.codegen.api;
   requires static io.vertx.docgen;
+  requires static com.fasterxml.jackson.dataformat.cbor;
+  requires static com.fasterxml.jackson.dataformat.smile;
 
   exports io.vertx.openapi.contract;
   exports io.vertx.openapi.validation;
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static io.vertx.tests.contract.impl.ContractBuildScalingTest.syntheticContract;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.contract.impl.OpenAPIContractImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the build time of synthetic contracts of increasing size. The time per operation stays constant when the
+ * build scales linearly with the size of the contract.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ContractBuildBenchmark {
+
+  @Param({ "100", "1000", "10000", "50000" })
+  public int operations;
+
+  private JsonObject contract;
+
+  @Setup
+  public void setup() {
+    contract = syntheticContract(operations);
+  }
+
+  @Benchmark
+  public OpenAPIContractImpl build() {
+    return ContractBuildScalingTest.build(contract);
+  }
+}
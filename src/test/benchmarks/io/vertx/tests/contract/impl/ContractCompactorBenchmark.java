@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static io.vertx.tests.contract.impl.ContractBuildScalingTest.syntheticContract;
+import static io.vertx.tests.contract.impl.ContractCompactorTest.withDocumentation;
+
+import io.vertx.openapi.contract.impl.OpenAPIContractImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap that is retained by synthetic contracts, which are built with and without compact mode. Only the
+ * contracts are retained, the specs they were built from are released before the heap is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class ContractCompactorBenchmark {
+
+  @Param({ "1000", "10000" })
+  public int operations;
+
+  @Param({ "false", "true" })
+  public boolean compact;
+
+  @Benchmark
+  public OpenAPIContractImpl build(RetainedHeap heap) {
+    // the repository is not used to build the contract, a mock would add its recorded invocations to the heap
+    return heap.measure(() -> ContractCompactorTest.build(withDocumentation(syntheticContract(operations)), compact,
+        null));
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reports the heap that is retained by the results of a benchmark as secondary result {@code retainedBytes}. The
+ * heap is measured after full garbage collections, therefore the benchmarks should run in single shot mode with a fixed
+ * heap size.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class RetainedHeap {
+
+  private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+  public long retainedBytes;
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    retainedBytes = 0;
+  }
+
+  private static long usedHeap() {
+    for (int i = 0; i < 5; i++) {
+      System.gc();
+    }
+    return MEMORY.getHeapMemoryUsage().getUsed();
+  }
+
+  /**
+   * Adds the heap that is retained by the result of the passed supplier.
+   */
+  <T> T measure(Supplier<T> supplier) {
+    long before = usedHeap();
+    T result = supplier.get();
+    retainedBytes += usedHeap() - before;
+    return result;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static io.vertx.tests.contract.impl.SharedReferenceResolverTest.PART;
+import static io.vertx.tests.contract.impl.SharedReferenceResolverTest.operation;
+import static io.vertx.tests.contract.impl.SharedReferenceResolverTest.part;
+import static io.vertx.tests.contract.impl.SharedReferenceResolverTest.ref;
+import static io.vertx.tests.contract.impl.SharedReferenceResolverTest.repository;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.openapi.contract.impl.SharedReferenceResolver;
+import java.lang.ref.Reference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap that is retained by synthetic resolved contracts, whose references are either resolved separately
+ * and preserved, or inlined by the repository. Only the resolved contracts are measured, the repository exists before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class SharedReferenceResolverBenchmark {
+
+  @Param({ "1000", "10000" })
+  public int operations;
+
+  @Param({ "false", "true" })
+  public boolean preserveReferences;
+
+  /**
+   * Returns a contract, whose operations reference a few schemas of an additional contract part.
+   */
+  private static JsonObject syntheticContract(int operations) {
+    JsonObject paths = new JsonObject();
+    for (int i = 0; i < operations; i++) {
+      JsonObject schema = ref(PART + "#/components/schemas/" + (i % 2 == 0 ? "Owner" : "Address"));
+      paths.put("/resource" + i, new JsonObject().put("get", operation("get" + i, schema)));
+    }
+    return new JsonObject()
+        .put("openapi", "3.1.0")
+        .put("info", new JsonObject().put("title", "Synthetic").put("version", "1.0.0"))
+        .put("paths", paths);
+  }
+
+  @Benchmark
+  public JsonObject resolve(RetainedHeap heap) {
+    JsonObject contract = syntheticContract(operations);
+    SchemaRepository repository = repository(contract, part());
+    JsonObject resolved = heap.measure(() -> preserveReferences ? SharedReferenceResolver.resolve(repository, contract)
+        : repository.resolve(contract));
+    Reference.reachabilityFence(repository);
+    return resolved;
+  }
+}
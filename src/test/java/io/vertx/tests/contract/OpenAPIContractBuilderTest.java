@@ -12,15 +12,24 @@
 package io.vertx.tests.contract;
 
 import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.tests.ResourceHelper.getRelatedTestResourcePath;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.OpenAPIContractBuilder;
 import io.vertx.openapi.contract.OpenAPIContractException;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.Parameter;
+import io.vertx.openapi.contract.impl.ContractSnapshot;
 import io.vertx.openapi.impl.Utils;
 import io.vertx.openapi.mediatype.ContentAnalyserFactory;
 import io.vertx.openapi.mediatype.MediaTypePredicate;
@@ -30,12 +39,14 @@ import io.vertx.tests.ResourceHelper;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Tests the OpenAPIContractBuilder. Only tests the different constellations a contract can be built from.
@@ -125,6 +136,223 @@ public class OpenAPIContractBuilderTest {
         })));
   }
 
+  @Test
+  void should_write_and_load_snapshot(Vertx vertx, @TempDir Path tempDir) throws Exception {
+    String snapshotPath = tempDir.resolve("contract.snapshot").toString();
+    JsonObject components = ResourceHelper.loadJson(vertx, SPLIT_CONTRACT_REFERENCE_PATH);
+    JsonObject contract = ResourceHelper.loadJson(vertx, SPLIT_CONTRACT_PATH);
+    OpenAPIContract built = OpenAPIContract.builder(vertx)
+        .setContract(contract.copy())
+        .putAdditionalContractPart(SPLIT_CONTRACT_REFERENCE_KEY, components.copy())
+        .setSnapshotPath(snapshotPath)
+        .build()
+        .await();
+    assertThat(vertx.fileSystem().existsBlocking(snapshotPath)).isTrue();
+
+    // replace the snapshot by one with a marker, to verify that the contract is loaded from it
+    byte[] hash = ContractSnapshot.hash(contract, Map.of(SPLIT_CONTRACT_REFERENCE_KEY, components), false);
+    ContractSnapshot snapshot = ContractSnapshot.read(vertx.fileSystem().readFileBlocking(snapshotPath), hash);
+    assertThat(snapshot).isNotNull();
+    JsonObject marked = snapshot.getResolvedSpec();
+    marked.getJsonObject("info").put("title", "From snapshot");
+    vertx.fileSystem().writeFileBlocking(snapshotPath, ContractSnapshot.write(hash, snapshot.getVersion(), marked));
+
+    OpenAPIContract loaded = OpenAPIContract.builder(vertx)
+        .setContract(contract.copy())
+        .putAdditionalContractPart(SPLIT_CONTRACT_REFERENCE_KEY, components.copy())
+        .setSnapshotPath(snapshotPath)
+        .build()
+        .await();
+    assertThat(loaded.getRawContract().getJsonObject("info").getString("title")).isEqualTo("From snapshot");
+    assertThat(loaded.operations()).hasSize(built.operations().size());
+    assertThat(loaded.getSchemaRepository().find(SPLIT_CONTRACT_REFERENCE_KEY)).isNotNull();
+
+    // the snapshot of inlined references is not loaded for a contract with preserved references
+    OpenAPIContract preserved = OpenAPIContract.builder(vertx)
+        .setContract(contract.copy())
+        .putAdditionalContractPart(SPLIT_CONTRACT_REFERENCE_KEY, components.copy())
+        .setPreserveReferences(true)
+        .setSnapshotPath(snapshotPath)
+        .build()
+        .await();
+    assertThat(preserved.getRawContract().getJsonObject("info").getString("title"))
+        .isEqualTo(built.getRawContract().getJsonObject("info").getString("title"));
+
+    // a changed contract is built again and the snapshot is replaced
+    JsonObject changed = contract.copy();
+    changed.getJsonObject("info").put("version", "2.0.0");
+    OpenAPIContract rebuilt = OpenAPIContract.builder(vertx)
+        .setContract(changed)
+        .putAdditionalContractPart(SPLIT_CONTRACT_REFERENCE_KEY, components.copy())
+        .setSnapshotPath(snapshotPath)
+        .build()
+        .await();
+    assertThat(rebuilt.getRawContract().getJsonObject("info").getString("title"))
+        .isEqualTo(built.getRawContract().getJsonObject("info").getString("title"));
+    assertThat(rebuilt.getRawContract().getJsonObject("info").getString("version")).isEqualTo("2.0.0");
+  }
+
+  @Test
+  void should_ignore_corrupt_snapshot(Vertx vertx, @TempDir Path tempDir) {
+    String snapshotPath = tempDir.resolve("contract.snapshot").toString();
+    vertx.fileSystem().writeFileBlocking(snapshotPath, Buffer.buffer("corrupt"));
+    OpenAPIContract contract = OpenAPIContract.builder(vertx)
+        .setContractPath(CONTRACT_PATH)
+        .setSnapshotPath(snapshotPath)
+        .build()
+        .await();
+    assertThat(contract.operations()).isNotEmpty();
+    assertThat(vertx.fileSystem().readFileBlocking(snapshotPath).length()).isGreaterThan(7);
+  }
+
+  @Test
+  void should_build_same_contract_in_parallel(Vertx vertx) {
+    JsonObject paths = new JsonObject();
+    for (int i = 0; i < 200; i++) {
+      JsonObject responses = JsonObject.of("200", JsonObject.of("description", "ok"));
+      paths.put("/items" + i + "/{id}", JsonObject.of("parameters", JsonArray.of(JsonObject.of("name", "id", "in",
+          "path", "required", true, "schema", JsonObject.of("type", "integer"))),
+          "get", JsonObject.of("operationId", "get" + i, "responses", responses),
+          "delete", JsonObject.of("operationId", "delete" + i, "responses", responses)));
+      paths.put("/items" + i + "/latest", JsonObject.of("get", JsonObject.of("operationId", "latest" + i,
+          "responses", responses)));
+    }
+    JsonObject contract = JsonObject.of("openapi", "3.1.0", "info", JsonObject.of("title", "Parallel", "version",
+        "1.0.0"), "paths", paths);
+
+    OpenAPIContract sequential = OpenAPIContract.builder(vertx).setContract(contract.copy()).build().await();
+    OpenAPIContract parallel = OpenAPIContract.builder(vertx)
+        .setContract(contract.copy())
+        .setBuildPool(ForkJoinPool.commonPool())
+        .build()
+        .await();
+
+    assertThat(parallel.getPaths().stream().map(io.vertx.openapi.contract.Path::getName).collect(toList()))
+        .containsExactlyElementsIn(
+            sequential.getPaths().stream().map(io.vertx.openapi.contract.Path::getName).collect(toList()))
+        .inOrder();
+    assertThat(parallel.operations().stream().map(Operation::getOperationId).collect(toList()))
+        .containsExactlyElementsIn(sequential.operations().stream().map(Operation::getOperationId).collect(toList()));
+    assertThat(parallel.findOperation("/items7/latest", GET).getOperationId()).isEqualTo("latest7");
+    assertThat(parallel.findOperation("/items7/42", GET).getOperationId()).isEqualTo("get7");
+  }
+
+  @Test
+  void should_build_contract_with_additional_contract_parts_in_parallel(Vertx vertx) {
+    OpenAPIContract contract = OpenAPIContract.builder(vertx)
+        .setContractPath(SPLIT_CONTRACT_PATH.toString())
+        .putAdditionalContractPartPath(SPLIT_CONTRACT_REFERENCE_KEY, SPLIT_CONTRACT_REFERENCE_PATH.toString())
+        .setBuildPool(ForkJoinPool.commonPool())
+        .build()
+        .await();
+    assertThat(contract.operations()).isNotEmpty();
+    assertThat(contract.getSchemaRepository().find(SPLIT_CONTRACT_REFERENCE_KEY)).isNotNull();
+  }
+
+  @Test
+  void should_report_same_error_when_built_in_parallel(Vertx vertx) {
+    JsonObject contract = ResourceHelper.loadJson(vertx, SPLIT_CONTRACT_PATH);
+    JsonObject invalidPart = JsonObject.of("type", 42);
+    Throwable sequential = assertThrows(OpenAPIContractException.class, () -> OpenAPIContract.builder(vertx)
+        .setContract(contract.copy())
+        .putAdditionalContractPart(SPLIT_CONTRACT_REFERENCE_KEY, invalidPart.copy())
+        .build()
+        .await());
+    Throwable parallel = assertThrows(OpenAPIContractException.class, () -> OpenAPIContract.builder(vertx)
+        .setContract(contract.copy())
+        .putAdditionalContractPart(SPLIT_CONTRACT_REFERENCE_KEY, invalidPart.copy())
+        .setBuildPool(ForkJoinPool.commonPool())
+        .build()
+        .await());
+    assertThat(parallel).hasMessageThat().isEqualTo(sequential.getMessage());
+  }
+
+  @Test
+  void should_build_operations_lazily(Vertx vertx) {
+    OpenAPIContract eager = OpenAPIContract.builder(vertx).setContractPath(CONTRACT_PATH).build().await();
+    OpenAPIContract lazy = OpenAPIContract.builder(vertx)
+        .setContractPath(CONTRACT_PATH)
+        .setLazyOperations(true)
+        .setWarmUpOperations(true)
+        .setBuildPool(ForkJoinPool.commonPool())
+        .build()
+        .await();
+    for (Operation operation : eager.operations()) {
+      Operation lazyOperation = lazy.operation(operation.getOperationId());
+      assertThat(lazyOperation.getHttpMethod()).isEqualTo(operation.getHttpMethod());
+      assertThat(lazyOperation.getParameters()).hasSize(operation.getParameters().size());
+      assertThat(lazy.findOperation(operation.getAbsoluteOpenAPIPath(), operation.getHttpMethod()))
+          .isSameInstanceAs(lazyOperation);
+    }
+  }
+
+  @Test
+  void should_build_compact_contract(Vertx vertx, @TempDir Path tempDir) {
+    String snapshotPath = tempDir.resolve("contract.snapshot").toString();
+    OpenAPIContract contract = OpenAPIContract.builder(vertx).setContractPath(CONTRACT_PATH).build().await();
+    OpenAPIContract compact = OpenAPIContract.builder(vertx)
+        .setContractPath(CONTRACT_PATH)
+        .setSnapshotPath(snapshotPath)
+        .setCompact(true)
+        .build()
+        .await();
+
+    assertThat(compact.getRawContract().containsKey("paths")).isFalse();
+    assertThat(compact.operations()).hasSize(contract.operations().size());
+    Operation listPets = compact.operation("listPets");
+    assertThat(listPets.getOpenAPIModel().isEmpty()).isTrue();
+    Parameter limit = listPets.getParameters().get(0);
+    assertThat(compact.getSchemaRepository().validator(limit.getSchema()).validate(100).getValid()).isTrue();
+    assertThat(compact.getSchemaRepository().validator(limit.getSchema()).validate(101).getValid()).isFalse();
+
+    // the snapshot contains the complete resolved contract
+    OpenAPIContract loaded = OpenAPIContract.builder(vertx)
+        .setContractPath(CONTRACT_PATH)
+        .setSnapshotPath(snapshotPath)
+        .build()
+        .await();
+    assertThat(loaded.getRawContract()).isEqualTo(contract.getRawContract());
+  }
+
+  @Test
+  void should_build_contract_with_preserved_references(Vertx vertx, @TempDir Path tempDir) {
+    String snapshotPath = tempDir.resolve("contract.snapshot").toString();
+    OpenAPIContract contract = OpenAPIContract.builder(vertx).setContractPath(CONTRACT_PATH).build().await();
+    OpenAPIContract preserved = OpenAPIContract.builder(vertx)
+        .setContractPath(CONTRACT_PATH)
+        .setSnapshotPath(snapshotPath)
+        .setPreserveReferences(true)
+        .build()
+        .await();
+
+    assertThat(preserved.getRawContract()).isEqualTo(contract.getRawContract());
+    // all operations share the referenced error schema
+    JsonSchema error = preserved.operation("listPets").getDefaultResponse().getContent().get("application/json")
+        .getSchema();
+    for (String operationId : new String[] {"createPets", "showPetById"}) {
+      JsonSchema schema = preserved.operation(operationId).getDefaultResponse().getContent().get("application/json")
+          .getSchema();
+      assertThat(((JsonObject) schema).getMap()).isSameInstanceAs(((JsonObject) error).getMap());
+    }
+    assertThat(preserved.getSchemaRepository().validator(error).validate(new JsonObject().put("code", 1)
+        .put("message", "failed")).getValid()).isTrue();
+    assertThat(preserved.getSchemaRepository().validator(error).validate(new JsonObject().put("code", 1))
+        .getValid()).isFalse();
+
+    // the snapshot preserves the shared schemas
+    OpenAPIContract loaded = OpenAPIContract.builder(vertx)
+        .setContractPath(CONTRACT_PATH)
+        .setSnapshotPath(snapshotPath)
+        .setPreserveReferences(true)
+        .build()
+        .await();
+    assertThat(loaded.getRawContract()).isEqualTo(contract.getRawContract());
+    JsonSchema loadedError = loaded.operation("listPets").getDefaultResponse().getContent().get("application/json")
+        .getSchema();
+    assertThat(((JsonObject) loaded.operation("showPetById").getDefaultResponse().getContent()
+        .get("application/json").getSchema()).getMap()).isSameInstanceAs(((JsonObject) loadedError).getMap());
+  }
+
   /**
    * To test the override mechanisms for additional contracts we use the following setup: <br>
    * We load a contract and add two additional contracts that exist in two versions, distinguishable
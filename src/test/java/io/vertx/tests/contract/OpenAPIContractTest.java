@@ -155,6 +155,24 @@ class OpenAPIContractTest {
         })));
   }
 
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testSplitSpecWithPreservedReferences(Vertx vertx, VertxTestContext testContext) {
+    Path resourcePath = getRelatedTestResourcePath(OpenAPIContractTest.class).resolve("split");
+    JsonObject contract = loadJson(vertx, resourcePath.resolve("petstore.json"));
+    JsonObject components = loadJson(vertx, resourcePath.resolve("components.json"));
+
+    OpenAPIContract.builder(vertx)
+        .setContract(contract)
+        .putAdditionalContractPart("https://example.com/petstore", components)
+        .setPreserveReferences(true)
+        .build()
+        .onComplete(testContext.succeeding(c -> testContext.verify(() -> {
+          assertThat(c.getRawContract()).isEqualTo(loadJson(vertx, resourcePath.resolve("bundled_dereferenced.json")));
+          testContext.completeNow();
+        })));
+  }
+
   @Test
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
   void testValidJsonSchemaProvidedAsAdditionalSpecFiles(Vertx vertx, VertxTestContext testContext) {
@@ -125,6 +125,23 @@ class OpenAPIVersionTest {
     })));
   }
 
+  @ParameterizedTest(name = "{index} should derive independent repositories from shared schemas for {0}")
+  @EnumSource(OpenAPIVersion.class)
+  void testGetRepositorySharesSchemas(OpenAPIVersion version, Vertx vertx) {
+    SchemaRepository first = version.getRepository(vertx, DUMMY_BASE_URI).await();
+    SchemaRepository second = version.getRepository(vertx, "https://vertx.io").await();
+    assertThat(first).isNotSameInstanceAs(second);
+    for (String ref : version.schemaFiles()) {
+      assertThat(first.find(ref)).isSameInstanceAs(second.find(ref));
+    }
+
+    String ref = "https://example.com/only-in-first";
+    first.dereference(ref, JsonSchema.of(new JsonObject().put("type", "string")));
+    assertThat(first.find(ref)).isNotNull();
+    assertThat(second.find(ref)).isNull();
+    assertThat(version.getRepository(vertx, DUMMY_BASE_URI).await().find(ref)).isNull();
+  }
+
   @ParameterizedTest(name = "{index} test testFromSpec with OpenAPIVersion {0}")
   @MethodSource("provideVersionAndSpec")
   void testFromSpec(OpenAPIVersion version, Path specFile, Vertx vertx) {
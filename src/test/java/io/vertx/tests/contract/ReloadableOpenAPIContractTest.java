@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.GET;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.OpenAPIContractException;
+import io.vertx.openapi.contract.ReloadableOpenAPIContract;
+import io.vertx.openapi.validation.RequestValidator;
+import io.vertx.openapi.validation.ValidatableRequest;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.impl.ValidatableRequestImpl;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(VertxExtension.class)
+class ReloadableOpenAPIContractTest {
+
+  private static JsonObject contract() {
+    JsonObject responses = new JsonObject().put("200", new JsonObject().put("description", "ok"));
+    JsonObject petResponses = new JsonObject().put("200", new JsonObject()
+        .put("description", "a pet")
+        .put("content", new JsonObject().put("application/json", new JsonObject()
+            .put("schema", new JsonObject().put("$ref", "#/components/schemas/Pet")))));
+    return new JsonObject()
+        .put("openapi", "3.1.0")
+        .put("info", new JsonObject().put("title", "Pets").put("version", "1.0.0"))
+        .put("paths", new JsonObject()
+            .put("/pets", new JsonObject().put("get", new JsonObject()
+                .put("operationId", "listPets")
+                .put("responses", responses)))
+            .put("/pets/{petId}", new JsonObject().put("get", new JsonObject()
+                .put("operationId", "showPetById")
+                .put("parameters", new JsonArray().add(new JsonObject()
+                    .put("name", "petId")
+                    .put("in", "path")
+                    .put("required", true)
+                    .put("schema", new JsonObject().put("type", "string"))))
+                .put("responses", petResponses)))
+            .put("/stores", new JsonObject().put("get", new JsonObject()
+                .put("operationId", "listStores")
+                .put("responses", responses))))
+        .put("components", new JsonObject().put("schemas", new JsonObject()
+            .put("Pet", new JsonObject()
+                .put("type", "object")
+                .put("properties", new JsonObject().put("name", new JsonObject().put("type", "string"))))));
+  }
+
+  private static ValidatableRequest request() {
+    return new ValidatableRequestImpl(Map.of(), Map.of(), Map.of(), Map.of());
+  }
+
+  private static ReloadableOpenAPIContract build(Vertx vertx, JsonObject contract) {
+    return OpenAPIContract.builder(vertx).setContract(contract).buildReloadable().await();
+  }
+
+  @Test
+  void testUpdateRebuildsOnlyChangedPaths(Vertx vertx) {
+    ReloadableOpenAPIContract reloadable = build(vertx, contract());
+    OpenAPIContract initial = reloadable.current();
+
+    JsonObject updated = contract();
+    updated.getJsonObject("paths").getJsonObject("/pets").getJsonObject("get").put("tags", new JsonArray().add("pets"));
+    updated.getJsonObject("paths").remove("/stores");
+    updated.getJsonObject("paths").put("/owners", new JsonObject().put("get", new JsonObject()
+        .put("operationId", "listOwners")
+        .put("responses", new JsonObject().put("200", new JsonObject().put("description", "ok")))));
+    OpenAPIContract contract = reloadable.update(updated).await();
+
+    assertThat(reloadable.current()).isSameInstanceAs(contract);
+    assertThat(contract).isNotSameInstanceAs(initial);
+    assertThat(contract.operation("listPets").getTags()).containsExactly("pets");
+    assertThat(contract.operation("showPetById")).isSameInstanceAs(initial.operation("showPetById"));
+    assertThat(contract.operation("listStores")).isNull();
+    assertThat(contract.operation("listOwners")).isNotNull();
+    assertThat(contract.findOperation("/owners", GET)).isSameInstanceAs(contract.operation("listOwners"));
+    assertThat(contract.findOperation("/stores", GET)).isNull();
+    // the initial contract is unchanged
+    assertThat(initial.operation("listPets").getTags()).isEmpty();
+    assertThat(initial.operation("listStores")).isNotNull();
+  }
+
+  @Test
+  void testUpdateOfComponentRebuildsReferencingPaths(Vertx vertx) {
+    ReloadableOpenAPIContract reloadable = build(vertx, contract());
+    OpenAPIContract initial = reloadable.current();
+
+    JsonObject updated = contract();
+    updated.getJsonObject("components").getJsonObject("schemas").getJsonObject("Pet").put("required",
+        new JsonArray().add("name"));
+    OpenAPIContract contract = reloadable.update(updated).await();
+
+    assertThat(contract.operation("listPets")).isSameInstanceAs(initial.operation("listPets"));
+    assertThat(contract.operation("listStores")).isSameInstanceAs(initial.operation("listStores"));
+    assertThat(contract.operation("showPetById")).isNotSameInstanceAs(initial.operation("showPetById"));
+    JsonSchema schema =
+        contract.operation("showPetById").getResponse(200).getContent().get("application/json").getSchema();
+    assertThat(schema.<JsonArray>get("required")).containsExactly("name");
+  }
+
+  @Test
+  void testUnchangedUpdateKeepsContract(Vertx vertx) {
+    ReloadableOpenAPIContract reloadable = build(vertx, contract());
+    OpenAPIContract initial = reloadable.current();
+    assertThat(reloadable.update(contract()).await()).isSameInstanceAs(initial);
+  }
+
+  @Test
+  void testGlobalChangeRebuildsContract(Vertx vertx) {
+    ReloadableOpenAPIContract reloadable = build(vertx, contract());
+    OpenAPIContract initial = reloadable.current();
+
+    JsonObject updated =
+        contract().put("servers", new JsonArray().add(new JsonObject().put("url", "https://example.com/v2")));
+    OpenAPIContract contract = reloadable.update(updated).await();
+
+    assertThat(contract.getServers()).hasSize(1);
+    assertThat(contract.operation("listPets")).isNotSameInstanceAs(initial.operation("listPets"));
+    assertThat(contract.findOperation("/v2/pets", GET)).isSameInstanceAs(contract.operation("listPets"));
+  }
+
+  @Test
+  void testInvalidUpdateKeepsCurrentContract(Vertx vertx) {
+    ReloadableOpenAPIContract reloadable = build(vertx, contract());
+    OpenAPIContract initial = reloadable.current();
+
+    JsonObject updated = contract();
+    // a path item must be an object
+    updated.getJsonObject("paths").put("/stores", "invalid");
+    assertThrows(OpenAPIContractException.class, () -> reloadable.update(updated).await());
+    assertThat(reloadable.current()).isSameInstanceAs(initial);
+
+    // subsequent updates are compared with the current contract
+    JsonObject valid = contract();
+    valid.getJsonObject("paths").getJsonObject("/stores").getJsonObject("get")
+        .put("tags", new JsonArray().add("stores"));
+    OpenAPIContract contract = reloadable.update(valid).await();
+    assertThat(contract.operation("listStores").getTags()).containsExactly("stores");
+    assertThat(contract.operation("listPets")).isSameInstanceAs(initial.operation("listPets"));
+  }
+
+  @Test
+  void testValidatorFollowsUpdates(Vertx vertx) {
+    ReloadableOpenAPIContract reloadable = build(vertx, contract());
+    RequestValidator validator = RequestValidator.create(vertx, reloadable);
+
+    assertThrows(ValidatorException.class,
+        () -> validator.validate(request(), "listOwners").await());
+
+    JsonObject updated = contract();
+    updated.getJsonObject("paths").put("/owners", new JsonObject().put("get", new JsonObject()
+        .put("operationId", "listOwners")
+        .put("responses", new JsonObject().put("200", new JsonObject().put("description", "ok")))));
+    reloadable.update(updated).await();
+
+    assertThat(validator.validate(request(), "listOwners").await()).isNotNull();
+  }
+
+  @Test
+  void testWatchReloadsModifiedFile(Vertx vertx, VertxTestContext testContext, @TempDir Path tempDir)
+      throws Exception {
+    Path contractFile = tempDir.resolve("contract.json");
+    Files.writeString(contractFile, contract().encode());
+    ReloadableOpenAPIContract reloadable = OpenAPIContract.builder(vertx)
+        .setContractPath(contractFile.toString())
+        .buildReloadable()
+        .await();
+
+    Checkpoint reloaded = testContext.checkpoint();
+    reloadable.reloadHandler(contract -> testContext.verify(() -> {
+      assertThat(contract.operation("listPets").getTags()).containsExactly("pets");
+      reloadable.close();
+      reloaded.flag();
+    }));
+    reloadable.watch(10);
+
+    vertx.setTimer(100, id -> testContext.verify(() -> {
+      JsonObject updated = contract();
+      updated.getJsonObject("paths").getJsonObject("/pets").getJsonObject("get")
+          .put("tags", new JsonArray().add("pets"));
+      Files.writeString(contractFile, updated.encode());
+      // the modification time of some file systems has a resolution of seconds
+      Files.setLastModifiedTime(contractFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+    }));
+    assertThat(testContext.awaitCompletion(10, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void testCloseStopsWatchBeforeTimerIsSet(Vertx vertx, VertxTestContext testContext, @TempDir Path tempDir)
+      throws Exception {
+    Path contractFile = tempDir.resolve("contract.json");
+    Files.writeString(contractFile, contract().encode());
+    ReloadableOpenAPIContract reloadable = OpenAPIContract.builder(vertx)
+        .setContractPath(contractFile.toString())
+        .buildReloadable()
+        .await();
+
+    reloadable.reloadHandler(contract -> testContext.failNow("The closed watch reloaded the contract"));
+    // the initial check of the modification times is still in progress when the watch is replaced and closed
+    reloadable.watch(10);
+    reloadable.watch(10);
+    reloadable.close();
+
+    vertx.setTimer(100, id -> testContext.verify(() -> {
+      Files.writeString(contractFile, contract().put("info", new JsonObject().put("title", "Modified")
+          .put("version", "1.0.0")).encode());
+      Files.setLastModifiedTime(contractFile, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+    }));
+    vertx.setTimer(300, id -> testContext.completeNow());
+  }
+}
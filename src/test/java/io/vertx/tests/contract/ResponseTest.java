@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.vertx.openapi.contract.MediaType;
+import io.vertx.openapi.contract.Response;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ResponseTest {
+
+  private static MediaType mockMediaType(String identifier) {
+    MediaType mediaType = mock(MediaType.class);
+    when(mediaType.getIdentifier()).thenReturn(identifier);
+    return mediaType;
+  }
+
+  @Test
+  void testDefaultContentTypeResolution() {
+    MediaType json = mockMediaType("application/json");
+    MediaType text = mockMediaType("text/plain");
+    Map<String, MediaType> content = new LinkedHashMap<>();
+    content.put("application/json", json);
+    content.put("text/plain", text);
+    Response response = mock(Response.class, CALLS_REAL_METHODS);
+    when(response.getContent()).thenReturn(content);
+
+    assertThat(response.determineContentType("application/json; charset=utf-8")).isSameInstanceAs(json);
+    assertThat(response.determineContentType("text/plain; charset=utf-8")).isSameInstanceAs(text);
+    assertThat(response.determineContentType("application/xml")).isNull();
+    assertThat(response.negotiateContentType("text/plain, application/json;q=0.5")).isSameInstanceAs(text);
+    assertThat(response.negotiateContentType(null)).isSameInstanceAs(json);
+  }
+}
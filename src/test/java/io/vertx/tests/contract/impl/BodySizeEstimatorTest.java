@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.json.schema.common.dsl.Keywords.maxItems;
+import static io.vertx.json.schema.common.dsl.Keywords.maxLength;
+import static io.vertx.json.schema.common.dsl.Schemas.arraySchema;
+import static io.vertx.json.schema.common.dsl.Schemas.booleanSchema;
+import static io.vertx.json.schema.common.dsl.Schemas.intSchema;
+import static io.vertx.json.schema.common.dsl.Schemas.objectSchema;
+import static io.vertx.json.schema.common.dsl.Schemas.stringSchema;
+import static io.vertx.openapi.contract.impl.BodySizeEstimator.UNBOUNDED;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.contract.impl.BodySizeEstimator;
+import io.vertx.openapi.contract.impl.MediaTypeImpl;
+import io.vertx.openapi.mediatype.MediaTypeRegistration;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BodySizeEstimatorTest {
+
+  private static JsonObject boundedPet() {
+    return objectSchema()
+        .requiredProperty("name", stringSchema().with(maxLength(32)))
+        .property("tags", arraySchema().items(stringSchema().with(maxLength(8))).with(maxItems(4)))
+        .property("age", intSchema())
+        .property("vaccinated", booleanSchema())
+        .toJson().put("additionalProperties", false);
+  }
+
+  private static Stream<Arguments> testUnbounded() {
+    JsonObject recursive = new JsonObject().put("type", "object").put("additionalProperties", false);
+    recursive.put("properties", new JsonObject().put("child", recursive));
+
+    return Stream.of(
+        Arguments.of("string without maxLength", stringSchema().toJson()),
+        Arguments.of("array without maxItems", arraySchema().items(intSchema()).toJson()),
+        Arguments.of("open object", objectSchema().property("id", intSchema()).toJson()),
+        Arguments.of("object with additional properties", boundedPet().put("additionalProperties", true)),
+        Arguments.of("schema without type", new JsonObject().put("description", "anything")),
+        Arguments.of("recursive schema", recursive),
+        Arguments.of("anyOf with an unbounded alternative", new JsonObject().put("anyOf",
+            new JsonArray().add(boundedPet()).add(stringSchema().toJson()))));
+  }
+
+  @ParameterizedTest(name = "{index} {0} is unbounded")
+  @MethodSource
+  void testUnbounded(String scenario, JsonObject schema) {
+    assertThat(BodySizeEstimator.maxSize(schema)).isEqualTo(UNBOUNDED);
+  }
+
+  @Test
+  void testBoundedObjectAcceptsPrettyPrintedMaximum() {
+    long maxSize = BodySizeEstimator.maxSize(boundedPet());
+    assertThat(maxSize).isGreaterThan(0L);
+
+    String escapedName = "\\ud83d\\ude00".repeat(32);
+    JsonArray tags = new JsonArray();
+    for (int i = 0; i < 4; i++) {
+      tags.add("\u0001".repeat(8));
+    }
+    JsonObject largest = new JsonObject().put("name", escapedName).put("tags", tags)
+        .put("age", -Long.MAX_VALUE).put("vaccinated", false);
+    String pretty = largest.encodePrettily().replace("  ", "    ") + "\n";
+    assertThat((long) pretty.length()).isAtMost(maxSize);
+  }
+
+  @Test
+  void testCombinators() {
+    JsonObject small = stringSchema().with(maxLength(2)).toJson();
+    JsonObject large = stringSchema().with(maxLength(200)).toJson();
+    long smallSize = BodySizeEstimator.maxSize(small);
+    long largeSize = BodySizeEstimator.maxSize(large);
+
+    assertThat(BodySizeEstimator.maxSize(new JsonObject().put("allOf", new JsonArray().add(small).add(large))))
+        .isEqualTo(smallSize);
+    assertThat(BodySizeEstimator.maxSize(new JsonObject().put("oneOf", new JsonArray().add(small).add(large))))
+        .isEqualTo(largeSize);
+    assertThat(BodySizeEstimator.maxSize(stringSchema().with(maxLength(200)).toJson()
+        .put("allOf", new JsonArray().add(small)))).isEqualTo(smallSize);
+  }
+
+  @Test
+  void testEnumAndConst() {
+    long enumSize = BodySizeEstimator.maxSize(new JsonObject().put("enum", new JsonArray().add("a").add("abc")));
+    long constSize = BodySizeEstimator.maxSize(new JsonObject().put("const", "abc"));
+    assertThat(enumSize).isEqualTo(constSize);
+    assertThat(constSize).isLessThan(BodySizeEstimator.maxSize(stringSchema().with(maxLength(4)).toJson()));
+  }
+
+  @Test
+  void testMaxPropertiesWithPropertyNames() {
+    JsonObject map = objectSchema().toJson()
+        .put("additionalProperties", intSchema().toJson())
+        .put("propertyNames", stringSchema().with(maxLength(10)).toJson())
+        .put("maxProperties", 5);
+    assertThat(BodySizeEstimator.maxSize(map)).isGreaterThan(0L);
+    assertThat(BodySizeEstimator.maxSize(map.copy().put("maxProperties", 10)))
+        .isGreaterThan(BodySizeEstimator.maxSize(map));
+    assertThat(BodySizeEstimator.maxSize(map.copy().put("additionalProperties", true))).isEqualTo(UNBOUNDED);
+  }
+
+  @Test
+  void testMediaTypeMaxBodySize() {
+    JsonObject model = new JsonObject().put("schema", boundedPet());
+    long expected = BodySizeEstimator.maxSize(boundedPet());
+
+    assertThat(new MediaTypeImpl("application/json", model, MediaTypeRegistration.APPLICATION_JSON).getMaxBodySize())
+        .isEqualTo(expected);
+    assertThat(new MediaTypeImpl("application/vnd.pet+json", model, MediaTypeRegistration.VENDOR_SPECIFIC_JSON)
+        .getMaxBodySize()).isEqualTo(expected);
+    assertThat(new MediaTypeImpl("multipart/form-data", model, MediaTypeRegistration.MULTIPART_FORM_DATA)
+        .getMaxBodySize()).isEqualTo(UNBOUNDED);
+  }
+}
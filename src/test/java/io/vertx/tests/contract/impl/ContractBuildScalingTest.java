@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.core.http.HttpMethod.GET;
+import static io.vertx.core.http.HttpMethod.PUT;
+import static io.vertx.openapi.contract.OpenAPIVersion.V3_1;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.openapi.contract.impl.OpenAPIContractImpl;
+import io.vertx.openapi.mediatype.MediaTypeRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+
+/**
+ * Builds synthetic contracts. The build time of large contracts is measured by the {@code ContractBuildBenchmark} of
+ * the benchmarks profile.
+ */
+class ContractBuildScalingTest {
+
+  /**
+   * Creates a resolved contract with the passed number of operations. Every resource has a concrete and a templated
+   * path with operations that share path parameters, override them and use exploded query parameters.
+   */
+  static JsonObject syntheticContract(int operations) {
+    JsonObject paths = new JsonObject();
+    JsonObject responses = new JsonObject().put("200", new JsonObject().put("description", "ok"));
+    for (int i = 0; paths.size() * 2 < operations; i++) {
+      JsonObject idParam = parameter("id", "path", "integer").put("required", true);
+      JsonObject filterParam = parameter("filter", "query", "object");
+      paths.put("/v1/resource" + i + "/latest", new JsonObject()
+          .put("get", operation("latest" + i, responses, new JsonArray().add(filterParam)))
+          .put("delete", operation("deleteLatest" + i, responses, new JsonArray())));
+      paths.put("/v1/resource" + i + "/{id}", new JsonObject()
+          .put("parameters", new JsonArray().add(idParam).add(parameter("trace", "header", "string")))
+          .put("get", operation("get" + i, responses, new JsonArray().add(filterParam)))
+          .put("put", operation("put" + i, responses, new JsonArray().add(idParam.copy()))));
+    }
+    return new JsonObject()
+        .put("openapi", "3.1.0")
+        .put("info", new JsonObject().put("title", "Synthetic").put("version", "1.0.0"))
+        .put("servers", new JsonArray().add(new JsonObject().put("url", "https://example.com/api")))
+        .put("paths", paths);
+  }
+
+  private static JsonObject operation(String operationId, JsonObject responses, JsonArray parameters) {
+    return new JsonObject().put("operationId", operationId).put("parameters", parameters).put("responses", responses);
+  }
+
+  private static JsonObject parameter(String name, String in, String type) {
+    return new JsonObject().put("name", name).put("in", in).put("schema", new JsonObject().put("type", type));
+  }
+
+  static OpenAPIContractImpl build(JsonObject contract) {
+    return new OpenAPIContractImpl(contract, V3_1, Mockito.mock(SchemaRepository.class),
+        MediaTypeRegistry.createDefault());
+  }
+
+  @ParameterizedTest(name = "{index} Build contract with {0} operations")
+  @ValueSource(ints = { 100, 1_000 })
+  void testBuildSyntheticContract(int operations) {
+    OpenAPIContractImpl contract = build(syntheticContract(operations));
+
+    assertThat(contract.operations()).hasSize(operations);
+    assertThat(contract.getPaths()).hasSize(operations / 2);
+    int last = operations / 4 - 1;
+    assertThat(contract.findOperation("/api/v1/resource" + last + "/latest", GET).getOperationId())
+        .isEqualTo("latest" + last);
+    assertThat(contract.findOperation("/api/v1/resource" + last + "/42", GET).getOperationId())
+        .isEqualTo("get" + last);
+    // the overridden path parameter is not added twice, the header parameter of the path is added
+    assertThat(contract.operation("put" + last).getParameters()).hasSize(2);
+    assertThat(contract.findOperation("/api/v1/resource" + last + "/42", PUT))
+        .isSameInstanceAs(contract.operation("put" + last));
+  }
+}
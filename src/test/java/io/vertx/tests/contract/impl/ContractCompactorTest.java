@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.contract.OpenAPIVersion.V3_1;
+import static io.vertx.tests.contract.impl.ContractBuildScalingTest.syntheticContract;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.openapi.contract.OpenAPIContractException;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.Parameter;
+import io.vertx.openapi.contract.impl.ContractCompactor;
+import io.vertx.openapi.contract.impl.OpenAPIContractImpl;
+import io.vertx.openapi.contract.impl.ParameterImpl;
+import io.vertx.openapi.mediatype.MediaTypeRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests the compact mode of a contract. The retained heap of large contracts is measured by the
+ * {@code ContractCompactorBenchmark} of the benchmarks profile.
+ */
+class ContractCompactorTest {
+
+  private static OpenAPIContractImpl build(JsonObject resolvedSpec, boolean compact) {
+    return build(resolvedSpec, compact, Mockito.mock(SchemaRepository.class));
+  }
+
+  static OpenAPIContractImpl build(JsonObject resolvedSpec, boolean compact, SchemaRepository repository) {
+    return new OpenAPIContractImpl(resolvedSpec, V3_1, repository, MediaTypeRegistry.createDefault(), null, false,
+        compact);
+  }
+
+  static JsonObject withDocumentation(JsonObject contract) {
+    JsonObject header = new JsonObject()
+        .put("description", "The number of remaining requests")
+        .put("schema", new JsonObject().put("type", "integer"));
+    contract.getJsonObject("paths").forEach(path -> ((JsonObject) path.getValue()).forEach(operation -> {
+      if (operation.getValue() instanceof JsonObject) {
+        JsonObject model = (JsonObject) operation.getValue();
+        model.put("description", "Describes the operation " + model.getString("operationId") + " in detail.")
+            .put("responses", new JsonObject().put("200", new JsonObject()
+                .put("description", "ok")
+                .put("headers", new JsonObject().put("X-Rate-Limit", header.copy()))
+                .put("content", new JsonObject().put("application/json", new JsonObject()
+                    .put("schema", new JsonObject().put("type", "object"))
+                    .put("example", new JsonObject().put("id", 42).put("name", "example"))))));
+      }
+    }));
+    return contract;
+  }
+
+  @Test
+  void testCompactContract() {
+    OpenAPIContractImpl contract = build(syntheticContract(100), false);
+    OpenAPIContractImpl compact = build(syntheticContract(100), true);
+
+    assertThat(compact.getRawContract().containsKey("paths")).isFalse();
+    assertThat(compact.getRawContract().getJsonObject("info")).isEqualTo(contract.getRawContract().getJsonObject(
+        "info"));
+    assertThat(compact.operations()).hasSize(contract.operations().size());
+    for (Operation operation : contract.operations()) {
+      Operation compactOperation = compact.operation(operation.getOperationId());
+      assertThat(compactOperation.getOpenAPIModel().isEmpty()).isTrue();
+      assertThat(compactOperation.getAbsoluteOpenAPIPath()).isEqualTo(operation.getAbsoluteOpenAPIPath());
+      assertThat(compactOperation.getParameters()).hasSize(operation.getParameters().size());
+      for (int i = 0; i < operation.getParameters().size(); i++) {
+        Parameter parameter = operation.getParameters().get(i);
+        Parameter compactParameter = compactOperation.getParameters().get(i);
+        assertThat(compactParameter.getName()).isEqualTo(parameter.getName());
+        assertThat(compactParameter.getIn()).isEqualTo(parameter.getIn());
+        assertThat(compactParameter.getSchemaType()).isEqualTo(parameter.getSchemaType());
+        assertThat(compactParameter.getOpenAPIModel().isEmpty()).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void testIdenticalDefinitionsAreShared() {
+    OpenAPIContractImpl compact = build(withDocumentation(syntheticContract(100)), true);
+
+    Parameter filter = compact.operation("latest0").getParameters().get(0);
+    assertThat(compact.operation("latest1").getParameters().get(0)).isSameInstanceAs(filter);
+    assertThat(compact.operation("get7").getParameters().get(0)).isSameInstanceAs(filter);
+    assertThat(compact.operation("get0").getParameters().get(1))
+        .isSameInstanceAs(compact.operation("get1").getParameters().get(1));
+    Parameter header = compact.operation("latest0").getResponse(200).getHeaders().get(0);
+    assertThat(header.getName()).isEqualTo("X-Rate-Limit");
+    assertThat(compact.operation("put3").getResponse(200).getHeaders().get(0)).isSameInstanceAs(header);
+    // the schema of a shared parameter is interned
+    assertThat(filter.getSchema().<String>get("type")).isSameInstanceAs("object");
+  }
+
+  @Test
+  void testExtensionsAreRetained() {
+    JsonObject spec = syntheticContract(4);
+    JsonObject operationModel = spec.getJsonObject("paths").getJsonObject("/v1/resource0/latest").getJsonObject("get");
+    operationModel.put("x-operation", "op");
+    // the definition is shared with another operation
+    JsonObject filter = operationModel.getJsonArray("parameters").getJsonObject(0).copy().put("x-urldecode", false);
+    operationModel.getJsonArray("parameters").set(0, filter);
+    OpenAPIContractImpl compact = build(spec, true);
+
+    Operation operation = compact.operation("latest0");
+    assertThat(operation.getExtensions()).containsExactly("x-operation", "op");
+    assertThat(operation.getOpenAPIModel()).isEqualTo(new JsonObject().put("x-operation", "op"));
+    assertThat(operation.getParameters().get(0).getExtensions()).containsExactly("x-urldecode", false);
+    // a definition with different extensions is not shared
+    assertThat(compact.operation("get0").getParameters().get(0)).isNotSameInstanceAs(operation.getParameters().get(0));
+  }
+
+  @Test
+  void testRecursiveDefinitionsAreNotShared() {
+    JsonObject schema = new JsonObject().put("type", "object");
+    schema.put("properties", new JsonObject().put("self", new JsonObject(schema.getMap())));
+    JsonObject model = new JsonObject().put("name", "filter").put("in", "query").put("schema", schema);
+    ContractCompactor compactor = new ContractCompactor();
+
+    ParameterImpl first = compactor.parameter("/pets", model);
+    ParameterImpl second = compactor.parameter("/pets", model);
+    assertThat(second).isNotSameInstanceAs(first);
+    assertThat(second.getSchema().<JsonObject>get("properties").getJsonObject("self").getString("type"))
+        .isEqualTo("object");
+  }
+
+  @Test
+  void testSharedPathParameterIsValidatedForEachPath() {
+    JsonObject model = new JsonObject().put("name", "id").put("in", "path").put("required", true)
+        .put("schema", new JsonObject().put("type", "string"));
+    ContractCompactor compactor = new ContractCompactor();
+
+    ParameterImpl parameter = compactor.parameter("/pets/{id}", model);
+    assertThat(compactor.parameter("/users/{id}", model.copy())).isSameInstanceAs(parameter);
+    OpenAPIContractException e =
+        assertThrows(OpenAPIContractException.class, () -> compactor.parameter("/users/{userId}", model.copy()));
+    assertThat(e).hasMessageThat().isEqualTo(
+        "The passed OpenAPI contract is invalid: Path parameters MUST have a name that is part of the path");
+  }
+
+  @Test
+  void testHeaderDoesNotModifyModel() {
+    JsonObject headerModel = new JsonObject().put("schema", new JsonObject().put("type", "string"));
+    ParameterImpl header = new ContractCompactor().header("X-Trace", headerModel);
+
+    assertThat(header.getName()).isEqualTo("X-Trace");
+    assertThat(headerModel.fieldNames()).containsExactly("schema");
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.contract.impl.ContractFingerprint.componentNode;
+import static io.vertx.openapi.contract.impl.ContractFingerprint.pathNode;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.contract.impl.ContractFingerprint;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ContractFingerprintTest {
+
+  private static JsonObject ref(String ref) {
+    return new JsonObject().put("$ref", ref);
+  }
+
+  private static JsonObject contract() {
+    return new JsonObject()
+        .put("openapi", "3.1.0")
+        .put("servers", new JsonArray().add(new JsonObject().put("url", "/v1")))
+        .put("paths", new JsonObject()
+            .put("/pets", new JsonObject().put("get", new JsonObject().put("schema", ref("#/components/schemas/Pets"))))
+            .put("/users/{id}", new JsonObject().put("get", new JsonObject().put("operationId", "getUser"))))
+        .put("components", new JsonObject().put("schemas", new JsonObject()
+            .put("Pets", new JsonObject().put("items", ref("#/components/schemas/Pet")))
+            .put("Pet", new JsonObject().put("type", "object"))
+            .put("a/b", new JsonObject().put("type", "string"))));
+  }
+
+  @Test
+  void testUnchangedContract() {
+    JsonObject annotated = contract();
+    annotated.getJsonObject("paths").getJsonObject("/pets").put("__absolute_uri__", "app:///");
+    ContractFingerprint previous = ContractFingerprint.of(contract(), Map.of());
+    ContractFingerprint updated = ContractFingerprint.of(annotated, Map.of());
+
+    assertThat(updated.hasGlobalChanges(previous)).isFalse();
+    assertThat(updated.changedNodes(previous)).isEmpty();
+  }
+
+  @Test
+  void testChangedNodes() {
+    JsonObject contract = contract();
+    contract.getJsonObject("paths").getJsonObject("/users/{id}").getJsonObject("get").put("operationId", "user");
+    contract.getJsonObject("paths").put("/stores", new JsonObject());
+    contract.getJsonObject("components").getJsonObject("schemas").remove("a/b");
+    ContractFingerprint previous = ContractFingerprint.of(contract(), Map.of());
+    ContractFingerprint updated = ContractFingerprint.of(contract, Map.of());
+
+    assertThat(updated.hasGlobalChanges(previous)).isFalse();
+    assertThat(updated.changedNodes(previous)).containsExactly(pathNode("/users/{id}"), pathNode("/stores"),
+        componentNode("schemas", "a/b"));
+    assertThat(componentNode("schemas", "a/b")).isEqualTo("#/components/schemas/a~1b");
+  }
+
+  @Test
+  void testAffectedNodesFollowReferencesTransitively() {
+    ContractFingerprint fingerprint = ContractFingerprint.of(contract(), Map.of());
+
+    assertThat(fingerprint.affectedNodes(Set.of(componentNode("schemas", "Pet")))).containsExactly(
+        componentNode("schemas", "Pet"), componentNode("schemas", "Pets"), pathNode("/pets"));
+    assertThat(fingerprint.affectedNodes(Set.of(pathNode("/users/{id}"))))
+        .containsExactly(pathNode("/users/{id}"));
+  }
+
+  @Test
+  void testGlobalChanges() {
+    ContractFingerprint previous = ContractFingerprint.of(contract(), Map.of());
+
+    JsonObject servers = contract().put("servers", new JsonArray());
+    assertThat(ContractFingerprint.of(servers, Map.of()).hasGlobalChanges(previous)).isTrue();
+
+    Map<String, JsonObject> parts = Map.of("https://example.com/part", new JsonObject().put("type", "string"));
+    assertThat(ContractFingerprint.of(contract(), parts).hasGlobalChanges(previous)).isTrue();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.contract.OpenAPIVersion.V3_1;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.internal.JsonObjectProxy;
+import io.vertx.openapi.contract.impl.ContractSnapshot;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ContractSnapshotTest {
+
+  private static final JsonObject CONTRACT = new JsonObject().put("openapi", "3.1.0")
+      .put("info", new JsonObject().put("title", "Snapshot").put("version", "1.0.0"));
+
+  @Test
+  void testHash() {
+    Map<String, JsonObject> parts = new LinkedHashMap<>();
+    parts.put("https://example.com/a", new JsonObject().put("a", 1));
+    parts.put("https://example.com/b", new JsonObject().put("b", 2));
+    Map<String, JsonObject> reversed = new LinkedHashMap<>();
+    reversed.put("https://example.com/b", new JsonObject().put("b", 2));
+    reversed.put("https://example.com/a", new JsonObject().put("a", 1));
+
+    byte[] hash = ContractSnapshot.hash(CONTRACT, parts, false);
+    assertThat(ContractSnapshot.hash(CONTRACT.copy(), reversed, false)).isEqualTo(hash);
+    assertThat(ContractSnapshot.hash(CONTRACT, Map.of(), false)).isNotEqualTo(hash);
+    parts.put("https://example.com/b", new JsonObject().put("b", 3));
+    assertThat(ContractSnapshot.hash(CONTRACT, parts, false)).isNotEqualTo(hash);
+    assertThat(ContractSnapshot.hash(CONTRACT.copy(), reversed, true)).isNotEqualTo(hash);
+  }
+
+  @Test
+  void testRoundTrip() throws IOException {
+    JsonObject shared = new JsonObjectProxy().put("type", "string").put("maxLength", 3);
+    JsonObject circular = new JsonObjectProxy().put("type", "object");
+    circular.put("properties", new JsonObjectProxy().put("child", circular));
+    String longDescription = "x".repeat(70_000);
+    JsonObject resolved = new JsonObjectProxy()
+        .put("first", shared)
+        .put("second", shared)
+        .put("tree", circular)
+        .put("values", new JsonArray().add(1).add(2L).add(1.5).add(2.5f).add(true).addNull()
+            .add(new BigInteger("123456789012345678901234567890")).add(new BigDecimal("1.000000000000000000001")))
+        .put("description", longDescription);
+
+    byte[] hash = ContractSnapshot.hash(CONTRACT, Map.of(), false);
+    ContractSnapshot snapshot = ContractSnapshot.read(ContractSnapshot.write(hash, V3_1, resolved), hash);
+
+    assertThat(snapshot.getVersion()).isEqualTo(V3_1);
+    JsonObject read = snapshot.getResolvedSpec();
+    assertThat(read).isInstanceOf(JsonObjectProxy.class);
+    assertThat(read.getJsonObject("first")).isEqualTo(shared);
+    assertThat(read.getJsonObject("first")).isSameInstanceAs(read.getJsonObject("second"));
+    JsonObject tree = read.getJsonObject("tree");
+    assertThat(tree.getJsonObject("properties").getJsonObject("child")).isSameInstanceAs(tree);
+    assertThat(read.getJsonArray("values")).isEqualTo(resolved.getJsonArray("values"));
+    assertThat(read.getJsonArray("values").getValue(1)).isInstanceOf(Long.class);
+    assertThat(read.getString("description")).isEqualTo(longDescription);
+  }
+
+  @Test
+  void testReadOtherContract() throws IOException {
+    byte[] hash = ContractSnapshot.hash(CONTRACT, Map.of(), false);
+    Buffer snapshot = ContractSnapshot.write(hash, V3_1, new JsonObject());
+    byte[] otherHash = ContractSnapshot.hash(CONTRACT.copy().put("openapi", "3.1.1"), Map.of(), false);
+    assertThat(ContractSnapshot.read(snapshot, otherHash)).isNull();
+    assertThat(ContractSnapshot.read(Buffer.buffer("{\"openapi\":\"3.1.0\"}"), hash)).isNull();
+  }
+
+  @Test
+  void testReadCorrupt() {
+    byte[] hash = ContractSnapshot.hash(CONTRACT, Map.of(), false);
+    Buffer snapshot = ContractSnapshot.write(hash, V3_1, CONTRACT);
+    Buffer truncated = snapshot.getBuffer(0, snapshot.length() - 8);
+    assertThrows(IOException.class, () -> ContractSnapshot.read(truncated, hash));
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.vertx.openapi.contract.MediaType;
+import io.vertx.openapi.contract.impl.MediaTypeIndex;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class MediaTypeIndexTest {
+
+  private static MediaTypeIndex buildIndex(String... identifiers) {
+    Map<String, MediaType> content = new LinkedHashMap<>();
+    for (String identifier : identifiers) {
+      MediaType mediaType = mock(MediaType.class);
+      when(mediaType.getIdentifier()).thenReturn(identifier);
+      content.put(identifier, mediaType);
+    }
+    return new MediaTypeIndex(content);
+  }
+
+  private static String identifierOf(MediaType mediaType) {
+    return mediaType == null ? null : mediaType.getIdentifier();
+  }
+
+  private static Stream<Arguments> testFind() {
+    String[] declared = { "application/json", "application/json; charset=utf-8", "text/*", "*/*" };
+    String[] noWildcards = { "application/json", "application/json; charset=utf-8" };
+    return Stream.of(
+        Arguments.of(declared, null, null),
+        Arguments.of(declared, "application/json", "application/json"),
+        Arguments.of(declared, "application/json; charset=utf-8", "application/json; charset=utf-8"),
+        Arguments.of(declared, "Application/JSON ;Charset=UTF-8", "application/json; charset=utf-8"),
+        Arguments.of(declared, "application/json; charset=\"utf-8\"", "application/json; charset=utf-8"),
+        Arguments.of(declared, "application/json; foo=bar; charset=utf-8", "application/json; charset=utf-8"),
+        Arguments.of(declared, "application/json; charset=iso-8859-1", "application/json"),
+        Arguments.of(declared, "text/plain", "text/*"),
+        Arguments.of(declared, "image/png", "*/*"),
+        Arguments.of(noWildcards, "image/png", null),
+        Arguments.of(noWildcards, "application/json-patch", null),
+        Arguments.of(noWildcards, "application", null),
+        Arguments.of(new String[] { "application/json; charset=utf-8" }, "application/json", null));
+  }
+
+  @ParameterizedTest(name = "{index} find {1}")
+  @MethodSource
+  void testFind(String[] declared, String contentType, String expected) {
+    assertThat(identifierOf(buildIndex(declared).find(contentType))).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> testNegotiate() {
+    String[] declared = { "application/json", "application/xml", "text/plain" };
+    return Stream.of(
+        Arguments.of(declared, null, "application/json"),
+        Arguments.of(declared, "", "application/json"),
+        Arguments.of(declared, "*/*", "application/json"),
+        Arguments.of(declared, "text/plain", "text/plain"),
+        Arguments.of(declared, "application/xml;q=0.9, text/*", "text/plain"),
+        Arguments.of(declared, "application/*;q=0.5, application/xml", "application/xml"),
+        Arguments.of(declared, "application/*, application/json;q=0", "application/xml"),
+        Arguments.of(declared, "*/*;q=0.1, image/png", "application/json"),
+        Arguments.of(declared, "image/png", null),
+        Arguments.of(declared, "text/plain;q=foo", null),
+        Arguments.of(new String[] { "application/json; charset=utf-8" }, "application/json; charset=utf-8",
+            "application/json; charset=utf-8"),
+        Arguments.of(new String[] { "application/json" }, "application/json; charset=utf-8", null));
+  }
+
+  @ParameterizedTest(name = "{index} negotiate {1}")
+  @MethodSource
+  void testNegotiate(String[] declared, String accept, String expected) {
+    assertThat(identifierOf(buildIndex(declared).negotiate(accept))).isEqualTo(expected);
+  }
+}
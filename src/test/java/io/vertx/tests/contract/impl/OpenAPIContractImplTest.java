@@ -38,6 +38,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
@@ -103,6 +107,18 @@ class OpenAPIContractImplTest {
     assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
   }
 
+  @ParameterizedTest(name = "{index} Eliminate path parameter placeholders of {0}")
+  @MethodSource
+  void testEliminatePathParamPlaceholders(String path) {
+    assertThat(OpenAPIContractImpl.eliminatePathParamPlaceholders(path))
+        .isEqualTo(path.replaceAll("\\{(.*?)}", "{}"));
+  }
+
+  private static Stream<String> testEliminatePathParamPlaceholders() {
+    return Stream.of("/", "/pets", "/pets/{petId}", "/{abc}/pets/{petId}/owner", "/{a}{b}", "/{}", "/{open",
+        "/{a}/{open", "/close}/{a}", "/{{a}}");
+  }
+
   @Test
   void testDifferentBasePaths() {
     JsonObject server1 = new JsonObject().put("url", "http://foo.bar/foo");
@@ -171,6 +187,71 @@ class OpenAPIContractImplTest {
     assertThat(showPetById.getSecurityRequirements()).isEmpty();
   }
 
+  @Test
+  void testLazyOperations() throws IOException {
+    JsonObject resolvedSpec = Buffer.buffer(Files.readAllBytes(VALID_CONTRACTS_JSON)).toJsonObject()
+        .getJsonObject("0000_Test_Getters").getJsonObject("contractModel");
+    OpenAPIContractImpl contract = new OpenAPIContractImpl(resolvedSpec, V3_1, Mockito.mock(SchemaRepository.class),
+        MediaTypeRegistry.createDefault(), null, true);
+
+    Operation showPetById = contract.findOperation("/v1/pets/123", GET);
+    assertThat(showPetById.getOperationId()).isEqualTo("showPetById");
+    assertThat(contract.operation("showPetById")).isSameInstanceAs(showPetById);
+    assertThat(contract.findPath("/v1/pets/123").getOperations()).contains(showPetById);
+    assertThat(contract.findOperation("/v1/pets/123", PATCH)).isNull();
+    assertThat(contract.operation("fooBar")).isNull();
+    assertThat(contract.getPaths()).hasSize(2);
+    assertThat(contract.operations()).hasSize(3);
+  }
+
+  @Test
+  void testLazyOperationsAreBuiltOnLookup() {
+    JsonObject responses = new JsonObject().put("200", new JsonObject().put("description", "ok"));
+    JsonObject resolvedSpec = new JsonObject().put("paths", new JsonObject()
+        .put("/valid", new JsonObject().put("get", new JsonObject().put("operationId", "valid")
+            .put("responses", responses)))
+        .put("/invalid", new JsonObject().put("get", new JsonObject().put("operationId", "invalid"))));
+
+    assertThrows(OpenAPIContractException.class, () -> new OpenAPIContractImpl(resolvedSpec, V3_1,
+        Mockito.mock(SchemaRepository.class), MediaTypeRegistry.createDefault()));
+
+    OpenAPIContractImpl contract = new OpenAPIContractImpl(resolvedSpec, V3_1, Mockito.mock(SchemaRepository.class),
+        MediaTypeRegistry.createDefault(), null, true);
+    assertThat(contract.operation("valid").getOperationId()).isEqualTo("valid");
+    OpenAPIContractException e = assertThrows(OpenAPIContractException.class, () -> contract.operation("invalid"));
+    assertThat(e).hasMessageThat().isEqualTo("The passed OpenAPI contract is invalid: No responses were found in "
+        + "operation: invalid");
+    assertThrows(OpenAPIContractException.class, () -> contract.findOperation("/invalid", GET));
+    assertThrows(OpenAPIContractException.class, () -> contract.buildOperations(null));
+  }
+
+  @Test
+  void testLazyOperationsConcurrentLookup() throws Exception {
+    JsonObject resolvedSpec = Buffer.buffer(Files.readAllBytes(VALID_CONTRACTS_JSON)).toJsonObject()
+        .getJsonObject("0000_Test_Getters").getJsonObject("contractModel");
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      for (int run = 0; run < 20; run++) {
+        OpenAPIContractImpl contract = new OpenAPIContractImpl(resolvedSpec, V3_1,
+            Mockito.mock(SchemaRepository.class), MediaTypeRegistry.createDefault(), null, true);
+        List<Callable<Operation>> lookups = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+          lookups.add(i % 2 == 0 ? () -> contract.operation("showPetById")
+              : () -> contract.findOperation("/v1/pets/123", GET));
+        }
+        Operation expected = null;
+        for (Future<Operation> lookup : executor.invokeAll(lookups)) {
+          if (expected == null) {
+            expected = lookup.get();
+          }
+          assertThat(lookup.get()).isSameInstanceAs(expected);
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   private static OpenAPIContractImpl fromTestData(String testId) throws IOException {
     JsonObject testDataObject =
         Buffer.buffer(Files.readAllBytes(VALID_CONTRACTS_JSON)).toJsonObject().getJsonObject(testId);
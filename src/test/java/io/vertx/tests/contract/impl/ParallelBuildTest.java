@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.openapi.contract.impl.ParallelBuild;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ParallelBuildTest {
+
+  private static ForkJoinPool pool;
+
+  @BeforeAll
+  static void setUp() {
+    pool = new ForkJoinPool(4);
+  }
+
+  @AfterAll
+  static void tearDown() {
+    pool.shutdown();
+  }
+
+  @Test
+  void testMapKeepsOrder() {
+    List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    List<String> expected = items.stream().map(i -> "item" + i).collect(Collectors.toList());
+
+    assertThat(ParallelBuild.map(items, i -> "item" + i, pool)).containsExactlyElementsIn(expected).inOrder();
+    assertThat(ParallelBuild.map(items, i -> "item" + i, null)).containsExactlyElementsIn(expected).inOrder();
+  }
+
+  @Test
+  void testMapThrowsFirstFailure() {
+    List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    for (int run = 0; run < 10; run++) {
+      IllegalStateException e = assertThrows(IllegalStateException.class, () -> ParallelBuild.map(items, i -> {
+        if (i % 100 == 42) {
+          throw new IllegalStateException("item" + i);
+        }
+        return i;
+      }, pool));
+      assertThat(e).hasMessageThat().isEqualTo("item42");
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.contract.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.Draft;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.json.schema.JsonSchemaOptions;
+import io.vertx.json.schema.SchemaRepository;
+import io.vertx.openapi.contract.impl.SharedReferenceResolver;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the reference preserving resolution of a contract. The retained heap of large resolved contracts is measured
+ * by the {@code SharedReferenceResolverBenchmark} of the benchmarks profile.
+ */
+class SharedReferenceResolverTest {
+
+  static final String PART = "https://example.com/parts";
+
+  static JsonObject ref(String ref) {
+    return new JsonObject().put("$ref", ref);
+  }
+
+  private static JsonObject content(JsonObject schema) {
+    return new JsonObject().put("application/json", new JsonObject().put("schema", schema));
+  }
+
+  static JsonObject operation(String operationId, JsonObject responseSchema) {
+    return new JsonObject()
+        .put("operationId", operationId)
+        .put("responses", new JsonObject().put("200", new JsonObject()
+            .put("description", "ok")
+            .put("content", content(responseSchema))));
+  }
+
+  static JsonObject part() {
+    return new JsonObject().put("components", new JsonObject().put("schemas", new JsonObject()
+        .put("Owner", new JsonObject().put("type", "object")
+            .put("properties", new JsonObject().put("address", ref("#/components/schemas/Address"))))
+        .put("Address", new JsonObject().put("type", "object")
+            .put("properties", new JsonObject().put("city", new JsonObject().put("type", "string"))))));
+  }
+
+  private static JsonObject contract() {
+    JsonObject createPet = operation("createPet", ref("#/components/schemas/Pet"))
+        .put("requestBody", new JsonObject().put("content", content(ref("#/components/schemas/Pet"))));
+    JsonObject paths = new JsonObject()
+        .put("/pets", new JsonObject()
+            .put("get", operation("listPets", ref("#/components/schemas/Pets")))
+            .put("post", createPet))
+        .put("/tree", new JsonObject().put("get", operation("getTree", ref("#/components/schemas/Node"))))
+        .put("/address", new JsonObject().put("get", operation("getAddress", ref("#/components/schemas/Address"))));
+    JsonObject schemas = new JsonObject()
+        .put("Pet", new JsonObject().put("type", "object").put("properties", new JsonObject()
+            .put("name", new JsonObject().put("type", "string"))
+            .put("owner", ref(PART + "#/components/schemas/Owner"))))
+        .put("Pets", new JsonObject().put("type", "array").put("items", ref("#/components/schemas/Pet")))
+        .put("Node", new JsonObject().put("type", "object").put("properties", new JsonObject()
+            .put("children", new JsonObject().put("type", "array").put("items", ref("#/components/schemas/Node")))))
+        // a reference to a reference
+        .put("Address", ref(PART + "#/components/schemas/Address"));
+    return new JsonObject()
+        .put("openapi", "3.1.0")
+        .put("info", new JsonObject().put("title", "Shared references").put("version", "1.0.0"))
+        .put("paths", paths)
+        .put("components", new JsonObject().put("schemas", schemas));
+  }
+
+  static SchemaRepository repository(JsonObject contract, JsonObject part) {
+    SchemaRepository repository =
+        SchemaRepository.create(new JsonSchemaOptions().setDraft(Draft.DRAFT202012).setBaseUri("app://"));
+    repository.dereference(PART, JsonSchema.of(PART, part));
+    repository.dereference(JsonSchema.of(contract));
+    return repository;
+  }
+
+  private static JsonObject resolve(JsonObject contract) {
+    return SharedReferenceResolver.resolve(repository(contract, part()), contract);
+  }
+
+  private static JsonObject schema(JsonObject resolved, String path, String method) {
+    return resolved.getJsonObject("paths").getJsonObject(path).getJsonObject(method).getJsonObject("responses")
+        .getJsonObject("200").getJsonObject("content").getJsonObject("application/json").getJsonObject("schema");
+  }
+
+  private static JsonObject component(JsonObject resolved, String name) {
+    return resolved.getJsonObject("components").getJsonObject("schemas").getJsonObject(name);
+  }
+
+  @Test
+  void testReferencesShareOneInstance() {
+    JsonObject resolved = resolve(contract());
+    JsonObject pet = component(resolved, "Pet");
+
+    assertThat(pet.getString("type")).isEqualTo("object");
+    assertThat(schema(resolved, "/pets", "post")).isSameInstanceAs(pet);
+    assertThat(resolved.getJsonObject("paths").getJsonObject("/pets").getJsonObject("post")
+        .getJsonObject("requestBody").getJsonObject("content").getJsonObject("application/json")
+        .getJsonObject("schema")).isSameInstanceAs(pet);
+    assertThat(schema(resolved, "/pets", "get").getJsonObject("items")).isSameInstanceAs(pet);
+  }
+
+  @Test
+  void testReferencesToContractPartsShareOneInstance() {
+    JsonObject resolved = resolve(contract());
+    JsonObject address = component(resolved, "Address");
+
+    assertThat(address.getJsonObject("properties").getJsonObject("city").getString("type")).isEqualTo("string");
+    assertThat(schema(resolved, "/address", "get")).isSameInstanceAs(address);
+    JsonObject owner = component(resolved, "Pet").getJsonObject("properties").getJsonObject("owner");
+    assertThat(owner.getJsonObject("properties").getJsonObject("address")).isSameInstanceAs(address);
+  }
+
+  @Test
+  void testRecursiveReference() {
+    JsonObject resolved = resolve(contract());
+    JsonObject node = component(resolved, "Node");
+    JsonObject children = node.getJsonObject("properties").getJsonObject("children");
+
+    assertThat(children.getJsonObject("items")).isSameInstanceAs(node);
+    assertThat(schema(resolved, "/tree", "get")).isSameInstanceAs(node);
+    // the recursive reference is encoded as reference
+    JsonObject encoded = new JsonObject(node.encode());
+    assertThat(encoded.getJsonObject("properties").getJsonObject("children").getJsonObject("items"))
+        .isEqualTo(ref("#/components/schemas/Node"));
+    assertThat(new JsonObject(resolved.encodePrettily()).getJsonObject("paths")).isNotNull();
+  }
+
+  @Test
+  void testContractIsNotModified() {
+    JsonObject contract = contract();
+    resolve(contract);
+
+    // dereferencing annotates the contract, resolving doesn't modify it
+    assertThat(schema(contract, "/pets", "post").getString("$ref")).isEqualTo("#/components/schemas/Pet");
+    assertThat(component(contract, "Address").getString("$ref")).isEqualTo(PART + "#/components/schemas/Address");
+    assertThat(component(contract, "Node").getJsonObject("properties").getJsonObject("children")
+        .getJsonObject("items").getString("$ref")).isEqualTo("#/components/schemas/Node");
+  }
+
+  @Test
+  void testUnresolvableReference() {
+    JsonObject contract = contract();
+    contract.getJsonObject("paths").getJsonObject("/tree").put("get",
+        operation("getTree", ref("#/components/schemas/Tree")));
+
+    UnsupportedOperationException e = assertThrows(UnsupportedOperationException.class, () -> resolve(contract));
+    assertThat(e).hasMessageThat().isEqualTo("Unable to resolve reference: #/components/schemas/Tree");
+  }
+
+  @Test
+  void testCircularReference() {
+    JsonObject contract = contract();
+    component(contract, "Node").clear();
+    component(contract, "Node").put("$ref", "#/components/schemas/Tree");
+    contract.getJsonObject("components").getJsonObject("schemas").put("Tree", ref("#/components/schemas/Node"));
+
+    UnsupportedOperationException e = assertThrows(UnsupportedOperationException.class, () -> resolve(contract));
+    assertThat(e).hasMessageThat().isEqualTo("Circular reference: #/components/schemas/Node");
+  }
+}
@@ -17,6 +17,7 @@ import static io.vertx.tests.ResourceHelper.getRelatedTestResourcePath;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxExtension;
@@ -25,6 +26,7 @@ import io.vertx.openapi.impl.Utils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 @ExtendWith(VertxExtension.class)
 class UtilsTest {
@@ -68,4 +71,47 @@ class UtilsTest {
         .onFailure(testContext::failNow);
   }
 
+  @Test
+  void testYamlToJson() {
+    String yaml = String.join("\n",
+        "base: &base",
+        "  type: object",
+        "  description: base",
+        "responses:",
+        "  200: ok",
+        "  '404': missing",
+        "list:",
+        "  - 1: one",
+        "    true: yes",
+        "  - !!str 2",
+        "derived:",
+        "  <<: *base",
+        "  description: derived",
+        "shared: *base",
+        "created: 2001-12-14T21:59:43.10Z",
+        "quoted: '42'",
+        "nothing: ~",
+        "number: 1.5");
+
+    JsonObject json = Utils.yamlBufferToJson(Buffer.buffer(yaml)).result();
+    assertThat(json.getJsonObject("responses").getMap()).containsExactly("200", "ok", "404", "missing");
+    JsonArray list = json.getJsonArray("list");
+    assertThat(list.getJsonObject(0).getMap()).containsExactly("1", "one", "true", true);
+    assertThat(list.getValue(1)).isEqualTo("2");
+    assertThat(json.getJsonObject("derived")).isEqualTo(new JsonObject().put("type", "object")
+        .put("description", "derived"));
+    assertThat(json.getJsonObject("shared")).isSameInstanceAs(json.getJsonObject("base"));
+    assertThat(json.getInstant("created")).isEqualTo(Instant.parse("2001-12-14T21:59:43.10Z"));
+    assertThat(json.getValue("quoted")).isEqualTo("42");
+    assertThat(json.containsKey("nothing")).isTrue();
+    assertThat(json.getValue("nothing")).isNull();
+    assertThat(json.getDouble("number")).isEqualTo(1.5);
+    assertThat(Utils.yamlStringToJson(yaml).result()).isEqualTo(json);
+  }
+
+  @ParameterizedTest(name = "{index} should fail for YAML: {0}")
+  @ValueSource(strings = { "", "- a\n- b", "a: 1\n---\nb: 2", "a: &a\n  b: *a", "a: [1" })
+  void testYamlToJsonInvalid(String yaml) {
+    assertThat(Utils.yamlBufferToJson(Buffer.buffer(yaml)).failed()).isTrue();
+  }
 }
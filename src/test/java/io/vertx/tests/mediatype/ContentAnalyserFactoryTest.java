@@ -15,7 +15,9 @@ package io.vertx.tests.mediatype;
 import static com.google.common.truth.Truth.assertThat;
 
 import io.vertx.openapi.mediatype.ContentAnalyserFactory;
+import io.vertx.openapi.mediatype.StatelessContentAnalyser;
 import io.vertx.openapi.mediatype.impl.ApplicationJsonAnalyser;
+import io.vertx.openapi.mediatype.impl.JsonSequenceAnalyser;
 import io.vertx.openapi.mediatype.impl.MultipartFormAnalyser;
 import io.vertx.openapi.mediatype.impl.NoOpAnalyser;
 import org.junit.jupiter.api.Test;
@@ -27,5 +29,24 @@ public class ContentAnalyserFactoryTest {
     assertThat(ContentAnalyserFactory.json().create(null, null, null)).isInstanceOf(ApplicationJsonAnalyser.class);
     assertThat(ContentAnalyserFactory.noop().create(null, null, null)).isInstanceOf(NoOpAnalyser.class);
     assertThat(ContentAnalyserFactory.multipart().create(null, null, null)).isInstanceOf(MultipartFormAnalyser.class);
+    assertThat(ContentAnalyserFactory.jsonSequence().create(null, null, null))
+        .isInstanceOf(JsonSequenceAnalyser.class);
+  }
+
+  @Test
+  void testStateless() {
+    assertThat(ContentAnalyserFactory.json()).isInstanceOf(StatelessContentAnalyser.class);
+    assertThat(ContentAnalyserFactory.noop()).isInstanceOf(StatelessContentAnalyser.class);
+    assertThat(ContentAnalyserFactory.xWwwFormUrlencoded()).isInstanceOf(StatelessContentAnalyser.class);
+    assertThat(ContentAnalyserFactory.multipart()).isNotInstanceOf(StatelessContentAnalyser.class);
+    assertThat(ContentAnalyserFactory.jsonSequence()).isNotInstanceOf(StatelessContentAnalyser.class);
+  }
+
+  @Test
+  void testSequence() {
+    assertThat(ContentAnalyserFactory.jsonSequence().createSequenceAnalyser(null, null, null))
+        .isInstanceOf(JsonSequenceAnalyser.class);
+    assertThat(ContentAnalyserFactory.json().createSequenceAnalyser(null, null, null)).isNull();
+    assertThat(ContentAnalyserFactory.multipart().createSequenceAnalyser(null, null, null)).isNull();
   }
 }
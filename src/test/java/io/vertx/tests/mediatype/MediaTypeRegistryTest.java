@@ -47,6 +47,9 @@ public class MediaTypeRegistryTest {
     assertThat(r.isSupported(DefaultMediaTypeRegistration.APPLICATION_OCTET_STREAM)).isTrue();
     assertThat(r.isSupported(DefaultMediaTypeRegistration.MULTIPART_FORM_DATA)).isTrue();
     assertThat(r.isSupported(DefaultMediaTypeRegistration.APPLICATION_X_WWW_FORM_URL_ENCODED)).isTrue();
+    assertThat(r.isSupported(DefaultMediaTypeRegistration.APPLICATION_X_NDJSON)).isTrue();
+    assertThat(r.isSupported(DefaultMediaTypeRegistration.APPLICATION_JSONL)).isTrue();
+    assertThat(r.isSupported(DefaultMediaTypeRegistration.APPLICATION_JSON_SEQ)).isTrue();
   }
 
   @Test
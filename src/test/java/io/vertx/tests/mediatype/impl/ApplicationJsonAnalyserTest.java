@@ -36,6 +36,20 @@ class ApplicationJsonAnalyserTest {
     assertThat(analyser.transform()).isEqualTo(dummyBody);
   }
 
+  @Test
+  void testStatelessAnalyse() {
+    JsonObject dummyBody = new JsonObject().put("foo", "bar");
+    Object result =
+        ApplicationJsonAnalyser.STATELESS.analyse(APPLICATION_JSON.toString(), dummyBody.toBuffer(), null, REQUEST);
+    assertThat(result).isEqualTo(dummyBody);
+
+    ValidatorException exception = assertThrows(ValidatorException.class,
+        () -> ApplicationJsonAnalyser.STATELESS.analyse(APPLICATION_JSON.toString(), Buffer.buffer("\"foobar"), null,
+            REQUEST));
+    assertThat(exception.type()).isEqualTo(ILLEGAL_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo("The request body can't be decoded");
+  }
+
   @Test
   void testCheckSyntacticalCorrectnessThrows() {
     ApplicationJsonAnalyser analyser = new ApplicationJsonAnalyser(APPLICATION_JSON.toString(), Buffer.buffer(
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.mediatype.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration.APPLICATION_CBOR;
+import static io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration.APPLICATION_X_JACKSON_SMILE;
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.json.jackson.JacksonCodec;
+import io.vertx.openapi.mediatype.ContentAnalyser;
+import io.vertx.openapi.mediatype.ContentAnalyserFactory;
+import io.vertx.openapi.mediatype.impl.BinaryJsonAnalyser;
+import io.vertx.openapi.validation.ValidatorErrorType;
+import io.vertx.openapi.validation.ValidatorException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BinaryJsonAnalyserTest {
+
+  private static final JsonObject VALUE = new JsonObject()
+      .put("id", 1)
+      .put("name", "FooBar")
+      .put("price", 9.5)
+      .put("tags", new JsonArray().add("a").add(true).addNull())
+      .put("nested", new JsonObject().put("big", 12345678901L));
+
+  private static Buffer encode(JsonFactory factory, Object value) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = factory.createGenerator(out)) {
+      JacksonCodec.encodeJson(value, generator);
+    }
+    return Buffer.buffer(out.toByteArray());
+  }
+
+  private static Stream<Arguments> formats() {
+    return Stream.of(
+        Arguments.of(APPLICATION_CBOR, ContentAnalyserFactory.cbor(), BinaryJsonAnalyser.cborFactory()),
+        Arguments.of(APPLICATION_X_JACKSON_SMILE, ContentAnalyserFactory.smile(), BinaryJsonAnalyser.smileFactory()));
+  }
+
+  @ParameterizedTest(name = "{index} {0}")
+  @MethodSource("formats")
+  void testTransform(String contentType, ContentAnalyserFactory analyserFactory, JsonFactory factory)
+      throws IOException {
+    ContentAnalyser analyser = analyserFactory.create(contentType, encode(factory, VALUE), REQUEST);
+    analyser.checkSyntacticalCorrectness();
+    assertThat(analyser.transform()).isEqualTo(VALUE);
+  }
+
+  @ParameterizedTest(name = "{index} {0}")
+  @MethodSource("formats")
+  void testCheckSyntacticalCorrectnessThrow(String contentType, ContentAnalyserFactory analyserFactory,
+      JsonFactory factory) throws IOException {
+    Buffer encoded = encode(factory, VALUE);
+    for (Buffer content : new Buffer[] { null, Buffer.buffer(), encoded.getBuffer(0, encoded.length() - 3) }) {
+      ContentAnalyser analyser = analyserFactory.create(contentType, content, REQUEST);
+      ValidatorException exception = assertThrows(ValidatorException.class, analyser::checkSyntacticalCorrectness);
+      assertThat(exception.type()).isEqualTo(ValidatorErrorType.ILLEGAL_VALUE);
+      assertThat(exception).hasMessageThat().isEqualTo("The request body can't be decoded");
+    }
+  }
+
+  @Test
+  void testTransformBinaryValue() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (JsonGenerator generator = BinaryJsonAnalyser.cborFactory().createGenerator(out)) {
+      generator.writeStartObject();
+      generator.writeBinaryField("file", new byte[] { 1, 2, 3 });
+      generator.writeEndObject();
+    }
+    ContentAnalyser analyser =
+        ContentAnalyserFactory.cbor().create(APPLICATION_CBOR, Buffer.buffer(out.toByteArray()), REQUEST);
+    analyser.checkSyntacticalCorrectness();
+
+    JsonObject transformed = (JsonObject) analyser.transform();
+    assertThat(transformed.getBinary("file")).isEqualTo(new byte[] { 1, 2, 3 });
+  }
+
+  @Test
+  void testCheckSyntacticalCorrectnessThrowIfTrailingData() throws IOException {
+    Buffer content = encode(BinaryJsonAnalyser.cborFactory(), VALUE).appendBuffer(encode(
+        BinaryJsonAnalyser.cborFactory(), 1));
+    ContentAnalyser analyser = ContentAnalyserFactory.cbor().create(APPLICATION_CBOR, content, REQUEST);
+
+    ValidatorException exception = assertThrows(ValidatorException.class, analyser::checkSyntacticalCorrectness);
+    assertThat(exception).hasMessageThat().isEqualTo("The request body can't be decoded, it contains trailing data");
+  }
+}
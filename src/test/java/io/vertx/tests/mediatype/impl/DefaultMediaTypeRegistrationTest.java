@@ -53,6 +53,15 @@ class DefaultMediaTypeRegistrationTest {
     verify(factory).create(contentType, buffer, context);
   }
 
+  @Test
+  void testGetStatelessContentAnalyser() {
+    assertThat(registration.getStatelessContentAnalyser()).isNull();
+
+    ContentAnalyserFactory json = ContentAnalyserFactory.json();
+    DefaultMediaTypeRegistration statelessRegistration = new DefaultMediaTypeRegistration(predicate, json);
+    assertThat(statelessRegistration.getStatelessContentAnalyser()).isSameInstanceAs(json);
+  }
+
   @Test
   void testCanHandle() {
     String mediaType = "application/xml";
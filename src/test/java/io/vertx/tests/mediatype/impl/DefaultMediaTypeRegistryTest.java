@@ -13,10 +13,16 @@
 package io.vertx.tests.mediatype.impl;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import io.vertx.openapi.mediatype.MediaTypeInfo;
 import io.vertx.openapi.mediatype.MediaTypeRegistration;
 import io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration;
 import io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistry;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 
 class DefaultMediaTypeRegistryTest {
@@ -46,4 +52,68 @@ class DefaultMediaTypeRegistryTest {
         DefaultMediaTypeRegistration.TEXT_PLAIN,
         DefaultMediaTypeRegistration.TEXT_PLAIN_UTF8);
   }
+
+  @Test
+  void testGetIsCached() {
+    DefaultMediaTypeRegistry registry = new DefaultMediaTypeRegistry();
+    MediaTypeRegistration jsonReg = MediaTypeRegistration.APPLICATION_JSON;
+    registry.register(jsonReg);
+
+    assertThat(registry.get("application/json; charset=utf-8")).isSameInstanceAs(jsonReg);
+    assertThat(registry.get("text/plain")).isNull();
+    assertThat(registry.cacheSize()).isEqualTo(2);
+    assertThat(registry.get("application/json; charset=utf-8")).isSameInstanceAs(jsonReg);
+    assertThat(registry.cacheSize()).isEqualTo(2);
+  }
+
+  @Test
+  void testRegisterInvalidatesCache() {
+    DefaultMediaTypeRegistry registry = new DefaultMediaTypeRegistry();
+    assertThat(registry.get("text/plain")).isNull();
+
+    registry.register(MediaTypeRegistration.TEXT_PLAIN);
+    assertThat(registry.cacheSize()).isEqualTo(0);
+    assertThat(registry.get("text/plain")).isSameInstanceAs(MediaTypeRegistration.TEXT_PLAIN);
+  }
+
+  @Test
+  void testRegisterWhileResolving() {
+    DefaultMediaTypeRegistry registry = new DefaultMediaTypeRegistry();
+    // simulates a registration by another thread, after the content type was resolved but before it is cached
+    AtomicBoolean registered = new AtomicBoolean();
+    MediaTypeRegistration registering = mock(MediaTypeRegistration.class);
+    when(registering.canHandle("text/plain")).thenAnswer(invocation -> {
+      if (registered.compareAndSet(false, true)) {
+        registry.register(MediaTypeRegistration.TEXT_PLAIN);
+      }
+      return false;
+    });
+    registry.register(registering);
+
+    assertThat(registry.get("text/plain")).isNull();
+    assertThat(registry.get("text/plain")).isSameInstanceAs(MediaTypeRegistration.TEXT_PLAIN);
+  }
+
+  @Test
+  void testCacheIsBounded() {
+    DefaultMediaTypeRegistry registry = new DefaultMediaTypeRegistry();
+    registry.register(MediaTypeRegistration.MULTIPART_FORM_DATA);
+    for (int i = 0; i < DefaultMediaTypeRegistry.MAX_CACHE_SIZE * 2; i++) {
+      String contentType = "multipart/form-data; boundary=" + i;
+      assertThat(registry.get(contentType)).isSameInstanceAs(MediaTypeRegistration.MULTIPART_FORM_DATA);
+      assertThat(registry.cacheSize()).isAtMost(DefaultMediaTypeRegistry.MAX_CACHE_SIZE);
+    }
+  }
+
+  @Test
+  void testGetMediaTypeInfo() {
+    DefaultMediaTypeRegistry registry = new DefaultMediaTypeRegistry();
+    MediaTypeInfo info = registry.getMediaTypeInfo("application/vnd.foo+json; charset=utf-8");
+
+    assertThat(info.fullType()).isEqualTo("application/vnd.foo+json");
+    assertThat(info.parameters()).containsExactly("charset", "utf-8");
+    assertThat(registry.getMediaTypeInfo("application/vnd.foo+json; charset=utf-8")).isSameInstanceAs(info);
+    Map<String, String> parameters = info.parameters();
+    assertThrows(UnsupportedOperationException.class, () -> parameters.put("foo", "bar"));
+  }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.mediatype.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.internal.buffer.BufferInternal;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.mediatype.impl.JsonBufferDecoder;
+import io.vertx.openapi.validation.JsonDecodingOptions;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonBufferDecoderTest {
+  private static final JsonObject JSON = new JsonObject().put("name", "Jürgen").put("age", 42)
+      .put("tags", new JsonArray().add("a").add(true).addNull()).put("price", 9.5);
+
+  private static ByteBuf direct(String s) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    return Unpooled.directBuffer(bytes.length).writeBytes(bytes);
+  }
+
+  @Test
+  void testDecodeHeapBuffer() {
+    assertThat(JsonBufferDecoder.decode(JSON.toBuffer())).isEqualTo(JSON);
+  }
+
+  @Test
+  void testDecodeSlice() {
+    Buffer content = Buffer.buffer("[1,2]").appendBuffer(JSON.toBuffer()).appendString("{}");
+    assertThat(JsonBufferDecoder.decode(content.slice(5, content.length() - 2))).isEqualTo(JSON);
+  }
+
+  @Test
+  void testDecodeCompositeDirectBuffer() {
+    String json = JSON.encode();
+    CompositeByteBuf composite = Unpooled.compositeBuffer();
+    composite.addComponent(true, direct(json.substring(0, 10)));
+    composite.addComponent(true, direct(json.substring(10)));
+
+    assertThat(JsonBufferDecoder.decode(BufferInternal.buffer(composite))).isEqualTo(JSON);
+  }
+
+  @Test
+  void testDecodeScalar() {
+    assertThat(JsonBufferDecoder.decode(Buffer.buffer("\"foo\""))).isEqualTo("foo");
+    assertThat(JsonBufferDecoder.decode(BufferInternal.buffer(direct("12")))).isEqualTo(12);
+  }
+
+  @Test
+  void testDecodeInvalid() {
+    assertThrows(DecodeException.class, () -> JsonBufferDecoder.decode(Buffer.buffer("{\"foo\":")));
+    assertThrows(DecodeException.class, () -> JsonBufferDecoder.decode(Buffer.buffer("{} {}")));
+    assertThrows(DecodeException.class, () -> JsonBufferDecoder.decode(BufferInternal.buffer(direct("[1,"))));
+  }
+
+  private static Stream<Arguments> testDecodeExceedsLimit() {
+    JsonDecodingOptions defaults = new JsonDecodingOptions();
+    return Stream.of(
+        Arguments.of("nesting depth", new JsonDecodingOptions(defaults).setMaxNestingDepth(2), "{\"a\":[[1]]}"),
+        Arguments.of("string length", new JsonDecodingOptions(defaults).setMaxStringLength(3), "[\"abcd\"]"),
+        Arguments.of("number length", new JsonDecodingOptions(defaults).setMaxNumberLength(3), "[12345]"),
+        Arguments.of("token count", new JsonDecodingOptions(defaults).setMaxTokenCount(3), "[1,2,3]"));
+  }
+
+  @ParameterizedTest(name = "{index} exceeds {0}")
+  @MethodSource
+  void testDecodeExceedsLimit(String scenario, JsonDecodingOptions options, String json) {
+    DecodeException heap = assertThrows(DecodeException.class,
+        () -> JsonBufferDecoder.decode(Buffer.buffer(json), options));
+    assertThat(JsonBufferDecoder.isLimitExceeded(heap)).isTrue();
+
+    DecodeException direct = assertThrows(DecodeException.class,
+        () -> JsonBufferDecoder.decode(BufferInternal.buffer(direct(json)), options));
+    assertThat(JsonBufferDecoder.isLimitExceeded(direct)).isTrue();
+
+    DecodeException text = assertThrows(DecodeException.class, () -> JsonBufferDecoder.decode(json, options));
+    assertThat(JsonBufferDecoder.isLimitExceeded(text)).isTrue();
+
+    // within the default limits
+    assertThat(JsonBufferDecoder.decode(Buffer.buffer(json), new JsonDecodingOptions())).isNotNull();
+  }
+
+  @Test
+  void testInvalidIsNotLimitExceeded() {
+    DecodeException e = assertThrows(DecodeException.class,
+        () -> JsonBufferDecoder.decode(Buffer.buffer("{\"foo\":"), new JsonDecodingOptions()));
+    assertThat(JsonBufferDecoder.isLimitExceeded(e)).isFalse();
+  }
+
+  @Test
+  void testMergeOptions() {
+    JsonDecodingOptions base = new JsonDecodingOptions().setMaxStringLength(100);
+    JsonDecodingOptions merged = base.merge(new JsonObject().put("maxNestingDepth", 8).put("maxTokenCount", 50));
+    assertThat(merged.getMaxNestingDepth()).isEqualTo(8);
+    assertThat(merged.getMaxStringLength()).isEqualTo(100);
+    assertThat(merged.getMaxNumberLength()).isEqualTo(JsonDecodingOptions.DEFAULT_MAX_NUMBER_LENGTH);
+    assertThat(merged.getMaxTokenCount()).isEqualTo(50L);
+    // the base options are not modified
+    assertThat(base.getMaxNestingDepth()).isEqualTo(JsonDecodingOptions.DEFAULT_MAX_NESTING_DEPTH);
+    assertThrows(IllegalArgumentException.class, () -> base.merge(new JsonObject().put("maxStringLength", -1)));
+  }
+}
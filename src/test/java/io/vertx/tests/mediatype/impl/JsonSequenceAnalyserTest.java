@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.mediatype.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration.APPLICATION_JSON_SEQ;
+import static io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration.APPLICATION_X_NDJSON;
+import static io.vertx.openapi.validation.ValidationContext.RESPONSE;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.openapi.mediatype.impl.JsonSequenceAnalyser;
+import io.vertx.openapi.validation.ValidatorErrorType;
+import io.vertx.openapi.validation.ValidatorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JsonSequenceAnalyserTest {
+
+  private static Stream<Arguments> testTransform() {
+    JsonArray expected = new JsonArray().add(new JsonObject().put("a", 1)).add(2).add("three").add(new JsonArray());
+    return Stream.of(
+        Arguments.of(APPLICATION_X_NDJSON, "{\"a\":1}\n2\n\"three\"\n[]", expected),
+        Arguments.of(APPLICATION_X_NDJSON, "{\"a\":1}\r\n\r\n 2 \n\"three\"\r\n[]\r\n", expected),
+        Arguments.of(APPLICATION_JSON_SEQ, "\u001e{\"a\":1}\n\u001e2\n\u001e\"three\"\n\u001e[]\n", expected),
+        Arguments.of(APPLICATION_X_NDJSON, "", new JsonArray()),
+        Arguments.of(APPLICATION_X_NDJSON, null, new JsonArray()));
+  }
+
+  @ParameterizedTest(name = "{index} {1}")
+  @MethodSource
+  void testTransform(String contentType, String content, JsonArray expected) {
+    JsonSequenceAnalyser analyser =
+        new JsonSequenceAnalyser(contentType, content == null ? null : Buffer.buffer(content), RESPONSE);
+    analyser.checkSyntacticalCorrectness();
+    assertThat(analyser.getRecordCount()).isEqualTo(expected.size());
+    assertThat(analyser.transform()).isEqualTo(expected);
+  }
+
+  @Test
+  void testRecordHandler() {
+    Buffer content = Buffer.buffer("{\"a\":1}\n\n{\"a\":2}\n");
+    JsonSequenceAnalyser analyser = new JsonSequenceAnalyser(APPLICATION_X_NDJSON, content, RESPONSE);
+    List<Long> indices = new ArrayList<>();
+    List<Object> records = new ArrayList<>();
+    analyser.setRecordHandler((index, record) -> {
+      indices.add(index);
+      records.add(record);
+    });
+    analyser.checkSyntacticalCorrectness();
+
+    assertThat(indices).containsExactly(0L, 1L).inOrder();
+    assertThat(records).containsExactly(new JsonObject().put("a", 1), new JsonObject().put("a", 2)).inOrder();
+  }
+
+  @Test
+  void testFeed() {
+    Buffer content = Buffer.buffer("{\"a\":1}\n\n{\"a\":22}\r\n\u001e3");
+    JsonSequenceAnalyser analyser = new JsonSequenceAnalyser(APPLICATION_X_NDJSON, null, RESPONSE);
+    List<Object> records = new ArrayList<>();
+    analyser.setRecordHandler((index, record) -> records.add(record));
+    // the records are split across chunks
+    for (int i = 0; i < content.length(); i += 3) {
+      analyser.feed(content.getBuffer(i, Math.min(i + 3, content.length())));
+    }
+    assertThat(records).containsExactly(new JsonObject().put("a", 1), new JsonObject().put("a", 22)).inOrder();
+
+    analyser.end();
+    assertThat(records).containsExactly(new JsonObject().put("a", 1), new JsonObject().put("a", 22), 3).inOrder();
+    assertThat(analyser.getRecordCount()).isEqualTo(3);
+  }
+
+  @Test
+  void testCheckSyntacticalCorrectnessThrow() {
+    Buffer content = Buffer.buffer("{\"a\":1}\n{\"a\":\n");
+    JsonSequenceAnalyser analyser = new JsonSequenceAnalyser(APPLICATION_X_NDJSON, content, RESPONSE);
+
+    ValidatorException exception = assertThrows(ValidatorException.class, analyser::checkSyntacticalCorrectness);
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.ILLEGAL_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo("The response body can't be decoded, record 1 is not valid JSON");
+  }
+}
@@ -25,6 +25,7 @@ import io.vertx.openapi.validation.ValidatorException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -32,19 +33,23 @@ import org.junit.jupiter.params.provider.ValueSource;
 class MultipartPartTest {
   private static final Path TEST_RESOURCE_PATH = getRelatedTestResourcePath(MultipartPartTest.class);
 
+  private static Buffer readBuffer(String file) throws IOException {
+    return Buffer.buffer(Files.readAllBytes(TEST_RESOURCE_PATH.resolve(file)));
+  }
+
   @Test
   void testParseParts() throws IOException {
-    String part1 = Files.readString(TEST_RESOURCE_PATH.resolve("part1.txt"));
-    String part2 = Files.readString(TEST_RESOURCE_PATH.resolve("part2.txt"));
+    Buffer part1 = readBuffer("part1.txt");
+    Buffer part2 = readBuffer("part2.txt");
 
-    String multipartBody = Files.readString(TEST_RESOURCE_PATH.resolve("multipart.txt"));
+    Buffer multipartBody = readBuffer("multipart.txt");
     Truth.assertThat(MultipartPart.parseParts(multipartBody, "abcde12345")).containsExactly(part1, part2);
   }
 
   @ParameterizedTest
   @ValueSource(strings = { "multipart_invalid_structure", "multipart_invalid_structure_2" })
   void testParsePartsInvalidStructure(String file) throws IOException {
-    String multipartBody = Files.readString(TEST_RESOURCE_PATH.resolve(file + ".txt"));
+    Buffer multipartBody = readBuffer(file + ".txt");
 
     ValidatorException exception =
         assertThrows(ValidatorException.class, () -> MultipartPart.parseParts(multipartBody, "abcde12345"));
@@ -56,13 +61,13 @@ class MultipartPartTest {
 
   @Test
   void testParsePart() throws IOException {
-    String part1 = Files.readString(TEST_RESOURCE_PATH.resolve("part1.txt"));
+    Buffer part1 = readBuffer("part1.txt");
     MultipartPart mpp1 = MultipartPart.parsePart(part1);
     assertThat(mpp1.getName()).isEqualTo("id");
     assertThat(mpp1.getContentType()).isEqualTo("text/plain");
     assertThat(mpp1.getBody()).isEqualTo(Buffer.buffer("123e4567-e89b-12d3-a456-426655440000"));
 
-    String part2 = Files.readString(TEST_RESOURCE_PATH.resolve("part2.txt"));
+    Buffer part2 = readBuffer("part2.txt");
     MultipartPart mpp2 = MultipartPart.parsePart(part2);
     assertThat(mpp2.getName()).isEqualTo("address");
     assertThat(mpp2.getContentType()).isEqualTo("application/json");
@@ -71,7 +76,7 @@ class MultipartPartTest {
         .put("city", "Hillsbery, UT");
     assertThat(mpp2.getBody().toJsonObject()).isEqualTo(body);
 
-    String part3 = Files.readString(TEST_RESOURCE_PATH.resolve("part3.txt"));
+    Buffer part3 = readBuffer("part3.txt");
     MultipartPart mpp3 = MultipartPart.parsePart(part3);
     assertThat(mpp3.getName()).isEqualTo("randomBinary");
     assertThat(mpp3.getContentType()).isEqualTo("application/octet-stream");
@@ -80,7 +85,7 @@ class MultipartPartTest {
 
   @Test
   void testParsePartWithoutName() throws IOException {
-    String part = Files.readString(TEST_RESOURCE_PATH.resolve("part_without_name.txt"));
+    Buffer part = readBuffer("part_without_name.txt");
 
     ValidatorException exception =
         assertThrows(ValidatorException.class, () -> MultipartPart.parsePart(part));
@@ -92,7 +97,7 @@ class MultipartPartTest {
 
   @Test
   void testParsePartWithoutContentType() throws IOException {
-    String part = Files.readString(TEST_RESOURCE_PATH.resolve("part_without_contenttype.txt"));
+    Buffer part = readBuffer("part_without_contenttype.txt");
 
     MultipartPart mpp = MultipartPart.parsePart(part);
     assertThat(mpp.getName()).isEqualTo("id");
@@ -102,10 +107,28 @@ class MultipartPartTest {
 
   @Test
   void testParsePartWithoutBody() throws IOException {
-    String part = Files.readString(TEST_RESOURCE_PATH.resolve("part_without_body.txt"));
+    Buffer part = readBuffer("part_without_body.txt");
     MultipartPart mpp = MultipartPart.parsePart(part);
     assertThat(mpp.getName()).isEqualTo("id");
     assertThat(mpp.getContentType()).isEqualTo("text/plain");
     assertThat(mpp.getBody()).isNull();
   }
+
+  @Test
+  void testParsePartsBinary() {
+    byte[] binary = new byte[] { 0, (byte) 0xFF, '\r', '\n', '-', '-', (byte) 0xC3, '\r', '\n' };
+    Buffer multipartBody = Buffer.buffer("preamble\r\n--abcde12345  \r\n")
+        .appendString("Content-Disposition: form-data; filename=\"a.bin\"; name=\"file\"\r\n")
+        .appendString("content-type: application/octet-stream\r\n\r\n")
+        .appendBytes(binary)
+        .appendString("\r\n--abcde12345--\r\nepilogue");
+
+    List<Buffer> parts = MultipartPart.parseParts(multipartBody, "abcde12345");
+    assertThat(parts).hasSize(1);
+
+    MultipartPart part = MultipartPart.parsePart(parts.get(0));
+    assertThat(part.getName()).isEqualTo("file");
+    assertThat(part.getContentType()).isEqualTo("application/octet-stream");
+    assertThat(part.getBody().getBytes()).isEqualTo(binary);
+  }
 }
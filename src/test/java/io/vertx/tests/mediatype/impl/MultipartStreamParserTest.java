@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.mediatype.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.tests.ResourceHelper.getRelatedTestResourcePath;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.openapi.mediatype.impl.MultipartPart;
+import io.vertx.openapi.mediatype.impl.MultipartStreamParser;
+import io.vertx.openapi.validation.ValidatorErrorType;
+import io.vertx.openapi.validation.ValidatorException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MultipartStreamParserTest {
+  private static final Path TEST_RESOURCE_PATH = getRelatedTestResourcePath(MultipartStreamParserTest.class);
+  private static final String BOUNDARY = "abcde12345";
+
+  private static Buffer readBuffer(String file) throws IOException {
+    return Buffer.buffer(Files.readAllBytes(TEST_RESOURCE_PATH.resolve(file)));
+  }
+
+  private static List<MultipartPart> parse(Buffer body, int chunkSize, List<String> fileNames) {
+    List<MultipartPart> parts = new ArrayList<>();
+    MultipartStreamParser parser = new MultipartStreamParser(BOUNDARY, new MultipartStreamParser.PartHandler() {
+      private MultipartPart part;
+      private Buffer data;
+
+      @Override
+      public void start(MultipartPart part, String fileName) {
+        this.part = part;
+        this.data = Buffer.buffer();
+        fileNames.add(fileName);
+      }
+
+      @Override
+      public void data(Buffer data) {
+        this.data.appendBuffer(data);
+      }
+
+      @Override
+      public void end() {
+        parts.add(new MultipartPart(part.getName(), part.getContentType(), data.length() == 0 ? null : data));
+      }
+    });
+    for (int i = 0; i < body.length(); i += chunkSize) {
+      parser.handle(body.getBuffer(i, Math.min(i + chunkSize, body.length())));
+    }
+    parser.end();
+    return parts;
+  }
+
+  @ParameterizedTest(name = "{index} chunk size {0}")
+  @ValueSource(ints = { 1, 2, 7, 13, 64, Integer.MAX_VALUE })
+  void testParse(int chunkSize) throws IOException {
+    for (String file : new String[] { "multipart.txt", "multipart_octet_stream.txt", "multipart_id_no_body.txt" }) {
+      Buffer body = readBuffer(file);
+      List<MultipartPart> expected = new ArrayList<>();
+      MultipartPart.parseParts(body, BOUNDARY).forEach(part -> expected.add(MultipartPart.parsePart(part)));
+      assertThat(parse(body, chunkSize, new ArrayList<>())).containsExactlyElementsIn(expected).inOrder();
+    }
+  }
+
+  @ParameterizedTest(name = "{index} chunk size {0}")
+  @ValueSource(ints = { 1, 3, Integer.MAX_VALUE })
+  void testParseBinaryWithFileName(int chunkSize) {
+    byte[] binary = new byte[] { 0, (byte) 0xFF, '\r', '\n', '-', '-', (byte) 0xC3, '\r', '\n', '-' };
+    Buffer body = Buffer.buffer("preamble\r\n--abcde12345  \r\n")
+        .appendString("Content-Disposition: form-data; filename=\"a.bin\"; name=\"file\"\r\n")
+        .appendString("content-type: application/octet-stream\r\n\r\n")
+        .appendBytes(binary)
+        .appendString("\r\n--abcde12345--\r\nepilogue");
+
+    List<String> fileNames = new ArrayList<>();
+    List<MultipartPart> parts = parse(body, chunkSize, fileNames);
+    assertThat(parts).hasSize(1);
+    assertThat(parts.get(0).getName()).isEqualTo("file");
+    assertThat(parts.get(0).getContentType()).isEqualTo("application/octet-stream");
+    assertThat(parts.get(0).getBody().getBytes()).isEqualTo(binary);
+    assertThat(fileNames).containsExactly("a.bin");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "multipart_invalid_structure", "multipart_invalid_structure_2" })
+  void testParseInvalidStructure(String file) throws IOException {
+    Buffer body = readBuffer(file + ".txt");
+
+    ValidatorException exception = assertThrows(ValidatorException.class, () -> parse(body, 5, new ArrayList<>()));
+
+    String expectedMsg = "The multipart message doesn't contain any parts, or has an invalid structure.";
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.INVALID_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+
+  @Test
+  void testParseIncompleteMessage() throws IOException {
+    Buffer body = readBuffer("multipart.txt");
+    Buffer truncated = body.getBuffer(0, body.length() - 20);
+
+    ValidatorException exception = assertThrows(ValidatorException.class, () -> parse(truncated, 5, new ArrayList<>()));
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.INVALID_VALUE);
+  }
+
+  @Test
+  void testParseHeaderSectionTooLarge() {
+    Buffer body = Buffer.buffer("--abcde12345\r\nContent-Disposition: form-data; name=\"")
+        .appendString("a".repeat(MultipartStreamParser.MAX_HEADER_SECTION_SIZE));
+
+    ValidatorException exception = assertThrows(ValidatorException.class, () -> parse(body, 1024, new ArrayList<>()));
+
+    String expectedMsg = "The headers of a part of the multipart message exceed 16384 bytes.";
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.INVALID_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+}
@@ -21,10 +21,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
 import io.vertx.openapi.mediatype.impl.XWwwFormUrlencodedAnalyser;
+import io.vertx.openapi.validation.JsonDecodingOptions;
 import io.vertx.openapi.validation.ValidatorErrorType;
 import io.vertx.openapi.validation.ValidatorException;
 import java.io.IOException;
+import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -188,4 +191,123 @@ class XWwwFormUrlencodedAnalyserTest {
 
     assertThat((JsonObject) analyser.transform()).isEqualTo(expected);
   }
+
+  // ==================== transform - schema-typed coercion tests ====================
+
+  @Test
+  void testTransformWithSchema() {
+    JsonSchema schema = JsonSchema.of(new JsonObject().put("type", "object").put("properties", new JsonObject()
+        .put("id", new JsonObject().put("type", "string"))
+        .put("age", new JsonObject().put("type", "integer"))
+        .put("price", new JsonObject().put("type", "number"))
+        .put("active", new JsonObject().put("type", "boolean"))
+        .put("ids", new JsonObject().put("type", "array").put("items", new JsonObject().put("type", "integer")))
+        .put("tags", new JsonObject().put("type", "array").put("items", new JsonObject().put("type", "string")))
+        .put("meta", new JsonObject().put("type", "object"))));
+    String body = "id=123&age=42&price=9.5&active=true&ids=1&ids=2&tags=true&meta=%7B%22a%22%3A1%7D&other=7";
+
+    XWwwFormUrlencodedAnalyser analyser =
+        new XWwwFormUrlencodedAnalyser(APPLICATION_X_WWW_FORM_URL_ENCODED, Buffer.buffer(body), REQUEST);
+    analyser.setSchema(schema);
+    analyser.checkSyntacticalCorrectness();
+
+    JsonObject expected = new JsonObject()
+        .put("id", "123")
+        .put("age", 42)
+        .put("price", 9.5)
+        .put("active", true)
+        .put("ids", new JsonArray().add(1).add(2))
+        .put("tags", new JsonArray().add("true"))
+        .put("meta", new JsonObject().put("a", 1))
+        .put("other", 7);
+    assertThat((JsonObject) analyser.transform()).isEqualTo(expected);
+  }
+
+  @Test
+  void testStatelessAnalyseWithSchema() {
+    JsonSchema schema = JsonSchema.of(new JsonObject().put("properties", new JsonObject()
+        .put("id", new JsonObject().put("type", "string"))
+        .put("age", new JsonObject().put("type", "integer"))));
+    Buffer body = Buffer.buffer("id=123&age=42");
+
+    Object result = XWwwFormUrlencodedAnalyser.STATELESS.analyse(APPLICATION_X_WWW_FORM_URL_ENCODED, body, schema,
+        REQUEST);
+    assertThat(result).isEqualTo(new JsonObject().put("id", "123").put("age", 42));
+    // without schema the types are guessed
+    Object guessed = XWwwFormUrlencodedAnalyser.STATELESS.analyse(APPLICATION_X_WWW_FORM_URL_ENCODED, body, null,
+        REQUEST);
+    assertThat(guessed).isEqualTo(new JsonObject().put("id", 123).put("age", 42));
+  }
+
+  @Test
+  void testStatelessAnalyseExceedsJsonDecodingLimit() {
+    JsonSchema schema = JsonSchema.of(new JsonObject().put("properties", new JsonObject()
+        .put("tags", new JsonObject().put("type", "array"))));
+    Buffer body = Buffer.buffer("tags=" + URLEncoder.encode("[\"abcd\"]", StandardCharsets.UTF_8));
+    JsonDecodingOptions options = new JsonDecodingOptions().setMaxStringLength(3);
+
+    assertThrows(ValidatorException.class, () -> XWwwFormUrlencodedAnalyser.STATELESS
+        .analyse(APPLICATION_X_WWW_FORM_URL_ENCODED, body, schema, REQUEST, options));
+    Object result = XWwwFormUrlencodedAnalyser.STATELESS.analyse(APPLICATION_X_WWW_FORM_URL_ENCODED, body, schema,
+        REQUEST);
+    assertThat(result).isEqualTo(new JsonObject().put("tags", new JsonArray().add("abcd")));
+  }
+
+  @Test
+  void testTransformWithSchemaKeepsMismatchingValues() {
+    JsonSchema schema = JsonSchema.of(new JsonObject().put("properties", new JsonObject()
+        .put("age", new JsonObject().put("type", "integer"))
+        .put("active", new JsonObject().put("type", "boolean"))));
+
+    XWwwFormUrlencodedAnalyser analyser = new XWwwFormUrlencodedAnalyser(APPLICATION_X_WWW_FORM_URL_ENCODED,
+        Buffer.buffer("age=forty-two&active=yes"), REQUEST);
+    analyser.setSchema(schema);
+    analyser.checkSyntacticalCorrectness();
+
+    assertThat((JsonObject) analyser.transform())
+        .isEqualTo(new JsonObject().put("age", "forty-two").put("active", "yes"));
+  }
+
+  static Stream<Arguments> testCoerceValue() {
+    return Stream.of(
+        Arguments.of("plain", "plain"),
+        Arguments.of("", ""),
+        Arguments.of("123", 123),
+        Arguments.of("-12", -12),
+        Arguments.of("012", "012"),
+        Arguments.of("1.", "1."),
+        Arguments.of("1.5e3", 1500.0),
+        Arguments.of("12345678901", 12345678901L),
+        Arguments.of("true", true),
+        Arguments.of("falsey", "falsey"),
+        Arguments.of("\"quoted\"", "quoted"),
+        Arguments.of("{broken", "{broken"));
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void testCoerceValue(String value, Object expected) {
+    assertThat(XWwwFormUrlencodedAnalyser.coerceValue(value)).isEqualTo(expected);
+  }
+
+  @Test
+  void testTransformWithCharset() {
+    Buffer buffer = Buffer.buffer("name=J%FCrgen+M%FCller");
+    XWwwFormUrlencodedAnalyser analyser =
+        new XWwwFormUrlencodedAnalyser(APPLICATION_X_WWW_FORM_URL_ENCODED + "; charset=ISO-8859-1", buffer, REQUEST);
+    analyser.checkSyntacticalCorrectness();
+
+    assertThat((JsonObject) analyser.transform()).isEqualTo(new JsonObject().put("name", "J\u00fcrgen M\u00fcller"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "key=%", "key=%4", "key=%zz&a=b" })
+  void testCheckSyntacticalCorrectnessThrowIfEscapeSequenceIsInvalid(String body) {
+    XWwwFormUrlencodedAnalyser analyser =
+        new XWwwFormUrlencodedAnalyser(APPLICATION_X_WWW_FORM_URL_ENCODED, Buffer.buffer(body), REQUEST);
+
+    ValidatorException exception = assertThrows(ValidatorException.class, analyser::checkSyntacticalCorrectness);
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.ILLEGAL_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo("The request body contains an invalid escape sequence");
+  }
 }
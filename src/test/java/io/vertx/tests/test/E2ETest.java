@@ -17,25 +17,37 @@ import static io.vertx.tests.ResourceHelper.getRelatedTestResourcePath;
 
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.validation.RequestUtils;
+import io.vertx.openapi.validation.SpooledPart;
+import io.vertx.openapi.validation.StreamingMultipartOptions;
 import io.vertx.openapi.validation.ValidatableResponse;
 import io.vertx.tests.test.base.ContractTestBase;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 class E2ETest extends ContractTestBase {
   private Path CONTRACT_FILE = getRelatedTestResourcePath(E2ETest.class).resolve("petstore.json");
 
+  @TempDir
+  Path uploadsDir;
+
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
   @ParameterizedTest(name = "{index} Test with base path: {0}")
   @ValueSource(strings = { "", "/base", "/base/" })
@@ -95,6 +107,103 @@ class E2ETest extends ContractTestBase {
         .onFailure(testContext::failNow);
   }
 
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  @DisplayName("Stream a multipart/form-data request and spool the binary part to disk")
+  public void streamMultipartFormDataRequest(VertxTestContext testContext) {
+    Path path = getRelatedTestResourcePath(E2ETest.class).resolve("multipart.txt");
+    StreamingMultipartOptions options = new StreamingMultipartOptions().setUploadsDirectory(uploadsDir.toString())
+        .setSpoolThreshold(1024);
+
+    loadContract(CONTRACT_FILE, testContext).compose(v -> createServer(request -> {
+      Operation operation = contract.operation("uploadPet");
+      RequestUtils.extract(vertx, request, operation, options)
+          .compose(validatableRequest -> requestValidator.validate(validatableRequest, "uploadPet"))
+          .onComplete(testContext.succeeding(validatedRequest -> testContext.verify(() -> {
+            JsonObject jsonReq = validatedRequest.getBody().getJsonObject();
+            assertThat(jsonReq.getLong("petId")).isEqualTo(1234L);
+            assertThat(jsonReq.containsKey("petPicture")).isFalse();
+
+            SpooledPart petPicture = validatedRequest.getSpooledParts().get("petPicture");
+            assertThat(petPicture.getFileName()).isEqualTo("petPicture.png");
+            assertThat(Files.size(Path.of(petPicture.getPath()))).isEqualTo(petPicture.getSize());
+            request.response().setStatusCode(201).end();
+            testContext.completeNow();
+          })));
+    }, testContext::failNow))
+        .compose(v -> createRequest(HttpMethod.POST, "/pets/upload"))
+        .map(request -> request.putHeader(HttpHeaders.CONTENT_TYPE, "multipart/form-data; boundary=4ad8accc990e99c2"))
+        .compose(request -> request.send(vertx.fileSystem().readFileBlocking(path.toString())))
+        .onFailure(testContext::failNow);
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  @DisplayName("Stream an application/x-ndjson request, spool it to disk and validate its records from the file")
+  public void streamJsonSequenceRequest(VertxTestContext testContext) {
+    Buffer records = Buffer.buffer();
+    for (int i = 0; i < 1_000; i++) {
+      records.appendString(new JsonObject().put("id", i).put("name", "pet" + i).encode()).appendString("\n");
+    }
+    StreamingMultipartOptions options = new StreamingMultipartOptions().setUploadsDirectory(uploadsDir.toString())
+        .setSpoolThreshold(1024);
+
+    loadContract(CONTRACT_FILE, testContext).compose(v -> createServer(request -> {
+      Operation operation = contract.operation("importPets");
+      RequestUtils.extract(vertx, request, operation, options)
+          .compose(validatableRequest -> requestValidator.validate(validatableRequest, "importPets"))
+          .onComplete(testContext.succeeding(validatedRequest -> testContext.verify(() -> {
+            SpooledPart body = validatedRequest.getSpooledParts().get("body");
+            assertThat(validatedRequest.getBody().get()).isSameInstanceAs(body);
+            assertThat(body.getSize()).isEqualTo(records.length());
+            assertThat(Files.size(Path.of(body.getPath()))).isEqualTo(records.length());
+            request.response().setStatusCode(201).end();
+            testContext.completeNow();
+          })));
+    }, testContext::failNow))
+        .compose(v -> createRequest(HttpMethod.POST, "/pets/import"))
+        .map(request -> request.putHeader(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+        .compose(request -> request.send(records))
+        .onFailure(testContext::failNow);
+  }
+
+  @Test
+  @Timeout(value = 5, timeUnit = TimeUnit.SECONDS)
+  public void streamChunkedJsonSequenceRequestRejectsTooLargeBody(VertxTestContext testContext) {
+    Buffer record = Buffer.buffer(new JsonObject().put("id", 1).put("name", "pet").encode()).appendString("\n");
+    StreamingMultipartOptions options = new StreamingMultipartOptions().setUploadsDirectory(uploadsDir.toString())
+        .setSpoolThreshold(1024);
+
+    loadContract(CONTRACT_FILE, testContext).compose(v -> createServer(request -> {
+      Operation operation = contract.operation("importPets");
+      RequestUtils.extract(vertx, request, operation, options)
+          .onComplete(testContext.failing(e -> testContext.verify(() -> {
+            assertThat(e).hasMessageThat().isEqualTo("The request body exceeds the maximum size of 1048576 bytes");
+            try (Stream<Path> files = Files.list(uploadsDir)) {
+              assertThat(files.count()).isEqualTo(0);
+            }
+            request.response().setStatusCode(413).end();
+          })));
+    }, testContext::failNow))
+        .compose(v -> createRequest(HttpMethod.POST, "/pets/import"))
+        .compose(request -> {
+          // the body has no declared length, it exceeds the maximum body size of the operation while it is streamed
+          request.putHeader(HttpHeaders.CONTENT_TYPE, "application/x-ndjson").setChunked(true);
+          Buffer chunk = Buffer.buffer();
+          while (chunk.length() < 64 * 1024) {
+            chunk.appendBuffer(record);
+          }
+          for (int i = 0; i < 32; i++) {
+            request.write(chunk);
+          }
+          return request.end().compose(sent -> request.response());
+        })
+        .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+          assertThat(response.statusCode()).isEqualTo(413);
+          testContext.completeNow();
+        })));
+  }
+
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
   @ParameterizedTest(name = "{index} Request with content type {0} passes validation")
   @ValueSource(strings = { "application/json", "application/json; charset=utf-8" })
@@ -111,4 +220,83 @@ class E2ETest extends ContractTestBase {
         .compose(request -> request.send(expectedPet.toBuffer()))
         .onFailure(testContext::failNow);
   }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  @DisplayName("Validate the parameters first and continue an Expect: 100-continue request")
+  void testValidateParametersFirstWithExpectContinue(VertxTestContext testContext) {
+    JsonObject expectedPet = new JsonObject().put("id", 1).put("name", "FooBar");
+    Checkpoint continued = testContext.checkpoint();
+    Checkpoint responded = testContext.checkpoint();
+
+    loadContract(CONTRACT_FILE, testContext).compose(v -> createServer(request -> requestValidator
+        .validateParametersFirst(request, "createPets")
+        .onComplete(testContext.succeeding(validatedRequest -> testContext.verify(() -> {
+          assertThat(validatedRequest.getBody().getJsonObject()).isEqualTo(expectedPet);
+          request.response().setStatusCode(201).end();
+        }))), testContext::failNow))
+        .compose(v -> createRequest(HttpMethod.POST, "/pets"))
+        .compose(request -> {
+          request.putHeader(HttpHeaders.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON.toString())
+              .putHeader(HttpHeaders.EXPECT, HttpHeaders.CONTINUE)
+              .putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(expectedPet.toBuffer().length()))
+              .continueHandler(c -> {
+                continued.flag();
+                request.end(expectedPet.toBuffer());
+              });
+          return request.sendHead().compose(sent -> request.response());
+        })
+        .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+          assertThat(response.statusCode()).isEqualTo(201);
+          responded.flag();
+        })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  @DisplayName("Reject a request before its body is sent, if the check before the body fails")
+  void testValidateParametersFirstRejectsBeforeBody(VertxTestContext testContext) {
+    loadContract(CONTRACT_FILE, testContext).compose(v -> createServer(request -> requestValidator
+        .validateParametersFirst(request, "createPets", params -> Future.failedFuture("not authorized"))
+        .onComplete(testContext.failing(e -> testContext.verify(() -> {
+          assertThat(e).hasMessageThat().isEqualTo("not authorized");
+          request.response().setStatusCode(401).end();
+        }))), testContext::failNow))
+        .compose(v -> createRequest(HttpMethod.POST, "/pets"))
+        .compose(request -> {
+          request.putHeader(HttpHeaders.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON.toString())
+              .putHeader(HttpHeaders.EXPECT, HttpHeaders.CONTINUE)
+              .putHeader(HttpHeaders.CONTENT_LENGTH, "1024")
+              .continueHandler(c -> testContext.failNow("The body must not be requested"));
+          return request.sendHead().compose(sent -> request.response());
+        })
+        .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+          assertThat(response.statusCode()).isEqualTo(401);
+          testContext.completeNow();
+        })));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  @DisplayName("Reject a request before its body is sent, if the declared body is too large")
+  void testValidateParametersFirstRejectsTooLargeBody(VertxTestContext testContext) {
+    loadContract(CONTRACT_FILE, testContext).compose(v -> createServer(request -> requestValidator
+        .validateParametersFirst(request, "importPets")
+        .onComplete(testContext.failing(e -> testContext.verify(() -> {
+          assertThat(e).hasMessageThat().isEqualTo("The request body exceeds the maximum size of 1048576 bytes");
+          request.response().setStatusCode(413).end();
+        }))), testContext::failNow))
+        .compose(v -> createRequest(HttpMethod.POST, "/pets/import"))
+        .compose(request -> {
+          request.putHeader(HttpHeaders.CONTENT_TYPE, "application/x-ndjson")
+              .putHeader(HttpHeaders.EXPECT, HttpHeaders.CONTINUE)
+              .putHeader(HttpHeaders.CONTENT_LENGTH, "2097152")
+              .continueHandler(c -> testContext.failNow("The body must not be requested"));
+          return request.sendHead().compose(sent -> request.response());
+        })
+        .onComplete(testContext.succeeding(response -> testContext.verify(() -> {
+          assertThat(response.statusCode()).isEqualTo(413);
+          testContext.completeNow();
+        })));
+  }
 }
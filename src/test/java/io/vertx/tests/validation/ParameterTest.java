@@ -179,6 +179,18 @@ class ParameterTest {
     }
   }
 
+  @ParameterizedTest(name = "{index} test primitive getters with value of type {0}")
+  @MethodSource("provideAllNullValues")
+  void testPrimitiveGetters(String type, Object value, Object[] expected) {
+    DummyParameter parameter = new DummyParameter().setValue(value);
+
+    assertThat(parameter.getBooleanValue(false)).isEqualTo(expected[1]);
+    assertThat(parameter.getInt(8008)).isEqualTo(expected[5]);
+    assertThat(parameter.getLongValue(8008L)).isEqualTo(expected[6]);
+    assertThat(parameter.getFloatValue(8008.0f)).isEqualTo(expected[7]);
+    assertThat(parameter.getDoubleValue(8008.0d)).isWithin(0.1).of((Double) expected[8]);
+  }
+
   static class DummyParameter implements Parameter {
     private Object value;
 
@@ -34,6 +34,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.truth.Truth;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonObject;
@@ -50,16 +51,21 @@ import io.vertx.openapi.contract.RequestBody;
 import io.vertx.openapi.contract.Style;
 import io.vertx.openapi.validation.RequestUtils;
 import io.vertx.openapi.validation.ValidatableRequest;
+import io.vertx.openapi.validation.ValidatorException;
 import io.vertx.tests.test.base.HttpServerTestBase;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class RequestUtilsTest extends HttpServerTestBase {
   private static Parameter mockParameter(String name, Location in, SchemaType schemaType, boolean exploded) {
@@ -225,6 +231,64 @@ class RequestUtilsTest extends HttpServerTestBase {
         .onFailure(testContext::failNow);
   }
 
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExtractGzipBody(VertxTestContext testContext) throws IOException {
+    JsonObject bodyJson = new JsonObject().put("foo", "bar");
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(bodyJson.toBuffer().getBytes());
+    }
+
+    createValidationHandler(params -> {
+      Truth.assertThat(params.getBody().getBuffer().toJsonObject()).isEqualTo(bodyJson);
+      testContext.completeNow();
+    }, mockOperationWithSimpleRequestBody(), testContext).compose(v -> createRequest(HttpMethod.POST, ""))
+        .map(req -> req.putHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON.toString())
+            .putHeader(HttpHeaderNames.CONTENT_ENCODING.toString(), "gzip")
+            .send(Buffer.buffer(compressed.toByteArray())))
+        .onFailure(testContext::failNow);
+  }
+
+  @ParameterizedTest(name = "{index} A body that exceeds the maximum body size is rejected (chunked: {0})")
+  @ValueSource(booleans = { false, true })
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExtractBodyExceedsMaxBodySize(boolean chunked, VertxTestContext testContext) {
+    Operation operation = mockOperationWithSimpleRequestBody();
+    when(operation.getExtensions()).thenReturn(Map.of(Operation.EXTENSION_MAX_BODY_SIZE, 16));
+
+    createServer(request -> RequestUtils.extract(request, operation)
+        .onComplete(testContext.failing(e -> testContext.verify(() -> {
+          assertThat(e).isInstanceOf(ValidatorException.class);
+          assertThat(e).hasMessageThat().isEqualTo("The request body exceeds the maximum size of 16 bytes");
+          testContext.completeNow();
+        }))), testContext::failNow)
+        .compose(v -> createRequest(HttpMethod.POST, ""))
+        .compose(req -> {
+          req.putHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON.toString()).setChunked(chunked);
+          return req.send(new JsonObject().put("foo", "a value that is too long").toBuffer());
+        })
+        .onFailure(e -> {
+          // the server may close the connection without a response
+        });
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testExtractBodyWithinMaxBodySize(VertxTestContext testContext) {
+    Operation operation = mockOperationWithSimpleRequestBody();
+    when(operation.getExtensions()).thenReturn(Map.of(Operation.EXTENSION_MAX_BODY_SIZE, 64));
+    JsonObject bodyJson = new JsonObject().put("foo", "bar");
+
+    createValidationHandler(params -> {
+      Truth.assertThat(params.getBody().getBuffer().toJsonObject()).isEqualTo(bodyJson);
+      testContext.completeNow();
+    }, operation, testContext).compose(v -> createRequest(HttpMethod.POST, ""))
+        .map(req -> req.putHeader(HttpHeaderNames.CONTENT_TYPE.toString(), APPLICATION_JSON.toString())
+            .setChunked(true).send(bodyJson.toBuffer()))
+        .onFailure(testContext::failNow);
+  }
+
   @ParameterizedTest(name = "{index} Template path {0} has parameter {1} in the {2} section")
   @MethodSource
   void testFindPathSegment(String templatePath, String parameterName, int expected) {
@@ -12,13 +12,20 @@
 
 package io.vertx.tests.validation;
 
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.google.common.truth.Truth;
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.json.schema.SchemaRepository;
 import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.ReloadableOpenAPIContract;
 import io.vertx.openapi.validation.RequestValidator;
+import io.vertx.openapi.validation.ValidatedRequest;
+import io.vertx.openapi.validation.impl.ReloadingRequestValidator;
 import io.vertx.openapi.validation.impl.RequestValidatorImpl;
 import org.junit.jupiter.api.Test;
 
@@ -30,4 +37,26 @@ class RequestValidatorTest {
     when(contract.getSchemaRepository()).thenReturn(mock(SchemaRepository.class));
     Truth.assertThat(RequestValidator.create(null, contract)).isInstanceOf(RequestValidatorImpl.class);
   }
+
+  @Test
+  void testCreateReloading() {
+    ReloadableOpenAPIContract contract = mock(ReloadableOpenAPIContract.class);
+    Truth.assertThat(RequestValidator.create(null, contract)).isInstanceOf(ReloadingRequestValidator.class);
+  }
+
+  @Test
+  void testValidateParametersFirstFallsBackToValidate() {
+    RequestValidator validator = mock(RequestValidator.class, CALLS_REAL_METHODS);
+    HttpServerRequest request = mock(HttpServerRequest.class);
+    ValidatedRequest validatedRequest = mock(ValidatedRequest.class);
+    doReturn(Future.succeededFuture(validatedRequest)).when(validator).validate(request, "listPets");
+
+    Truth.assertThat(validator.validateParametersFirst(request, "listPets").result())
+        .isSameInstanceAs(validatedRequest);
+    Truth.assertThat(validator.validateParametersFirst(request, "listPets", params -> Future.succeededFuture())
+        .result()).isSameInstanceAs(validatedRequest);
+    Future<ValidatedRequest> rejected =
+        validator.validateParametersFirst(request, "listPets", params -> Future.failedFuture("not authorized"));
+    Truth.assertThat(rejected.cause()).hasMessageThat().isEqualTo("not authorized");
+  }
 }
@@ -18,7 +18,9 @@ import static org.mockito.Mockito.when;
 import com.google.common.truth.Truth;
 import io.vertx.json.schema.SchemaRepository;
 import io.vertx.openapi.contract.OpenAPIContract;
+import io.vertx.openapi.contract.ReloadableOpenAPIContract;
 import io.vertx.openapi.validation.ResponseValidator;
+import io.vertx.openapi.validation.impl.ReloadingResponseValidator;
 import io.vertx.openapi.validation.impl.ResponseValidatorImpl;
 import org.junit.jupiter.api.Test;
 
@@ -30,4 +32,10 @@ class ResponseValidatorTest {
     when(contract.getSchemaRepository()).thenReturn(mock(SchemaRepository.class));
     Truth.assertThat(ResponseValidator.create(null, contract)).isInstanceOf(ResponseValidatorImpl.class);
   }
+
+  @Test
+  void testCreateReloading() {
+    ReloadableOpenAPIContract contract = mock(ReloadableOpenAPIContract.class);
+    Truth.assertThat(ResponseValidator.create(null, contract)).isInstanceOf(ReloadingResponseValidator.class);
+  }
 }
@@ -20,6 +20,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.openapi.validation.ValidatableResponse;
+import io.vertx.openapi.validation.impl.ValidatableResponseImpl;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -70,6 +71,23 @@ class ValidatableResponseTest {
     assertThat(response.getContentType()).isEqualTo(dummyContentType);
   }
 
+  @Test
+  void testCreateDecoded() {
+    JsonObject decodedBody = new JsonObject().put("name", "foo");
+    ValidatableResponse response =
+        ValidatableResponse.createDecoded(dummyStatusCode, dummyHeaders, decodedBody, dummyContentType);
+    assertThat(response.getStatusCode()).isEqualTo(dummyStatusCode);
+    assertThat(response.getHeaders()).hasSize(1);
+    assertThat(response.getBody().get()).isSameInstanceAs(decodedBody);
+    assertThat(response.getContentType()).isEqualTo(dummyContentType);
+    assertThat(((ValidatableResponseImpl) response).isBodyDecoded()).isTrue();
+    assertThat(((ValidatableResponseImpl) ValidatableResponse.create(dummyStatusCode)).isBodyDecoded()).isFalse();
+
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> ValidatableResponse.createDecoded(dummyStatusCode, decodedBody, null));
+    assertThat(exception).hasMessageThat().isEqualTo("When a body is passed, the content type MUST be specified");
+  }
+
   @Test
   void testCreateThrows() {
     IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
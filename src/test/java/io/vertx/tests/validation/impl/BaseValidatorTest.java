@@ -14,12 +14,21 @@ package io.vertx.tests.validation.impl;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.vertx.openapi.impl.Utils.EMPTY_JSON_OBJECT;
+import static io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration.APPLICATION_X_NDJSON;
+import static io.vertx.openapi.validation.ValidationContext.REQUEST;
 import static io.vertx.tests.ResourceHelper.TEST_RESOURCE_PATH;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.json.schema.Validator;
 import io.vertx.junit5.Timeout;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -27,10 +36,20 @@ import io.vertx.openapi.contract.MediaType;
 import io.vertx.openapi.contract.OpenAPIContract;
 import io.vertx.openapi.contract.Operation;
 import io.vertx.openapi.contract.impl.MediaTypeImpl;
+import io.vertx.openapi.mediatype.ContentAnalyser;
+import io.vertx.openapi.mediatype.ContentAnalyserFactory;
+import io.vertx.openapi.mediatype.MediaTypePredicate;
+import io.vertx.openapi.mediatype.MediaTypeRegistration;
+import io.vertx.openapi.mediatype.SequenceContentAnalyser;
+import io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration;
+import io.vertx.openapi.mediatype.impl.JsonSequenceAnalyser;
+import io.vertx.openapi.validation.JsonDecodingOptions;
+import io.vertx.openapi.validation.SpooledPart;
 import io.vertx.openapi.validation.ValidationContext;
 import io.vertx.openapi.validation.ValidatorException;
 import io.vertx.openapi.validation.impl.BaseValidator;
 import io.vertx.openapi.validation.impl.RequestParameterImpl;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -38,6 +57,7 @@ import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -46,6 +66,9 @@ import org.junit.jupiter.params.provider.MethodSource;
 class BaseValidatorTest {
   private BaseValidatorWrapper validator;
 
+  @TempDir
+  Path tempDir;
+
   @BeforeEach
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
   void initializeContract(Vertx vertx, VertxTestContext testContext) {
@@ -107,6 +130,127 @@ class BaseValidatorTest {
     assertThat(validator.isSchemaValidationRequired(mediaType)).isEqualTo(isRequired);
   }
 
+  private static JsonObject buildJsonSequenceSchema() {
+    JsonObject recordSchema = new JsonObject().put("type", "object")
+        .put("properties", new JsonObject().put("id", new JsonObject().put("type", "integer")))
+        .put("required", new JsonArray().add("id"));
+    return new JsonObject().put("type", "array").put("items", recordSchema).put("maxItems", 3);
+  }
+
+  private static MediaType buildJsonSequenceMediaType() {
+    return new MediaTypeImpl(APPLICATION_X_NDJSON, new JsonObject().put("schema", buildJsonSequenceSchema()),
+        MediaTypeRegistration.JSON_SEQUENCE);
+  }
+
+  @Test
+  void testValidateJsonSequence() {
+    Buffer content = Buffer.buffer("{\"id\":1}\n\n{\"id\":2}\r\n{\"id\":3}\n");
+    RequestParameterImpl body =
+        validator.validate(buildJsonSequenceMediaType(), APPLICATION_X_NDJSON, content, REQUEST);
+    // the records are not materialized
+    assertThat(body.getBuffer()).isEqualTo(content);
+  }
+
+  static Stream<Arguments> testValidateJsonSequenceThrow() {
+    return Stream.of(
+        Arguments.of("{\"id\":1}\n{\"id\":\"two\"}\n",
+            "The value of record 1 of the request body is invalid. Reason: Instance type string is invalid. " +
+                "Expected integer at #/id"),
+        Arguments.of("{\"id\":1}\n\n{\"id\":2\n",
+            "The request body can't be decoded, record 1 is not valid JSON"),
+        Arguments.of("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n{\"id\":4}\n",
+            "The number of records of the request body is invalid. Reason: 4 records are not within the range [0, 3]"));
+  }
+
+  @ParameterizedTest(name = "{index} {1}")
+  @MethodSource
+  void testValidateJsonSequenceThrow(String content, String expectedMsg) {
+    ValidatorException exception = assertThrows(ValidatorException.class, () -> validator
+        .validate(buildJsonSequenceMediaType(), APPLICATION_X_NDJSON, Buffer.buffer(content), REQUEST));
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+
+  @Test
+  void testValidateCustomSequence() {
+    // a custom registration of a sequence of records, which is validated record by record
+    ContentAnalyserFactory factory = new ContentAnalyserFactory() {
+      @Override
+      public ContentAnalyser create(String contentType, Buffer content, ValidationContext context) {
+        throw new IllegalStateException("The body must be validated record by record");
+      }
+
+      @Override
+      public SequenceContentAnalyser createSequenceAnalyser(String contentType, Buffer content,
+          ValidationContext context) {
+        return new JsonSequenceAnalyser(contentType, content, context);
+      }
+    };
+    MediaTypeRegistration registration =
+        new DefaultMediaTypeRegistration(MediaTypePredicate.ofExactTypes("application/x-records"), factory);
+    MediaType mediaType = new MediaTypeImpl("application/x-records",
+        new JsonObject().put("schema", buildJsonSequenceSchema()), registration);
+
+    Buffer content = Buffer.buffer("{\"id\":1}\n{\"id\":2}\n");
+    assertThat(validator.validate(mediaType, "application/x-records", content, REQUEST).getBuffer())
+        .isEqualTo(content);
+    ValidatorException exception = assertThrows(ValidatorException.class, () -> validator.validate(mediaType,
+        "application/x-records", Buffer.buffer("{\"id\":\"one\"}\n"), REQUEST));
+    assertThat(exception).hasMessageThat().startsWith("The value of record 0 of the request body is invalid.");
+  }
+
+  @Test
+  void testValidatePassesSchemaAndDecodingOptionsToAnalyser() {
+    ContentAnalyser analyser = mock(ContentAnalyser.class);
+    when(analyser.transform()).thenReturn(1);
+    MediaTypeRegistration registration = new DefaultMediaTypeRegistration(
+        MediaTypePredicate.ofExactTypes("application/x-custom"), (contentType, content, context) -> analyser);
+    JsonObject schema = new JsonObject().put("type", "integer");
+    MediaType mediaType =
+        new MediaTypeImpl("application/x-custom", new JsonObject().put("schema", schema), registration);
+    JsonDecodingOptions decodingOptions = new JsonDecodingOptions().setMaxNestingDepth(10);
+
+    validator.validate(mediaType, "application/x-custom", Buffer.buffer("1"), REQUEST, decodingOptions);
+    verify(analyser).setSchema(mediaType.getSchema());
+    verify(analyser).setJsonDecodingOptions(decodingOptions);
+    verify(analyser).checkSyntacticalCorrectness();
+  }
+
+  private SpooledPart spool(String content) throws Exception {
+    Path file = Files.writeString(tempDir.resolve("body"), content);
+    SpooledPart spooledBody = mock(SpooledPart.class);
+    when(spooledBody.getPath()).thenReturn(file.toString());
+    return spooledBody;
+  }
+
+  @Test
+  void testValidateSpooledJsonSequence() throws Exception {
+    SpooledPart spooledBody = spool("{\"id\":1}\n\n{\"id\":2}\r\n{\"id\":3}\n");
+    RequestParameterImpl body =
+        validator.validateSpooled(buildJsonSequenceMediaType(), APPLICATION_X_NDJSON, spooledBody, REQUEST, null);
+    assertThat(body.get()).isSameInstanceAs(spooledBody);
+  }
+
+  @ParameterizedTest(name = "{index} {1}")
+  @MethodSource("testValidateJsonSequenceThrow")
+  void testValidateSpooledJsonSequenceThrow(String content, String expectedMsg) throws Exception {
+    SpooledPart spooledBody = spool(content);
+    ValidatorException exception = assertThrows(ValidatorException.class, () -> validator
+        .validateSpooled(buildJsonSequenceMediaType(), APPLICATION_X_NDJSON, spooledBody, REQUEST, null));
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+
+  @Test
+  void testValidatorIsSharedBySchema() {
+    JsonObject schema = new JsonObject().put("type", "integer").put("maximum", 100);
+    Validator shared = validator.validator(JsonSchema.of(schema));
+
+    // e.g. two media types with the same referenced schema
+    assertThat(validator.validator(JsonSchema.of(schema))).isSameInstanceAs(shared);
+    assertThat(shared.validate(100).getValid()).isTrue();
+    assertThat(shared.validate(101).getValid()).isFalse();
+    assertThat(validator.validator(JsonSchema.of(schema.copy()))).isNotSameInstanceAs(shared);
+  }
+
   private static class BaseValidatorWrapper extends BaseValidator {
 
     public BaseValidatorWrapper(Vertx vertx, OpenAPIContract contract) {
@@ -118,6 +262,11 @@ class BaseValidatorTest {
       return super.getOperation(operationId);
     }
 
+    @Override
+    protected Validator validator(JsonSchema schema) {
+      return super.validator(schema);
+    }
+
     @Override
     protected boolean isSchemaValidationRequired(MediaType mediaType) {
       return super.isSchemaValidationRequired(mediaType);
@@ -128,5 +277,17 @@ class BaseValidatorTest {
         ValidationContext requestOrResponse) {
       return super.validate(mediaType, contentType, rawContent, requestOrResponse);
     }
+
+    @Override
+    protected RequestParameterImpl validate(MediaType mediaType, String contentType, Buffer rawContent,
+        ValidationContext requestOrResponse, JsonDecodingOptions jsonDecodingOptions) {
+      return super.validate(mediaType, contentType, rawContent, requestOrResponse, jsonDecodingOptions);
+    }
+
+    @Override
+    protected RequestParameterImpl validateSpooled(MediaType mediaType, String contentType, SpooledPart spooledBody,
+        ValidationContext requestOrResponse, JsonDecodingOptions jsonDecodingOptions) {
+      return super.validateSpooled(mediaType, contentType, spooledBody, requestOrResponse, jsonDecodingOptions);
+    }
   }
 }
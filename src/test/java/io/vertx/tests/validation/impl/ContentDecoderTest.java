@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.openapi.validation.ContentDecodingOptions;
+import io.vertx.openapi.validation.ValidatorErrorType;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.impl.ContentDecoder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ContentDecoderTest {
+  private static final ContentDecodingOptions DEFAULT_OPTIONS = new ContentDecodingOptions();
+
+  private static byte[] text(int length) {
+    byte[] text = new byte[length];
+    for (int i = 0; i < length; i++) {
+      text[i] = (byte) ('a' + (i * 31 + i / 7) % 26);
+    }
+    return text;
+  }
+
+  private static byte[] gzip(byte[] data) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] deflate(byte[] data, boolean raw) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+    try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+      deflate.write(data);
+    }
+    return out.toByteArray();
+  }
+
+  private static Buffer decodeInChunks(byte[] encoded, int chunkSize, String contentEncoding,
+      ContentDecodingOptions options) {
+    ContentDecoder decoder = new ContentDecoder(contentEncoding, options);
+    try {
+      for (int i = 0; i < encoded.length; i += chunkSize) {
+        decoder.write(Buffer.buffer(encoded).getBuffer(i, Math.min(i + chunkSize, encoded.length)));
+      }
+      return decoder.end();
+    } finally {
+      decoder.close();
+    }
+  }
+
+  @ParameterizedTest(name = "{index} chunk size {0}")
+  @ValueSource(ints = { 1, 7, 1024, Integer.MAX_VALUE })
+  void testDecodeGzip(int chunkSize) throws IOException {
+    byte[] data = text(50_000);
+    assertThat(decodeInChunks(gzip(data), chunkSize, "gzip", DEFAULT_OPTIONS).getBytes()).isEqualTo(data);
+  }
+
+  @Test
+  void testDecodeGzipWithFileNameAndConcatenatedMembers() throws IOException {
+    byte[] first = gzip("{\"foo\":".getBytes());
+    // set FNAME and insert a zero terminated file name after the fixed header
+    ByteArrayOutputStream withName = new ByteArrayOutputStream();
+    withName.write(first, 0, 3);
+    withName.write(first[3] | 8);
+    withName.write(first, 4, 6);
+    withName.write("body.json\0".getBytes());
+    withName.write(first, 10, first.length - 10);
+    Buffer encoded = Buffer.buffer(withName.toByteArray()).appendBytes(gzip("\"bar\"}".getBytes()));
+
+    assertThat(decodeInChunks(encoded.getBytes(), 3, "x-gzip", DEFAULT_OPTIONS).toString())
+        .isEqualTo("{\"foo\":\"bar\"}");
+  }
+
+  @ParameterizedTest(name = "{index} raw deflate {0}")
+  @ValueSource(booleans = { true, false })
+  void testDecodeDeflate(boolean raw) throws IOException {
+    byte[] data = text(20_000);
+    assertThat(decodeInChunks(deflate(data, raw), 5, "deflate", DEFAULT_OPTIONS).getBytes()).isEqualTo(data);
+  }
+
+  @Test
+  void testDecodeMultipleEncodings() throws IOException {
+    byte[] data = text(1_000);
+    byte[] encoded = deflate(gzip(data), false);
+    Buffer decoded = ContentDecoder.decode(Buffer.buffer(encoded), "gzip, identity, deflate", DEFAULT_OPTIONS);
+    assertThat(decoded.getBytes()).isEqualTo(data);
+  }
+
+  @Test
+  void testIsEncoded() {
+    assertThat(ContentDecoder.isEncoded(null)).isFalse();
+    assertThat(ContentDecoder.isEncoded("")).isFalse();
+    assertThat(ContentDecoder.isEncoded("Identity")).isFalse();
+    assertThat(ContentDecoder.isEncoded("gzip")).isTrue();
+    assertThat(ContentDecoder.isEncoded("identity, br")).isTrue();
+  }
+
+  @Test
+  void testDecodeExceedsMaxSize() throws IOException {
+    ContentDecodingOptions options = new ContentDecodingOptions().setMaxDecodedSize(10_000);
+    ValidatorException exception = assertThrows(ValidatorException.class,
+        () -> ContentDecoder.decode(Buffer.buffer(gzip(text(10_001))), "gzip", options));
+
+    String expectedMsg = "The decoded request body exceeds the maximum size of 10000 bytes";
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.INVALID_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+
+  @Test
+  void testDecodeExceedsMaxRatio() throws IOException {
+    // ~50 MB of zeros compress to ~50 KB, the body is rejected after a few steps
+    byte[] bomb = gzip(new byte[50_000_000]);
+    ContentDecodingOptions options = new ContentDecodingOptions().setMaxDecodedSize(Long.MAX_VALUE);
+    ContentDecoder decoder = new ContentDecoder("gzip", options);
+    ValidatorException exception = assertThrows(ValidatorException.class, () -> decoder.write(Buffer.buffer(bomb)));
+    decoder.close();
+
+    String expectedMsg = "The compression ratio of the request body exceeds the maximum of 100";
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.INVALID_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+
+  @Test
+  void testDecodeSmallBodyWithHighRatio() throws IOException {
+    byte[] data = new byte[60_000];
+    assertThat(ContentDecoder.decode(Buffer.buffer(gzip(data)), "gzip", DEFAULT_OPTIONS).length())
+        .isEqualTo(60_000);
+  }
+
+  @Test
+  void testDecodeEmptyBody() {
+    assertThat(ContentDecoder.decode(Buffer.buffer(), "gzip", DEFAULT_OPTIONS).length()).isEqualTo(0);
+  }
+
+  @ParameterizedTest(name = "{index} truncated by {0} bytes")
+  @ValueSource(ints = { 1, 8, 30 })
+  void testDecodeTruncatedGzip(int truncatedBytes) throws IOException {
+    byte[] encoded = gzip(text(1_000));
+    Buffer truncated = Buffer.buffer(encoded).getBuffer(0, encoded.length - truncatedBytes);
+    ValidatorException exception = assertThrows(ValidatorException.class,
+        () -> ContentDecoder.decode(truncated, "gzip", DEFAULT_OPTIONS));
+
+    String expectedMsg = "The request body can't be decoded with content encoding gzip";
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.ILLEGAL_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+
+  @Test
+  void testDecodeCorruptData() {
+    ValidatorException exception = assertThrows(ValidatorException.class,
+        () -> ContentDecoder.decode(Buffer.buffer("{\"foo\":\"bar\"}"), "gzip", DEFAULT_OPTIONS));
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.ILLEGAL_VALUE);
+  }
+
+  @Test
+  void testUnsupportedEncoding() {
+    ValidatorException exception = assertThrows(ValidatorException.class,
+        () -> new ContentDecoder("gzip, BR", DEFAULT_OPTIONS));
+
+    String expectedMsg = "The content encoding br of the request body is not supported";
+    assertThat(exception.type()).isEqualTo(ValidatorErrorType.UNSUPPORTED_VALUE_FORMAT);
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.json.schema.common.dsl.SchemaType.BOOLEAN;
+import static io.vertx.json.schema.common.dsl.SchemaType.INTEGER;
+import static io.vertx.json.schema.common.dsl.SchemaType.NUMBER;
+import static io.vertx.json.schema.common.dsl.SchemaType.STRING;
+
+import io.vertx.openapi.validation.impl.PrimitiveRequestParameterImpl;
+import io.vertx.openapi.validation.impl.RequestParameterImpl;
+import java.math.BigInteger;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveRequestParameterImplTest {
+
+  @Test
+  void testOfInteger() {
+    RequestParameterImpl param = PrimitiveRequestParameterImpl.of(INTEGER, 1337);
+    assertThat(param).isInstanceOf(PrimitiveRequestParameterImpl.class);
+    assertThat(param.get()).isEqualTo(1337);
+    assertThat(param.isNumber()).isTrue();
+    assertThat(param.isBoolean()).isFalse();
+    assertThat(param.getInt(0)).isEqualTo(1337);
+    assertThat(param.getLongValue(0L)).isEqualTo(1337L);
+    assertThat(param.getDoubleValue(0d)).isEqualTo(1337d);
+    assertThat(param.getBooleanValue(true)).isTrue();
+    assertThat(param.getInteger()).isEqualTo(1337);
+  }
+
+  @Test
+  void testOfNumber() {
+    RequestParameterImpl param = PrimitiveRequestParameterImpl.of(NUMBER, 13.37);
+    assertThat(param).isInstanceOf(PrimitiveRequestParameterImpl.class);
+    assertThat(param.getInt(0)).isEqualTo(13);
+    assertThat(param.getLongValue(0L)).isEqualTo(13L);
+    assertThat(param.getFloatValue(0f)).isEqualTo(13.37f);
+    assertThat(param.getDoubleValue(0d)).isEqualTo(13.37);
+  }
+
+  @Test
+  void testOfBoolean() {
+    RequestParameterImpl param = PrimitiveRequestParameterImpl.of(BOOLEAN, true);
+    assertThat(param).isInstanceOf(PrimitiveRequestParameterImpl.class);
+    assertThat(param.isBoolean()).isTrue();
+    assertThat(param.isNumber()).isFalse();
+    assertThat(param.getBooleanValue(false)).isTrue();
+    assertThat(param.getInt(42)).isEqualTo(42);
+  }
+
+  @Test
+  void testFallbackToBoxedValue() {
+    assertThat(PrimitiveRequestParameterImpl.of(STRING, "foo")).isNotInstanceOf(PrimitiveRequestParameterImpl.class);
+    assertThat(PrimitiveRequestParameterImpl.of(INTEGER, null)).isNotInstanceOf(PrimitiveRequestParameterImpl.class);
+    assertThat(PrimitiveRequestParameterImpl.of(null, 5)).isNotInstanceOf(PrimitiveRequestParameterImpl.class);
+    RequestParameterImpl big = PrimitiveRequestParameterImpl.of(INTEGER, BigInteger.TEN);
+    assertThat(big).isNotInstanceOf(PrimitiveRequestParameterImpl.class);
+    assertThat(big.getInt(0)).isEqualTo(10);
+  }
+
+  @Test
+  void testEqualsBoxedParameter() {
+    RequestParameterImpl param = PrimitiveRequestParameterImpl.of(INTEGER, 5);
+    assertThat(param).isEqualTo(new RequestParameterImpl(5));
+    assertThat(new RequestParameterImpl(5)).isEqualTo(param);
+    assertThat(param.hashCode()).isEqualTo(new RequestParameterImpl(5).hashCode());
+  }
+}
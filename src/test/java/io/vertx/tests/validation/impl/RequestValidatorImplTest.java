@@ -45,6 +45,7 @@ import com.google.common.collect.ImmutableMap;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.json.schema.JsonSchema;
 import io.vertx.json.schema.common.dsl.SchemaBuilder;
@@ -61,17 +62,22 @@ import io.vertx.openapi.contract.RequestBody;
 import io.vertx.openapi.contract.Style;
 import io.vertx.openapi.contract.impl.MediaTypeImpl;
 import io.vertx.openapi.mediatype.MediaTypeRegistration;
+import io.vertx.openapi.mediatype.impl.MultipartPart;
+import io.vertx.openapi.validation.JsonDecodingOptions;
 import io.vertx.openapi.validation.RequestParameter;
 import io.vertx.openapi.validation.RequestValidator;
+import io.vertx.openapi.validation.SpooledPart;
 import io.vertx.openapi.validation.ValidatableRequest;
 import io.vertx.openapi.validation.ValidatedRequest;
 import io.vertx.openapi.validation.ValidatorException;
 import io.vertx.openapi.validation.impl.RequestParameterImpl;
 import io.vertx.openapi.validation.impl.RequestValidatorImpl;
+import io.vertx.openapi.validation.impl.StreamedMultipartBody;
 import io.vertx.openapi.validation.impl.ValidatableRequestImpl;
 import io.vertx.openapi.validation.impl.ValidatedRequestImpl;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -444,6 +450,59 @@ class RequestValidatorImplTest {
     assertThat(exceptionEmpty).hasMessageThat().isEqualTo(expectedMsg);
   }
 
+  @Test
+  void testValidateDecodedBody() {
+    RequestBody mockedRequestBody = mockRequestBody(true);
+    JsonObject body = new JsonObject();
+    ValidatableRequest decoded = new ValidatableRequestImpl(null, null, null, null, new RequestParameterImpl(body),
+        APPLICATION_JSON.toString(), true);
+    // an empty object is a present body, it is validated without being encoded and parsed again
+    assertThat(validator.validateBody(mockedRequestBody, decoded).get()).isSameInstanceAs(body);
+
+    ValidatableRequest invalid = new ValidatableRequestImpl(null, null, null, null, new RequestParameterImpl(3),
+        APPLICATION_JSON.toString(), true);
+    ValidatorException exception =
+        assertThrows(ValidatorException.class, () -> validator.validateBody(mockedRequestBody, invalid));
+    assertThat(exception.type()).isEqualTo(INVALID_VALUE);
+  }
+
+  @Test
+  void testValidateBodyExceedsJsonDecodingLimit(Vertx vertx) {
+    RequestValidatorImpl limited =
+        new RequestValidatorImpl(vertx, contractSpy, new JsonDecodingOptions().setMaxNestingDepth(2));
+    ValidatableRequest request = new ValidatableRequestImpl(null, null, null, null,
+        new RequestParameterImpl(Buffer.buffer("{\"a\":{\"b\":{}}}")), APPLICATION_JSON.toString());
+
+    ValidatorException exception =
+        assertThrows(ValidatorException.class, () -> limited.validateBody(mockRequestBody(false), request));
+    assertThat(exception.type()).isEqualTo(INVALID_VALUE);
+    assertThat(exception).hasMessageThat().startsWith("The request body exceeds a JSON decoding limit. Reason: ");
+    // within the default limits
+    assertThat(validator.validateBody(mockRequestBody(false), request).getJsonObject().containsKey("a")).isTrue();
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testValidateWithOperationJsonDecodingLimits(VertxTestContext testContext) {
+    Operation mockedOperation = mock(Operation.class);
+    when(mockedOperation.getOperationId()).thenReturn("limited");
+    when(mockedOperation.getParameters()).thenReturn(emptyList());
+    RequestBody requestBody = mockRequestBody(false);
+    when(mockedOperation.getRequestBody()).thenReturn(requestBody);
+    when(mockedOperation.getExtensions()).thenReturn(ImmutableMap.of(Operation.EXTENSION_JSON_DECODING_LIMITS,
+        new JsonObject().put("maxStringLength", 3)));
+    when(contractSpy.operation("limited")).thenReturn(mockedOperation);
+
+    ValidatableRequest request = new ValidatableRequestImpl(null, null, null, null,
+        new RequestParameterImpl(Buffer.buffer("{\"name\":\"abcd\"}")), APPLICATION_JSON.toString());
+    validator.validate(request, "limited").onComplete(testContext.failing(e -> testContext.verify(() -> {
+      assertThat(e).isInstanceOf(ValidatorException.class);
+      assertThat(((ValidatorException) e).type()).isEqualTo(INVALID_VALUE);
+      assertThat(e).hasMessageThat().startsWith("The request body exceeds a JSON decoding limit");
+      testContext.completeNow();
+    })));
+  }
+
   @Test
   void testValidateBodyThrowInvalidValue() {
     RequestBody mockedRequestBody = mockRequestBody(false);
@@ -460,6 +519,85 @@ class RequestValidatorImplTest {
     assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
   }
 
+  private RequestBody mockMultipartRequestBody() {
+    JsonObject schema = new JsonObject()
+        .put("type", "object")
+        .put("properties", new JsonObject()
+            .put("name", new JsonObject().put("type", "string").put("minLength", 1))
+            .put("picture", new JsonObject().put("type", "string").put("pattern", "^\\S+$")
+                .put("minLength", 4).put("maxLength", 100)))
+        .put("required", new JsonArray().add("name").add("picture"))
+        .put("additionalProperties", false);
+    MediaTypeImpl mockedMediaType = mock(MediaTypeImpl.class);
+    when(mockedMediaType.getSchema()).thenReturn(JsonSchema.of(schema));
+    when(mockedMediaType.getIdentifier()).thenReturn(MediaType.MULTIPART_FORM_DATA);
+    when(mockedMediaType.getRegistration()).thenReturn(MediaTypeRegistration.MULTIPART_FORM_DATA);
+    return mockRequestBody(true, mockedMediaType);
+  }
+
+  private static ValidatableRequest streamedMultipartRequest(List<MultipartPart> parts, SpooledPart... spooled) {
+    Map<String, SpooledPart> spooledParts = new HashMap<>();
+    for (SpooledPart part : spooled) {
+      spooledParts.put(part.getName(), part);
+    }
+    RequestParameter body = new RequestParameterImpl(new StreamedMultipartBody(parts, spooledParts));
+    return new ValidatableRequestImpl(null, null, null, null, body, "multipart/form-data; boundary=abc");
+  }
+
+  private static SpooledPart mockSpooledPart(String name, long size) {
+    SpooledPart spooledPart = mock(SpooledPart.class);
+    when(spooledPart.getName()).thenReturn(name);
+    when(spooledPart.getSize()).thenReturn(size);
+    return spooledPart;
+  }
+
+  @Test
+  void testValidateStreamedBody() {
+    List<MultipartPart> parts = List.of(new MultipartPart("name", "text/plain", Buffer.buffer("foo")));
+    ValidatableRequest request = streamedMultipartRequest(parts, mockSpooledPart("picture", 10));
+
+    // the spooled part is not validated against the pattern of its property
+    RequestParameter body = validator.validateBody(mockMultipartRequestBody(), request);
+    assertThat(body.getJsonObject()).isEqualTo(new JsonObject().put("name", "foo"));
+  }
+
+  @Test
+  void testValidateStreamedBodyValidatesOtherParts() {
+    ValidatableRequest request = streamedMultipartRequest(List.of(), mockSpooledPart("picture", 10));
+
+    ValidatorException exception =
+        assertThrows(ValidatorException.class, () -> validator.validateBody(mockMultipartRequestBody(), request));
+    assertThat(exception.type()).isEqualTo(INVALID_VALUE);
+    assertThat(exception).hasMessageThat().contains("name");
+  }
+
+  @ParameterizedTest(name = "{index} A spooled part of {0} bytes is invalid")
+  @ValueSource(longs = { 3, 101 })
+  void testValidateStreamedBodyThrowInvalidSize(long size) {
+    List<MultipartPart> parts = List.of(new MultipartPart("name", "text/plain", Buffer.buffer("foo")));
+    ValidatableRequest request = streamedMultipartRequest(parts, mockSpooledPart("picture", size));
+
+    ValidatorException exception =
+        assertThrows(ValidatorException.class, () -> validator.validateBody(mockMultipartRequestBody(), request));
+    assertThat(exception.type()).isEqualTo(INVALID_VALUE);
+    String expectedMsg = size < 4
+        ? "The value of the request body property picture is smaller than the minimum size of 4 bytes."
+        : "The value of the request body property picture exceeds the maximum size of 100 bytes.";
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+
+  @Test
+  void testValidateStreamedBodyThrowUndeclaredPart() {
+    List<MultipartPart> parts = List.of(new MultipartPart("name", "text/plain", Buffer.buffer("foo")));
+    ValidatableRequest request =
+        streamedMultipartRequest(parts, mockSpooledPart("picture", 10), mockSpooledPart("other", 10));
+
+    ValidatorException exception =
+        assertThrows(ValidatorException.class, () -> validator.validateBody(mockMultipartRequestBody(), request));
+    assertThat(exception.type()).isEqualTo(INVALID_VALUE);
+    assertThat(exception).hasMessageThat().isEqualTo("The request body property other is not allowed.");
+  }
+
   @ParameterizedTest(name = "{index} Test Parameter Type {0}")
   @MethodSource("getBadlyFormattedParameters")
   public void testInvalidParameterFormats(String type, JsonObject schema, Object value, String expectedErrorMsg) {
@@ -89,6 +89,7 @@ class ResponseValidatorImplTest {
 
     Response mockedResponse = mock(Response.class);
     when(mockedResponse.getContent()).thenReturn(ImmutableMap.of(APPLICATION_JSON.toString(), mockedMediaType));
+    when(mockedResponse.determineContentType(APPLICATION_JSON.toString())).thenReturn(mockedMediaType);
 
     return mockedResponse;
   }
@@ -245,6 +246,7 @@ class ResponseValidatorImplTest {
 
     Response mockedResponse = mock(Response.class);
     when(mockedResponse.getContent()).thenReturn(ImmutableMap.of("application/png", mockedMediaType));
+    when(mockedResponse.determineContentType("application/png")).thenReturn(mockedMediaType);
 
     ValidatableResponse mockedValidatableResponse = mock(ValidatableResponse.class);
     when(mockedValidatableResponse.getContentType()).thenReturn(contentType);
@@ -273,6 +275,24 @@ class ResponseValidatorImplTest {
     assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
   }
 
+  @Test
+  void testValidateDecodedBody() {
+    JsonObject body = new JsonObject();
+    Response mockedResponse = mockResponse();
+
+    ValidatableResponse validatable = ValidatableResponse.createDecoded(200, body, APPLICATION_JSON.toString());
+    // an empty object is a valid decoded body, and it is validated as it is
+    assertThat(validator.validateBody(mockedResponse, validatable).get()).isSameInstanceAs(body);
+
+    ValidatableResponse invalid = ValidatableResponse.createDecoded(200, 3, APPLICATION_JSON.toString());
+    ValidatorException exception =
+        assertThrows(ValidatorException.class, () -> validator.validateBody(mockedResponse, invalid));
+    assertThat(exception.type()).isEqualTo(INVALID_VALUE);
+    String expectedMsg = "The value of the response body is invalid. Reason: Instance type number is invalid. "
+        + "Expected object";
+    assertThat(exception).hasMessageThat().isEqualTo(expectedMsg);
+  }
+
   @Test
   void testValidateBody() {
     JsonObject body = new JsonObject().put("foo", "bar");
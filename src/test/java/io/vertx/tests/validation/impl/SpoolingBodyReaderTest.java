@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.openapi.mediatype.impl.DefaultMediaTypeRegistration.APPLICATION_X_NDJSON;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.validation.SpooledPart;
+import io.vertx.openapi.validation.StreamingMultipartOptions;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.impl.SpoolingBodyReader;
+import io.vertx.tests.validation.impl.StreamingMultipartReaderTest.ChunkedStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(VertxExtension.class)
+class SpoolingBodyReaderTest {
+
+  @TempDir
+  Path tempDir;
+
+  private static Buffer records(int count) {
+    Buffer buffer = Buffer.buffer();
+    for (int i = 0; i < count; i++) {
+      buffer.appendString("{\"id\":" + i + "}\n");
+    }
+    return buffer;
+  }
+
+  private StreamingMultipartOptions options(int spoolThreshold) {
+    return new StreamingMultipartOptions().setUploadsDirectory(tempDir.toString()).setSpoolThreshold(spoolThreshold);
+  }
+
+  private long countTempFiles() throws Exception {
+    try (Stream<Path> files = Files.list(tempDir)) {
+      return files.count();
+    }
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadSpoolsLargeBody(Vertx vertx, VertxTestContext testContext) {
+    Buffer content = records(1_000);
+    ChunkedStream stream = new ChunkedStream(vertx, content, 100);
+
+    vertx.runOnContext(v -> new SpoolingBodyReader(vertx.fileSystem(), stream, APPLICATION_X_NDJSON, options(1024))
+        .read().onComplete(testContext.succeeding(body -> testContext.verify(() -> {
+          SpooledPart spooledBody = (SpooledPart) body.get();
+          assertThat(spooledBody.getName()).isEqualTo(SpoolingBodyReader.SPOOLED_BODY_NAME);
+          assertThat(spooledBody.getContentType()).isEqualTo(APPLICATION_X_NDJSON);
+          assertThat(spooledBody.getSize()).isEqualTo(content.length());
+          assertThat(Files.readAllBytes(Path.of(spooledBody.getPath()))).isEqualTo(content.getBytes());
+          testContext.completeNow();
+        }))));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadKeepsSmallBodyInMemory(Vertx vertx, VertxTestContext testContext) {
+    Buffer content = records(10);
+    ChunkedStream stream = new ChunkedStream(vertx, content, 7);
+
+    vertx.runOnContext(v -> new SpoolingBodyReader(vertx.fileSystem(), stream, APPLICATION_X_NDJSON, options(1024))
+        .read().onComplete(testContext.succeeding(body -> testContext.verify(() -> {
+          assertThat(body.getBuffer()).isEqualTo(content);
+          assertThat(countTempFiles()).isEqualTo(0);
+          testContext.completeNow();
+        }))));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadRejectsTooLargeBody(Vertx vertx, VertxTestContext testContext) {
+    Buffer content = records(1_000);
+    ChunkedStream stream = new ChunkedStream(vertx, content, 100);
+    long maxBodySize = content.length() / 2;
+
+    vertx.runOnContext(v -> new SpoolingBodyReader(vertx.fileSystem(), stream, APPLICATION_X_NDJSON, options(1024),
+        maxBodySize).read().onComplete(testContext.failing(e -> testContext.verify(() -> {
+          assertThat(e).isInstanceOf(ValidatorException.class);
+          assertThat(e).hasMessageThat()
+              .isEqualTo("The request body exceeds the maximum size of " + maxBodySize + " bytes");
+          assertThat(countTempFiles()).isEqualTo(0);
+          testContext.completeNow();
+        }))));
+  }
+}
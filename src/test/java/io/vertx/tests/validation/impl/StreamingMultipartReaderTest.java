@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.junit5.Timeout;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import io.vertx.openapi.mediatype.impl.MultipartPart;
+import io.vertx.openapi.validation.SpooledPart;
+import io.vertx.openapi.validation.StreamingMultipartOptions;
+import io.vertx.openapi.validation.ValidatorErrorType;
+import io.vertx.openapi.validation.ValidatorException;
+import io.vertx.openapi.validation.impl.StreamingMultipartReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(VertxExtension.class)
+class StreamingMultipartReaderTest {
+  private static final String BOUNDARY = "abcde12345";
+
+  @TempDir
+  Path tempDir;
+
+  private static Buffer buildBody(Buffer file) {
+    return Buffer.buffer("--abcde12345\r\n")
+        .appendString("Content-Disposition: form-data; name=\"id\"\r\n\r\n")
+        .appendString("123")
+        .appendString("\r\n--abcde12345\r\n")
+        .appendString("Content-Disposition: form-data; name=\"file\"; filename=\"a.bin\"\r\n")
+        .appendString("Content-Type: application/octet-stream\r\n\r\n")
+        .appendBuffer(file)
+        .appendString("\r\n--abcde12345--\r\n");
+  }
+
+  private static Buffer binary(int length) {
+    Buffer buffer = Buffer.buffer(length);
+    for (int i = 0; i < length; i++) {
+      buffer.appendByte((byte) i);
+    }
+    return buffer;
+  }
+
+  private StreamingMultipartOptions options(int spoolThreshold) {
+    return new StreamingMultipartOptions().setUploadsDirectory(tempDir.toString()).setSpoolThreshold(spoolThreshold);
+  }
+
+  private long countTempFiles() throws Exception {
+    try (Stream<Path> files = Files.list(tempDir)) {
+      return files.count();
+    }
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadSpoolsLargeParts(Vertx vertx, VertxTestContext testContext) {
+    Buffer file = binary(10_000);
+    ChunkedStream stream = new ChunkedStream(vertx, buildBody(file), 100);
+
+    vertx.runOnContext(v -> new StreamingMultipartReader(vertx.fileSystem(), stream, BOUNDARY, options(1024),
+        Collections.emptyMap()).read().onComplete(testContext.succeeding(body -> testContext.verify(() -> {
+          assertThat(body.getParts()).containsExactly(new MultipartPart("id", "text/plain", Buffer.buffer("123")));
+
+          SpooledPart spooledPart = body.getSpooledParts().get("file");
+          assertThat(spooledPart.getFileName()).isEqualTo("a.bin");
+          assertThat(spooledPart.getContentType()).isEqualTo("application/octet-stream");
+          assertThat(spooledPart.getSize()).isEqualTo(10_000);
+          assertThat(Path.of(spooledPart.getPath()).getParent().toString()).isEqualTo(tempDir.toString());
+          assertThat(Files.readAllBytes(Path.of(spooledPart.getPath()))).isEqualTo(file.getBytes());
+          testContext.completeNow();
+        }))));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadKeepsSmallPartsInMemory(Vertx vertx, VertxTestContext testContext) {
+    Buffer file = binary(500);
+    ChunkedStream stream = new ChunkedStream(vertx, buildBody(file), 7);
+
+    vertx.runOnContext(v -> new StreamingMultipartReader(vertx.fileSystem(), stream, BOUNDARY, options(1024),
+        Collections.emptyMap()).read().onComplete(testContext.succeeding(body -> testContext.verify(() -> {
+          assertThat(body.getSpooledParts()).isEmpty();
+          assertThat(body.getParts()).containsExactly(new MultipartPart("id", "text/plain", Buffer.buffer("123")),
+              new MultipartPart("file", "application/octet-stream", file)).inOrder();
+          assertThat(countTempFiles()).isEqualTo(0);
+          testContext.completeNow();
+        }))));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadRejectsOversizedPart(Vertx vertx, VertxTestContext testContext) {
+    ChunkedStream stream = new ChunkedStream(vertx, buildBody(binary(10_000)), 100);
+
+    vertx.runOnContext(v -> new StreamingMultipartReader(vertx.fileSystem(), stream, BOUNDARY, options(1024),
+        Map.of("file", 5_000L)).read().onComplete(testContext.failing(e -> testContext.verify(() -> {
+          String expectedMsg = "The value of the request body property file exceeds the maximum size of 5000 bytes.";
+          assertThat(e).isInstanceOf(ValidatorException.class);
+          assertThat(((ValidatorException) e).type()).isEqualTo(ValidatorErrorType.INVALID_VALUE);
+          assertThat(e).hasMessageThat().isEqualTo(expectedMsg);
+          // the temporary file of the rejected part was deleted
+          assertThat(countTempFiles()).isEqualTo(0);
+          testContext.completeNow();
+        }))));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadInvalidStructure(Vertx vertx, VertxTestContext testContext) {
+    Buffer body = buildBody(binary(10_000));
+    ChunkedStream stream = new ChunkedStream(vertx, body.getBuffer(0, body.length() - 20), 100);
+
+    vertx.runOnContext(v -> new StreamingMultipartReader(vertx.fileSystem(), stream, BOUNDARY, options(1024),
+        Collections.emptyMap()).read().onComplete(testContext.failing(e -> testContext.verify(() -> {
+          assertThat(e).isInstanceOf(ValidatorException.class);
+          assertThat(countTempFiles()).isEqualTo(0);
+          testContext.completeNow();
+        }))));
+  }
+
+  private static Buffer buildTextBody(Buffer... values) {
+    Buffer body = Buffer.buffer();
+    for (int i = 0; i < values.length; i++) {
+      body.appendString("--abcde12345\r\n")
+          .appendString("Content-Disposition: form-data; name=\"text" + i + "\"\r\n\r\n")
+          .appendBuffer(values[i])
+          .appendString("\r\n");
+    }
+    return body.appendString("--abcde12345--\r\n");
+  }
+
+  private void assertRejected(Vertx vertx, VertxTestContext testContext, Buffer body,
+      StreamingMultipartOptions options, String expectedMsg) {
+    ChunkedStream stream = new ChunkedStream(vertx, body, 100);
+
+    vertx.runOnContext(v -> new StreamingMultipartReader(vertx.fileSystem(), stream, BOUNDARY, options,
+        Collections.emptyMap()).read().onComplete(testContext.failing(e -> testContext.verify(() -> {
+          assertThat(e).isInstanceOf(ValidatorException.class);
+          assertThat(((ValidatorException) e).type()).isEqualTo(ValidatorErrorType.INVALID_VALUE);
+          assertThat(e).hasMessageThat().isEqualTo(expectedMsg);
+          assertThat(countTempFiles()).isEqualTo(0);
+          testContext.completeNow();
+        }))));
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadRejectsLargeInMemoryPart(Vertx vertx, VertxTestContext testContext) {
+    // parts that are not of type application/octet-stream are never spooled
+    assertRejected(vertx, testContext, buildTextBody(binary(5_000)), options(1024).setMaxPartMemorySize(4_000),
+        "The value of the request body property text0 exceeds the maximum in-memory size of 4000 bytes.");
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadRejectsLargeInMemoryParts(Vertx vertx, VertxTestContext testContext) {
+    Buffer body = buildTextBody(binary(3_000), binary(3_000), binary(3_000));
+    assertRejected(vertx, testContext, body, options(1024).setMaxMemorySize(8_000),
+        "The request body parts exceed the maximum in-memory size of 8000 bytes.");
+  }
+
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testReadRejectsRepeatedSpooledPart(Vertx vertx, VertxTestContext testContext) {
+    Buffer file = buildBody(binary(10_000));
+    // the second body starts with the part id, which is repeated in memory, and continues with the spooled part file
+    Buffer body = file.getBuffer(0, file.length() - "--\r\n".length()).appendString("\r\n")
+        .appendBuffer(file.getBuffer("--abcde12345\r\n".length(), file.length()));
+    assertRejected(vertx, testContext, body, options(1024), "The request body property file occurs more than once, "
+        + "which is not supported for parts that are spooled to temporary files.");
+  }
+
+  /**
+   * A stream that emits the passed data in chunks of the passed size, and respects the flow control.
+   */
+  static class ChunkedStream implements ReadStream<Buffer> {
+    private final Vertx vertx;
+    private final Deque<Buffer> chunks = new ArrayDeque<>();
+    private Handler<Buffer> handler;
+    private Handler<Void> endHandler;
+    private boolean paused = true;
+    private boolean ended;
+
+    ChunkedStream(Vertx vertx, Buffer data, int chunkSize) {
+      this.vertx = vertx;
+      for (int i = 0; i < data.length(); i += chunkSize) {
+        chunks.add(data.getBuffer(i, Math.min(i + chunkSize, data.length())));
+      }
+    }
+
+    private void emit() {
+      if (paused) {
+        return;
+      }
+      Buffer chunk = chunks.poll();
+      if (chunk != null) {
+        handler.handle(chunk);
+        vertx.runOnContext(v -> emit());
+      } else if (!ended) {
+        ended = true;
+        endHandler.handle(null);
+      }
+    }
+
+    @Override
+    public ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+      this.handler = handler;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> pause() {
+      paused = true;
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+      if (paused) {
+        paused = false;
+        vertx.runOnContext(v -> emit());
+      }
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> fetch(long amount) {
+      return resume();
+    }
+
+    @Override
+    public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+      this.endHandler = endHandler;
+      return this;
+    }
+  }
+}
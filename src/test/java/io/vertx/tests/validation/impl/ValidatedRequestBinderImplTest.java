@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ */
+
+package io.vertx.tests.validation.impl;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.vertx.json.schema.common.dsl.SchemaType.INTEGER;
+import static io.vertx.json.schema.common.dsl.Schemas.intSchema;
+import static io.vertx.json.schema.common.dsl.Schemas.stringSchema;
+import static io.vertx.openapi.contract.Location.HEADER;
+import static io.vertx.openapi.contract.Location.PATH;
+import static io.vertx.openapi.contract.Location.QUERY;
+import static io.vertx.openapi.contract.Style.FORM;
+import static io.vertx.openapi.contract.Style.SIMPLE;
+import static io.vertx.tests.MockHelper.mockParameter;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.vertx.core.json.JsonObject;
+import io.vertx.json.schema.JsonSchema;
+import io.vertx.openapi.contract.Operation;
+import io.vertx.openapi.contract.Parameter;
+import io.vertx.openapi.validation.RequestParameter;
+import io.vertx.openapi.validation.ValidatedRequestBinder;
+import io.vertx.openapi.validation.impl.PrimitiveRequestParameterImpl;
+import io.vertx.openapi.validation.impl.RequestParameterImpl;
+import io.vertx.openapi.validation.impl.ValidatedRequestImpl;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ValidatedRequestBinderImplTest {
+
+  private Operation operation;
+
+  @BeforeEach
+  void setup() {
+    Parameter petId = mockParameter("petId", PATH, SIMPLE, false, JsonSchema.of(intSchema().toJson()), true);
+    Parameter limit = mockParameter("limit", QUERY, FORM, false, JsonSchema.of(intSchema().toJson()));
+    Parameter requestId = mockParameter("X-Request-Id", HEADER, SIMPLE, false,
+        JsonSchema.of(stringSchema().toJson()));
+    operation = mock(Operation.class);
+    when(operation.getParameters()).thenReturn(List.of(petId, limit, requestId));
+  }
+
+  @Test
+  void testBindIndexedRequest() {
+    RequestParameter petId = PrimitiveRequestParameterImpl.of(INTEGER, 42);
+    RequestParameter limit = new RequestParameterImpl(null);
+    RequestParameter requestId = new RequestParameterImpl("abc");
+    RequestParameter body = new RequestParameterImpl(new JsonObject().put("name", "foo"));
+    RequestParameter[] indexed = new RequestParameter[] { petId, limit, requestId, body };
+    ValidatedRequestImpl request = new ValidatedRequestImpl(null, null, null, null, body, operation, indexed);
+
+    PetRequest bound = ValidatedRequestBinder.create(operation, PetRequest.class).bind(request);
+    assertThat(bound.petId).isEqualTo(42);
+    assertThat(bound.limit).isNull();
+    assertThat(bound.xRequestId).isEqualTo("abc");
+    assertThat(bound.body).isEqualTo(new JsonObject().put("name", "foo"));
+  }
+
+  @Test
+  void testBindRequestOfOtherOperation() {
+    // the other operation has the same number of parameters, but in a different order
+    Operation other = mock(Operation.class);
+    RequestParameter requestId = new RequestParameterImpl("abc");
+    RequestParameter limit = new RequestParameterImpl(10);
+    RequestParameter petId = new RequestParameterImpl(7);
+    RequestParameter[] indexed = new RequestParameter[] { requestId, limit, petId, new RequestParameterImpl(null) };
+    ValidatedRequestImpl request = new ValidatedRequestImpl(null,
+        ImmutableMap.of("X-Request-Id", requestId),
+        ImmutableMap.of("petId", petId),
+        ImmutableMap.of("limit", limit), null, other, indexed);
+
+    PetRequest bound = ValidatedRequestBinder.create(operation, PetRequest.class).bind(request);
+    assertThat(bound.petId).isEqualTo(7);
+    assertThat(bound.limit).isEqualTo(10);
+    assertThat(bound.xRequestId).isEqualTo("abc");
+  }
+
+  @Test
+  void testWithBodyDoesNotModifyRequest() {
+    RequestParameter noBody = new RequestParameterImpl(null);
+    RequestParameter[] indexed = new RequestParameter[] { PrimitiveRequestParameterImpl.of(INTEGER, 42),
+        new RequestParameterImpl(null), new RequestParameterImpl("abc"), noBody };
+    ValidatedRequestImpl request = new ValidatedRequestImpl(null, null, null, null, noBody, operation, indexed);
+
+    ValidatedRequestImpl withBody = request.withBody(new RequestParameterImpl(new JsonObject()), null);
+    assertThat(request.getIndexedParameters()[3]).isSameInstanceAs(noBody);
+    assertThat(ValidatedRequestBinder.create(operation, PetRequest.class).bind(withBody).body)
+        .isEqualTo(new JsonObject());
+  }
+
+  @Test
+  void testBindFromMaps() {
+    ValidatedRequestImpl request = new ValidatedRequestImpl(null,
+        ImmutableMap.of("X-Request-Id", new RequestParameterImpl("abc")),
+        ImmutableMap.of("petId", new RequestParameterImpl(7)),
+        ImmutableMap.of("limit", new RequestParameterImpl(10)));
+
+    PetRequest bound = ValidatedRequestBinder.create(operation, PetRequest.class).bind(request);
+    assertThat(bound.petId).isEqualTo(7);
+    assertThat(bound.limit).isEqualTo(10);
+    assertThat(bound.xRequestId).isEqualTo("abc");
+    assertThat(bound.body).isNull();
+  }
+
+  @Test
+  void testUnknownName() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> ValidatedRequestBinder.create(operation, UnknownField.class));
+    assertThat(exception).hasMessageThat().contains("Name foo doesn't match any parameter");
+  }
+
+  @Test
+  void testUnsupportedType() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> ValidatedRequestBinder.create(operation, UnsupportedType.class));
+    assertThat(exception).hasMessageThat().contains("Type java.util.List of petId is not supported");
+  }
+
+  static class PetRequest {
+    int petId;
+    Integer limit;
+    String xRequestId;
+    JsonObject body;
+  }
+
+  static class UnknownField {
+    String foo;
+  }
+
+  static class UnsupportedType {
+    List<String> petId;
+  }
+}
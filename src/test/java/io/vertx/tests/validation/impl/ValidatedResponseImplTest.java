@@ -124,6 +124,18 @@ class ValidatedResponseImplTest extends HttpServerTestBase {
     }, testContext::failNow).compose(v -> verifyResponse(200, cat, buildHeaders(cat), testContext));
   }
 
+  @Test
+  @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
+  void testSendWithDecodedBody(VertxTestContext testContext) {
+    JsonObject cat = new JsonObject().put("id", 1337).put("name", "foo");
+    createServer(request -> {
+      ValidatableResponse vr = ValidatableResponse.createDecoded(200, cat, APPLICATION_JSON.toString());
+      responseValidator.validate(vr, "showPetById")
+          .compose(validatedResponse -> validatedResponse.send(request.response())).onFailure(testContext::failNow);
+    }, testContext::failNow).compose(v -> verifyResponse(200, cat.toBuffer(), buildHeaders(cat.toBuffer()),
+        testContext));
+  }
+
   @Test
   @Timeout(value = 2, timeUnit = TimeUnit.SECONDS)
   void testSendWithHeaders(VertxTestContext testContext) {
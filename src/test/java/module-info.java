@@ -1,5 +1,9 @@
 open module io.vertx.tests {
+  requires com.fasterxml.jackson.core;
+  requires com.fasterxml.jackson.dataformat.cbor;
+  requires com.fasterxml.jackson.dataformat.smile;
   requires com.google.common;
+  requires io.netty.buffer;
   requires io.netty.codec.http;
   requires io.vertx.core;
   requires io.vertx.jsonschema;